@@ -123,6 +123,15 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
      */
     public static final String SINGLE_COLUMN_AS_VALUE = "single-column-as-value";
 
+    /**
+     * Property key to define the maximum number of rows written or deleted
+     * by a single statement of {@link GenericMapStore#storeAll(Map)} and
+     * {@link GenericMapStore#deleteAll(Collection)}
+     *
+     * @since 6.0
+     */
+    public static final String BATCH_SIZE_PROPERTY = "batch-size";
+
     /**
      * Timeout for initialization of GenericMapLoader
      */
@@ -199,6 +208,20 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
                                              " must have `" + LOAD_ALL_KEYS_PROPERTY + "` property set as true or false");
             }
         }
+
+        String batchSize = mapStoreConfig.getProperty(BATCH_SIZE_PROPERTY);
+        if (batchSize != null && !isPositiveInteger(batchSize)) {
+            throw new HazelcastException("MapStoreConfig for " + mapConfig.getName() +
+                                         " must have `" + BATCH_SIZE_PROPERTY + "` property set as a positive integer");
+        }
+    }
+
+    private static boolean isPositiveInteger(String value) {
+        try {
+            return Integer.parseInt(value.trim()) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 
    private ManagedExecutorService getMapStoreExecutor() {
@@ -21,7 +21,10 @@ import com.hazelcast.map.MapLoaderLifecycleSupport;
 import com.hazelcast.map.MapStore;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -54,6 +57,9 @@ import static com.hazelcast.mapstore.JdbcParameters.convert;
  * The GenericMapStore creates a SQL mapping with name "__map-store." + mapName.
  * This mapping is removed when the map is destroyed.
  * <p>
+ * {@link #storeAll(Map)} and {@link #deleteAll(Collection)} write the entries
+ * with multi-row statements of at most {@link #BATCH_SIZE_PROPERTY} rows.
+ * <p>
  * Note : When GenericMapStore uses GenericRecord as value, even if the GenericRecord contains the primary key as a field,
  * the primary key is still received from @{link {@link com.hazelcast.map.IMap} method call
  *
@@ -96,8 +102,56 @@ public class GenericMapStore<K, V> extends GenericMapLoader<K, V>
     public void storeAll(Map<K, V> map) {
         awaitSuccessfulInit();
 
+        int batchSize = genericMapStoreProperties.batchSize;
+        List<Entry<K, V>> batch = new ArrayList<>(Math.min(batchSize, map.size()));
         for (Entry<K, V> entry : map.entrySet()) {
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                storeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            storeBatch(batch);
+        }
+    }
+
+    /**
+     * Stores the given entries with a single multi-row statement. If a row
+     * already exists and the connector does not support upserts, falls back
+     * to storing the entries one by one, which updates the existing rows.
+     */
+    private void storeBatch(List<Entry<K, V>> batch) {
+        if (batch.size() == 1) {
+            Entry<K, V> entry = batch.get(0);
             store(entry.getKey(), entry.getValue());
+            return;
+        }
+
+        int columnCount = columnMetadataList.size();
+        Object[] params = new Object[batch.size() * columnCount];
+        for (int i = 0; i < batch.size(); i++) {
+            Entry<K, V> entry = batch.get(i);
+            JdbcParameters jdbcParameters = convert(
+                    entry.getKey(),
+                    entry.getValue(),
+                    columnMetadataList,
+                    genericMapStoreProperties.idColumn,
+                    genericMapStoreProperties.singleColumnAsValue
+            );
+            System.arraycopy(jdbcParameters.getParams(), 0, params, i * columnCount, columnCount);
+        }
+
+        try {
+            sqlService.execute(queries.storeSinkAll(batch.size()), params).close();
+        } catch (Exception e) {
+            if (isIntegrityConstraintViolation(e)) {
+                for (Entry<K, V> entry : batch) {
+                    store(entry.getKey(), entry.getValue());
+                }
+            } else {
+                throw e;
+            }
         }
     }
 
@@ -116,7 +170,13 @@ public class GenericMapStore<K, V> extends GenericMapLoader<K, V>
             return;
         }
 
-        sqlService.execute(queries.deleteAll(keys.size()), keys.toArray()).close();
+        int batchSize = genericMapStoreProperties.batchSize;
+        Object[] allKeys = keys.toArray();
+        for (int from = 0; from < allKeys.length; from += batchSize) {
+            int to = Math.min(from + batchSize, allKeys.length);
+            Object[] batch = from == 0 && to == allKeys.length ? allKeys : Arrays.copyOfRange(allKeys, from, to);
+            sqlService.execute(queries.deleteAll(batch.length), batch).close();
+        }
     }
 
     // SQLException returns SQL state in five-digit number.
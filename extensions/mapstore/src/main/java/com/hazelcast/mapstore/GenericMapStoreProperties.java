@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
+import static com.hazelcast.mapstore.GenericMapLoader.BATCH_SIZE_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.COLUMNS_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.DATA_CONNECTION_REF_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.EXTERNAL_NAME_PROPERTY;
@@ -36,6 +37,8 @@ import static com.hazelcast.mapstore.GenericMapLoader.SINGLE_COLUMN_AS_VALUE;
  */
 class GenericMapStoreProperties {
 
+    static final String DEFAULT_BATCH_SIZE = "100";
+
     final String dataConnectionRef;
     final String tableName;
     final String idColumn;
@@ -55,6 +58,12 @@ class GenericMapStoreProperties {
      */
     final boolean singleColumnAsValue;
 
+    /**
+     * Maximum number of rows written or deleted by a single statement in
+     * {@link GenericMapStore#storeAll(java.util.Map)} and {@link GenericMapStore#deleteAll(java.util.Collection)}
+     */
+    final int batchSize;
+
     GenericMapStoreProperties(Properties properties, String mapName) {
         dataConnectionRef = properties.getProperty(DATA_CONNECTION_REF_PROPERTY);
         tableName = properties.getProperty(EXTERNAL_NAME_PROPERTY, mapName);
@@ -79,6 +88,8 @@ class GenericMapStoreProperties {
 
         String singleColumnAsValueString = properties.getProperty(SINGLE_COLUMN_AS_VALUE, "false");
         singleColumnAsValue = Boolean.parseBoolean(singleColumnAsValueString);
+
+        batchSize = Integer.parseInt(properties.getProperty(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE).trim());
     }
 
     boolean hasColumns() {
@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import static com.hazelcast.mapstore.GenericMapLoader.BATCH_SIZE_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.SINGLE_COLUMN_AS_VALUE;
 import static com.hazelcast.mapstore.GenericMapStore.DATA_CONNECTION_REF_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapStore.EXTERNAL_NAME_PROPERTY;
@@ -294,6 +295,37 @@ public class GenericMapStoreBasicIT extends GenericMapLoaderTest {
         ));
     }
 
+    @Test
+    public void givenBatchSize_whenStoreAll_thenTableContainsRows() {
+        ObjectSpec spec = objectProvider.createObject(mapName, false);
+        objectProvider.insertItems(spec, 1);
+
+        Properties properties = new Properties();
+        properties.setProperty(DATA_CONNECTION_REF_PROPERTY, TEST_DATABASE_REF);
+        properties.setProperty(BATCH_SIZE_PROPERTY, "2");
+        mapStore = createMapStore(properties, hz);
+
+        Map<Integer, GenericRecord> people = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            GenericRecord person = GenericRecordBuilder.compact("Person")
+                                                       .setInt32("id", i)
+                                                       .setString("name", "updated-" + i)
+                                                       .build();
+            people.put(i, person);
+        }
+        mapStore.storeAll(people);
+
+        objectProvider.assertRows(mapName,
+                newArrayList(Integer.class, String.class),
+                List.of(
+                asList(0, "updated-0"),
+                asList(1, "updated-1"),
+                asList(2, "updated-2"),
+                asList(3, "updated-3"),
+                asList(4, "updated-4")
+        ));
+    }
+
     @Test
     public void whenStoreAllWithNoRecords_thenDoNothing() {
         objectProvider.createObject(mapName, false);
@@ -350,6 +382,23 @@ public class GenericMapStoreBasicIT extends GenericMapLoaderTest {
         );
     }
 
+    @Test
+    public void givenBatchSize_whenDeleteAll_thenRowsRemovedFromTable() {
+        ObjectSpec spec = objectProvider.createObject(mapName, false);
+        objectProvider.insertItems(spec, 4);
+
+        Properties properties = new Properties();
+        properties.setProperty(DATA_CONNECTION_REF_PROPERTY, TEST_DATABASE_REF);
+        properties.setProperty(BATCH_SIZE_PROPERTY, "2");
+        mapStore = createMapStore(properties, hz);
+        mapStore.deleteAll(newArrayList(0, 1, 2));
+
+        objectProvider.assertRow(mapName,
+                newArrayList(Integer.class, String.class),
+                asList(3, "name-3")
+        );
+    }
+
     @Test
     public void givenIdColumn_whenDeleteAll_thenRowRemovedFromTable() {
         ObjectSpec spec = objectProvider.createObject(mapName, true);
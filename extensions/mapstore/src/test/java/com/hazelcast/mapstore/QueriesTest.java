@@ -101,6 +101,21 @@ public class QueriesTest {
         assertEquals("SINK INTO \"my\"\"mapping\" (\"i\"\"d\", \"na\"\"me\", \"add\"\"ress\") VALUES (?, ?, ?)", result);
     }
 
+    @Test
+    public void testStoreSinkAllIsQuoted() {
+        Queries queries = new Queries(mapping, idColumn, columnMetadata);
+        String result = queries.storeSinkAll(2);
+        assertEquals("SINK INTO \"mymapping\" (\"id\", \"name\", \"address\") VALUES (?, ?, ?), (?, ?, ?)", result);
+    }
+
+    @Test
+    public void testStoreSinkAllIsEscaped() {
+        Queries queries = new Queries(mappingEscape, idColumnEscape, columnMetadataEscape);
+        String result = queries.storeSinkAll(2);
+        assertEquals("SINK INTO \"my\"\"mapping\" (\"i\"\"d\", \"na\"\"me\", \"add\"\"ress\") VALUES (?, ?, ?), (?, ?, ?)",
+                result);
+    }
+
     @Test
     public void testStoreUpdateIsQuoted() {
         Queries queries = new Queries(mapping, idColumn, columnMetadata);
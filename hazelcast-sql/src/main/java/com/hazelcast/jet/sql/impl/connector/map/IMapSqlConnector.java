@@ -25,6 +25,7 @@ import com.hazelcast.config.PartitioningStrategyConfig;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.function.ComparatorEx;
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.StringUtil;
 import com.hazelcast.jet.core.DefaultPartitionStrategy;
@@ -271,29 +272,47 @@ public class IMapSqlConnector implements SqlConnector {
 
         Tuple2<PartitioningStrategy<?>, List<List<Expression<?>>>> requiredPartitionsExprs =
                 computeRequiredPartitionsToScan(context.getNodeEngine(), partitionPruningCandidates, table.getMapName());
-        Vertex vStart = context.getDag().newUniqueVertex(
-                toString(table),
-                requiredPartitionsExprs.f1() != null
-                        // pruned
-                    ? mapReader(table.getMapName(), requiredPartitionsExprs.f0(), requiredPartitionsExprs.f1())
-                        // not pruned
-                    : readMapP(table.getMapName())
-        );
+        if (context.getNodeEngine().getClusterService().getClusterVersion().isLessThan(Versions.V6_0)) {
+            // the members older than 6.0 can't apply the projection in the reading processors
+            Vertex vStart = context.getDag().newUniqueVertex(
+                    toString(table),
+                    requiredPartitionsExprs.f1() != null
+                            // pruned
+                        ? mapReader(table.getMapName(), requiredPartitionsExprs.f0(), requiredPartitionsExprs.f1())
+                            // not pruned
+                        : readMapP(table.getMapName())
+            );
 
-        Vertex vEnd = context.getDag().newUniqueVertex(
-                "Project(" + toString(table) + ")",
-                rowProjector(
-                        table.paths(),
-                        table.types(),
-                        table.getKeyDescriptor(),
-                        table.getValueDescriptor(),
-                        context.convertFilter(filter),
-                        context.convertProjection(projection)
-                )
-        );
+            Vertex vEnd = context.getDag().newUniqueVertex(
+                    "Project(" + toString(table) + ")",
+                    rowProjector(
+                            table.paths(),
+                            table.types(),
+                            table.getKeyDescriptor(),
+                            table.getValueDescriptor(),
+                            context.convertFilter(filter),
+                            context.convertProjection(projection)
+                    )
+            );
+
+            context.getDag().edge(Edge.from(vStart).to(vEnd).isolated());
+            return vEnd;
+        }
 
-        context.getDag().edge(Edge.from(vStart).to(vEnd).isolated());
-        return vEnd;
+        // the filter and the projection are applied to the serialized entries by the reading processors
+        MapEntryRowProjectorSupplier projectorSupplier = new MapEntryRowProjectorSupplier(KvRowProjector.supplier(
+                table.paths(),
+                table.types(),
+                table.getKeyDescriptor(),
+                table.getValueDescriptor(),
+                context.convertFilter(filter),
+                context.convertProjection(projection)
+        ));
+        return context.getDag().newUniqueVertex(
+                toString(table),
+                // the partitions to scan are pruned if requiredPartitionsExprs.f1() isn't null
+                mapReader(table.getMapName(), requiredPartitionsExprs.f0(), requiredPartitionsExprs.f1(), projectorSupplier)
+        );
     }
 
     @Nonnull
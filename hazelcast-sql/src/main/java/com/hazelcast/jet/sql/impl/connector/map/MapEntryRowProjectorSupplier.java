@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.connector.ReadMapOrCacheP.RecordProjectorSupplier;
+import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+/**
+ * Filters and projects the entries of a map right in the processors which
+ * read them, on their serialized keys and values. The entries are not
+ * materialized, only the fields used by the predicate and the projection
+ * are extracted, and only the rows of the matching entries are emitted.
+ */
+public final class MapEntryRowProjectorSupplier implements RecordProjectorSupplier<Entry<Data, Data>>,
+        IdentifiedDataSerializable {
+
+    private KvRowProjector.Supplier projectorSupplier;
+
+    private transient ExpressionEvalContext evalContext;
+    private transient Extractors extractors;
+    private transient boolean cooperative;
+
+    @SuppressWarnings("unused")
+    public MapEntryRowProjectorSupplier() {
+    }
+
+    public MapEntryRowProjectorSupplier(KvRowProjector.Supplier projectorSupplier) {
+        this.projectorSupplier = projectorSupplier;
+    }
+
+    @Override
+    public void init(@Nonnull ProcessorSupplier.Context context) {
+        evalContext = ExpressionEvalContext.from(context);
+        extractors = Extractors.newBuilder(evalContext.getSerializationService()).build();
+        cooperative = projectorSupplier.get(evalContext, extractors).isCooperative();
+    }
+
+    @Nonnull
+    @Override
+    public Function<Entry<Data, Data>, JetSqlRow> get() {
+        KvRowProjector projector = projectorSupplier.get(evalContext, extractors);
+        return entry -> projector.project(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return cooperative;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(projectorSupplier);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        projectorSupplier = in.readObject();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetSqlSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetSqlSerializerHook.MAP_ENTRY_ROW_PROJECTOR_SUPPLIER;
+    }
+}
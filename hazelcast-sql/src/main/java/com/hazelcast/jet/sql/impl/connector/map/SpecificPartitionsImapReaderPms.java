@@ -19,6 +19,7 @@ package com.hazelcast.jet.sql.impl.connector.map;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.function.BiFunctionEx;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.PartitioningStrategyUtil;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
@@ -27,6 +28,7 @@ import com.hazelcast.jet.impl.connector.HazelcastReaders.LocalMapReaderFunction;
 import com.hazelcast.jet.impl.connector.ReadMapOrCacheP.LocalProcessorMetaSupplier;
 import com.hazelcast.jet.impl.connector.ReadMapOrCacheP.LocalProcessorSupplier;
 import com.hazelcast.jet.impl.connector.ReadMapOrCacheP.Reader;
+import com.hazelcast.jet.impl.connector.ReadMapOrCacheP.RecordProjectorSupplier;
 import com.hazelcast.jet.impl.util.FixedCapacityIntArrayList;
 import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.partition.PartitioningStrategy;
@@ -41,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -62,8 +65,9 @@ public abstract class SpecificPartitionsImapReaderPms<F extends CompletableFutur
     private SpecificPartitionsImapReaderPms(
             final BiFunctionEx<HazelcastInstance, InternalSerializationService, Reader<F, B, R>> readerSupplier,
             @Nullable PartitioningStrategy<?> partitioningStrategy,
-            @Nullable final List<List<Expression<?>>> requiredPartitionsExprs) {
-        super(readerSupplier);
+            @Nullable final List<List<Expression<?>>> requiredPartitionsExprs,
+            @Nullable RecordProjectorSupplier<R> projectorSupplier) {
+        super(readerSupplier, projectorSupplier);
         this.partitioningStrategy = partitioningStrategy;
         this.requiredPartitionsExprs = requiredPartitionsExprs;
     }
@@ -107,7 +111,7 @@ public abstract class SpecificPartitionsImapReaderPms<F extends CompletableFutur
     @Override
     public Function<Address, ProcessorSupplier> get(@Nonnull List<Address> addresses) {
         if (partitionsToScan == null) {
-            return address -> new LocalProcessorSupplier<>(readerSupplier);
+            return address -> new LocalProcessorSupplier<>(readerSupplier, null, projectorSupplier);
         } else {
             return address -> {
                 int[] partitions = partitionAssignment.get(address);
@@ -120,7 +124,7 @@ public abstract class SpecificPartitionsImapReaderPms<F extends CompletableFutur
                 }
 
                 int[] memberPartitionsToScan = partitionsToScanList.stream().mapToInt(i -> i).toArray();
-                return new LocalProcessorSupplier<>(readerSupplier, memberPartitionsToScan);
+                return new LocalProcessorSupplier<>(readerSupplier, memberPartitionsToScan, projectorSupplier);
             };
         }
     }
@@ -141,8 +145,20 @@ public abstract class SpecificPartitionsImapReaderPms<F extends CompletableFutur
     public static ProcessorMetaSupplier mapReader(String mapName,
                                                   @Nullable PartitioningStrategy<?> partitioningStrategy,
                                                   @Nullable List<List<Expression<?>>> requiredPartitionsExprs) {
+        return mapReader(mapName, partitioningStrategy, requiredPartitionsExprs, null);
+    }
+
+    /**
+     * Returns a meta-supplier of processors which read the map and apply the
+     * given projection to its serialized entries, emitting only the
+     * projections which aren't {@code null}.
+     */
+    public static ProcessorMetaSupplier mapReader(String mapName,
+                                                  @Nullable PartitioningStrategy<?> partitioningStrategy,
+                                                  @Nullable List<List<Expression<?>>> requiredPartitionsExprs,
+                                                  @Nullable RecordProjectorSupplier<Entry<Data, Data>> projectorSupplier) {
         return new SpecificPartitionsImapReaderPms<>(new LocalMapReaderFunction(mapName),
-                partitioningStrategy, requiredPartitionsExprs) {
+                partitioningStrategy, requiredPartitionsExprs, projectorSupplier) {
             @Override
             public Permission getRequiredPermission() {
                 return new MapPermission(mapName, ACTION_CREATE, ACTION_READ);
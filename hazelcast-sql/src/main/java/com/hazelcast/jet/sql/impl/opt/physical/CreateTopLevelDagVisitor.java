@@ -37,6 +37,8 @@ import com.hazelcast.jet.core.TimestampKind;
 import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.impl.processor.GroupP;
+import com.hazelcast.jet.impl.processor.SortP;
 import com.hazelcast.jet.pipeline.ServiceFactories;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.HazelcastPhysicalScan;
@@ -86,7 +88,6 @@ import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.core.processor.Processors.flatMapUsingServiceP;
 import static com.hazelcast.jet.core.processor.Processors.mapP;
 import static com.hazelcast.jet.core.processor.Processors.mapUsingServiceP;
-import static com.hazelcast.jet.core.processor.Processors.sortP;
 import static com.hazelcast.jet.core.processor.SourceProcessors.convenientSourceP;
 import static com.hazelcast.jet.sql.impl.connector.HazelcastRexNode.wrap;
 import static com.hazelcast.jet.sql.impl.connector.SqlConnectorUtil.getJetSqlConnector;
@@ -310,7 +311,7 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         // Use 2-Phase sort for maximum parallelism
         // First, construct processors for local sorting
         Vertex sortVertex = dag.newUniqueVertex("Sort",
-                ProcessorMetaSupplier.of(sortP(comparator)));
+                ProcessorMetaSupplier.of(SortP.supplier(comparator)));
         connectInput(rel.getInput(), sortVertex, null);
 
         // Then, combine the locally sorted inputs while preserving the ordering
@@ -380,7 +381,7 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
         Vertex vertex = dag.newUniqueVertex(
                 "AggregateByKey",
-                Processors.aggregateByKeyP(singletonList(groupKeyFn), aggregateOperation, (key, value) -> value)
+                GroupP.aggregateByKeySupplier(singletonList(groupKeyFn), aggregateOperation, (key, value) -> value)
         );
         connectInput(rel.getInput(), vertex, edge -> edge.distributed().partitioned(groupKeyFn));
         return vertex;
@@ -393,7 +394,7 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
         Vertex vertex = dag.newUniqueVertex(
                 "AccumulateByKey",
-                Processors.accumulateByKeyP(singletonList(groupKeyFn), aggregateOperation)
+                GroupP.accumulateByKeySupplier(singletonList(groupKeyFn), aggregateOperation)
         );
         connectInput(rel.getInput(), vertex, edge -> edge.partitioned(groupKeyFn));
         return vertex;
@@ -405,7 +406,7 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
         Vertex vertex = dag.newUniqueVertex(
                 "CombineByKey",
-                Processors.combineByKeyP(aggregateOperation, (key, value) -> value)
+                GroupP.combineByKeySupplier(aggregateOperation, (key, value) -> value)
         );
         connectInput(rel.getInput(), vertex, edge -> edge.distributed().partitioned(entryKey()));
         return vertex;
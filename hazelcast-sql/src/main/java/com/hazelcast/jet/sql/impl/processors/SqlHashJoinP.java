@@ -18,43 +18,118 @@ package com.hazelcast.jet.sql.impl.processors;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.Watermark;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.processor.SpillFile;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
 import com.hazelcast.jet.sql.impl.ObjectArrayKey;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_HASH_SPILL_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIRECTORY;
+
+/**
+ * Joins the rows of the left input with the rows of the right input, which
+ * are kept in a hash table.
+ * <p>
+ * If spilling is enabled for an equi-join, the processor doesn't fail when
+ * the hash table reaches the maximum number of accumulated records. Instead,
+ * it writes the right rows to temporary files partitioned by the hash of
+ * their join keys, and the left rows to files partitioned the same way. When
+ * the input is complete, it loads the right rows of each partition into the
+ * hash table and joins them with the left rows of the same partition. A
+ * partition whose right rows still don't fit into the hash table is split
+ * again with a different hash, up to {@link #MAX_SPILL_LEVEL} times. The
+ * join fails if the right rows of a single join key exceed the maximum
+ * number of accumulated records, since they cannot be split.
+ */
 public class SqlHashJoinP extends AbstractProcessor {
 
+    /**
+     * Number of the partitions the rows are spilled to.
+     */
+    static final int SPILL_PARTITION_COUNT = 16;
+
+    /**
+     * Maximum number of times a spilled partition is split again.
+     */
+    static final int MAX_SPILL_LEVEL = 4;
+
     private final JetJoinInfo joinInfo;
     private final int rightInputColumnCount;
+    private final boolean spillEnabled;
+    private final String spillDirectory;
+
+    private final Deque<SpilledPartition> spilledPartitions = new ArrayDeque<>();
+
+    @Probe(name = "spilledRows")
+    private final Counter spilledRows = SwCounter.newSwCounter();
 
     private ExpressionEvalContext evalContext;
     private Multimap<ObjectArrayKey, JetSqlRow> hashMap;
     private FlatMapper<JetSqlRow, JetSqlRow> flatMapper;
     private long maxItemsInHashTable;
+    private InternalSerializationService serializationService;
+    private Path spillPath;
+    private SpillFile[] rightSpillFiles;
+    private SpillFile[] leftSpillFiles;
+    private int nextSpillFileId;
+    private Traverser<JetSqlRow> spilledResultTraverser;
 
     public SqlHashJoinP(JetJoinInfo joinInfo, int rightInputColumnCount) {
+        this(joinInfo, rightInputColumnCount, false, null);
+    }
+
+    /**
+     * @param spillEnabled   whether to spill the rows when the maximum number
+     *                       of accumulated records is reached, ignored if the
+     *                       join is not an equi-join
+     * @param spillDirectory directory of the temporary files of the spilled
+     *                       rows, {@code null} for the default temporary directory
+     */
+    public SqlHashJoinP(
+            JetJoinInfo joinInfo,
+            int rightInputColumnCount,
+            boolean spillEnabled,
+            @Nullable String spillDirectory
+    ) {
         this.joinInfo = joinInfo;
         this.rightInputColumnCount = rightInputColumnCount;
+        this.spillEnabled = spillEnabled && joinInfo.isEquiJoin();
+        this.spillDirectory = spillDirectory;
     }
 
     @Override
@@ -63,6 +138,9 @@ public class SqlHashJoinP extends AbstractProcessor {
         this.hashMap = LinkedListMultimap.create();
         this.flatMapper = flatMapper(this::join);
         this.maxItemsInHashTable = context.maxProcessorAccumulatedRecords();
+        if (spillEnabled) {
+            this.serializationService = ((InternalProcSupplierCtx) context).serializationService();
+        }
     }
 
     private Traverser<JetSqlRow> join(JetSqlRow leftRow) {
@@ -85,13 +163,26 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     protected boolean tryProcess0(@Nonnull Object item) {
-        return flatMapper.tryProcess((JetSqlRow) item);
+        JetSqlRow leftRow = (JetSqlRow) item;
+        if (rightSpillFiles != null) {
+            startSpillingLeftRows();
+            ObjectArrayKey joinKeys = ObjectArrayKey.project(leftRow, joinInfo.leftEquiJoinIndices());
+            // rows with a null in the key match no right row, the empty hash table gives their output
+            if (!joinKeys.containsNull()) {
+                spill(leftSpillFiles, joinKeys, leftRow, 0);
+                return true;
+            }
+        }
+        return flatMapper.tryProcess(leftRow);
     }
 
     @Override
     protected boolean tryProcess1(@Nonnull Object item) {
         if (hashMap.size() == maxItemsInHashTable) {
-            throw new AccumulationLimitExceededException();
+            if (!spillEnabled) {
+                throw new AccumulationLimitExceededException();
+            }
+            spillHashMap();
         }
         JetSqlRow rightRow = (JetSqlRow) item;
         ObjectArrayKey joinKeys = ObjectArrayKey.project(rightRow, joinInfo.rightEquiJoinIndices());
@@ -103,6 +194,255 @@ public class SqlHashJoinP extends AbstractProcessor {
         return true;
     }
 
+    @Override
+    public boolean completeEdge(int ordinal) {
+        if (ordinal == 1 && rightSpillFiles != null) {
+            startSpillingLeftRows();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean complete() {
+        if (rightSpillFiles == null && spilledResultTraverser == null) {
+            return true;
+        }
+        if (spilledResultTraverser == null) {
+            startSpillingLeftRows();
+            addSpilledPartitions(rightSpillFiles, leftSpillFiles, 0);
+            rightSpillFiles = null;
+            leftSpillFiles = null;
+            spilledResultTraverser = new SpilledResultTraverser();
+        }
+        return emitFromTraverser(spilledResultTraverser);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (spillPath != null) {
+            for (SpilledPartition partition : spilledPartitions) {
+                partition.delete();
+            }
+            spilledPartitions.clear();
+            deleteSpillFiles(rightSpillFiles);
+            deleteSpillFiles(leftSpillFiles);
+            rightSpillFiles = null;
+            leftSpillFiles = null;
+            IOUtil.delete(spillPath);
+            spillPath = null;
+        }
+    }
+
+    /**
+     * Called when the right input is complete after some right rows were
+     * spilled. The remaining right rows are spilled too, and the left rows
+     * are spilled from now on.
+     */
+    private void startSpillingLeftRows() {
+        if (leftSpillFiles != null) {
+            return;
+        }
+        spillHashMap();
+        try {
+            for (SpillFile file : rightSpillFiles) {
+                file.finishWriting();
+            }
+            leftSpillFiles = newSpillFiles("left-");
+        } catch (IOException e) {
+            throw new JetException("Could not spill the rows to " + spillPath, e);
+        }
+    }
+
+    /**
+     * Moves all the rows of the hash table to the right spill files.
+     */
+    private void spillHashMap() {
+        try {
+            if (rightSpillFiles == null) {
+                rightSpillFiles = newSpillFiles("right-");
+            }
+        } catch (IOException e) {
+            throw new JetException("Could not spill the rows to " + spillPath, e);
+        }
+        spillHashMap(rightSpillFiles, 0);
+    }
+
+    private void spillHashMap(SpillFile[] files, int level) {
+        for (ObjectArrayKey joinKeys : hashMap.keySet()) {
+            for (JetSqlRow rightRow : hashMap.get(joinKeys)) {
+                spill(files, joinKeys, rightRow, level);
+            }
+        }
+        hashMap.clear();
+    }
+
+    private void spill(SpillFile[] files, ObjectArrayKey joinKeys, JetSqlRow row, int level) {
+        SpillFile file = files[SpillFile.partitionOf(joinKeys, level, SPILL_PARTITION_COUNT)];
+        try {
+            file.write(row);
+        } catch (IOException e) {
+            throw new JetException("Could not spill the rows to " + spillPath, e);
+        }
+        spilledRows.inc();
+    }
+
+    private SpillFile[] newSpillFiles(String prefix) throws IOException {
+        if (spillPath == null) {
+            spillPath = SpillFile.createDirectory(spillDirectory, "hazelcast-jet-sql-join-");
+        }
+        SpillFile[] files = new SpillFile[SPILL_PARTITION_COUNT];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = new SpillFile(spillPath.resolve(prefix + nextSpillFileId++), serializationService);
+        }
+        return files;
+    }
+
+    /**
+     * Adds the given spilled partitions to the partitions to be joined. The
+     * partitions without left rows are deleted, they give no output.
+     */
+    private void addSpilledPartitions(SpillFile[] rightFiles, SpillFile[] leftFiles, int level) {
+        try {
+            for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+                SpilledPartition partition = new SpilledPartition(rightFiles[i], leftFiles[i], level);
+                if (leftFiles[i].itemCount() == 0) {
+                    // no left row to join, nor to output for an outer join
+                    partition.delete();
+                } else {
+                    rightFiles[i].finishWriting();
+                    leftFiles[i].finishWriting();
+                    spilledPartitions.addFirst(partition);
+                }
+            }
+        } catch (IOException e) {
+            throw new JetException("Could not spill the rows to " + spillPath, e);
+        }
+    }
+
+    private void deleteSpillFiles(SpillFile[] files) throws IOException {
+        if (files != null) {
+            for (SpillFile file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Loads the right rows of the given spilled partition into the hash
+     * table. If the partition has more right rows than the maximum number of
+     * accumulated records, it's partitioned again instead, and the hash table
+     * is left empty.
+     *
+     * @return {@code true} if the right rows have been loaded
+     */
+    private boolean loadSpilledPartition(SpilledPartition partition) {
+        hashMap.clear();
+        Iterator<JetSqlRow> rightRows = partition.right.iterator();
+        while (rightRows.hasNext()) {
+            JetSqlRow rightRow = rightRows.next();
+            ObjectArrayKey joinKeys = ObjectArrayKey.project(rightRow, joinInfo.rightEquiJoinIndices());
+            if (hashMap.size() < maxItemsInHashTable) {
+                hashMap.put(joinKeys, rightRow);
+            } else if (partition.level < MAX_SPILL_LEVEL) {
+                splitSpilledPartition(partition, joinKeys, rightRow, rightRows);
+                return false;
+            } else {
+                throw new AccumulationLimitExceededException();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the given spilled partition into partitions of the next level.
+     * The right rows already loaded into the hash table, the given right row
+     * and the remaining right rows are spilled first, then the left rows.
+     */
+    private void splitSpilledPartition(
+            SpilledPartition partition,
+            ObjectArrayKey joinKeys,
+            JetSqlRow rightRow,
+            Iterator<JetSqlRow> rightRows
+    ) {
+        int level = partition.level + 1;
+        try {
+            SpillFile[] rightFiles = newSpillFiles("right-");
+            spillHashMap(rightFiles, level);
+            spill(rightFiles, joinKeys, rightRow, level);
+            while (rightRows.hasNext()) {
+                JetSqlRow row = rightRows.next();
+                spill(rightFiles, ObjectArrayKey.project(row, joinInfo.rightEquiJoinIndices()), row, level);
+            }
+            SpillFile[] leftFiles = newSpillFiles("left-");
+            Iterator<JetSqlRow> leftRows = partition.left.iterator();
+            while (leftRows.hasNext()) {
+                JetSqlRow row = leftRows.next();
+                spill(leftFiles, ObjectArrayKey.project(row, joinInfo.leftEquiJoinIndices()), row, level);
+            }
+            addSpilledPartitions(rightFiles, leftFiles, level);
+        } catch (IOException e) {
+            throw new JetException("Could not spill the rows to " + spillPath, e);
+        }
+        partition.delete();
+    }
+
+    /**
+     * Joins the spilled rows, one partition at a time.
+     */
+    private final class SpilledResultTraverser implements Traverser<JetSqlRow> {
+        private SpilledPartition partition;
+        private Iterator<JetSqlRow> leftRows = Collections.emptyIterator();
+        private Traverser<JetSqlRow> joinedRows = Traversers.empty();
+
+        @Override
+        public JetSqlRow next() {
+            for (;;) {
+                JetSqlRow row = joinedRows.next();
+                if (row != null) {
+                    return row;
+                }
+                if (leftRows.hasNext()) {
+                    joinedRows = join(leftRows.next());
+                    continue;
+                }
+                if (partition != null) {
+                    partition.delete();
+                    partition = null;
+                }
+                SpilledPartition next = spilledPartitions.poll();
+                if (next == null) {
+                    hashMap.clear();
+                    return null;
+                }
+                if (loadSpilledPartition(next)) {
+                    partition = next;
+                    leftRows = next.left.iterator();
+                }
+            }
+        }
+    }
+
+    private final class SpilledPartition {
+        private final SpillFile right;
+        private final SpillFile left;
+        private final int level;
+
+        private SpilledPartition(SpillFile right, SpillFile left, int level) {
+            this.right = right;
+            this.left = left;
+            this.level = level;
+        }
+
+        private void delete() {
+            try {
+                right.delete();
+                left.delete();
+            } catch (IOException e) {
+                getLogger().warning("Could not delete the spill files " + right + ", " + left, e);
+            }
+        }
+    }
+
     @Override
     public boolean tryProcessWatermark(@Nonnull Watermark watermark) {
         return true;
@@ -110,7 +450,7 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     public boolean isCooperative() {
-        return joinInfo.isCooperative();
+        return joinInfo.isCooperative() && !spillEnabled;
     }
 
     public static HashJoinProcessorSupplier supplier(JetJoinInfo joinInfo, int rightInputColumnCount) {
@@ -120,6 +460,8 @@ public class SqlHashJoinP extends AbstractProcessor {
     private static final class HashJoinProcessorSupplier implements ProcessorSupplier, DataSerializable {
         private JetJoinInfo joinInfo;
         private int rightInputColumnCount;
+        private transient boolean spillEnabled;
+        private transient String spillDirectory;
 
         @SuppressWarnings("unused") // for deserialization
         private HashJoinProcessorSupplier() {
@@ -130,12 +472,19 @@ public class SqlHashJoinP extends AbstractProcessor {
             this.rightInputColumnCount = rightInputColumnCount;
         }
 
+        @Override
+        public void init(@Nonnull Context context) {
+            HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+            spillEnabled = properties.getBoolean(JET_HASH_SPILL_ENABLED);
+            spillDirectory = properties.getString(JET_SPILL_DIRECTORY);
+        }
+
         @Nonnull
         @Override
         public Collection<? extends Processor> get(int count) {
             List<SqlHashJoinP> processors = new ArrayList<>(count);
             for (int i = 0; i < count; i++) {
-                processors.add(new SqlHashJoinP(joinInfo, rightInputColumnCount));
+                processors.add(new SqlHashJoinP(joinInfo, rightInputColumnCount, spillEnabled, spillDirectory));
             }
             return processors;
         }
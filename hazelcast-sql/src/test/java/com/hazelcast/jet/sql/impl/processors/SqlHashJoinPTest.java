@@ -18,6 +18,7 @@ package com.hazelcast.jet.sql.impl.processors;
 
 import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.test.TestProcessorContext;
 import com.hazelcast.jet.core.test.TestSupport;
 import com.hazelcast.jet.sql.SqlTestSupport;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
@@ -31,9 +32,12 @@ import org.apache.calcite.rel.core.JoinRelType;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
+import static com.hazelcast.jet.core.test.TestSupport.SAME_ITEMS_ANY_ORDER;
 import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
 import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
 import static com.hazelcast.sql.impl.type.QueryDataType.INT;
@@ -47,6 +51,14 @@ public class SqlHashJoinPTest extends SqlTestSupport {
     private static final int LOW_PRIORITY = 10;
     private static final int HIGH_PRIORITY = 1;
 
+    private static final int SPILLED_KEY_COUNT = 100;
+    private static final int UNMATCHED_KEY_COUNT = 20;
+    /**
+     * Less than the average number of right rows in a spilled partition, so
+     * that some partitions are split again.
+     */
+    private static final long MAX_ACCUMULATED_RECORDS = 4;
+
     private static final Expression<Boolean> TRUE_PREDICATE =
             (Expression<Boolean>) ConstantExpression.create(true, BOOLEAN);
 
@@ -139,6 +151,32 @@ public class SqlHashJoinPTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_innerEquiJoin_spilled() {
+        List<JetSqlRow> output = new ArrayList<>();
+        for (int i = 0; i < SPILLED_KEY_COUNT; i++) {
+            output.add(jetRow(i, "left-" + i, i, "right-" + i));
+        }
+        output.add(jetRow(0, "left-0", 0, "right-0-2"));
+
+        runSpillingTest(INNER, output);
+    }
+
+    @Test
+    public void test_leftEquiJoin_spilled() {
+        List<JetSqlRow> output = new ArrayList<>();
+        for (int i = 0; i < SPILLED_KEY_COUNT; i++) {
+            output.add(jetRow(i, "left-" + i, i, "right-" + i));
+        }
+        output.add(jetRow(0, "left-0", 0, "right-0-2"));
+        for (int i = SPILLED_KEY_COUNT; i < SPILLED_KEY_COUNT + UNMATCHED_KEY_COUNT; i++) {
+            output.add(jetRow(i, "left-" + i, null, null));
+        }
+        output.add(jetRow(null, "left-null", null, null));
+
+        runSpillingTest(LEFT, output);
+    }
+
     private void runTest(
             JoinRelType joinType,
             Expression<Boolean> nonEquiCondition,
@@ -164,4 +202,49 @@ public class SqlHashJoinPTest extends SqlTestSupport {
                 .disableSnapshots()
                 .expectOutput(output);
     }
+
+    /**
+     * Joins more right rows than the maximum number of accumulated records,
+     * so that they are spilled and the spilled partitions are split again.
+     */
+    private void runSpillingTest(JoinRelType joinType, List<JetSqlRow> output) {
+        List<JetSqlRow> leftInput = new ArrayList<>();
+        for (int i = 0; i < SPILLED_KEY_COUNT + UNMATCHED_KEY_COUNT; i++) {
+            leftInput.add(jetRow(i, "left-" + i));
+        }
+        leftInput.add(jetRow(null, "left-null"));
+        List<JetSqlRow> rightInput = new ArrayList<>();
+        for (int i = 0; i < SPILLED_KEY_COUNT; i++) {
+            rightInput.add(jetRow(i, "right-" + i));
+        }
+        rightInput.add(jetRow(0, "right-0-2"));
+        rightInput.add(jetRow(null, "right-null"));
+        JetJoinInfo joinInfo = new JetJoinInfo(joinType, new int[]{0}, new int[]{0}, TRUE_PREDICATE, null);
+
+        TestSupport
+                .verifyProcessor(() -> new SpillingSqlHashJoinP(joinInfo, 2))
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .inputs(asList(leftInput, rightInput), new int[]{LOW_PRIORITY, HIGH_PRIORITY})
+                .hazelcastInstance(instance())
+                .outputChecker(SAME_ITEMS_ANY_ORDER)
+                .disableSnapshots()
+                .expectOutput(output);
+    }
+
+    /**
+     * Spills when the hash table reaches {@link #MAX_ACCUMULATED_RECORDS},
+     * which the test context does not take from the job config.
+     */
+    private static final class SpillingSqlHashJoinP extends SqlHashJoinP {
+
+        private SpillingSqlHashJoinP(JetJoinInfo joinInfo, int rightInputColumnCount) {
+            super(joinInfo, rightInputColumnCount, true, null);
+        }
+
+        @Override
+        public void init(@Nonnull Context context) throws Exception {
+            ((TestProcessorContext) context).setMaxProcessorAccumulatedRecords(MAX_ACCUMULATED_RECORDS);
+            super.init(context);
+        }
+    }
 }
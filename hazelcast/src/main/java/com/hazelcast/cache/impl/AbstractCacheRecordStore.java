@@ -42,6 +42,8 @@ import com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider;
 import com.hazelcast.internal.eviction.ExpiredKey;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
 import com.hazelcast.internal.eviction.impl.strategy.sampling.SamplingEvictionStrategy;
+import com.hazelcast.internal.hotrestart.impl.LocalHotRestartService;
+import com.hazelcast.internal.hotrestart.impl.PersistenceStore;
 import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.nearcache.impl.invalidation.InvalidationQueue;
 import com.hazelcast.internal.serialization.Data;
@@ -136,6 +138,11 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected final EvictionPolicyEvaluator<Data, R> evictionPolicyEvaluator;
     protected final Map<CacheEventType, Set<CacheEventData>> batchEvent = new HashMap<>();
     protected final CompositeCacheRSMutationObserver compositeCacheRSMutationObserver;
+    /**
+     * Whether the record store is observed by a {@link PersistenceRSMutationObserver},
+     * {@link #init()} is called again after the migrations.
+     */
+    private boolean persistenceObserverAdded;
 
     protected boolean primary;
     protected boolean eventsEnabled = true;
@@ -319,6 +326,14 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
             compositeCacheRSMutationObserver.add(
                     new EventJournalRSMutationObserver(cacheService, eventJournalConfig, objectNamespace, partitionId));
         }
+        if (!persistenceObserverAdded && cacheConfig.getDataPersistenceConfig().isEnabled()) {
+            PersistenceStore persistenceStore = LocalHotRestartService.getStore(nodeEngine);
+            if (persistenceStore != null) {
+                compositeCacheRSMutationObserver.add(
+                        new PersistenceRSMutationObserver(persistenceStore, cacheConfig, ss, name, partitionId));
+                persistenceObserverAdded = true;
+            }
+        }
     }
 
     protected boolean isReadThrough() {
@@ -1170,6 +1185,8 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
                 compositeCacheRSMutationObserver.onCreate(
                         key, record.getValue());
             }
+        } else {
+            compositeCacheRSMutationObserver.onReplicate(key, record.getValue());
         }
         invalidateEntry(key, source);
         return oldRecord;
@@ -1836,7 +1853,9 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     private CacheMergeResponse.MergeResult updateWithMergingValue(Data key, Object existingValue, Object mergingValue,
                                            R record, long expiryTime, long now, boolean disableWriteThrough) {
 
-        if (valueComparator.isEqual(existingValue, mergingValue, ss)) {
+        // equal serialized values are equal, no need to deserialize them
+        if ((existingValue instanceof Data && existingValue.equals(mergingValue))
+                || valueComparator.isEqual(existingValue, mergingValue, ss)) {
             CacheMergeResponse.MergeResult result;
             if (updateExpiryTime(record, expiryTime)) {
                 result = CacheMergeResponse.MergeResult.RECORD_EXPIRY_UPDATED;
@@ -1943,7 +1962,11 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
 
     @Override
     public void reset() {
-        records.clear();
+        try {
+            compositeCacheRSMutationObserver.onReset();
+        } finally {
+            records.clear();
+        }
     }
 
     @Override
@@ -66,6 +66,25 @@ public interface CacheRSMutationObserver {
      */
     void onExpire(Data key, Object value);
 
+    /**
+     * Called when an entry is put by a replication, e.g. by a migration,
+     * which is not reported by {@link #onCreate} or {@link #onUpdate}.
+     *
+     * @param key   the key
+     * @param value the value
+     * @since 6.0
+     */
+    default void onReplicate(Data key, Object value) {
+    }
+
+    /**
+     * Called when all entries of the observed {@link ICacheRecordStore} are removed.
+     *
+     * @since 6.0
+     */
+    default void onReset() {
+    }
+
     /**
      * Called when the observed {@link ICacheRecordStore} is destroyed.
      */
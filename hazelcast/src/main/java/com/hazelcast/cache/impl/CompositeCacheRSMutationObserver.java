@@ -76,6 +76,20 @@ public class CompositeCacheRSMutationObserver implements CacheRSMutationObserver
         }
     }
 
+    @Override
+    public void onReplicate(Data key, Object value) {
+        for (int i = 0; i < mutationObservers.size(); i++) {
+            mutationObservers.get(i).onReplicate(key, value);
+        }
+    }
+
+    @Override
+    public void onReset() {
+        for (int i = 0; i < mutationObservers.size(); i++) {
+            mutationObservers.get(i).onReset();
+        }
+    }
+
     @Override
     public void onDestroy() {
         for (int i = 0; i < mutationObservers.size(); i++) {
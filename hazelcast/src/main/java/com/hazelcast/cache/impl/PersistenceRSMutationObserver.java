@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cache.impl;
+
+import com.hazelcast.config.CacheConfig;
+import com.hazelcast.internal.hotrestart.impl.PersistenceStore;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+
+import static com.hazelcast.internal.hotrestart.impl.PersistenceStore.CACHE;
+
+/**
+ * Persists the mutations of a cache record store to the local
+ * {@link PersistenceStore}, so that its entries can be recovered after a
+ * restart. The expiration times of the entries are not persisted, the
+ * recovered entries expire according to the expiry policy of the cache.
+ */
+public class PersistenceRSMutationObserver implements CacheRSMutationObserver {
+
+    private final PersistenceStore store;
+    private final SerializationService serializationService;
+    private final String name;
+    private final int partitionId;
+    private final boolean fsync;
+
+    public PersistenceRSMutationObserver(PersistenceStore store, CacheConfig cacheConfig,
+                                         SerializationService serializationService, String name, int partitionId) {
+        this.store = store;
+        this.serializationService = serializationService;
+        this.name = name;
+        this.partitionId = partitionId;
+        this.fsync = cacheConfig.getDataPersistenceConfig().isFsync();
+        store.persistCacheConfig(name, serializationService.toData(cacheConfig));
+    }
+
+    @Override
+    public void onCreate(Data key, Object value) {
+        persist(key, value);
+    }
+
+    @Override
+    public void onRemove(Data key, Object value) {
+        store.remove(partitionId, CACHE, name, key, fsync);
+    }
+
+    @Override
+    public void onUpdate(Data key, Object oldValue, Object value) {
+        persist(key, value);
+    }
+
+    @Override
+    public void onEvict(Data key, Object value) {
+        store.remove(partitionId, CACHE, name, key, fsync);
+    }
+
+    @Override
+    public void onExpire(Data key, Object value) {
+        store.remove(partitionId, CACHE, name, key, fsync);
+    }
+
+    @Override
+    public void onReplicate(Data key, Object value) {
+        persist(key, value);
+    }
+
+    @Override
+    public void onReset() {
+        store.clear(partitionId, CACHE, name, fsync);
+    }
+
+    @Override
+    public void onDestroy() {
+        // NOP, the record store is reset before it is destroyed,
+        // except on shutdown, when its persisted entries must be kept
+    }
+
+    private void persist(Data key, Object value) {
+        store.put(partitionId, CACHE, name, key, serializationService.toData(value), Long.MAX_VALUE, fsync);
+    }
+}
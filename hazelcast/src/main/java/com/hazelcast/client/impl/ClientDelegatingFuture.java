@@ -167,7 +167,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public <U> CompletableFuture<U> thenApplyAsync(Function<? super V, ? extends U> fn) {
-        return future.thenApplyAsync(new DeserializingFunction<>(fn), defaultExecutor());
+        return future.thenApplyAsync(new DeserializingFunction<>(fn), asyncExecutor());
     }
 
     @Override
@@ -182,7 +182,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public CompletableFuture<Void> thenAcceptAsync(Consumer<? super V> action) {
-        return future.thenAcceptAsync(new DeserializingConsumer(action), defaultExecutor());
+        return future.thenAcceptAsync(new DeserializingConsumer(action), asyncExecutor());
     }
 
     @Override
@@ -197,7 +197,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public CompletableFuture<Void> thenRunAsync(Runnable action) {
-        return future.thenRunAsync(new DeserializingRunnable(action), defaultExecutor());
+        return future.thenRunAsync(new DeserializingRunnable(action), asyncExecutor());
     }
 
     @Override
@@ -214,7 +214,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
     @Override
     public <U, V1> CompletableFuture<V1> thenCombineAsync(CompletionStage<? extends U> other,
                                                           BiFunction<? super V, ? super U, ? extends V1> fn) {
-        return future.thenCombineAsync(other, new DeserializingBiFunction<>(fn), defaultExecutor());
+        return future.thenCombineAsync(other, new DeserializingBiFunction<>(fn), asyncExecutor());
     }
 
     @Override
@@ -232,7 +232,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
     @Override
     public <U> CompletableFuture<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
                                                            BiConsumer<? super V, ? super U> action) {
-        return future.thenAcceptBothAsync(other, new DeserializingBiConsumer<>(action), defaultExecutor());
+        return future.thenAcceptBothAsync(other, new DeserializingBiConsumer<>(action), asyncExecutor());
     }
 
     @Override
@@ -248,7 +248,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public CompletableFuture<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
-        return future.runAfterBothAsync(other, new DeserializingRunnable(action), defaultExecutor());
+        return future.runAfterBothAsync(other, new DeserializingRunnable(action), asyncExecutor());
     }
 
     @Override
@@ -259,7 +259,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
     @SuppressWarnings("unchecked")
     @Override
     public <U> CompletableFuture<U> applyToEitherAsync(CompletionStage<? extends V> other, Function<? super V, U> fn) {
-        return applyToEitherAsync(future, other, new DeserializingFunction(fn), defaultExecutor());
+        return applyToEitherAsync(future, other, new DeserializingFunction(fn), asyncExecutor());
     }
 
     @SuppressWarnings("unchecked")
@@ -282,7 +282,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public CompletableFuture<Void> acceptEitherAsync(CompletionStage<? extends V> other, Consumer<? super V> action) {
-        return acceptEitherAsync(future, other, new DeserializingConsumer(action), defaultExecutor());
+        return acceptEitherAsync(future, other, new DeserializingConsumer(action), asyncExecutor());
     }
 
     @Override
@@ -298,7 +298,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public CompletableFuture<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
-        return future.runAfterEitherAsync(other, new DeserializingRunnable(action), defaultExecutor());
+        return future.runAfterEitherAsync(other, new DeserializingRunnable(action), asyncExecutor());
     }
 
     @Override
@@ -313,7 +313,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public <U> CompletableFuture<U> thenComposeAsync(Function<? super V, ? extends CompletionStage<U>> fn) {
-        return future.thenComposeAsync(new DeserializingFunction<>(fn), defaultExecutor());
+        return future.thenComposeAsync(new DeserializingFunction<>(fn), asyncExecutor());
     }
 
     @Override
@@ -328,7 +328,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public CompletableFuture<V> whenCompleteAsync(BiConsumer<? super V, ? super Throwable> action) {
-        return future.handleAsync(new WhenCompleteAdapter(action), defaultExecutor());
+        return future.handleAsync(new WhenCompleteAdapter(action), asyncExecutor());
     }
 
     @Override
@@ -343,7 +343,7 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
 
     @Override
     public <U> CompletableFuture<U> handleAsync(BiFunction<? super V, Throwable, ? extends U> fn) {
-        return future.handleAsync(new HandleBiFunction<>(fn), defaultExecutor());
+        return future.handleAsync(new HandleBiFunction<>(fn), asyncExecutor());
     }
 
     @Override
@@ -361,6 +361,10 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
         return future.handleAsync(new ExceptionallyAdapter(fn), defaultExecutor());
     }
 
+    private Executor asyncExecutor() {
+        return getFuture().asyncExecutor();
+    }
+
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
         return future.cancel(mayInterruptIfRunning);
@@ -78,6 +78,28 @@ public interface ClientEndpointManager {
      */
     boolean registerEndpoint(ClientEndpoint endpoint);
 
+    /**
+     * Registers an additional connection of the client of a registered
+     * endpoint. The messages received over the connection are handled by the
+     * endpoint: the connection has no endpoint of its own, so it is not seen
+     * as another client. The connection is closed when the endpoint is removed.
+     *
+     * @param endpoint   the registered endpoint of the client.
+     * @param connection the additional connection of the client.
+     * @return false if the endpoint is not registered
+     * @throws java.lang.NullPointerException if endpoint or connection is null.
+     */
+    boolean registerChannel(ClientEndpoint endpoint, Connection connection);
+
+    /**
+     * Returns the additional connections registered for the endpoint with
+     * {@link #registerChannel(ClientEndpoint, Connection)}.
+     *
+     * @param endpoint the endpoint of the client.
+     * @return the additional connections of the client.
+     */
+    Collection<Connection> getChannels(ClientEndpoint endpoint);
+
     /**
      * Removes an endpoint from this ClientEndpointManager.
      * Closes associated connection and runs all registered destroy actions to endpoint.
@@ -23,6 +23,7 @@ import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
 import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -30,7 +31,9 @@ import com.hazelcast.spi.impl.eventservice.EventRegistration;
 import com.hazelcast.spi.impl.eventservice.EventService;
 
 import javax.security.auth.login.LoginException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -57,6 +60,11 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     private final ConcurrentMap<Connection, ClientEndpoint> endpoints =
             new ConcurrentHashMap<>();
 
+    /**
+     * The endpoints of the additional connections of the clients.
+     */
+    private final ConcurrentMap<Connection, ClientEndpoint> channelEndpoints = new ConcurrentHashMap<>();
+
     @Probe(name = CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS, level = MANDATORY)
     private final MwCounter totalRegistrations = newMwCounter();
 
@@ -81,7 +89,8 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     public ClientEndpoint getEndpoint(Connection connection) {
         checkNotNull(connection, "connection can't be null");
 
-        return endpoints.get(connection);
+        ClientEndpoint endpoint = endpoints.get(connection);
+        return endpoint != null ? endpoint : channelEndpoints.get(connection);
     }
 
     @Override
@@ -101,6 +110,39 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
         }
     }
 
+    @Override
+    public boolean registerChannel(ClientEndpoint endpoint, Connection connection) {
+        checkNotNull(endpoint, "endpoint can't be null");
+        checkNotNull(connection, "connection can't be null");
+
+        if (endpoints.get(endpoint.getConnection()) != endpoint) {
+            return false;
+        }
+        channelEndpoints.put(connection, endpoint);
+        // the endpoint might have been removed concurrently, before its channels were closed
+        if (endpoints.get(endpoint.getConnection()) != endpoint) {
+            channelEndpoints.remove(connection, endpoint);
+            return false;
+        }
+        if (connection instanceof TcpServerConnection tcpConnection) {
+            tcpConnection.getChannel().addCloseListener(channel -> channelEndpoints.remove(connection, endpoint));
+        }
+        return true;
+    }
+
+    @Override
+    public Collection<Connection> getChannels(ClientEndpoint endpoint) {
+        checkNotNull(endpoint, "endpoint can't be null");
+
+        List<Connection> channels = new ArrayList<>();
+        channelEndpoints.forEach((connection, channelEndpoint) -> {
+            if (channelEndpoint == endpoint) {
+                channels.add(connection);
+            }
+        });
+        return channels;
+    }
+
     @Override
     public void removeEndpoint(ClientEndpoint clientEndpoint) {
         checkNotNull(clientEndpoint, "endpoint can't be null");
@@ -112,6 +154,7 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
             return;
         }
 
+        closeChannels(endpoint);
         logger.info("Destroying " + endpoint);
         try {
             endpoint.destroy();
@@ -127,6 +170,14 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
         sendClientEvent(event);
     }
 
+    private void closeChannels(ClientEndpoint endpoint) {
+        channelEndpoints.forEach((connection, channelEndpoint) -> {
+            if (channelEndpoint == endpoint && channelEndpoints.remove(connection, endpoint)) {
+                connection.close("The endpoint of the client is removed", null);
+            }
+        });
+    }
+
     private void sendClientEvent(ClientEvent event) {
         final Collection<EventRegistration> regs = eventService.getRegistrations(SERVICE_NAME, SERVICE_NAME);
         UUID uuid = event.getUuid();
@@ -136,6 +187,7 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     @Override
     public void clear() {
         endpoints.clear();
+        channelEndpoints.clear();
     }
 
     @Override
@@ -475,6 +475,10 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
                 logger.finest("connectionRemoved: No endpoint for connection:" + connection);
                 return;
             }
+            if (endpoint.getConnection() != connection) {
+                // an additional connection of the client, its endpoint is still connected
+                return;
+            }
             UUID clientUuid = endpoint.getUuid();
             if (clientUuid != null) {
                 node.getLocalAddressRegistry().tryRemoveRegistration(clientUuid,
@@ -91,7 +91,14 @@ public class ClientHeartbeatMonitor implements Runnable {
     }
 
     private void monitor(ClientEndpoint clientEndpoint) {
-        Connection connection = clientEndpoint.getConnection();
+        monitor(clientEndpoint.getConnection());
+        // the additional connections of the client are heartbeated separately
+        for (Connection channel : clientEndpointManager.getChannels(clientEndpoint)) {
+            monitor(channel);
+        }
+    }
+
+    private void monitor(Connection connection) {
         long lastTimePacketReceived = connection.lastReadTimeMillis();
         long timeoutInMillis = SECONDS.toMillis(heartbeatTimeoutSeconds);
         long currentTimeMillis = Clock.currentTimeMillis();
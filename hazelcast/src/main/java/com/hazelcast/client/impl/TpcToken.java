@@ -24,7 +24,8 @@ import java.util.Arrays;
 /**
  * Represents the secure-randomly generated tokens associated
  * to the clients so that the client can proof its identity
- * while authenticating with the TPC channels.
+ * while authenticating with the TPC channels or with the
+ * additional channels of its connections.
  */
 public final class TpcToken {
     private static final int CONTENT_LENGTH = 64;
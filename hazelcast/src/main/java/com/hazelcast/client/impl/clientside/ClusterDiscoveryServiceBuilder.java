@@ -34,6 +34,7 @@ import com.hazelcast.client.properties.ClientProperty;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.config.DiscoveryConfig;
 import com.hazelcast.config.DiscoveryStrategyConfig;
+import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.config.SSLConfig;
 import com.hazelcast.config.SocketInterceptorConfig;
 import com.hazelcast.config.security.StaticCredentialsFactory;
@@ -95,6 +96,10 @@ class ClusterDiscoveryServiceBuilder {
         for (ClientConfig config : configs) {
             ClientNetworkConfig networkConfig = config.getNetworkConfig();
             SocketInterceptor interceptor = initSocketInterceptor(networkConfig.getSocketInterceptorConfig());
+            if (interceptor != null && config.getTpcConfig().isEnabled()) {
+                // the members don't run the socket interceptor on the TPC channels
+                throw new InvalidConfigurationException("Socket interceptor can't be used together with TPC");
+            }
             ICredentialsFactory credentialsFactory = initCredentialsFactory(config);
             if (credentialsFactory == null) {
                 credentialsFactory = new StaticCredentialsFactory(new UsernamePasswordCredentials(null, null));
@@ -90,6 +90,16 @@ public final class HeartbeatManager {
                         check(tpcChannel, connection, now);
                     }
                 }
+
+                // The first member channel is the connection's own channel
+                if (connection instanceof TcpClientConnection tcpConnection) {
+                    Channel[] memberChannels = tcpConnection.getMemberChannels();
+                    if (memberChannels != null) {
+                        for (int i = 1; i < memberChannels.length; i++) {
+                            check(memberChannels[i], connection, now);
+                        }
+                    }
+                }
             }
         }
 
@@ -110,20 +120,20 @@ public final class HeartbeatManager {
             }
         }
 
-        private void check(Channel tpcChannel, ClientConnection connection, long now) {
-            if (tpcChannel.isClosed() || !connection.isAlive()) {
+        private void check(Channel channel, ClientConnection connection, long now) {
+            if (channel.isClosed() || !connection.isAlive()) {
                 return;
             }
 
-            if (now - tpcChannel.lastReadTimeMillis() > heartbeatTimeoutMillis) {
-                String message = "Heartbeat failed over the TPC channel: " + tpcChannel + " for connection: " + connection;
+            if (now - channel.lastReadTimeMillis() > heartbeatTimeoutMillis) {
+                String message = "Heartbeat failed over the channel: " + channel + " for connection: " + connection;
                 logger.warning(message);
                 connection.close("Heartbeat timed out", new TargetDisconnectedException(message));
                 return;
             }
 
-            if (now - tpcChannel.lastWriteTimeMillis() > heartbeatIntervalMillis) {
-                ConcurrentMap attributeMap = tpcChannel.attributeMap();
+            if (now - channel.lastWriteTimeMillis() > heartbeatIntervalMillis) {
+                ConcurrentMap attributeMap = channel.attributeMap();
                 ClientConnection adapter = (ClientConnection) attributeMap.get(TpcChannelClientConnectionAdapter.class);
                 sendPing(adapter);
             }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstance;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.ClientTpcAuthenticationCodec;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.LoggingService;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+
+/**
+ * Establishes the additional channels of a member connection when
+ * {@link com.hazelcast.client.properties.ClientProperty#CONNECTIONS_PER_MEMBER}
+ * is larger than one, in a non-blocking way.
+ * <p>
+ * Every additional channel is opened to the same address as the connection
+ * and authenticated with the client UUID and the token the member issued
+ * when the connection was authenticated, like the TPC channels. The member
+ * attaches the channel to the existing endpoint of the client, so it is not
+ * seen as another client. Once all channels are authenticated, they are
+ * handed to the connection together with its own channel. Upon failures,
+ * the additional channels are closed and the connection keeps using its own
+ * channel only.
+ */
+final class MemberChannelConnector {
+
+    private final HazelcastClientInstance client;
+    private final long authenticationTimeoutMillis;
+    private final UUID clientUuid;
+    private final TcpClientConnection connection;
+    private final byte[] token;
+    private final ExecutorService executor;
+    private final BiFunction<Address, TcpClientConnection, Channel> channelCreator;
+    private final ILogger logger;
+    private final Channel[] channels;
+    private final AtomicInteger remaining;
+    private volatile boolean failed;
+
+    MemberChannelConnector(HazelcastClientInstance client,
+                           long authenticationTimeoutMillis,
+                           UUID clientUuid,
+                           TcpClientConnection connection,
+                           int channelCount,
+                           byte[] token,
+                           ExecutorService executor,
+                           BiFunction<Address, TcpClientConnection, Channel> channelCreator,
+                           LoggingService loggingService) {
+        this.client = client;
+        this.authenticationTimeoutMillis = authenticationTimeoutMillis;
+        this.clientUuid = clientUuid;
+        this.connection = connection;
+        this.token = token;
+        this.executor = executor;
+        this.channelCreator = channelCreator;
+        this.logger = loggingService.getLogger(MemberChannelConnector.class);
+        this.channels = new Channel[channelCount];
+        this.channels[0] = connection.getChannel();
+        this.remaining = new AtomicInteger(channelCount - 1);
+    }
+
+    /**
+     * Initiates the connection attempts.
+     * <p>
+     * This call does not block.
+     */
+    void initiate() {
+        logger.fine("Initiating " + (channels.length - 1) + " additional channel(s) for " + connection);
+        Address address = connection.getInitAddress();
+        for (int i = 1; i < channels.length; i++) {
+            int index = i;
+            executor.submit(() -> connect(address, index));
+        }
+    }
+
+    private void connect(Address address, int index) {
+        if (connectionFailed()) {
+            return;
+        }
+
+        Channel channel = null;
+        try {
+            channel = channelCreator.apply(address, connection);
+            authenticate(channel);
+            onSuccessfulChannelConnection(channel, index);
+        } catch (Exception e) {
+            logger.warning("Exception during the connection attempt of an additional channel for "
+                    + connection + ": " + e, e);
+            onFailure(channel);
+        }
+    }
+
+    private void authenticate(Channel channel) throws Exception {
+        ClientConnection adapter = (ClientConnection) channel.attributeMap().get(TpcChannelClientConnectionAdapter.class);
+        ClientMessage request = ClientTpcAuthenticationCodec.encodeRequest(clientUuid, token);
+        ClientInvocation invocation = new ClientInvocation(client, request, null, adapter);
+        invocation.invokeUrgent().get(authenticationTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void onSuccessfulChannelConnection(Channel channel, int index) {
+        synchronized (channels) {
+            if (connectionFailed()) {
+                onFailure(channel);
+                return;
+            }
+
+            channels[index] = channel;
+        }
+
+        if (remaining.decrementAndGet() == 0) {
+            connection.setMemberChannels(channels);
+
+            // see TpcChannelConnector for the reasoning, the connection
+            // might have been closed before the channels are assigned.
+            if (!connection.isAlive()) {
+                closeAdditionalChannels();
+            } else {
+                logger.info("All " + channels.length + " channels are established for " + connection);
+            }
+        }
+    }
+
+    private void onFailure(Channel channel) {
+        synchronized (channels) {
+            closeResource(channel);
+            if (failed) {
+                return;
+            }
+
+            failed = true;
+            closeAdditionalChannels();
+        }
+
+        logger.warning("Establishing the additional channels for " + connection + " has failed. "
+                + "The client will keep using a single channel for this connection.");
+    }
+
+    private boolean connectionFailed() {
+        return failed || !connection.isAlive();
+    }
+
+    private void closeAdditionalChannels() {
+        for (int i = 1; i < channels.length; i++) {
+            closeResource(channels[i]);
+        }
+    }
+}
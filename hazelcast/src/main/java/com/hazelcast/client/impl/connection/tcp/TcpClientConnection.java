@@ -31,6 +31,7 @@ import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.logging.ILogger;
 
+import javax.annotation.Nullable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.net.InetAddress;
@@ -80,6 +81,7 @@ public class TcpClientConnection implements ClientConnection {
     private volatile UUID remoteUuid;
     private volatile UUID clusterUuid;
     private volatile Channel[] tpcChannels;
+    private volatile Channel[] memberChannels;
 
     public TcpClientConnection(HazelcastClientInstance client, int connectionId, Channel channel) {
         this.client = client;
@@ -112,9 +114,12 @@ public class TcpClientConnection implements ClientConnection {
 
     @Override
     public boolean write(OutboundFrame frame) {
-        Channel[] tpcChannels = this.tpcChannels;
-        if (tpcChannels == null) {
-            return channel.write(frame);
+        Channel[] channels = this.tpcChannels;
+        if (channels == null) {
+            channels = memberChannels;
+            if (channels == null) {
+                return channel.write(frame);
+            }
         }
 
         ClientMessage clientMessage = (ClientMessage) frame;
@@ -123,8 +128,8 @@ public class TcpClientConnection implements ClientConnection {
             return channel.write(frame);
         }
 
-        int channelIndex = partitionId % tpcChannels.length;
-        return tpcChannels[channelIndex].write(frame);
+        int channelIndex = partitionId % channels.length;
+        return channels[channelIndex].write(frame);
     }
 
     @Override
@@ -237,6 +242,17 @@ public class TcpClientConnection implements ClientConnection {
             }
         }
 
+        if (memberChannels != null) {
+            // the first member channel is the channel of this connection
+            for (int i = 1; i < memberChannels.length; i++) {
+                try {
+                    memberChannels[i].close();
+                } catch (Exception e) {
+                    logger.warning("Exception while closing member channel " + e.getMessage());
+                }
+            }
+        }
+
         channel.close();
     }
 
@@ -341,4 +357,21 @@ public class TcpClientConnection implements ClientConnection {
     public Channel[] getTpcChannels() {
         return tpcChannels;
     }
+
+    public Channel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Sets the channels that partition specific messages are spread over.
+     * The first channel is the channel of this connection.
+     */
+    public void setMemberChannels(Channel[] memberChannels) {
+        this.memberChannels = memberChannels;
+    }
+
+    @Nullable
+    public Channel[] getMemberChannels() {
+        return memberChannels;
+    }
 }
@@ -116,6 +116,7 @@ import static com.hazelcast.client.config.ConnectionRetryConfig.FAILOVER_CLIENT_
 import static com.hazelcast.client.impl.connection.tcp.AuthenticationKeyValuePairConstants.ROUTING_MODE_NOT_SUPPORTED_MESSAGE;
 import static com.hazelcast.client.impl.management.ManagementCenterService.MC_CLIENT_MODE_PROP;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTIONS_PER_MEMBER;
 import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
@@ -187,6 +188,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     private final LoadBalancer loadBalancer;
     private final RoutingMode routingMode;
     private final boolean isTpcAwareClient;
+    private final int connectionsPerMember;
     private final boolean skipMemberListDuringReconnection;
     private final ClientClusterService clientClusterService;
     private volatile Credentials currentCredentials;
@@ -265,6 +267,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         this.shuffleMemberList = properties.getBoolean(SHUFFLE_MEMBER_LIST);
         this.routingMode = decideRoutingMode(config);
         this.isTpcAwareClient = config.getTpcConfig().isEnabled();
+        this.connectionsPerMember = properties.getInteger(CONNECTIONS_PER_MEMBER);
         this.asyncStart = config.getConnectionStrategyConfig().isAsyncStart();
         this.reconnectMode = config.getConnectionStrategyConfig().getReconnectMode();
         this.connectionProcessListenerRunner = new ClientConnectionProcessListenerRegistry(client);
@@ -835,7 +838,14 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         }
     }
 
-    private Channel createTpcChannel(Address address, TcpClientConnection connection) {
+    /**
+     * Creates an additional channel of the given connection. The responses
+     * and events read from the channel are dispatched through the connection.
+     * The socket interceptor is applied as to the connection's own socket, it
+     * can't be configured together with TPC.
+     */
+    private Channel createConnectionChannel(Address address, TcpClientConnection connection) {
+        CandidateClusterContext currentClusterContext = clusterDiscoveryService.current();
         SocketChannel socketChannel = null;
         try {
             socketChannel = SocketChannel.open();
@@ -844,7 +854,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             // TODO: Outbound ports for TPC?
             bindSocketToPort(socket);
 
-            ChannelInitializer channelInitializer = clusterDiscoveryService.current().getChannelInitializer();
+            ChannelInitializer channelInitializer = currentClusterContext.getChannelInitializer();
             Channel channel = networking.register(channelInitializer, socketChannel, true);
 
             channel.addCloseListener(new TpcChannelCloseListener(client));
@@ -857,7 +867,12 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             InetSocketAddress socketAddress = new InetSocketAddress(address.getHost(), address.getPort());
             channel.connect(socketAddress, connectionTimeoutMillis);
 
-            // TODO: Socket interceptor for TPC?
+            socketChannel.configureBlocking(true);
+            SocketInterceptor socketInterceptor = currentClusterContext.getSocketInterceptor();
+            if (socketInterceptor != null) {
+                socketInterceptor.onConnect(socket);
+            }
+
             channel.start();
             return channel;
         } catch (Exception e) {
@@ -1076,6 +1091,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             List<Integer> tpcPorts = response.getTpcPorts();
             if (isTpcAwareClient && tpcPorts != null && !tpcPorts.isEmpty()) {
                 connectTpcPorts(connection, tpcPorts, response.getTpcToken());
+            } else if (connectionsPerMember > 1 && routingMode == RoutingMode.ALL_MEMBERS) {
+                connectMemberChannels(connection, response.getTpcToken());
             }
 
             boolean connectionsEmpty = activeConnections.isEmpty();
@@ -1385,7 +1402,25 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                 targetTpcPorts,
                 tpcToken,
                 executor,
-                this::createTpcChannel,
+                this::createConnectionChannel,
+                client.getLoggingService());
+        connector.initiate();
+    }
+
+    private void connectMemberChannels(TcpClientConnection connection, byte[] token) {
+        if (token == null) {
+            logger.fine("The member of " + connection + " does not support additional channels");
+            return;
+        }
+        MemberChannelConnector connector = new MemberChannelConnector(
+                client,
+                authenticationTimeout,
+                clientUuid,
+                connection,
+                connectionsPerMember,
+                token,
+                executor,
+                this::createConnectionChannel,
                 client.getLoggingService());
         connector.initiate();
     }
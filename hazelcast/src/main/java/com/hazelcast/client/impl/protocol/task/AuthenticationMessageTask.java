@@ -71,10 +71,7 @@ public class AuthenticationMessageTask extends AuthenticationBaseMessageTask<Cli
 
     @Override
     protected void setTpcTokenToEndpoint() {
-        if (!nodeEngine.getTpcServerBootstrap().isEnabled()) {
-            return;
-        }
-
+        // the token authenticates the TPC channels and the additional channels of the client
         TpcToken token = new TpcToken();
         endpoint.setTpcToken(token);
     }
@@ -16,6 +16,10 @@
 
 package com.hazelcast.client.impl.protocol.task;
 
+import com.hazelcast.client.AuthenticationException;
+import com.hazelcast.client.impl.ClientEndpoint;
+import com.hazelcast.client.impl.ClientEndpointManager;
+import com.hazelcast.client.impl.TpcToken;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.ClientTpcAuthenticationCodec;
 import com.hazelcast.instance.impl.Node;
@@ -23,6 +27,12 @@ import com.hazelcast.internal.nio.Connection;
 
 import java.security.Permission;
 
+/**
+ * Authenticates a TPC channel or an additional channel of a client
+ * connection. Over the classic networking, the channel is attached to the
+ * endpoint of the client whose token it presents, instead of getting an
+ * endpoint of its own.
+ */
 public class ClientTpcAuthenticationMessageTask
         extends AbstractMessageTask<ClientTpcAuthenticationCodec.RequestParameters> {
 
@@ -32,7 +42,7 @@ public class ClientTpcAuthenticationMessageTask
 
     @Override
     protected ClientTpcAuthenticationCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
-        return null;
+        return ClientTpcAuthenticationCodec.decodeRequest(clientMessage);
     }
 
     @Override
@@ -40,11 +50,32 @@ public class ClientTpcAuthenticationMessageTask
         return ClientTpcAuthenticationCodec.encodeResponse();
     }
 
+    @Override
+    protected boolean requiresAuthentication() {
+        // the classic channel is authenticated by the token of the client
+        return asyncSocket != null;
+    }
+
     @Override
     protected void processMessage() throws Throwable {
+        if (asyncSocket == null) {
+            attachToClientEndpoint();
+        }
         sendResponse(null);
     }
 
+    private void attachToClientEndpoint() {
+        ClientEndpointManager endpointManager = clientEngine.getEndpointManager();
+        for (ClientEndpoint clientEndpoint : endpointManager.getEndpoints()) {
+            TpcToken token = clientEndpoint.getTpcToken();
+            if (parameters.uuid.equals(clientEndpoint.getUuid()) && token != null && token.matches(parameters.token)
+                    && endpointManager.registerChannel(clientEndpoint, connection)) {
+                return;
+            }
+        }
+        throw new AuthenticationException("No connected client " + parameters.uuid + " with the given token");
+    }
+
     @Override
     public String getServiceName() {
         return null;
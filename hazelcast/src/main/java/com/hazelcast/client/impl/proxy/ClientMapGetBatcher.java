@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+
+/**
+ * Coalesces concurrent {@code getAsync} calls of a single map into
+ * per-partition {@code getAll} requests.
+ * <p>
+ * The first call on an idle partition opens a batch and schedules its flush
+ * on the internal executor. Calls arriving before the flush runs join the
+ * open batch, so no timer is involved: the batching window is exactly the
+ * time the flush task waits in the executor queue. A full batch is sealed and
+ * the next call opens a new one.
+ */
+final class ClientMapGetBatcher {
+
+    private final HazelcastClientInstanceImpl client;
+    private final String name;
+    private final SerializationService serializationService;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Integer, Batch> openBatches = new ConcurrentHashMap<>();
+
+    ClientMapGetBatcher(HazelcastClientInstanceImpl client, String name, SerializationService serializationService,
+                        Executor executor, int maxBatchSize) {
+        this.client = client;
+        this.name = name;
+        this.serializationService = serializationService;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    <V> InternalCompletableFuture<V> get(Data keyData, int partitionId) {
+        InternalCompletableFuture<V> future = new InternalCompletableFuture<>();
+        for (; ; ) {
+            Batch batch = openBatches.get(partitionId);
+            if (batch == null) {
+                batch = new Batch(partitionId);
+                if (openBatches.putIfAbsent(partitionId, batch) != null) {
+                    continue;
+                }
+                batch.add(keyData, future);
+                scheduleFlush(batch);
+                return future;
+            }
+            if (batch.add(keyData, future)) {
+                return future;
+            }
+            // the batch is either full or already being flushed
+            openBatches.remove(partitionId, batch);
+        }
+    }
+
+    private void scheduleFlush(Batch batch) {
+        try {
+            executor.execute(() -> flush(batch));
+        } catch (RuntimeException e) {
+            openBatches.remove(batch.partitionId, batch);
+            batch.seal();
+            batch.completeExceptionally(e);
+        }
+    }
+
+    private void flush(Batch batch) {
+        openBatches.remove(batch.partitionId, batch);
+        batch.seal();
+        try {
+            ClientMessage request = MapGetAllCodec.encodeRequest(name, batch.distinctKeys());
+            new ClientInvocation(client, request, name, batch.partitionId).invoke()
+                    .whenComplete((response, throwable) -> {
+                        if (throwable != null) {
+                            batch.completeExceptionally(throwable);
+                        } else {
+                            batch.complete(MapGetAllCodec.decodeResponse(response));
+                        }
+                    });
+        } catch (Throwable t) {
+            batch.completeExceptionally(t);
+        }
+    }
+
+    private final class Batch {
+
+        private final int partitionId;
+        private final List<Data> keys = new ArrayList<>();
+        private final List<InternalCompletableFuture<Object>> futures = new ArrayList<>();
+        private boolean sealed;
+
+        Batch(int partitionId) {
+            this.partitionId = partitionId;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized boolean add(Data keyData, InternalCompletableFuture<?> future) {
+            if (sealed || keys.size() >= maxBatchSize) {
+                sealed = true;
+                return false;
+            }
+            keys.add(keyData);
+            futures.add((InternalCompletableFuture<Object>) future);
+            return true;
+        }
+
+        synchronized void seal() {
+            sealed = true;
+        }
+
+        /**
+         * Duplicate keys in a batch are requested once; their
+         * futures are completed with the same value.
+         */
+        List<Data> distinctKeys() {
+            synchronized (this) {
+                if (keys.size() == 1) {
+                    return keys;
+                }
+                return new ArrayList<>(new LinkedHashSet<>(keys));
+            }
+        }
+
+        void complete(List<Map.Entry<Data, Data>> entries) {
+            Map<Data, Data> values = createHashMap(entries.size());
+            for (Map.Entry<Data, Data> entry : entries) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+            List<Data> batchKeys;
+            List<InternalCompletableFuture<Object>> batchFutures;
+            synchronized (this) {
+                batchKeys = keys;
+                batchFutures = futures;
+            }
+            for (int i = 0; i < batchKeys.size(); i++) {
+                InternalCompletableFuture<Object> future = batchFutures.get(i);
+                try {
+                    future.complete(serializationService.toObject(values.get(batchKeys.get(i))));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        }
+
+        void completeExceptionally(Throwable t) {
+            List<InternalCompletableFuture<Object>> batchFutures;
+            synchronized (this) {
+                batchFutures = futures;
+            }
+            for (InternalCompletableFuture<Object> future : batchFutures) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+}
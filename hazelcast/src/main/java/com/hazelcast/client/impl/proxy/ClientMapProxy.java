@@ -149,6 +149,7 @@ import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
 import com.hazelcast.spi.impl.UnmodifiableLazySet;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -170,6 +171,8 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_ASYNC_BATCHING_ENABLED;
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_ASYNC_BATCH_SIZE;
 import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -216,6 +219,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private ClientLockReferenceIdGenerator lockReferenceIdGenerator;
     private ClientQueryCacheContext queryCacheContext;
     private boolean useDefaultReplaceAllOperation;
+    private ClientMapGetBatcher getBatcher;
 
     public ClientMapProxy(String serviceName, String name, ClientContext context) {
         super(serviceName, name, context);
@@ -227,6 +231,12 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
         lockReferenceIdGenerator = getClient().getLockReferenceIdGenerator();
         queryCacheContext = getContext().getQueryCacheContext();
+        HazelcastProperties properties = getClient().getProperties();
+        if (properties.getBoolean(MAP_GET_ASYNC_BATCHING_ENABLED)) {
+            int batchSize = Math.max(1, properties.getInteger(MAP_GET_ASYNC_BATCH_SIZE));
+            getBatcher = new ClientMapGetBatcher(getClient(), name, getSerializationService(),
+                    getContext().getTaskScheduler(), batchSize);
+        }
     }
 
     @Override
@@ -353,6 +363,10 @@ public class ClientMapProxy<K, V> extends ClientProxy
     public InternalCompletableFuture<V> getAsync(@Nonnull K key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
 
+        if (getBatcher != null) {
+            Data keyData = toData(key);
+            return getBatcher.get(keyData, getContext().getPartitionService().getPartitionId(keyData));
+        }
         return new ClientDelegatingFuture<>(getAsyncInternal(key),
                 getSerializationService(), MapGetCodec::decodeResponse);
     }
@@ -803,6 +817,13 @@ public class ClientMapProxy<K, V> extends ClientProxy
         invoke(request, keyData);
     }
 
+    @Override
+    public UUID addEntryListener(@Nonnull MapListener listener,
+                                 @Nonnull Predicate<K, V> predicate,
+                                 @Nonnull Projection<? super Map.Entry<K, V>, ?> projection) {
+        throw new UnsupportedOperationException("Entry listeners with a projection are not supported by the client");
+    }
+
     @Override
     public UUID addLocalEntryListener(@Nonnull MapListener listener) {
         throw new UnsupportedOperationException("Locality is ambiguous for client!");
@@ -34,6 +34,7 @@ import com.hazelcast.spi.impl.sequence.CallIdSequence;
 
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
@@ -449,6 +450,10 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
                 + ", sentConnection = " + sentConnection + '}';
     }
 
+    Executor getCallbackExecutor() {
+        return invocationService.getCallbackExecutor();
+    }
+
     // package private methods for tests
     CallIdSequence getCallIdSequence() {
         return callIdSequence;
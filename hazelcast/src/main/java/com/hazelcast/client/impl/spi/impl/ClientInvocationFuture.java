@@ -53,6 +53,18 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
         this.callIdSequence = callIdSequence;
     }
 
+    /**
+     * Returns the executor of the callbacks registered with the {@code *Async}
+     * methods without an explicit executor. The other callbacks, including the
+     * internal continuations of the client, run on the {@link #defaultExecutor()}.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#ASYNC_CALLBACK_VIRTUAL_THREADS_ENABLED
+     */
+    public Executor asyncExecutor() {
+        Executor callbackExecutor = invocation.getCallbackExecutor();
+        return callbackExecutor != null ? callbackExecutor : defaultExecutor();
+    }
+
     @Override
     protected String invocationToString() {
         return request.toString();
@@ -182,6 +194,70 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
         return super.handleAsync(new CallIdTrackingBiFunction(fn), executor);
     }
 
+    @Override
+    public <U> InternalCompletableFuture<U> thenApplyAsync(@Nonnull Function<? super ClientMessage, ? extends U> fn) {
+        return thenApplyAsync(fn, asyncExecutor());
+    }
+
+    @Override
+    public InternalCompletableFuture<Void> thenAcceptAsync(@Nonnull Consumer<? super ClientMessage> action) {
+        return thenAcceptAsync(action, asyncExecutor());
+    }
+
+    @Override
+    public InternalCompletableFuture<Void> thenRunAsync(@Nonnull Runnable action) {
+        return thenRunAsync(action, asyncExecutor());
+    }
+
+    @Override
+    public <U> InternalCompletableFuture<U> handleAsync(@Nonnull BiFunction<? super ClientMessage, Throwable, ? extends U> fn) {
+        return handleAsync(fn, asyncExecutor());
+    }
+
+    @Override
+    public InternalCompletableFuture<ClientMessage> whenCompleteAsync(@Nonnull BiConsumer<? super ClientMessage, ? super Throwable> action) {
+        return whenCompleteAsync(action, asyncExecutor());
+    }
+
+    @Override
+    public <U> InternalCompletableFuture<U> thenComposeAsync(@Nonnull Function<? super ClientMessage, ? extends CompletionStage<U>> fn) {
+        return thenComposeAsync(fn, asyncExecutor());
+    }
+
+    @Override
+    public <U, R> InternalCompletableFuture<R> thenCombineAsync(@Nonnull CompletionStage<? extends U> other,
+                                                                @Nonnull BiFunction<? super ClientMessage, ? super U, ? extends R> fn) {
+        return thenCombineAsync(other, fn, asyncExecutor());
+    }
+
+    @Override
+    public <U> InternalCompletableFuture<Void> thenAcceptBothAsync(@Nonnull CompletionStage<? extends U> other,
+                                                                   @Nonnull BiConsumer<? super ClientMessage, ? super U> action) {
+        return thenAcceptBothAsync(other, action, asyncExecutor());
+    }
+
+    @Override
+    public InternalCompletableFuture<Void> runAfterBothAsync(@Nonnull CompletionStage<?> other, @Nonnull Runnable action) {
+        return runAfterBothAsync(other, action, asyncExecutor());
+    }
+
+    @Override
+    public <U> InternalCompletableFuture<U> applyToEitherAsync(@Nonnull CompletionStage<? extends ClientMessage> other,
+                                                               @Nonnull Function<? super ClientMessage, U> fn) {
+        return applyToEitherAsync(other, fn, asyncExecutor());
+    }
+
+    @Override
+    public InternalCompletableFuture<Void> acceptEitherAsync(@Nonnull CompletionStage<? extends ClientMessage> other,
+                                                             @Nonnull Consumer<? super ClientMessage> action) {
+        return acceptEitherAsync(other, action, asyncExecutor());
+    }
+
+    @Override
+    public InternalCompletableFuture<Void> runAfterEitherAsync(@Nonnull CompletionStage<?> other, @Nonnull Runnable action) {
+        return runAfterEitherAsync(other, action, asyncExecutor());
+    }
+
     class CallIdTrackingConsumer implements Consumer {
         private final Consumer action;
 
@@ -28,6 +28,8 @@ import com.hazelcast.client.impl.spi.ClientListenerService;
 import com.hazelcast.client.impl.spi.ClientPartitionService;
 import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.ConcurrencyUtil;
+import com.hazelcast.internal.util.JavaVersion;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.exception.TargetDisconnectedException;
 import com.hazelcast.spi.impl.executionservice.TaskScheduler;
@@ -41,8 +43,13 @@ import java.io.IOException;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
+import static com.hazelcast.client.properties.ClientProperty.ASYNC_CALLBACK_VIRTUAL_THREADS_ENABLED;
 import static com.hazelcast.client.properties.ClientProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
 import static com.hazelcast.client.properties.ClientProperty.FAIL_ON_INDETERMINATE_OPERATION_STATE;
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PAUSE_MILLIS;
@@ -100,6 +107,8 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
     private final ClientConnectionManager connectionManager;
     private final ClientPartitionService partitionService;
     private final RoutingMode routingMode;
+    private final ExecutorService virtualThreadExecutor;
+    private final Executor callbackExecutor;
 
     public ClientInvocationServiceImpl(HazelcastClientInstanceImpl client) {
         this.client = client;
@@ -121,6 +130,33 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
         this.routingMode = connectionManager.getRoutingMode();
         this.isBackupAckToClientEnabled = routingMode == RoutingMode.ALL_MEMBERS
                 && client.getClientConfig().isBackupAckToClientEnabled();
+        this.virtualThreadExecutor = properties.getBoolean(ASYNC_CALLBACK_VIRTUAL_THREADS_ENABLED)
+                ? newVirtualThreadPerTaskExecutor() : null;
+        this.callbackExecutor = virtualThreadExecutor != null ? this::executeCallback : null;
+    }
+
+    private void executeCallback(Runnable callback) {
+        try {
+            virtualThreadExecutor.execute(callback);
+        } catch (RejectedExecutionException e) {
+            // the executor is shut down with the client, the callbacks registered later run on the default executor
+            ConcurrencyUtil.getDefaultAsyncExecutor().execute(callback);
+        }
+    }
+
+    private ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!JavaVersion.isAtLeast(JavaVersion.JAVA_21)) {
+            invocationLogger.warning(ASYNC_CALLBACK_VIRTUAL_THREADS_ENABLED.getName()
+                    + " is ignored, virtual threads require Java 21 or newer");
+            return null;
+        }
+        try {
+            // looked up reflectively as the client is compiled for an older Java release
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            invocationLogger.warning("Could not create the virtual thread callback executor", e);
+            return null;
+        }
     }
 
     @Override
@@ -161,6 +197,11 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
         return callIdSequence;
     }
 
+    @Override
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     public void addBackupListener() {
         if (isBackupAckToClientEnabled) {
             ClientListenerService listenerService = client.getListenerService();
@@ -329,6 +370,12 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
             //connection manager and response handler threads are closed at this point.
             invocation.notifyExceptionWithOwnedPermission(new HazelcastClientNotActiveException());
         }
+
+        if (virtualThreadExecutor != null) {
+            // already submitted callbacks, including the ones of the
+            // invocations notified above, still run to completion
+            virtualThreadExecutor.shutdown();
+        }
     }
 
     @Override
@@ -20,7 +20,9 @@ import com.hazelcast.client.impl.spi.ClientInvocationService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.sequence.CallIdSequence;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 public interface ClientInvocationServiceInternal extends ClientInvocationService {
 
@@ -86,4 +88,14 @@ public interface ClientInvocationServiceInternal extends ClientInvocationService
      * @see RoutingMode
      */
     RoutingMode getRoutingMode();
+
+    /**
+     * Returns the executor that runs the callbacks registered with the
+     * {@code *Async} methods of the invocation futures without an explicit
+     * executor, or {@code null} to use the default async executor.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#ASYNC_CALLBACK_VIRTUAL_THREADS_ENABLED
+     */
+    @Nullable
+    Executor getCallbackExecutor();
 }
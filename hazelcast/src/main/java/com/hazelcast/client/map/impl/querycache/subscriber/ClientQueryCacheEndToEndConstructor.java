@@ -16,17 +16,24 @@
 
 package com.hazelcast.client.map.impl.querycache.subscriber;
 
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.ContinuousQueryMadePublishableCodec;
 import com.hazelcast.client.impl.protocol.codec.ContinuousQueryPublisherCreateCodec;
 import com.hazelcast.client.impl.protocol.codec.ContinuousQueryPublisherCreateWithValueCodec;
+import com.hazelcast.client.impl.proxy.ClientMapProxy;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.query.QueryResultRow;
 import com.hazelcast.map.impl.querycache.InvokerWrapper;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
 import com.hazelcast.map.impl.querycache.subscriber.AbstractQueryCacheEndToEndConstructor;
 import com.hazelcast.map.impl.querycache.subscriber.InternalQueryCache;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheEndToEndConstructor;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.Predicate;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -46,6 +53,24 @@ public class ClientQueryCacheEndToEndConstructor extends AbstractQueryCacheEndTo
 
     @Override
     public void createPublisherAccumulator(AccumulatorInfo info, boolean urgent) throws Exception {
+        HazelcastClientInstanceImpl client = getClient();
+        int fetchSize = client.getProperties().getInteger(ClientProperty.QUERY_CACHE_POPULATION_FETCH_SIZE);
+        // members before 6.0 can't deserialize the population projection
+        if (info.isPopulate() && fetchSize > 0
+                && !client.getClientClusterService().getClusterVersion().isUnknownOrLessThan(Versions.V6_0)) {
+            queryCache.beginPopulation();
+            try {
+                context.getInvokerWrapper().invoke(newPublisherCreateMessage(withoutSnapshot(info)), urgent);
+                // the publisher create message does not carry the publishable flag
+                madePublishable(info.getMapName(), info.getCacheId(), urgent);
+                info.setPublishable(true);
+                populateIncrementally(info, fetchSize);
+            } finally {
+                queryCache.endPopulation();
+            }
+            return;
+        }
+
         ClientMessage publisherCreateMessage = newPublisherCreateMessage(info);
 
         InvokerWrapper invokerWrapper = context.getInvokerWrapper();
@@ -66,6 +91,21 @@ public class ClientQueryCacheEndToEndConstructor extends AbstractQueryCacheEndTo
         }
     }
 
+    @Override
+    protected Iterator<QueryResultRow> fetchEntries(int fetchSize, int partitionId,
+                                                    Projection<Map.Entry<Object, Object>, QueryResultRow> projection,
+                                                    Predicate predicate) {
+        return getMapProxy().iterator(fetchSize, partitionId, projection, predicate);
+    }
+
+    private ClientMapProxy<Object, Object> getMapProxy() {
+        return (ClientMapProxy<Object, Object>) request.getMap();
+    }
+
+    private HazelcastClientInstanceImpl getClient() {
+        return (HazelcastClientInstanceImpl) getMapProxy().getContext().getHazelcastInstance();
+    }
+
     private ClientMessage newPublisherCreateMessage(AccumulatorInfo info) {
         Data dataPredicate = context.getSerializationService().toData(info.getPredicate());
 
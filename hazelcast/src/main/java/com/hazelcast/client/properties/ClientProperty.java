@@ -355,6 +355,85 @@ public final class ClientProperty {
     public static final HazelcastProperty CLIENT_CONNECTIVITY_LOGGING_DELAY_SECONDS
             = new HazelcastProperty("hazelcast.client.connectivity.logging.delay.seconds", 10);
 
+    /**
+     * Runs the callbacks registered with the {@code *Async} methods of the
+     * futures of the client's asynchronous API without an explicit executor,
+     * such as {@code IMap.getAsync(key).thenApplyAsync(...)}, on virtual threads,
+     * one thread per callback. The other callbacks, such as the ones of
+     * {@code thenApply(...)}, and the internal continuations of the client
+     * keep running on the default executor. The callbacks registered after the
+     * client is shut down run on the default executor too.
+     * <p>
+     * By default the callbacks run on {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * Blocking inside a callback then occupies one of the few common pool threads, while a
+     * virtual thread just unmounts from its carrier. Requires Java 21 or newer, on older
+     * versions the property is ignored with a warning.
+     * <p>
+     * The default is {@code false}.
+     */
+    public static final HazelcastProperty ASYNC_CALLBACK_VIRTUAL_THREADS_ENABLED
+            = new HazelcastProperty("hazelcast.client.async.callback.virtual.threads.enabled", false);
+
+    /**
+     * Number of sockets the client opens to each member when it uses
+     * {@link RoutingMode#ALL_MEMBERS} routing and TPC is not enabled.
+     * <p>
+     * The first socket carries all non-partition-specific traffic such as
+     * listener registrations and heartbeats. Partition specific invocations are
+     * spread over all sockets of the member by partition id, so that the
+     * invocations of a partition always share a socket and keep their order.
+     * Using more than one socket removes the single-channel throughput ceiling
+     * on clients with many application threads. The sockets are not selected
+     * by the invoking thread: the partition id already spreads the load of
+     * the threads and keeps the order of each partition.
+     * <p>
+     * The additional sockets are attached to the client endpoint of the first
+     * socket on the member, they don't count as separate clients. Members
+     * which don't support it are connected with a single socket. The default
+     * is {@code 1}.
+     */
+    public static final HazelcastProperty CONNECTIONS_PER_MEMBER
+            = new HazelcastProperty("hazelcast.client.connections.per.member", 1);
+
+    /**
+     * Enables automatic batching of {@code IMap.getAsync} calls.
+     * <p>
+     * When enabled, concurrent {@code getAsync} calls that target the same
+     * partition are coalesced into a single {@code getAll} request. Each call
+     * still gets its own future. Calls are collected until the batch is flushed
+     * on the internal executor, so a single caller sees a small additional
+     * hand-over latency while many concurrent callers see far fewer requests.
+     * <p>
+     * Near cached maps are not affected.
+     * <p>
+     * The default is {@code false}.
+     */
+    public static final HazelcastProperty MAP_GET_ASYNC_BATCHING_ENABLED
+            = new HazelcastProperty("hazelcast.client.map.get.async.batching.enabled", false);
+
+    /**
+     * Maximum number of keys sent in a single batched {@code getAll} request when
+     * {@link #MAP_GET_ASYNC_BATCHING_ENABLED} is set.
+     */
+    public static final HazelcastProperty MAP_GET_ASYNC_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.client.map.get.async.batch.size", 100);
+
+    /**
+     * The number of entries fetched at once from a partition when a
+     * {@link com.hazelcast.map.QueryCache} is populated on the client.
+     * <p>
+     * When positive, the query cache is populated partition by partition, in
+     * pages of this size, while it already receives the updates of the map.
+     * This avoids receiving the whole snapshot of the query cache in a single
+     * response. Updates received during the population take precedence over
+     * the entries fetched for the same key.
+     * <p>
+     * The default value is {@code 0}, meaning the query cache is populated
+     * from a single snapshot.
+     */
+    public static final HazelcastProperty QUERY_CACHE_POPULATION_FETCH_SIZE
+            = new HazelcastProperty("hazelcast.client.map.query.cache.population.fetch.size", 0);
+
     private ClientProperty() {
     }
 }
@@ -75,6 +75,7 @@ import com.hazelcast.internal.dynamicconfig.EmptyDynamicConfigListener;
 import com.hazelcast.internal.hotrestart.InternalHotRestartService;
 import com.hazelcast.internal.hotrestart.NoOpHotRestartService;
 import com.hazelcast.internal.hotrestart.NoopInternalHotRestartService;
+import com.hazelcast.internal.hotrestart.impl.LocalHotRestartService;
 import com.hazelcast.internal.jmx.ManagementService;
 import com.hazelcast.internal.management.TimedMemberStateFactory;
 import com.hazelcast.internal.memory.DefaultMemoryStats;
@@ -168,6 +169,7 @@ public class DefaultNodeExtension implements NodeExtension {
     protected IntegrityChecker integrityChecker;
 
     private final MemoryStats memoryStats = new DefaultMemoryStats();
+    private final InternalHotRestartService internalHotRestartService;
 
     public DefaultNodeExtension(Node node) {
         this.node = node;
@@ -187,6 +189,8 @@ public class DefaultNodeExtension implements NodeExtension {
         }
 
         integrityChecker = new IntegrityChecker(node.getConfig().getIntegrityCheckerConfig(), this.systemLogger);
+        internalHotRestartService = node.getProperties().getBoolean(ClusterProperty.PERSISTENCE_LOCAL_ENABLED)
+                ? new LocalHotRestartService(node) : new NoopInternalHotRestartService();
     }
 
     private void checkCPSubsystemAllowed() {
@@ -342,6 +346,9 @@ public class DefaultNodeExtension implements NodeExtension {
         if (jetServiceBackend != null) {
             jetServiceBackend.startScanningForJobs();
         }
+        if (internalHotRestartService instanceof LocalHotRestartService localHotRestartService) {
+            localHotRestartService.start();
+        }
     }
 
     @Override
@@ -513,6 +520,13 @@ public class DefaultNodeExtension implements NodeExtension {
         }
     }
 
+    @Override
+    public void shutdown() {
+        if (internalHotRestartService instanceof LocalHotRestartService localHotRestartService) {
+            localHotRestartService.shutdown();
+        }
+    }
+
     @Override
     public void afterShutdown() {
         logger.info("Destroying node NodeExtension.");
@@ -618,7 +632,7 @@ public class DefaultNodeExtension implements NodeExtension {
 
     @Override
     public InternalHotRestartService getInternalHotRestartService() {
-        return new NoopInternalHotRestartService();
+        return internalHotRestartService;
     }
 
     // obtain cluster version, if already initialized (not null)
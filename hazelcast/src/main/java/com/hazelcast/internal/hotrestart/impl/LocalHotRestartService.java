@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart.impl;
+
+import com.hazelcast.cache.impl.ICacheService;
+import com.hazelcast.cache.impl.PreJoinCacheConfig;
+import com.hazelcast.cluster.ClusterState;
+import com.hazelcast.config.CacheConfig;
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.hotrestart.InternalHotRestartService;
+import com.hazelcast.internal.hotrestart.NoopInternalHotRestartService;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.internal.util.RuntimeAvailableProcessors;
+import com.hazelcast.internal.util.executor.ExecutorType;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.operation.PutFromLoadAllOperation;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.cache.impl.operation.MutableOperation.IGNORE_COMPLETION;
+import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PERSISTENCE_LOCAL_BASE_DIR;
+import static com.hazelcast.spi.properties.ClusterProperty.PERSISTENCE_LOCAL_COMPACTION_PERIOD_SECONDS;
+import static com.hazelcast.spi.properties.ClusterProperty.PERSISTENCE_LOCAL_SEGMENT_SIZE_MB;
+import static com.hazelcast.spi.properties.ClusterProperty.PERSISTENCE_LOCAL_THREAD_COUNT;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link InternalHotRestartService} backed by the local {@link PersistenceStore}.
+ * <p>
+ * Once the member has joined the cluster, the partitions having segments
+ * written before the restart are recovered in parallel by the persistence
+ * threads. The latest entries of each partition are put back to the cluster
+ * in batches, like the entries loaded by a map loader, after which the old
+ * segments are deleted. Since the cluster metadata is not persisted, the
+ * members form a new cluster, so the cluster start coordination of the
+ * interface keeps the default behaviour.
+ * <p>
+ * Only the partitions of which the member was the primary owner at its
+ * shutdown are recovered, the persisted backup replicas are discarded.
+ * The member stays the primary owner at its shutdown if the cluster is
+ * {@link ClusterState#FROZEN} or {@link ClusterState#PASSIVE}, for instance
+ * when the whole cluster is shut down, or if it is the last data member.
+ * Otherwise, its partitions are taken over by the other members, and the
+ * data it persisted is discarded when it restarts, as it is after a crash.
+ * <p>
+ * The entries written to a partition before its recovery completes may be
+ * overwritten by the recovered ones. The recovered cache entries are put
+ * with the expiry policy of the cache.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#PERSISTENCE_LOCAL_ENABLED
+ */
+public class LocalHotRestartService extends NoopInternalHotRestartService {
+
+    private static final String EXECUTOR_NAME = "hz:persistence";
+    private static final int RECOVERY_BATCH_SIZE = 1000;
+    private static final long MEGABYTE = 1 << 20;
+
+    private final Node node;
+    private final ILogger logger;
+    private final PersistenceStore store;
+    private final int threadCount;
+    private final long compactionPeriodSeconds;
+    private final Set<String> recoveredMaps = ConcurrentHashMap.newKeySet();
+    private final AtomicLong recoveredEntryCount = new AtomicLong();
+    private final AtomicInteger failedPartitionCount = new AtomicInteger();
+
+    private volatile boolean recoveryCompleted;
+    private volatile ScheduledFuture<?> compactionTask;
+
+    public LocalHotRestartService(Node node) {
+        this.node = node;
+        this.logger = node.getLogger(getClass());
+        HazelcastProperties properties = node.getProperties();
+        int threads = properties.getInteger(PERSISTENCE_LOCAL_THREAD_COUNT);
+        this.threadCount = threads > 0 ? threads : RuntimeAvailableProcessors.get();
+        this.compactionPeriodSeconds = properties.getSeconds(PERSISTENCE_LOCAL_COMPACTION_PERIOD_SECONDS);
+        String baseDirectory = properties.getString(PERSISTENCE_LOCAL_BASE_DIR);
+        Path base = isNullOrEmpty(baseDirectory)
+                ? node.getConfig().getPersistenceConfig().getBaseDir().toPath()
+                : Paths.get(baseDirectory);
+        try {
+            this.store = PersistenceStore.open(base, properties.getInteger(PARTITION_COUNT),
+                    properties.getInteger(PERSISTENCE_LOCAL_SEGMENT_SIZE_MB) * MEGABYTE);
+        } catch (IOException e) {
+            throw new HazelcastException("Could not open the persistence directory under " + base.toAbsolutePath(), e);
+        }
+        logger.info("Local persistence is enabled in " + store.getDirectory().toAbsolutePath());
+    }
+
+    /**
+     * Returns the persistence store of the member, or {@code null} if the
+     * local persistence is not enabled.
+     */
+    @Nullable
+    public static PersistenceStore getStore(NodeEngine nodeEngine) {
+        Node node = nodeEngine.getNode();
+        if (node == null || node.getNodeExtension() == null) {
+            return null;
+        }
+        InternalHotRestartService service = node.getNodeExtension().getInternalHotRestartService();
+        return service instanceof LocalHotRestartService localService ? localService.store : null;
+    }
+
+    /**
+     * Returns whether the data persisted before the restart has been recovered.
+     */
+    public boolean isRecoveryCompleted() {
+        return recoveryCompleted;
+    }
+
+    /**
+     * Starts the recovery and the compaction. Called after the member has joined the cluster.
+     */
+    public void start() {
+        ExecutionService executionService = node.getNodeEngine().getExecutionService();
+        executionService.register(EXECUTOR_NAME, threadCount, Integer.MAX_VALUE, ExecutorType.CACHED);
+        compactionTask = executionService.scheduleWithRepetition(EXECUTOR_NAME, this::compact,
+                compactionPeriodSeconds, compactionPeriodSeconds, SECONDS);
+
+        Map<String, Data> cacheConfigs;
+        try {
+            cacheConfigs = store.readCacheConfigs();
+        } catch (IOException e) {
+            logger.warning("Could not read the persisted cache configurations", e);
+            cacheConfigs = Map.of();
+        }
+        List<PartitionLog> partitions = new ArrayList<>();
+        int discardedPartitionCount = 0;
+        for (int i = 0; i < store.getPartitionCount(); i++) {
+            PartitionLog partition = store.getPartitionLog(i);
+            if (!partition.hasRecoveredSegments()) {
+                continue;
+            }
+            if (store.wasPrimary(i)) {
+                partitions.add(partition);
+            } else {
+                discard(partition);
+                discardedPartitionCount++;
+            }
+        }
+        if (discardedPartitionCount > 0) {
+            logger.info("Discarded the persisted data of " + discardedPartitionCount
+                    + " partitions which were not owned by this member at its shutdown");
+        }
+        if (partitions.isEmpty()) {
+            recoveryCompleted = true;
+            return;
+        }
+        logger.info("Recovering " + partitions.size() + " partitions from " + store.getDirectory().toAbsolutePath());
+        long start = Clock.currentTimeMillis();
+        AtomicInteger remaining = new AtomicInteger(partitions.size());
+        Map<String, Data> configs = cacheConfigs;
+        for (PartitionLog partition : partitions) {
+            executionService.execute(EXECUTOR_NAME, () -> {
+                try {
+                    recover(partition, configs);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        completeRecovery(start);
+                    }
+                }
+            });
+        }
+    }
+
+    public void shutdown() {
+        ScheduledFuture<?> task = compactionTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        try {
+            store.writePrimaryPartitions(getPrimaryPartitions());
+        } catch (IOException e) {
+            logger.warning("Could not persist the owned partitions, the persisted data will not be recovered", e);
+        }
+        try {
+            store.close();
+        } catch (IOException e) {
+            logger.warning("Could not close " + store, e);
+        }
+    }
+
+    @Override
+    public void resetService(boolean isAfterJoin) {
+        try {
+            store.reset();
+        } catch (IOException e) {
+            throw new HazelcastException("Could not reset " + store, e);
+        }
+    }
+
+    /**
+     * Returns the partitions of which this member stays the primary owner
+     * after its shutdown.
+     */
+    private List<Integer> getPrimaryPartitions() {
+        ClusterState clusterState = node.getClusterService().getClusterState();
+        boolean partitionTableKept = clusterState == ClusterState.FROZEN || clusterState == ClusterState.PASSIVE
+                || node.getClusterService().getSize(DATA_MEMBER_SELECTOR) <= 1;
+        return partitionTableKept
+                ? node.getPartitionService().getMemberPartitionsIfAssigned(node.getThisAddress())
+                : List.of();
+    }
+
+    private void discard(PartitionLog partition) {
+        try {
+            partition.deleteRecoveredSegments();
+        } catch (IOException e) {
+            logger.warning("Could not delete the persisted data of partitionId=" + partition.getPartitionId(), e);
+        }
+    }
+
+    private void recover(PartitionLog partition, Map<String, Data> cacheConfigs) {
+        int partitionId = partition.getPartitionId();
+        try {
+            for (Map.Entry<StructureId, Collection<LogRecord>> entry : partition.recover().entrySet()) {
+                StructureId structure = entry.getKey();
+                if (structure.type() == PersistenceStore.MAP) {
+                    recoverMapEntries(structure.name(), partitionId, entry.getValue());
+                } else {
+                    recoverCacheEntries(structure.name(), partitionId, entry.getValue(), cacheConfigs);
+                }
+            }
+            partition.deleteRecoveredSegments();
+        } catch (Exception e) {
+            failedPartitionCount.incrementAndGet();
+            logger.warning("Could not recover partitionId=" + partitionId
+                    + ", its persisted data is kept for the next restart", e);
+        }
+    }
+
+    private void recoverMapEntries(String name, int partitionId, Collection<LogRecord> records) {
+        if (recoveredMaps.add(name)) {
+            // create the proxy, as if the map was accessed by the user
+            node.getNodeEngine().getHazelcastInstance().getMap(name);
+        }
+        InternalSerializationService serializationService = node.getSerializationService();
+        long now = Clock.currentTimeMillis();
+        List<Data> batch = new ArrayList<>();
+        for (LogRecord record : records) {
+            if (record.expirationTime() <= now) {
+                continue;
+            }
+            batch.add(record.key());
+            batch.add(record.value());
+            batch.add(serializationService.toData(record.expirationTime()));
+            if (batch.size() == 3 * RECOVERY_BATCH_SIZE) {
+                invoke(MapService.SERVICE_NAME, new PutFromLoadAllOperation(name, batch, true), partitionId, batch.size() / 3);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            invoke(MapService.SERVICE_NAME, new PutFromLoadAllOperation(name, batch, true), partitionId, batch.size() / 3);
+        }
+    }
+
+    private void recoverCacheEntries(String name, int partitionId, Collection<LogRecord> records,
+                                     Map<String, Data> cacheConfigs) {
+        ICacheService cacheService = node.getNodeEngine().getServiceOrNull(ICacheService.SERVICE_NAME);
+        if (cacheService == null) {
+            throw new HazelcastException("Could not recover the cache " + name + ", JCache is not available");
+        }
+        CacheConfig cacheConfig = cacheService.getCacheConfig(name);
+        if (cacheConfig == null) {
+            Data persistedConfig = cacheConfigs.get(name);
+            if (persistedConfig == null) {
+                throw new HazelcastException("Could not recover the cache " + name + ", its configuration is not found");
+            }
+            cacheConfig = node.getSerializationService().toObject(persistedConfig);
+            cacheService.createCacheConfigOnAllMembers(PreJoinCacheConfig.of(cacheConfig));
+        }
+        List<Map.Entry<Data, Data>> batch = new ArrayList<>();
+        for (LogRecord record : records) {
+            batch.add(new SimpleImmutableEntry<>(record.key(), record.value()));
+            if (batch.size() == RECOVERY_BATCH_SIZE) {
+                invoke(ICacheService.SERVICE_NAME, cacheService.getCacheOperationProvider(name, cacheConfig.getInMemoryFormat())
+                        .createPutAllOperation(batch, null, IGNORE_COMPLETION), partitionId, batch.size());
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            invoke(ICacheService.SERVICE_NAME, cacheService.getCacheOperationProvider(name, cacheConfig.getInMemoryFormat())
+                    .createPutAllOperation(batch, null, IGNORE_COMPLETION), partitionId, batch.size());
+        }
+    }
+
+    private void invoke(String serviceName, Operation operation, int partitionId, int entryCount) {
+        node.getNodeEngine().getOperationService().invokeOnPartition(serviceName, operation, partitionId).joinInternal();
+        recoveredEntryCount.addAndGet(entryCount);
+    }
+
+    private void completeRecovery(long start) {
+        recoveryCompleted = true;
+        int failed = failedPartitionCount.get();
+        logger.info("Recovered " + recoveredEntryCount.get() + " entries in " + (Clock.currentTimeMillis() - start) + " ms"
+                + (failed > 0 ? ", " + failed + " partitions could not be recovered" : ""));
+    }
+
+    private void compact() {
+        for (int i = 0; i < store.getPartitionCount(); i++) {
+            try {
+                store.getPartitionLog(i).compact();
+            } catch (IOException e) {
+                logger.warning("Could not compact the persisted data of partitionId=" + i, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.SHORT_SIZE_IN_BYTES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Record of a {@link Segment}. A record is written as its body length, the
+ * CRC32 checksum of its body and the body, which consists of the sequence,
+ * the kind, the structure, the key, the value and the expiration time.
+ * The checksum allows to detect the records which were partially written
+ * when the member crashed.
+ *
+ * @param seq            the sequence of the record in its partition
+ * @param kind           one of {@link #PUT}, {@link #REMOVE} or {@link #CLEAR}
+ * @param structure      the data structure of the record
+ * @param key            the key, {@code null} for {@link #CLEAR} records
+ * @param value          the value, {@code null} for {@link #REMOVE} and {@link #CLEAR} records
+ * @param expirationTime the expiration time of the entry, {@link Long#MAX_VALUE} if it does not expire
+ */
+record LogRecord(long seq, byte kind, StructureId structure, Data key, Data value, long expirationTime) {
+
+    /**
+     * Puts or updates an entry.
+     */
+    static final byte PUT = 0;
+    /**
+     * Removes an entry.
+     */
+    static final byte REMOVE = 1;
+    /**
+     * Removes all entries of a data structure which have lower sequences.
+     */
+    static final byte CLEAR = 2;
+
+    static final int HEADER_SIZE = 2 * INT_SIZE_IN_BYTES;
+
+    private static final int MAX_RECORD_SIZE = Integer.MAX_VALUE - HEADER_SIZE;
+
+    boolean isTombstone() {
+        return kind != PUT;
+    }
+
+    /**
+     * Returns the body of the record, as written to the segments after the header.
+     */
+    byte[] encodeBody() {
+        byte[] name = structure.name().getBytes(UTF_8);
+        byte[] keyBytes = key != null ? key.toByteArray() : null;
+        byte[] valueBytes = value != null ? value.toByteArray() : null;
+        int bodySize = LONG_SIZE_IN_BYTES + 2 * BYTE_SIZE_IN_BYTES + SHORT_SIZE_IN_BYTES + name.length
+                + 2 * INT_SIZE_IN_BYTES + length(keyBytes) + length(valueBytes) + LONG_SIZE_IN_BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(bodySize)
+                .putLong(seq)
+                .put(kind)
+                .put(structure.type())
+                .putShort((short) name.length)
+                .put(name);
+        putBytes(buffer, keyBytes);
+        putBytes(buffer, valueBytes);
+        buffer.putLong(expirationTime);
+        return buffer.array();
+    }
+
+    /**
+     * Returns the record with its header.
+     */
+    static ByteBuffer withHeader(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return ByteBuffer.allocate(HEADER_SIZE + body.length)
+                .putInt(body.length)
+                .putInt((int) crc.getValue())
+                .put(body)
+                .flip();
+    }
+
+    /**
+     * Reads the next record from the given input.
+     *
+     * @return the body of the record or {@code null} if the input is at its
+     * end or the record is incomplete or corrupt
+     */
+    static byte[] readBody(DataInputStream in) throws IOException {
+        int bodySize;
+        int checksum;
+        byte[] body;
+        try {
+            bodySize = in.readInt();
+            checksum = in.readInt();
+            if (bodySize <= 0 || bodySize > MAX_RECORD_SIZE) {
+                return null;
+            }
+            body = new byte[bodySize];
+            in.readFully(body);
+        } catch (EOFException e) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue() == checksum ? body : null;
+    }
+
+    static LogRecord decode(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        long seq = buffer.getLong();
+        byte kind = buffer.get();
+        byte type = buffer.get();
+        byte[] name = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(name);
+        Data key = getData(buffer);
+        Data value = getData(buffer);
+        long expirationTime = buffer.getLong();
+        return new LogRecord(seq, kind, new StructureId(type, new String(name, UTF_8)), key, value, expirationTime);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static Data getData(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new HeapData(bytes);
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart.impl;
+
+import com.hazelcast.internal.serialization.Data;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.CLEAR;
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.HEADER_SIZE;
+
+/**
+ * Log of the records of a partition, made up of {@link Segment}s.
+ * <p>
+ * The records are appended by the partition thread to the active segment,
+ * which is sealed when it is full. An in-memory index tracks the location
+ * of the latest record of each key, so that the records superseded by
+ * later ones are accounted as garbage of their segments. The segments which
+ * are mostly garbage are compacted by copying their live records into a new
+ * segment. Each record has a sequence which orders it within the partition
+ * across the restarts, so that the records do not need to be kept in order
+ * in the segments.
+ * <p>
+ * The segments written before the restart are not indexed, they are only
+ * read by the recovery and deleted once their data is restored.
+ */
+final class PartitionLog {
+
+    private final int partitionId;
+    private final Path directory;
+    private final String segmentPrefix;
+    private final long segmentSize;
+    private final List<Segment> recoveredSegments = new ArrayList<>();
+    private final List<Segment> sealedSegments = new ArrayList<>();
+    private final Map<StructureId, StructureIndex> index = new HashMap<>();
+    private Segment activeSegment;
+    private long nextSeq;
+    private int nextSegmentId;
+    private boolean closed;
+
+    PartitionLog(int partitionId, Path directory, long generation, long segmentSize) throws IOException {
+        this.partitionId = partitionId;
+        this.directory = directory;
+        this.segmentPrefix = generation + "-";
+        this.segmentSize = segmentSize;
+        this.nextSeq = generation << PersistenceStore.GENERATION_SHIFT;
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + Segment.SUFFIX)) {
+                for (Path file : files) {
+                    recoveredSegments.add(Segment.existing(file));
+                }
+            }
+        }
+    }
+
+    int getPartitionId() {
+        return partitionId;
+    }
+
+    synchronized boolean hasRecoveredSegments() {
+        return !recoveredSegments.isEmpty();
+    }
+
+    /**
+     * Appends a record. Called by the partition thread.
+     *
+     * @param key   the key, {@code null} for {@link LogRecord#CLEAR} records
+     * @param value the value, {@code null} for tombstones
+     */
+    synchronized void append(byte kind, StructureId structure, Data key, Data value,
+                             long expirationTime, boolean fsync) throws IOException {
+        if (closed) {
+            return;
+        }
+        long seq = nextSeq++;
+        byte[] body = new LogRecord(seq, kind, structure, key, value, expirationTime).encodeBody();
+        Segment segment = activeSegment();
+        long offset = segment.append(body, seq);
+        if (fsync) {
+            segment.force();
+        }
+
+        Location location = new Location(segment, offset, HEADER_SIZE + body.length);
+        StructureIndex structureIndex = index.computeIfAbsent(structure, s -> new StructureIndex());
+        if (kind == CLEAR) {
+            for (Location entry : structureIndex.entries.values()) {
+                entry.segment.addGarbage(entry.size);
+            }
+            structureIndex.entries.clear();
+            if (structureIndex.clear != null) {
+                structureIndex.clear.segment.addGarbage(structureIndex.clear.size);
+            }
+            structureIndex.clear = location;
+        } else {
+            Location previous = structureIndex.entries.put(key, location);
+            if (previous != null) {
+                previous.segment.addGarbage(previous.size);
+            }
+        }
+    }
+
+    /**
+     * Compacts the segment with the most garbage, if it is mostly garbage.
+     * Called by a persistence thread, concurrently with the partition thread.
+     */
+    void compact() throws IOException {
+        Segment candidate = null;
+        Segment output;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (activeSegment != null && activeSegment.size() >= segmentSize / 2 && activeSegment.isMostlyGarbage()) {
+                sealActiveSegment();
+            }
+            for (Segment segment : sealedSegments) {
+                if (segment.isMostlyGarbage()
+                        && (candidate == null || segment.garbageRatio() > candidate.garbageRatio())) {
+                    candidate = segment;
+                }
+            }
+            if (candidate == null) {
+                return;
+            }
+            output = newSegment();
+        }
+
+        boolean copied = false;
+        try (DataInputStream in = candidate.openForRead()) {
+            long offset = 0;
+            byte[] body;
+            while ((body = LogRecord.readBody(in)) != null) {
+                copyIfLive(candidate, offset, body, output);
+                offset += HEADER_SIZE + body.length;
+            }
+            copied = true;
+        } finally {
+            completeCompaction(candidate, output, copied);
+        }
+    }
+
+    /**
+     * Copies the record at the given offset of the compacted segment to the
+     * output segment if it is the latest record of its key, and drops it if
+     * it is a tombstone which does not supersede a record of another segment.
+     */
+    private synchronized void copyIfLive(Segment candidate, long offset, byte[] body, Segment output)
+            throws IOException {
+        if (closed) {
+            return;
+        }
+        LogRecord record = LogRecord.decode(body);
+        StructureIndex structureIndex = index.get(record.structure());
+        if (structureIndex == null) {
+            return;
+        }
+        Location location = record.kind() == CLEAR ? structureIndex.clear : structureIndex.entries.get(record.key());
+        if (location == null || location.segment != candidate || location.offset != offset) {
+            return;
+        }
+        if (record.isTombstone() && !hasOlderRecords(record.seq(), candidate)) {
+            if (record.kind() == CLEAR) {
+                structureIndex.clear = null;
+            } else {
+                structureIndex.entries.remove(record.key());
+            }
+            return;
+        }
+        location.segment = output;
+        location.offset = output.append(body, record.seq());
+    }
+
+    private synchronized void completeCompaction(Segment candidate, Segment output, boolean copied)
+            throws IOException {
+        output.seal();
+        if (!sealedSegments.contains(candidate)) {
+            // the log was reset meanwhile
+            output.delete();
+            return;
+        }
+        if (!copied || closed) {
+            // the candidate may still hold live records, the copied ones are duplicates with the same sequences
+            sealedSegments.add(output);
+            return;
+        }
+        sealedSegments.remove(candidate);
+        candidate.delete();
+        if (output.size() > 0) {
+            sealedSegments.add(output);
+        } else {
+            output.delete();
+        }
+    }
+
+    /**
+     * Returns whether a segment other than the given one may contain
+     * records older than the given sequence, which a tombstone supersedes.
+     */
+    private boolean hasOlderRecords(long seq, Segment except) {
+        if (!recoveredSegments.isEmpty()) {
+            return true;
+        }
+        if (activeSegment != null && activeSegment.minSeq() < seq) {
+            return true;
+        }
+        for (Segment segment : sealedSegments) {
+            if (segment != except && segment.minSeq() < seq) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the segments written before the restart and returns the latest
+     * entries of each data structure, skipping the removed ones.
+     */
+    Map<StructureId, Collection<LogRecord>> recover() throws IOException {
+        List<Segment> segments;
+        synchronized (this) {
+            segments = new ArrayList<>(recoveredSegments);
+        }
+        Map<StructureId, RecoveredStructure> structures = new HashMap<>();
+        for (Segment segment : segments) {
+            try (DataInputStream in = segment.openForRead()) {
+                byte[] body;
+                while ((body = LogRecord.readBody(in)) != null) {
+                    LogRecord record = LogRecord.decode(body);
+                    structures.computeIfAbsent(record.structure(), s -> new RecoveredStructure()).add(record);
+                }
+            }
+        }
+
+        Map<StructureId, Collection<LogRecord>> entries = new HashMap<>();
+        structures.forEach((structure, recovered) -> {
+            Collection<LogRecord> live = recovered.liveEntries();
+            if (!live.isEmpty()) {
+                entries.put(structure, live);
+            }
+        });
+        return entries;
+    }
+
+    /**
+     * Deletes the segments written before the restart, once their data is restored.
+     */
+    synchronized void deleteRecoveredSegments() throws IOException {
+        if (closed) {
+            return;
+        }
+        Iterator<Segment> iterator = recoveredSegments.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().delete();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Deletes all segments and forgets their records.
+     */
+    synchronized void reset() throws IOException {
+        for (Segment segment : recoveredSegments) {
+            segment.delete();
+        }
+        recoveredSegments.clear();
+        for (Segment segment : sealedSegments) {
+            segment.delete();
+        }
+        sealedSegments.clear();
+        if (activeSegment != null) {
+            activeSegment.delete();
+            activeSegment = null;
+        }
+        index.clear();
+    }
+
+    synchronized void close() throws IOException {
+        closed = true;
+        if (activeSegment != null) {
+            sealActiveSegment();
+        }
+        index.clear();
+    }
+
+    private Segment activeSegment() throws IOException {
+        if (activeSegment != null && activeSegment.size() >= segmentSize) {
+            sealActiveSegment();
+        }
+        if (activeSegment == null) {
+            activeSegment = newSegment();
+        }
+        return activeSegment;
+    }
+
+    private void sealActiveSegment() throws IOException {
+        activeSegment.seal();
+        sealedSegments.add(activeSegment);
+        activeSegment = null;
+    }
+
+    private Segment newSegment() throws IOException {
+        Files.createDirectories(directory);
+        return Segment.create(directory.resolve(segmentPrefix + nextSegmentId++ + Segment.SUFFIX));
+    }
+
+    /**
+     * Location of the latest record of a key or of a data structure clear.
+     */
+    private static final class Location {
+
+        private final int size;
+        private Segment segment;
+        private long offset;
+
+        private Location(Segment segment, long offset, int size) {
+            this.segment = segment;
+            this.offset = offset;
+            this.size = size;
+        }
+    }
+
+    private static final class StructureIndex {
+
+        private final Map<Data, Location> entries = new HashMap<>();
+        private Location clear;
+    }
+
+    /**
+     * Latest records of the keys of a data structure, in the order of their sequences.
+     */
+    private static final class RecoveredStructure {
+
+        private final Map<Data, LogRecord> records = new HashMap<>();
+        private long clearSeq = Long.MIN_VALUE;
+
+        private void add(LogRecord record) {
+            if (record.kind() == CLEAR) {
+                clearSeq = Math.max(clearSeq, record.seq());
+            } else {
+                records.merge(record.key(), record, (current, next) -> next.seq() > current.seq() ? next : current);
+            }
+        }
+
+        private Collection<LogRecord> liveEntries() {
+            List<LogRecord> live = new ArrayList<>();
+            for (LogRecord record : records.values()) {
+                if (!record.isTombstone() && record.seq() > clearSeq) {
+                    live.add(record);
+                }
+            }
+            return live;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart.impl;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.CLEAR;
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.PUT;
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.REMOVE;
+import static com.hazelcast.internal.util.UuidUtil.newUnsecureUuidString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Log-structured store of the persisted maps and caches of a member. It
+ * keeps a {@link PartitionLog} per partition in its own subdirectory of the
+ * member directory, which is locked so that no other member uses it.
+ * <p>
+ * Each opening of the store starts a new generation: the segments of the
+ * previous generations are only read by the recovery, while the records of
+ * the new generation get higher sequences.
+ * <p>
+ * The logs hold the primary and the backup replicas of the member. Since a
+ * backup replica may lag behind its primary, the partitions of which the
+ * member was the primary owner at its shutdown are persisted as well, and
+ * only their logs are recovered.
+ */
+public final class PersistenceStore {
+
+    /**
+     * Type of the map data structures.
+     */
+    public static final byte MAP = 0;
+    /**
+     * Type of the cache data structures.
+     */
+    public static final byte CACHE = 1;
+
+    /**
+     * Number of bits of the sequences of the records of a generation.
+     */
+    static final int GENERATION_SHIFT = 40;
+
+    private static final String MEMBER_DIRECTORY_PREFIX = "member-";
+    private static final String PARTITION_DIRECTORY_PREFIX = "partition-";
+    private static final String CACHE_CONFIG_DIRECTORY = "cache-configs";
+    private static final String CACHE_CONFIG_SUFFIX = ".config";
+    private static final String LOCK_FILE = "lock";
+    private static final String GENERATION_FILE = "generation";
+    private static final String PRIMARY_PARTITIONS_FILE = "primary-partitions";
+
+    /**
+     * Member directories locked in this JVM. Closing a channel releases the
+     * locks of the file held by the whole JVM, so the directories locked by
+     * the other members of this JVM must not be probed.
+     */
+    private static final Set<Path> LOCKED_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+    private final FileLock lock;
+    private final PartitionLog[] partitions;
+    private final Path cacheConfigDirectory;
+    private final Set<String> persistedCacheConfigs = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> recoveredPrimaryPartitions;
+
+    private PersistenceStore(Path directory, FileLock lock, int partitionCount, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.lock = lock;
+        this.cacheConfigDirectory = directory.resolve(CACHE_CONFIG_DIRECTORY);
+        // taken once, so that a crash of this generation does not recover the replicas of the next one
+        this.recoveredPrimaryPartitions = takePrimaryPartitions(directory.resolve(PRIMARY_PARTITIONS_FILE));
+        long generation = nextGeneration(directory.resolve(GENERATION_FILE));
+        this.partitions = new PartitionLog[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new PartitionLog(i, directory.resolve(PARTITION_DIRECTORY_PREFIX + i), generation, segmentSize);
+        }
+    }
+
+    /**
+     * Opens the store in a member directory under the given base directory
+     * which is not used by another member, or in a new one if there is none.
+     */
+    public static PersistenceStore open(Path baseDirectory, int partitionCount, long segmentSize) throws IOException {
+        Files.createDirectories(baseDirectory);
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(baseDirectory, MEMBER_DIRECTORY_PREFIX + "*")) {
+            for (Path directory : directories) {
+                FileLock lock = tryLock(directory);
+                if (lock != null) {
+                    return openLocked(directory, lock, partitionCount, segmentSize);
+                }
+            }
+        }
+        Path directory = Files.createDirectories(baseDirectory.resolve(MEMBER_DIRECTORY_PREFIX + newUnsecureUuidString()));
+        FileLock lock = tryLock(directory);
+        if (lock == null) {
+            throw new HazelcastException("Could not lock the persistence directory " + directory);
+        }
+        return openLocked(directory, lock, partitionCount, segmentSize);
+    }
+
+    private static PersistenceStore openLocked(Path directory, FileLock lock, int partitionCount, long segmentSize)
+            throws IOException {
+        try {
+            return new PersistenceStore(directory, lock, partitionCount, segmentSize);
+        } catch (IOException | RuntimeException e) {
+            unlock(directory, lock);
+            throw e;
+        }
+    }
+
+    private static FileLock tryLock(Path directory) throws IOException {
+        Path key = directory.toAbsolutePath().normalize();
+        if (!Files.isDirectory(directory) || !LOCKED_DIRECTORIES.add(key)) {
+            return null;
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(directory.resolve(LOCK_FILE), CREATE, WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOCKED_DIRECTORIES.remove(key);
+            if (channel != null) {
+                channel.close();
+            }
+            throw e;
+        }
+        LOCKED_DIRECTORIES.remove(key);
+        channel.close();
+        return null;
+    }
+
+    private static void unlock(Path directory, FileLock lock) throws IOException {
+        try {
+            lock.acquiredBy().close();
+        } finally {
+            LOCKED_DIRECTORIES.remove(directory.toAbsolutePath().normalize());
+        }
+    }
+
+    private static long nextGeneration(Path file) throws IOException {
+        long generation = Files.exists(file) ? Long.parseLong(Files.readString(file).trim()) + 1 : 0;
+        if (generation >= 1L << (Long.SIZE - 1 - GENERATION_SHIFT)) {
+            throw new HazelcastException("Generations of the persistence directory " + file.getParent() + " are exhausted");
+        }
+        writeAtomically(file, Long.toString(generation).getBytes(UTF_8));
+        return generation;
+    }
+
+    private static Set<Integer> takePrimaryPartitions(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Set.of();
+        }
+        Set<Integer> partitionIds = new HashSet<>();
+        for (String line : Files.readAllLines(file, UTF_8)) {
+            if (!line.isBlank()) {
+                partitionIds.add(Integer.parseInt(line.trim()));
+            }
+        }
+        Files.delete(file);
+        return partitionIds;
+    }
+
+    private static void writeAtomically(Path file, byte[] content) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, content);
+        Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    int getPartitionCount() {
+        return partitions.length;
+    }
+
+    PartitionLog getPartitionLog(int partitionId) {
+        return partitions[partitionId];
+    }
+
+    /**
+     * Returns whether the member was the primary owner of the given partition
+     * when the previous generation was closed. The logs of the other
+     * partitions hold backup replicas, which may be stale.
+     */
+    boolean wasPrimary(int partitionId) {
+        return recoveredPrimaryPartitions.contains(partitionId);
+    }
+
+    /**
+     * Persists the partitions of which the member is the primary owner, so
+     * that only their logs are recovered by the next generation.
+     */
+    void writePrimaryPartitions(Collection<Integer> partitionIds) throws IOException {
+        String content = partitionIds.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+        writeAtomically(directory.resolve(PRIMARY_PARTITIONS_FILE), content.getBytes(UTF_8));
+    }
+
+    /**
+     * Persists the given entry of a data structure. Called by the partition thread.
+     *
+     * @param expirationTime the expiration time of the entry, {@link Long#MAX_VALUE} if it does not expire
+     * @param fsync          whether to sync the entry to the disk before returning
+     */
+    public void put(int partitionId, byte type, String name, Data key, Data value, long expirationTime, boolean fsync) {
+        append(partitionId, PUT, type, name, key, value, expirationTime, fsync);
+    }
+
+    /**
+     * Persists the removal of the given key of a data structure. Called by the partition thread.
+     */
+    public void remove(int partitionId, byte type, String name, Data key, boolean fsync) {
+        append(partitionId, REMOVE, type, name, key, null, Long.MAX_VALUE, fsync);
+    }
+
+    /**
+     * Persists the removal of all entries of a data structure in the given
+     * partition. Called by the partition thread.
+     */
+    public void clear(int partitionId, byte type, String name, boolean fsync) {
+        append(partitionId, CLEAR, type, name, null, null, Long.MAX_VALUE, fsync);
+    }
+
+    private void append(int partitionId, byte kind, byte type, String name, Data key, Data value,
+                        long expirationTime, boolean fsync) {
+        try {
+            partitions[partitionId].append(kind, new StructureId(type, name), key, value, expirationTime, fsync);
+        } catch (IOException e) {
+            throw new HazelcastException("Could not persist the entry of " + name + " in partitionId=" + partitionId, e);
+        }
+    }
+
+    /**
+     * Persists the configuration of the given cache, which is needed to
+     * create the cache while recovering its entries. The configuration is
+     * persisted once per cache name.
+     */
+    public void persistCacheConfig(String cacheNameWithPrefix, Data cacheConfig) {
+        if (!persistedCacheConfigs.add(cacheNameWithPrefix)) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheConfigDirectory);
+            writeAtomically(cacheConfigDirectory.resolve(URLEncoder.encode(cacheNameWithPrefix, UTF_8) + CACHE_CONFIG_SUFFIX),
+                    cacheConfig.toByteArray());
+        } catch (IOException e) {
+            persistedCacheConfigs.remove(cacheNameWithPrefix);
+            throw new HazelcastException("Could not persist the configuration of the cache " + cacheNameWithPrefix, e);
+        }
+    }
+
+    /**
+     * Reads the persisted cache configurations by cache name.
+     */
+    Map<String, Data> readCacheConfigs() throws IOException {
+        Map<String, Data> configs = new HashMap<>();
+        if (!Files.isDirectory(cacheConfigDirectory)) {
+            return configs;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheConfigDirectory, "*" + CACHE_CONFIG_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String name = URLDecoder.decode(fileName.substring(0, fileName.length() - CACHE_CONFIG_SUFFIX.length()), UTF_8);
+                configs.put(name, new HeapData(Files.readAllBytes(file)));
+            }
+        }
+        return configs;
+    }
+
+    /**
+     * Deletes all persisted data.
+     */
+    void reset() throws IOException {
+        for (PartitionLog partition : partitions) {
+            partition.reset();
+        }
+        if (Files.isDirectory(cacheConfigDirectory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheConfigDirectory)) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        persistedCacheConfigs.clear();
+    }
+
+    /**
+     * Syncs and closes the segments and releases the member directory.
+     */
+    void close() throws IOException {
+        try {
+            for (PartitionLog partition : partitions) {
+                partition.close();
+            }
+        } finally {
+            unlock(directory, lock);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PersistenceStore{directory=" + directory + '}';
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart.impl;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only segment file of a {@link PartitionLog}. The records are never
+ * updated in place: a record which is superseded by a later one becomes
+ * garbage, which is dropped when the segment is compacted.
+ * <p>
+ * Not thread-safe, guarded by its {@link PartitionLog}.
+ */
+final class Segment {
+
+    static final String SUFFIX = ".seg";
+
+    private final Path file;
+    private FileChannel channel;
+    private long size;
+    private long garbage;
+    private long minSeq;
+
+    private Segment(Path file, FileChannel channel, long size, long minSeq) {
+        this.file = file;
+        this.channel = channel;
+        this.size = size;
+        this.minSeq = minSeq;
+    }
+
+    /**
+     * Creates a new segment file to append the records to.
+     */
+    static Segment create(Path file) throws IOException {
+        return new Segment(file, FileChannel.open(file, CREATE_NEW, WRITE), 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Opens a segment file written before the restart, to read its records.
+     * Since its records are not indexed, its minimum sequence is unknown.
+     */
+    static Segment existing(Path file) throws IOException {
+        return new Segment(file, null, Files.size(file), Long.MIN_VALUE);
+    }
+
+    /**
+     * Appends the given record body to the segment.
+     *
+     * @return the offset of the record in the segment
+     */
+    long append(byte[] body, long seq) throws IOException {
+        ByteBuffer buffer = LogRecord.withHeader(body);
+        long offset = size;
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        size += buffer.limit();
+        minSeq = Math.min(minSeq, seq);
+        return offset;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Syncs and closes the segment, no more records can be appended to it.
+     */
+    void seal() throws IOException {
+        if (channel != null) {
+            channel.force(true);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    void addGarbage(int recordSize) {
+        garbage += recordSize;
+    }
+
+    /**
+     * Returns whether at least half of the segment is garbage.
+     */
+    boolean isMostlyGarbage() {
+        return size > 0 && 2 * garbage >= size;
+    }
+
+    double garbageRatio() {
+        return size > 0 ? (double) garbage / size : 0;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns the minimum sequence of the records in the segment,
+     * {@link Long#MIN_VALUE} if it is unknown.
+     */
+    long minSeq() {
+        return minSeq;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * Opens the segment for reading its records sequentially.
+     */
+    DataInputStream openForRead() throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+    }
+
+    void delete() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public String toString() {
+        return "Segment{file=" + file + ", size=" + size + ", garbage=" + garbage + '}';
+    }
+}
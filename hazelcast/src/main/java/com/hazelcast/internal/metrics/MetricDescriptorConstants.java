@@ -124,6 +124,9 @@ public final class MetricDescriptorConstants {
     public static final String EVENT_METRIC_EVENT_SERVICE_EVENTS_PROCESSED = "eventsProcessed";
     public static final String EVENT_METRIC_EVENT_SERVICE_SEGMENT_LISTENER_COUNT = "listenerCount";
     public static final String EVENT_METRIC_EVENT_SERVICE_SEGMENT_PUBLICATION_COUNT = "publicationCount";
+    public static final String EVENT_DISCRIMINATOR_LISTENER = "listener";
+    public static final String EVENT_TAG_SERVICE = "service";
+    public static final String EVENT_METRIC_EVENT_SERVICE_LISTENER_EVENT_BACKLOG = "eventBacklog";
     // ===[/EVENT]======================================================
 
     // ===[EXECUTOR]====================================================
@@ -225,6 +228,8 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_BACKUP_COUNT = "backupCount";
     public static final String MAP_METRIC_QUERY_COUNT = "queryCount";
     public static final String MAP_METRIC_INDEXED_QUERY_COUNT = "indexedQueryCount";
+    public static final String MAP_METRIC_DISK_TIER_ENTRY_COUNT = "diskTierEntryCount";
+    public static final String MAP_METRIC_DISK_TIER_HITS = "diskTierHits";
     public static final String MAP_METRIC_TOTAL_PUT_LATENCY = "totalPutLatency";
     public static final String MAP_METRIC_TOTAL_SET_LATENCY = "totalSetLatency";
     public static final String MAP_METRIC_TOTAL_GET_LATENCY = "totalGetLatency";
@@ -33,6 +33,8 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_BACKUP_ENTRY_MEMORY_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_DIRTY_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_DISK_TIER_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_DISK_TIER_HITS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EVICTION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EXPIRATION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_COUNT;
@@ -163,6 +165,10 @@ public class LocalMapStatsImpl implements LocalMapStats {
      */
     @Probe(name = MAP_METRIC_MERKLE_TREES_COST)
     private volatile long merkleTreesCost;
+    @Probe(name = MAP_METRIC_DISK_TIER_ENTRY_COUNT)
+    private volatile long diskTierEntryCount;
+    @Probe(name = MAP_METRIC_DISK_TIER_HITS)
+    private volatile long diskTierHits;
     @Probe(name = MAP_METRIC_LOCKED_ENTRY_COUNT)
     private volatile long lockedEntryCount;
     @Probe(name = MAP_METRIC_DIRTY_ENTRY_COUNT)
@@ -408,6 +414,24 @@ public class LocalMapStatsImpl implements LocalMapStats {
         this.merkleTreesCost = merkleTreeCost;
     }
 
+    @Override
+    public long getDiskTierEntryCount() {
+        return diskTierEntryCount;
+    }
+
+    public void setDiskTierEntryCount(long diskTierEntryCount) {
+        this.diskTierEntryCount = diskTierEntryCount;
+    }
+
+    @Override
+    public long getDiskTierHits() {
+        return diskTierHits;
+    }
+
+    public void setDiskTierHits(long diskTierHits) {
+        this.diskTierHits = diskTierHits;
+    }
+
     @Override
     public NearCacheStats getNearCacheStats() {
         return nearCacheStats;
@@ -563,6 +587,8 @@ public class LocalMapStatsImpl implements LocalMapStats {
                 + ", dirtyEntryCount=" + dirtyEntryCount
                 + ", heapCost=" + heapCost
                 + ", merkleTreesCost=" + merkleTreesCost
+                + ", diskTierEntryCount=" + diskTierEntryCount
+                + ", diskTierHits=" + diskTierHits
                 + ", nearCacheStats=" + (nearCacheStats != null ? nearCacheStats : "")
                 + ", queryCount=" + queryCount
                 + ", indexedQueryCount=" + indexedQueryCount
@@ -21,6 +21,7 @@ import com.hazelcast.internal.services.ServiceNamespaceAware;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.properties.ClusterProperty;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 
 /**
@@ -80,4 +81,31 @@ public interface FragmentedMigrationAwareService extends MigrationAwareService {
      * @see #prepareReplicationOperation(PartitionReplicationEvent)
      */
     Operation prepareReplicationOperation(PartitionReplicationEvent event, Collection<ServiceNamespace> namespaces);
+
+    /**
+     * Returns a digest of the local data of a partition replica fragment,
+     * or {@code null} if the service does not support differential replica
+     * synchronization for the given namespace.
+     * <p>
+     * This method is called on a backup replica, on the partition thread,
+     * before it requests a sync of the fragment from the primary replica.
+     * The digest is passed to the primary replica via
+     * {@link PartitionReplicationEvent#getReplicaFragmentDigest(ServiceNamespace)},
+     * so that {@link #prepareReplicationOperation(PartitionReplicationEvent, Collection)}
+     * can replicate only the data that differs. When the Merkle tree
+     * anti-entropy is enabled, it is also called on both the primary and
+     * the backup replicas to compare their data, so equal data must give
+     * equal digests.
+     *
+     * @param partitionId the partition ID
+     * @param namespace   replica fragment namespace
+     * @return the digest of the local fragment data or {@code null}
+     * @see ClusterProperty#PARTITION_DIFFERENTIAL_REPLICA_SYNC_ENABLED
+     * @see ClusterProperty#PARTITION_MERKLE_TREE_ANTI_ENTROPY_ENABLED
+     * @since 6.0
+     */
+    @Nullable
+    default int[] getReplicaFragmentDigest(int partitionId, ServiceNamespace namespace) {
+        return null;
+    }
 }
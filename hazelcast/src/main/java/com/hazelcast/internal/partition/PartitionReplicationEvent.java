@@ -17,8 +17,11 @@
 package com.hazelcast.internal.partition;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.services.ServiceNamespace;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * An event send to {@link MigrationAwareService} when partition changes happen.
@@ -32,6 +35,8 @@ public class PartitionReplicationEvent {
     @Nullable
     private final Address target;
 
+    private final Map<ServiceNamespace, int[]> replicaFragmentDigests;
+
     /**
      * Creates a PartitionReplicationEvent
      *
@@ -39,9 +44,23 @@ public class PartitionReplicationEvent {
      * @param replicaIndex the replica index
      */
     public PartitionReplicationEvent(Address target, int partitionId, int replicaIndex) {
+        this(target, partitionId, replicaIndex, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a PartitionReplicationEvent for a replica sync
+     * with the digests of the fragments of the target replica
+     *
+     * @param partitionId            the partition ID
+     * @param replicaIndex           the replica index
+     * @param replicaFragmentDigests the digests of the fragments of the target replica
+     */
+    public PartitionReplicationEvent(Address target, int partitionId, int replicaIndex,
+                                     Map<ServiceNamespace, int[]> replicaFragmentDigests) {
         this.target = target;
         this.partitionId = partitionId;
         this.replicaIndex = replicaIndex;
+        this.replicaFragmentDigests = replicaFragmentDigests;
     }
 
     /**
@@ -66,6 +85,19 @@ public class PartitionReplicationEvent {
         return target;
     }
 
+    /**
+     * Gets the digest of the given fragment of the target replica, as
+     * returned by {@link FragmentedMigrationAwareService#getReplicaFragmentDigest(int, ServiceNamespace)}
+     * on the target replica.
+     *
+     * @param namespace the replica fragment namespace
+     * @return the digest or {@code null} if the whole fragment must be replicated
+     */
+    @Nullable
+    public int[] getReplicaFragmentDigest(ServiceNamespace namespace) {
+        return replicaFragmentDigests.get(namespace);
+    }
+
     @Override
     public String toString() {
         return "PartitionReplicationEvent{partitionId=" + partitionId + ", replicaIndex=" + replicaIndex + '}';
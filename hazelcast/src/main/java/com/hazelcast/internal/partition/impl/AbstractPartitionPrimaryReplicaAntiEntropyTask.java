@@ -32,7 +32,9 @@ import com.hazelcast.spi.impl.operationservice.OperationService;
 import com.hazelcast.spi.impl.operationservice.UrgentSystemOperation;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
@@ -94,6 +96,13 @@ public abstract class AbstractPartitionPrimaryReplicaAntiEntropyTask
     final void invokePartitionBackupReplicaAntiEntropyOp(int replicaIndex, PartitionReplica target,
                                                          Collection<ServiceNamespace> namespaces,
                                                          BiConsumer<Object, Throwable> callback) {
+        invokePartitionBackupReplicaAntiEntropyOp(replicaIndex, target, namespaces, Collections.emptyMap(), callback);
+    }
+
+    final void invokePartitionBackupReplicaAntiEntropyOp(int replicaIndex, PartitionReplica target,
+                                                         Collection<ServiceNamespace> namespaces,
+                                                         Map<ServiceNamespace, Integer> digestHashes,
+                                                         BiConsumer<Object, Throwable> callback) {
         if (skipSendingToTarget(target)) {
             return;
         }
@@ -108,7 +117,7 @@ public abstract class AbstractPartitionPrimaryReplicaAntiEntropyTask
 
         boolean hasCallback = (callback != null);
 
-        Operation op = new PartitionBackupReplicaAntiEntropyOperation(versionMap, hasCallback);
+        Operation op = new PartitionBackupReplicaAntiEntropyOperation(versionMap, digestHashes, hasCallback);
         op.setPartitionId(partitionId)
                 .setReplicaIndex(replicaIndex)
                 .setServiceName(SERVICE_NAME);
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adapts the number of concurrent migrations allowed on each member to the
+ * migration throughput observed between the source and destination members.
+ * <p>
+ * The duration of the migrations between each source and destination pair
+ * is tracked as an exponentially weighted moving average. A migration
+ * which fails or takes more than {@link #SLOW_MIGRATION_FACTOR} times the
+ * average of its pair halves the concurrency limit of both of its members,
+ * any other migration raises their limits by one, up to the configured
+ * maximum (additive increase, multiplicative decrease).
+ * <p>
+ * Not thread-safe, accessed only by the migration thread.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#PARTITION_ADAPTIVE_MIGRATION_ENABLED
+ */
+class AdaptiveMigrationController {
+
+    static final double SLOW_MIGRATION_FACTOR = 2;
+
+    private static final double AVERAGE_WEIGHT = 0.2;
+
+    private final int maxParallelMigrations;
+    private final Map<Address, Integer> limits = new HashMap<>();
+    private final Map<Address, Map<Address, Double>> averageDurations = new HashMap<>();
+
+    AdaptiveMigrationController(int maxParallelMigrations) {
+        this.maxParallelMigrations = maxParallelMigrations;
+    }
+
+    /**
+     * Returns the number of migrations allowed to run concurrently
+     * on the given member.
+     */
+    int getLimit(Address address) {
+        return limits.getOrDefault(address, maxParallelMigrations);
+    }
+
+    /**
+     * Updates the limits of the source and destination members of a completed migration.
+     *
+     * @param source        address of the member the migration data is sent from
+     * @param destination   address of the member the migration data is sent to
+     * @param durationNanos duration of the migration
+     * @param success       whether the migration succeeded or not
+     */
+    void onMigrationComplete(Address source, Address destination, long durationNanos, boolean success) {
+        Map<Address, Double> durations = averageDurations.computeIfAbsent(source, address -> new HashMap<>());
+        Double average = durations.get(destination);
+        if (!success || (average != null && durationNanos > SLOW_MIGRATION_FACTOR * average)) {
+            decrease(source);
+            decrease(destination);
+        } else {
+            increase(source);
+            increase(destination);
+        }
+        if (success) {
+            durations.put(destination, average == null
+                    ? durationNanos : average + AVERAGE_WEIGHT * (durationNanos - average));
+        }
+    }
+
+    private void increase(Address address) {
+        limits.put(address, Math.min(maxParallelMigrations, getLimit(address) + 1));
+    }
+
+    private void decrease(Address address) {
+        limits.put(address, Math.max(1, getLimit(address) / 2));
+    }
+}
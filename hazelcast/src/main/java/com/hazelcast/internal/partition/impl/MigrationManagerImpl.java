@@ -159,6 +159,11 @@ public class MigrationManagerImpl implements MigrationManager {
     private final long memberHeartbeatTimeoutMillis;
     private boolean triggerRepartitioningWhenClusterStateAllowsMigration;
     private final int maxParallelMigrations;
+    /**
+     * Adapts the per-member migration concurrency, {@code null} when
+     * {@link ClusterProperty#PARTITION_ADAPTIVE_MIGRATION_ENABLED} is disabled.
+     */
+    private final AdaptiveMigrationController adaptiveMigrationController;
     private final AtomicInteger migrationCount = new AtomicInteger();
     private final Set<MigrationInfo> finalizingMigrationsRegistry = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final Executor asyncExecutor;
@@ -186,6 +191,8 @@ public class MigrationManagerImpl implements MigrationManager {
         chunkedMigrationEnabled = properties.getBoolean(PARTITION_CHUNKED_MIGRATION_ENABLED);
         maxTotalChunkedDataInBytes = (int) MEGABYTES.toBytes(properties.getInteger(PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB));
         maxParallelMigrations = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS);
+        adaptiveMigrationController = properties.getBoolean(ClusterProperty.PARTITION_ADAPTIVE_MIGRATION_ENABLED)
+                ? new AdaptiveMigrationController(maxParallelMigrations) : null;
         partitionStateManager = partitionService.getPartitionStateManager();
         ILogger migrationThreadLogger = node.getLogger(MigrationThread.class);
         String hzName = nodeEngine.getHazelcastInstance().getName();
@@ -1139,6 +1146,10 @@ public class MigrationManagerImpl implements MigrationManager {
          * Only {@link #maxParallelMigrations} number of migrations are allowed on a single member.
          */
         private final Map<Address, Integer> endpoint2MigrationCount = new HashMap<>();
+        /**
+         * Map of migration -> start time, only tracked for the {@link #adaptiveMigrationController}.
+         */
+        private final Map<MigrationInfo, Long> migrationStartNanos = new HashMap<>();
         private int ongoingMigrationCount;
         private boolean failed;
         private volatile boolean aborted;
@@ -1211,6 +1222,10 @@ public class MigrationManagerImpl implements MigrationManager {
             count = endpoint2MigrationCount.compute(sourceAddress(migration), inc);
             assert count > 0 && count <= maxParallelMigrations : "Count: " + count + " -> " + migration;
 
+            if (adaptiveMigrationController != null) {
+                migrationStartNanos.put(migration, Timer.nanos());
+            }
+
             ongoingMigrationCount++;
             migrationCount.decrementAndGet();
         }
@@ -1224,13 +1239,21 @@ public class MigrationManagerImpl implements MigrationManager {
             long count = endpoint2MigrationCount.compute(migration.getDestinationAddress(), dec);
             assert count >= 0 && count < maxParallelMigrations : "Count: " + count + " -> " + migration;
 
-            count = endpoint2MigrationCount.compute(sourceAddress(migration), dec);
+            Address source = sourceAddress(migration);
+            count = endpoint2MigrationCount.compute(source, dec);
             assert count >= 0 && count < maxParallelMigrations : "Count: " + count + " -> " + migration;
 
-            if (migration.getStatus() != MigrationStatus.SUCCESS) {
+            boolean success = migration.getStatus() == MigrationStatus.SUCCESS;
+            if (!success) {
                 failed = true;
             }
 
+            if (adaptiveMigrationController != null) {
+                long durationNanos = Timer.nanosElapsed(migrationStartNanos.remove(migration));
+                adaptiveMigrationController.onMigrationComplete(source, migration.getDestinationAddress(),
+                        durationNanos, success);
+            }
+
             ongoingMigrationCount--;
         }
 
@@ -1269,6 +1292,17 @@ public class MigrationManagerImpl implements MigrationManager {
         }
 
         private MigrationInfo next0() {
+            if (adaptiveMigrationController != null) {
+                // restore the missing backup replicas first
+                MigrationInfo m = next0(true);
+                if (m != null) {
+                    return m;
+                }
+            }
+            return next0(false);
+        }
+
+        private MigrationInfo next0(boolean copiesAndShiftUpsOnly) {
             Iterator<Queue<MigrationInfo>> iter = partitionMigrationQueues.iterator();
             while (iter.hasNext()) {
                 Queue<MigrationInfo> q = iter.next();
@@ -1277,6 +1311,10 @@ public class MigrationManagerImpl implements MigrationManager {
                     continue;
                 }
 
+                if (copiesAndShiftUpsOnly && q.peek().getSourceCurrentReplicaIndex() != -1) {
+                    continue;
+                }
+
                 if (!select(q.peek())) {
                     continue;
                 }
@@ -1294,10 +1332,17 @@ public class MigrationManagerImpl implements MigrationManager {
             if (migratingPartitions.contains(m.getPartitionId())) {
                 return false;
             }
-            if (endpoint2MigrationCount.getOrDefault(m.getDestinationAddress(), 0) == maxParallelMigrations) {
+            Address destination = m.getDestinationAddress();
+            if (endpoint2MigrationCount.getOrDefault(destination, 0) >= getParallelMigrationLimit(destination)) {
                 return false;
             }
-            return endpoint2MigrationCount.getOrDefault(sourceAddress(m), 0) < maxParallelMigrations;
+            Address source = sourceAddress(m);
+            return endpoint2MigrationCount.getOrDefault(source, 0) < getParallelMigrationLimit(source);
+        }
+
+        private int getParallelMigrationLimit(Address address) {
+            return adaptiveMigrationController != null
+                    ? adaptiveMigrationController.getLimit(address) : maxParallelMigrations;
         }
 
         private Address sourceAddress(MigrationInfo m) {
@@ -22,6 +22,7 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 
 import java.util.Collection;
+import java.util.Map;
 
 import static com.hazelcast.internal.partition.InternalPartition.MAX_REPLICA_COUNT;
 
@@ -43,11 +44,14 @@ final class PartitionPrimaryReplicaAntiEntropyTask extends AbstractPartitionPrim
             }
 
             Collection<ServiceNamespace> namespaces = retainAndGetNamespaces();
+            // computed once for all the backup replicas
+            Map<ServiceNamespace, Integer> digestHashes = partitionService.getReplicaManager()
+                    .getReplicaFragmentDigestHashesIfDue(partitionId, namespaces);
 
             for (int index = 1; index < MAX_REPLICA_COUNT; index++) {
                 PartitionReplica replica = partition.getReplica(index);
                 if (replica != null) {
-                    invokePartitionBackupReplicaAntiEntropyOp(index, replica, namespaces, null);
+                    invokePartitionBackupReplicaAntiEntropyOp(index, replica, namespaces, digestHashes, null);
                 }
             }
         } finally {
@@ -18,7 +18,9 @@ package com.hazelcast.internal.partition.impl;
 
 import com.hazelcast.cluster.Member;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.partition.FragmentedMigrationAwareService;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.NonFragmentedServiceNamespace;
 import com.hazelcast.internal.partition.PartitionReplica;
@@ -27,6 +29,7 @@ import com.hazelcast.internal.partition.operation.PartitionReplicaSyncRequest;
 import com.hazelcast.internal.partition.operation.PartitionReplicaSyncRequestOffloadable;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.services.ServiceNamespaceAware;
+import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.CollectionUtil;
 import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.internal.util.scheduler.EntryTaskScheduler;
@@ -45,11 +48,13 @@ import com.hazelcast.spi.properties.HazelcastProperties;
 import javax.annotation.Nonnull;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,6 +64,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_REPLICA_SYNC_SEMAPHORE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_SYNC_REQUEST_COUNTER;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+import static com.hazelcast.internal.util.ThreadUtil.isRunningOnPartitionThread;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static java.lang.String.format;
 import static java.util.Collections.newSetFromMap;
@@ -102,6 +109,12 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
 
     private final long partitionMigrationTimeout;
     private final int maxParallelReplications;
+    private final boolean differentialReplicaSyncEnabled;
+    private final boolean merkleTreeAntiEntropyEnabled;
+    private final long merkleTreeAntiEntropyIntervalMillis;
+    // the last times the digests of the partitions were compared by the
+    // backup anti-entropy, accessed only by the partition threads
+    private final long[] lastDigestComparisonMillis;
 
     PartitionReplicaManager(Node node, InternalPartitionServiceImpl partitionService) {
         this.node = node;
@@ -116,6 +129,12 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         partitionMigrationTimeout = properties.getMillis(ClusterProperty.PARTITION_MIGRATION_TIMEOUT);
         maxParallelReplications = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_REPLICATIONS);
         replicaSyncSemaphore = new Semaphore(maxParallelReplications);
+        merkleTreeAntiEntropyEnabled = properties.getBoolean(ClusterProperty.PARTITION_MERKLE_TREE_ANTI_ENTROPY_ENABLED);
+        differentialReplicaSyncEnabled = merkleTreeAntiEntropyEnabled
+                || properties.getBoolean(ClusterProperty.PARTITION_DIFFERENTIAL_REPLICA_SYNC_ENABLED);
+        merkleTreeAntiEntropyIntervalMillis = properties.getMillis(ClusterProperty.PARTITION_MERKLE_TREE_ANTI_ENTROPY_INTERVAL);
+        lastDigestComparisonMillis = new long[partitionCount];
+        Arrays.fill(lastDigestComparisonMillis, Clock.currentTimeMillis());
 
         replicaVersions = new PartitionReplicaVersions[partitionCount];
         for (int i = 0; i < replicaVersions.length; i++) {
@@ -252,13 +271,94 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         }
         replicaSyncRequestsCounter.inc();
 
+        Map<ServiceNamespace, int[]> digests = getReplicaFragmentDigests(partitionId, namespaces);
         Operation syncRequest = ALLOW_OFFLOAD
-                ? new PartitionReplicaSyncRequestOffloadable(namespaces, partitionId, replicaIndex)
-                : new PartitionReplicaSyncRequest(namespaces, partitionId, replicaIndex);
+                ? new PartitionReplicaSyncRequestOffloadable(namespaces, digests, partitionId, replicaIndex)
+                : new PartitionReplicaSyncRequest(namespaces, digests, partitionId, replicaIndex);
 
         nodeEngine.getOperationService().send(syncRequest, target.address());
     }
 
+    /**
+     * Collects the digests of the local replica fragments, which let the primary
+     * replica send only the data that differs. Digests are read only on the
+     * partition thread and only if all members support them, otherwise the
+     * whole fragments are requested.
+     */
+    private Map<ServiceNamespace, int[]> getReplicaFragmentDigests(int partitionId, Collection<ServiceNamespace> namespaces) {
+        if (!differentialReplicaSyncEnabled || !isRunningOnPartitionThread()
+                || node.getClusterService().getClusterVersion().isUnknownOrLessThan(Versions.V6_0)) {
+            return Collections.emptyMap();
+        }
+        return collectReplicaFragmentDigests(partitionId, namespaces);
+    }
+
+    /**
+     * Returns the hashes of the digests of the local replica fragments to be
+     * sent by the primary replica along with the backup anti-entropy, if the
+     * digests of the partition have not been compared within the configured
+     * interval. Otherwise, or if the cluster version does not support the
+     * digests, returns an empty map and only the replica versions are compared.
+     *
+     * @see ClusterProperty#PARTITION_MERKLE_TREE_ANTI_ENTROPY_INTERVAL
+     */
+    public Map<ServiceNamespace, Integer> getReplicaFragmentDigestHashesIfDue(int partitionId,
+                                                                              Collection<ServiceNamespace> namespaces) {
+        if (!merkleTreeAntiEntropyEnabled || !isRunningOnPartitionThread()
+                || node.getClusterService().getClusterVersion().isUnknownOrLessThan(Versions.V6_0)) {
+            return Collections.emptyMap();
+        }
+        long now = Clock.currentTimeMillis();
+        if (now - lastDigestComparisonMillis[partitionId] < merkleTreeAntiEntropyIntervalMillis) {
+            return Collections.emptyMap();
+        }
+        lastDigestComparisonMillis[partitionId] = now;
+        return getReplicaFragmentDigestHashes(partitionId, namespaces);
+    }
+
+    /**
+     * Returns the hashes of the digests of the local replica fragments, which
+     * are compared by the backup anti-entropy in addition to the replica
+     * versions. Fragments of services not providing digests are omitted.
+     * Returns an empty map if the Merkle tree anti-entropy is disabled or if
+     * not called on the partition thread.
+     *
+     * @see ClusterProperty#PARTITION_MERKLE_TREE_ANTI_ENTROPY_ENABLED
+     */
+    public Map<ServiceNamespace, Integer> getReplicaFragmentDigestHashes(int partitionId,
+                                                                         Collection<ServiceNamespace> namespaces) {
+        if (!merkleTreeAntiEntropyEnabled || !isRunningOnPartitionThread()) {
+            return Collections.emptyMap();
+        }
+
+        Map<ServiceNamespace, int[]> digests = collectReplicaFragmentDigests(partitionId, namespaces);
+        Map<ServiceNamespace, Integer> hashes = createHashMap(digests.size());
+        digests.forEach((namespace, digest) -> hashes.put(namespace, Arrays.hashCode(digest)));
+        return hashes;
+    }
+
+    private Map<ServiceNamespace, int[]> collectReplicaFragmentDigests(int partitionId,
+                                                                    Collection<ServiceNamespace> namespaces) {
+        Map<ServiceNamespace, int[]> digests = createHashMap(namespaces.size());
+        Collection<FragmentedMigrationAwareService> services = nodeEngine.getServices(FragmentedMigrationAwareService.class);
+        for (ServiceNamespace namespace : namespaces) {
+            if (NonFragmentedServiceNamespace.INSTANCE.equals(namespace)) {
+                continue;
+            }
+            // a namespace can be known by multiple services, e.g. the lock
+            // service knows the namespaces of the locked data structures
+            for (FragmentedMigrationAwareService service : services) {
+                int[] digest = service.isKnownServiceNamespace(namespace)
+                        ? service.getReplicaFragmentDigest(partitionId, namespace) : null;
+                if (digest != null) {
+                    digests.put(namespace, digest);
+                    break;
+                }
+            }
+        }
+        return digests;
+    }
+
     private Collection<ServiceNamespace> registerSyncInfoForNamespaces(int partitionId,
                                                                        Collection<ServiceNamespace> requestedNamespaces,
                                                                        int replicaIndex, PartitionReplica target, int permits) {
@@ -27,28 +27,34 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.spi.impl.AllowedDuringPassiveState;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.partition.impl.PartitionDataSerializerHook.PARTITION_BACKUP_REPLICA_ANTI_ENTROPY;
 import static com.hazelcast.internal.partition.impl.PartitionReplicaManager.REQUIRES_SYNC;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
 
 // should not be an urgent operation. required to be in order with backup operations on target node
 public final class PartitionBackupReplicaAntiEntropyOperation
         extends AbstractPartitionOperation
-        implements PartitionAwareOperation, AllowedDuringPassiveState {
+        implements PartitionAwareOperation, AllowedDuringPassiveState, Versioned {
 
     // Only reason of CHM usage is not to get
     // ConcurrentModificationException from
     // PartitionBackupReplicaAntiEntropyOperation#toString method
     private ConcurrentMap<ServiceNamespace, Long> versions;
+    // hashes of the Merkle tree digests of the primary replica fragments
+    private Map<ServiceNamespace, Integer> digestHashes = Collections.emptyMap();
     private boolean returnResponse;
     private boolean response = true;
 
@@ -57,7 +63,14 @@ public final class PartitionBackupReplicaAntiEntropyOperation
 
     public PartitionBackupReplicaAntiEntropyOperation(ConcurrentMap<ServiceNamespace, Long> versions,
                                                       boolean returnResponse) {
+        this(versions, Collections.emptyMap(), returnResponse);
+    }
+
+    public PartitionBackupReplicaAntiEntropyOperation(ConcurrentMap<ServiceNamespace, Long> versions,
+                                                      Map<ServiceNamespace, Integer> digestHashes,
+                                                      boolean returnResponse) {
         this.versions = versions;
+        this.digestHashes = digestHashes;
         this.returnResponse = returnResponse;
     }
 
@@ -101,6 +114,9 @@ public final class PartitionBackupReplicaAntiEntropyOperation
                     + ". Namespaces=" + replicaManager.getNamespaces(partitionId));
         }
 
+        Map<ServiceNamespace, Integer> localDigestHashes = digestHashes.isEmpty()
+                ? Collections.emptyMap() : replicaManager.getReplicaFragmentDigestHashes(partitionId, digestHashes.keySet());
+
         Iterator<Map.Entry<ServiceNamespace, Long>> iter = versions.entrySet().iterator();
         while (iter.hasNext()) {
             Map.Entry<ServiceNamespace, Long> entry = iter.next();
@@ -115,6 +131,13 @@ public final class PartitionBackupReplicaAntiEntropyOperation
                 logBackupVersionMismatch(ns, currentVersion, primaryVersion);
                 continue;
             }
+            // the fragments having no data on either replica are left to the version check
+            Integer primaryDigestHash = digestHashes.get(ns);
+            Integer localDigestHash = localDigestHashes.get(ns);
+            if (primaryDigestHash != null && localDigestHash != null && !primaryDigestHash.equals(localDigestHash)) {
+                logBackupDigestMismatch(ns);
+                continue;
+            }
             iter.remove();
         }
 
@@ -146,6 +169,14 @@ public final class PartitionBackupReplicaAntiEntropyOperation
         }
     }
 
+    private void logBackupDigestMismatch(ServiceNamespace ns) {
+        ILogger logger = getLogger();
+        if (logger.isFinestEnabled()) {
+            logger.finest("partitionId=" + getPartitionId() + ", replicaIndex=" + getReplicaIndex()
+                    + ", ns=" + ns + " digest is not matching to digest of the owner!");
+        }
+    }
+
     @Override
     public boolean returnsResponse() {
         return returnResponse;
@@ -179,6 +210,13 @@ public final class PartitionBackupReplicaAntiEntropyOperation
             out.writeLong(entry.getValue());
         }
         out.writeBoolean(returnResponse);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeInt(digestHashes.size());
+            for (Map.Entry<ServiceNamespace, Integer> entry : digestHashes.entrySet()) {
+                out.writeObject(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
     }
 
     @Override
@@ -193,6 +231,16 @@ public final class PartitionBackupReplicaAntiEntropyOperation
 
         versions = versionsByNamespace;
         returnResponse = in.readBoolean();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            int digestHashCount = in.readInt();
+            if (digestHashCount > 0) {
+                digestHashes = createHashMap(digestHashCount);
+                for (int i = 0; i < digestHashCount; i++) {
+                    ServiceNamespace ns = in.readObject();
+                    digestHashes.put(ns, in.readInt());
+                }
+            }
+        }
     }
 
     @Override
@@ -35,6 +35,7 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationService;
@@ -45,10 +46,13 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.readCollection;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.writeCollection;
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
 
 /**
  * The request sent from a replica to the partition owner to
@@ -60,19 +64,31 @@ import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
  * <li>the maximum number of parallel synchronizations has already been reached</li>
  * </ul>
  * An empty response can be sent if the current replica version is 0.
+ * <p>
+ * The request may carry digests of the replica fragments, in which case
+ * the services replicate only the fragment data that differs, see
+ * {@link com.hazelcast.internal.partition.FragmentedMigrationAwareService#getReplicaFragmentDigest}.
  */
 public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
-        implements PartitionAwareOperation, MigrationCycleOperation {
+        implements PartitionAwareOperation, MigrationCycleOperation, Versioned {
 
     protected volatile Collection<ServiceNamespace> namespaces;
+    protected Map<ServiceNamespace, int[]> digests;
 
     public PartitionReplicaSyncRequest() {
         namespaces = Collections.emptyList();
+        digests = Collections.emptyMap();
     }
 
     public PartitionReplicaSyncRequest(Collection<ServiceNamespace> namespaces,
                                        int partitionId, int replicaIndex) {
+        this(namespaces, Collections.emptyMap(), partitionId, replicaIndex);
+    }
+
+    public PartitionReplicaSyncRequest(Collection<ServiceNamespace> namespaces, Map<ServiceNamespace, int[]> digests,
+                                       int partitionId, int replicaIndex) {
         this.namespaces = namespaces;
+        this.digests = digests;
         setPartitionId(partitionId);
         setReplicaIndex(replicaIndex);
     }
@@ -149,7 +165,7 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
         InternalPartitionServiceImpl partitionService = getService();
         try {
             PartitionReplicationEvent event = new PartitionReplicationEvent(getCallerAddress(),
-                    partitionId(), getReplicaIndex());
+                    partitionId(), getReplicaIndex(), digests);
             Iterator<ServiceNamespace> iterator = namespaces.iterator();
             for (int i = 0; i < permits; i++) {
                 ServiceNamespace namespace = iterator.next();
@@ -333,11 +349,37 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         writeCollection(namespaces, out);
+        writeDigests(out);
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
         namespaces = readCollection(in);
+        readDigests(in);
+    }
+
+    protected final void writeDigests(ObjectDataOutput out) throws IOException {
+        if (out.getVersion().isUnknownOrLessThan(V6_0)) {
+            return;
+        }
+        out.writeInt(digests.size());
+        for (Map.Entry<ServiceNamespace, int[]> entry : digests.entrySet()) {
+            out.writeObject(entry.getKey());
+            out.writeIntArray(entry.getValue());
+        }
+    }
+
+    protected final void readDigests(ObjectDataInput in) throws IOException {
+        if (in.getVersion().isUnknownOrLessThan(V6_0)) {
+            digests = Collections.emptyMap();
+            return;
+        }
+        int digestCount = in.readInt();
+        digests = createHashMap(digestCount);
+        for (int i = 0; i < digestCount; i++) {
+            ServiceNamespace namespace = in.readObject();
+            digests.put(namespace, in.readIntArray());
+        }
     }
 
     @Override
@@ -39,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -74,12 +75,20 @@ public final class PartitionReplicaSyncRequestOffloadable
 
     public PartitionReplicaSyncRequestOffloadable() {
         namespaces = Collections.emptyList();
+        digests = Collections.emptyMap();
     }
 
     public PartitionReplicaSyncRequestOffloadable(Collection<ServiceNamespace> namespaces,
                                                   int partitionId, int replicaIndex) {
+        this(namespaces, Collections.emptyMap(), partitionId, replicaIndex);
+    }
+
+    public PartitionReplicaSyncRequestOffloadable(Collection<ServiceNamespace> namespaces,
+                                                  Map<ServiceNamespace, int[]> digests,
+                                                  int partitionId, int replicaIndex) {
         this.namespaces = Collections.newSetFromMap(new ConcurrentHashMap<>());
         this.namespaces.addAll(namespaces);
+        this.digests = digests;
         this.partitionId = partitionId;
         setPartitionId(-1);
         setReplicaIndex(replicaIndex);
@@ -97,7 +106,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         InternalPartitionServiceImpl partitionService = getService();
         try {
             PartitionReplicationEvent event = new PartitionReplicationEvent(getCallerAddress(), partitionId,
-                    getReplicaIndex());
+                    getReplicaIndex(), digests);
             // It is only safe to read replica versions before
             // preparing replication operations. Reasoning: even
             // though partition is already marked as migrating,
@@ -266,6 +275,7 @@ public final class PartitionReplicaSyncRequestOffloadable
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         writeCollection(namespaces, out);
         out.writeInt(partitionId);
+        writeDigests(out);
     }
 
     @Override
@@ -273,6 +283,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         namespaces = Collections.newSetFromMap(new ConcurrentHashMap<>());
         namespaces.addAll(readCollection(in));
         partitionId = in.readInt();
+        readDigests(in);
     }
 
     private boolean trySetMigratingFlag() {
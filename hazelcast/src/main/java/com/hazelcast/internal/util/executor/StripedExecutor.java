@@ -47,11 +47,20 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
  * If the queue is full and the runnable implements TimeoutRunnable, then a configurable amount of blocking is
  * done on the queue. If the runnable doesn't implement TimeoutRunnable or when the blocking times out,
  * then the task is rejected and a RejectedExecutionException is thrown.
+ * <p>
+ * The workers drain their queue in batches of up to {@link #MAX_DRAIN_BATCH_SIZE} tasks, so under load
+ * the lock of a queue is acquired once per batch instead of once per task. Tasks taken out of the queue
+ * this way are no longer reported by {@link #getWorkQueueSize()}.
  */
 public final class StripedExecutor implements Executor {
 
     public static final AtomicLong THREAD_ID_GENERATOR = new AtomicLong();
 
+    /**
+     * The maximum number of tasks a worker takes out of its queue at once.
+     */
+    static final int MAX_DRAIN_BATCH_SIZE = 64;
+
     private final int size;
     private final ILogger logger;
     private final Worker[] workers;
@@ -110,7 +119,7 @@ public final class StripedExecutor implements Executor {
     public long processedCount() {
         long size = 0;
         for (Worker worker : workers) {
-            size += worker.processed.inc();
+            size += worker.processed.get();
         }
         return size;
     }
@@ -182,6 +191,7 @@ public final class StripedExecutor implements Executor {
         private final SwCounter processed = SwCounter.newSwCounter();
         private final int queueCapacity;
         private final AtomicBoolean started = new AtomicBoolean();
+        private final List<Runnable> batch = new ArrayList<>(MAX_DRAIN_BATCH_SIZE);
 
         private Worker(String threadNamePrefix, int queueCapacity) {
             super(threadNamePrefix + "-" + THREAD_ID_GENERATOR.incrementAndGet());
@@ -223,8 +233,10 @@ public final class StripedExecutor implements Executor {
             try {
                 while (live) {
                     try {
-                        Runnable task = taskQueue.take();
-                        process(task);
+                        if (taskQueue.drainTo(batch, MAX_DRAIN_BATCH_SIZE) == 0) {
+                            batch.add(taskQueue.take());
+                        }
+                        processBatch();
                     } catch (InterruptedException ignore) {
                         // we can safely ignore this exception since we'll check if the
                         // striped executor is still alive in the next iteration of the loop.
@@ -238,6 +250,19 @@ public final class StripedExecutor implements Executor {
             }
         }
 
+        private void processBatch() {
+            // tasks in the batch are already taken out of the queue, so they are
+            // run even if the executor is shut down in the meantime, just like
+            // a single task taken out of the queue would have been
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    process(batch.get(i));
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+
         private void process(Runnable task) {
             processed.inc();
             try {
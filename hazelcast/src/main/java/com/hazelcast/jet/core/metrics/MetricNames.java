@@ -195,6 +195,44 @@ public final class MetricNames {
      */
     public static final String DISTRIBUTED_BYTES_OUT = "distributedBytesOut";
 
+    /**
+     * Counts the packets coming in over the network for DISTRIBUTED input
+     * {@link Edge}s of particular {@link Vertex} instances. Together with
+     * {@link #DISTRIBUTED_ITEMS_IN} it tells how well the items are batched.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_PACKETS_IN = "distributedPacketsIn";
+
+    /**
+     * Counts the packets going out over the network for DISTRIBUTED output
+     * {@link Edge}s of particular {@link Vertex} instances. Together with
+     * {@link #DISTRIBUTED_ITEMS_OUT} it tells how well the items are batched.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_PACKETS_OUT = "distributedPacketsOut";
+
+    /**
+     * Tracks the size (bytes) of the receive window of DISTRIBUTED input
+     * {@link Edge}s of particular {@link Vertex} instances: how much data
+     * the sender can send ahead of the data processed by the receiver. The
+     * window adapts to the processing rate of the receiver, a window which
+     * stays small indicates that the receiving vertex is the bottleneck.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_RECEIVE_WINDOW = "distributedReceiveWindow";
+
+    /**
+     * Counts the time (nanoseconds) the sender of DISTRIBUTED output
+     * {@link Edge}s of particular {@link Vertex} instances had items to send
+     * but was blocked by the receive window of the receiving member.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_SEND_BLOCKED_TIME = "distributedSendBlockedTime";
+
     /**
      * {@linkplain JobStatus#getId() Numerical ID} of the job's status.
      *
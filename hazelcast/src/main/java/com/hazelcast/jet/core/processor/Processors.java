@@ -42,6 +42,7 @@ import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceOrderedP;
 import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceUnorderedP;
 import com.hazelcast.jet.impl.processor.GroupP;
 import com.hazelcast.jet.impl.processor.InsertWatermarksP;
+import com.hazelcast.jet.impl.processor.MapUsingServiceP;
 import com.hazelcast.jet.impl.processor.NoopP;
 import com.hazelcast.jet.impl.processor.ProcessorSuppliers;
 import com.hazelcast.jet.impl.processor.SessionWindowP;
@@ -57,7 +58,6 @@ import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -1078,10 +1078,7 @@ public final class Processors {
             @Nonnull ServiceFactory<C, S> serviceFactory,
             @Nonnull BiFunctionEx<? super S, ? super T, ? extends R> mapFn
     ) {
-        return TransformUsingServiceP.<C, S, T, R>supplier(serviceFactory, (singletonTraverser, context, item) -> {
-            singletonTraverser.accept(mapFn.apply(context, item));
-            return singletonTraverser;
-        });
+        return MapUsingServiceP.supplier(serviceFactory, mapFn);
     }
 
     /**
@@ -1146,10 +1143,8 @@ public final class Processors {
             @Nonnull ServiceFactory<C, S> serviceFactory,
             @Nonnull BiPredicateEx<? super S, ? super T> filterFn
     ) {
-        return TransformUsingServiceP.<C, S, T, T>supplier(serviceFactory, (singletonTraverser, context, item) -> {
-            singletonTraverser.accept(filterFn.test(context, item) ? item : null);
-            return singletonTraverser;
-        });
+        return MapUsingServiceP.<C, S, T, T>supplier(serviceFactory,
+                (service, item) -> filterFn.test(service, item) ? item : null);
     }
 
     /**
@@ -1182,8 +1177,8 @@ public final class Processors {
     }
 
     /**
-     * Returns a supplier of processors for a vertex that sorts its input using
-     * a {@link PriorityQueue} and emits it in the {@code complete} phase.
+     * Returns a supplier of processors for a vertex that sorts its input in
+     * memory and emits it in the {@code complete} phase.
      * <p>
      * The output edge of this vertex should be {@link Edge#distributed
      * distributed} {@link Edge#ordered monotonicOrder} {@link
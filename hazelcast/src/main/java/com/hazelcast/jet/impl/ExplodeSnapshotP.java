@@ -18,6 +18,7 @@ package com.hazelcast.jet.impl;
 
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.BroadcastKey;
@@ -25,23 +26,84 @@ import com.hazelcast.jet.impl.execution.BroadcastEntry;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.query.Predicates;
 
 import javax.annotation.Nonnull;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.UUID;
 
 import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.digest;
+import static com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.newSha256;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
 
+/**
+ * Reads the chunks of a snapshot and emits their entries to the vertices
+ * which saved them.
+ * <p>
+ * The chunks of a full snapshot are received from the input. If the
+ * snapshot is the last one of a chain of incremental snapshots, the
+ * processor has no input: it reads the chunks of the chain from the
+ * snapshot map itself, in the {@code complete} phase. The chunks of a key
+ * are always written with the same partition key, so the processor reads
+ * the chunks of a partition key from the newest snapshot to the oldest one
+ * and emits only the entries of the first snapshot which contains each
+ * key. The keys are identified by their digests, as the tombstones of the
+ * removed keys are. Only the digests of the keys of the current partition
+ * key are kept in memory.
+ */
 public class ExplodeSnapshotP extends AbstractProcessor {
 
+    private static final Comparator<SnapshotDataKey> CHAIN_ORDER =
+            Comparator.comparingInt((SnapshotDataKey key) -> (Integer) key.getPartitionKey())
+                      .thenComparing(SnapshotDataKey::snapshotId, Comparator.reverseOrder());
+
     private final Map<String, FlatMapper<byte[], Object>> vertexToFlatMapper = new HashMap<>();
+    private final Map<String, Integer> vertexToOrdinal;
+    private final String chainMapName;
     private final long expectedSnapshotId;
+    private final long baseSnapshotId;
+    /**
+     * The snapshot in which each key of the current partition key was read
+     * first, by vertex name, by the key digest.
+     */
+    private final Map<String, Map<UUID, Long>> vertexToKeySnapshotIds = new HashMap<>();
+    private MessageDigest sha256;
     private InternalSerializationService serializationService;
+    private MapProxyImpl<Object, Object> chainMap;
+    private PartitionIdSet chainPartitions;
+    private Iterator<SnapshotDataKey> chainChunkKeys;
+    private Object currentPartitionKey;
+    private Traverser<Object> chunkTraverser;
+    private int chunkOrdinal;
 
     ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long expectedSnapshotId) {
+        this(vertexToOrdinal, null, expectedSnapshotId, expectedSnapshotId);
+    }
+
+    /**
+     * @param chainMapName   name of the snapshot map to read the chunks of
+     *                       an incremental chain from, {@code null} if the
+     *                       chunks of a full snapshot are received from the input
+     * @param baseSnapshotId ID of the full snapshot the expected one is
+     *                       incrementally written on top of, equal to the
+     *                       expected one if it's a full snapshot
+     */
+    ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, String chainMapName, long expectedSnapshotId,
+                     long baseSnapshotId) {
+        this.vertexToOrdinal = vertexToOrdinal;
+        this.chainMapName = chainMapName;
         this.expectedSnapshotId = expectedSnapshotId;
+        this.baseSnapshotId = baseSnapshotId;
         for (Entry<String, Integer> en : vertexToOrdinal.entrySet()) {
             Object oldValue = vertexToFlatMapper.put(en.getKey(), flatMapper(en.getValue(), this::traverser));
             assert oldValue == null : "Duplicate ordinal: " + en.getValue();
@@ -51,6 +113,18 @@ public class ExplodeSnapshotP extends AbstractProcessor {
     @Override
     protected void init(@Nonnull Context context) {
         serializationService = ((ProcCtx) context).serializationService();
+        if (chainMapName != null) {
+            chainMap = (MapProxyImpl<Object, Object>) context.hazelcastInstance().<Object, Object>getMap(chainMapName);
+            chainPartitions = new PartitionIdSet(((ProcCtx) context).nodeEngine().getPartitionService().getPartitionCount(),
+                    context.processorPartitions());
+            sha256 = newSha256();
+        }
+    }
+
+    @Override
+    public boolean isCooperative() {
+        // the chunks of a chain are read with blocking calls
+        return chainMapName == null;
     }
 
     /* We can't close the BufferObjectDataInput cleanly. We close it when the returned traverser is fully iterated,
@@ -67,12 +141,16 @@ public class ExplodeSnapshotP extends AbstractProcessor {
                 return null;
             }
             Object value = serializationService.readObject(in, true);
-            return key instanceof BroadcastKey
-                    ? new BroadcastEntry<>(key, value)
-                    : entry(key, value);
+            return toSnapshotEntry(key, value);
         });
     }
 
+    private static Object toSnapshotEntry(Object key, Object value) {
+        return key instanceof BroadcastKey
+                ? new BroadcastEntry<>(key, value)
+                : entry(key, value);
+    }
+
     @Override
     protected boolean tryProcess0(@Nonnull Object item) {
         if (((Entry) item).getKey() instanceof SnapshotValidationRecord.SnapshotValidationKey) {
@@ -83,20 +161,124 @@ public class ExplodeSnapshotP extends AbstractProcessor {
         String vertexName = castItem.getKey().vertexName();
         FlatMapper<byte[], Object> flatMapper = vertexToFlatMapper.get(vertexName);
         if (flatMapper == null) {
-            if (!vertexToFlatMapper.containsKey(vertexName)) {
-                // log only once
-                vertexToFlatMapper.put(vertexName, null);
-                getLogger().warning("Data for unknown vertex found in the snapshot, ignoring. Vertex=" + vertexName);
-            }
+            warnUnknownVertex(vertexName);
             return true;
         }
-        long snapshotId = castItem.getKey().snapshotId();
-        if (snapshotId != expectedSnapshotId) {
+        if (!isSnapshotExpected(castItem.getKey().snapshotId())) {
+            return true;
+        }
+        return flatMapper.tryProcess(castItem.getValue());
+    }
+
+    private void warnUnknownVertex(String vertexName) {
+        if (!vertexToFlatMapper.containsKey(vertexName)) {
+            // log only once
+            vertexToFlatMapper.put(vertexName, null);
+            getLogger().warning("Data for unknown vertex found in the snapshot, ignoring. Vertex=" + vertexName);
+        }
+    }
+
+    private boolean isSnapshotExpected(long snapshotId) {
+        if (snapshotId > expectedSnapshotId) {
+            // left by a failed incremental snapshot written on top of the expected one
+            getLogger().fine("Data for a later snapshot encountered, ignoring. Expected="
+                    + expectedSnapshotId + ", found=" + snapshotId);
+            return false;
+        }
+        if (snapshotId < baseSnapshotId) {
             getLogger().warning("Data for unexpected snapshot ID encountered, ignoring. Expected="
                     + expectedSnapshotId + ", found=" + snapshotId);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean complete() {
+        if (chainMapName == null) {
             return true;
         }
-        return flatMapper.tryProcess(castItem.getValue());
+        if (chainChunkKeys == null) {
+            chainChunkKeys = readChainChunkKeys();
+        }
+        for (;;) {
+            if (chunkTraverser != null) {
+                if (!emitFromTraverser(chunkOrdinal, chunkTraverser)) {
+                    return false;
+                }
+                chunkTraverser = null;
+            }
+            if (!chainChunkKeys.hasNext()) {
+                vertexToKeySnapshotIds.clear();
+                return true;
+            }
+            SnapshotDataKey chunkKey = chainChunkKeys.next();
+            if (!chunkKey.getPartitionKey().equals(currentPartitionKey)) {
+                // the keys of the previous partition key are never read again
+                vertexToKeySnapshotIds.clear();
+                currentPartitionKey = chunkKey.getPartitionKey();
+            }
+            byte[] chunk = (byte[]) chainMap.get(chunkKey);
+            if (chunk != null) {
+                chunkOrdinal = vertexToOrdinal.get(chunkKey.vertexName());
+                chunkTraverser = chainTraverser(chunkKey, chunk);
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the chunks of the chain in the partitions of this
+     * processor, by partition key and from the newest snapshot to the oldest.
+     */
+    private Iterator<SnapshotDataKey> readChainChunkKeys() {
+        List<SnapshotDataKey> chunkKeys = new ArrayList<>();
+        for (Object key : chainMap.keySet(Predicates.alwaysTrue(), chainPartitions)) {
+            if (!(key instanceof SnapshotDataKey chunkKey)) {
+                // the validation record
+                continue;
+            }
+            if (vertexToFlatMapper.get(chunkKey.vertexName()) == null) {
+                warnUnknownVertex(chunkKey.vertexName());
+            } else if (isSnapshotExpected(chunkKey.snapshotId())) {
+                chunkKeys.add(chunkKey);
+            }
+        }
+        chunkKeys.sort(CHAIN_ORDER);
+        return chunkKeys.iterator();
+    }
+
+    /**
+     * Returns the entries of the given chunk whose key wasn't read in a newer
+     * snapshot of the chain. A key saved by several processors has several
+     * values, they are all in the same snapshot.
+     */
+    @SuppressWarnings("squid:S2095")
+    private Traverser<Object> chainTraverser(SnapshotDataKey chunkKey, byte[] data) {
+        Map<UUID, Long> keySnapshotIds =
+                vertexToKeySnapshotIds.computeIfAbsent(chunkKey.vertexName(), v -> new HashMap<>());
+        long snapshotId = chunkKey.snapshotId();
+        BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+
+        return () -> uncheckCall(() -> {
+            for (;;) {
+                int keyStart = in.position();
+                Object key = serializationService.readObject(in, true);
+                if (key == SnapshotDataValueTerminator.INSTANCE) {
+                    return null;
+                }
+                if (key instanceof SnapshotDataTombstone tombstone) {
+                    // hides the values of the older snapshots, it has no value
+                    keySnapshotIds.putIfAbsent(tombstone.keyDigest(), snapshotId);
+                    continue;
+                }
+                UUID keyDigest = digest(sha256, data, keyStart, in.position() - keyStart);
+                Object value = serializationService.readObject(in, true);
+                Long keySnapshotId = keySnapshotIds.putIfAbsent(keyDigest, snapshotId);
+                if (keySnapshotId == null || keySnapshotId == snapshotId) {
+                    return toSnapshotEntry(key, value);
+                }
+            }
+        });
     }
 
     @Override
@@ -42,6 +42,7 @@ import com.hazelcast.jet.core.metrics.MetricNames;
 import com.hazelcast.jet.core.metrics.MetricTags;
 import com.hazelcast.jet.datamodel.Tuple2;
 import com.hazelcast.jet.function.RunnableEx;
+import com.hazelcast.jet.impl.SnapshotValidator.ValidatedSnapshot;
 import com.hazelcast.jet.impl.TerminationMode.ActionAfterTerminate;
 import com.hazelcast.jet.impl.exception.CancellationByUserException;
 import com.hazelcast.jet.impl.exception.ExecutionNotFoundException;
@@ -529,19 +530,30 @@ public class MasterJobContext {
         // snapshot map is not updated here, so it does not need to be
         // configured with failOnIndeterminateOperationState
         IMap<Object, Object> snapshotMap = mc.nodeEngine().getHazelcastInstance().getMap(mapName);
-        long resolvedSnapshotId = validateSnapshot(
-                snapshotId, snapshotMap, mc.jobIdString(), snapshotName);
+        ValidatedSnapshot snapshot = validateSnapshot(snapshotId, snapshotMap, mc.jobIdString(), snapshotName);
+        long resolvedSnapshotId = snapshot.snapshotId();
+        long baseSnapshotId = snapshot.baseSnapshotId();
         logger.info(String.format(
-                "About to restore the state of %s from snapshot %d, mapName = %s",
-                mc.jobIdString(), resolvedSnapshotId, mapName));
+                "About to restore the state of %s from snapshot %d%s, mapName = %s",
+                mc.jobIdString(), resolvedSnapshotId,
+                baseSnapshotId != resolvedSnapshotId ? " incrementally written on top of " + baseSnapshotId : "",
+                mapName));
         List<Vertex> originalVertices = new ArrayList<>();
         dag.iterator().forEachRemaining(originalVertices::add);
 
         Map<String, Integer> vertexToOrdinal = new HashMap<>();
-        Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
-        Vertex explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
-                () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId));
-        dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
+        Vertex explodeVertex;
+        if (baseSnapshotId == resolvedSnapshotId) {
+            Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
+            explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
+                    () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId));
+            dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
+        } else {
+            // the chunks of the chain are merged in the order of the snapshots,
+            // so the processors read them from the map themselves
+            explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
+                    () -> new ExplodeSnapshotP(vertexToOrdinal, mapName, resolvedSnapshotId, baseSnapshotId));
+        }
 
         int index = 0;
         // add the edges
@@ -18,6 +18,7 @@ package com.hazelcast.jet.impl;
 
 import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.internal.cluster.MemberInfo;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.impl.JobExecutionRecord.SnapshotStats;
 import com.hazelcast.jet.impl.exception.ExecutionNotFoundException;
@@ -51,6 +52,7 @@ import static com.hazelcast.jet.impl.JobRepository.safeImap;
 import static com.hazelcast.jet.impl.JobRepository.snapshotDataMapName;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.jobNameAndExecutionId;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
@@ -75,6 +77,31 @@ class MasterSnapshotContext {
     @Nonnull
     private volatile CompletableFuture<Void> terminalSnapshotFuture = completedFuture(null);
 
+    /**
+     * Maximum number of incremental snapshots written on top of a full one.
+     */
+    private final int maxIncrementalChainLength;
+
+    /**
+     * Number of incremental snapshots written on top of the last full one in
+     * the current data map, or {@code -1} if the next regular snapshot must
+     * be full, e.g. after a failed snapshot or at the start of an execution,
+     * when the members don't know the state of the last snapshot.
+     */
+    private int incrementalChainLength = -1;
+
+    /**
+     * ID of the full snapshot at the base of the current incremental chain.
+     */
+    private long chainBaseSnapshotId;
+
+    /**
+     * Total number of chunks and bytes of the snapshots of the current
+     * incremental chain.
+     */
+    private long chainNumChunks;
+    private long chainNumBytes;
+
     private class SnapshotRequest {
         /**
          * User-specified name of the snapshot or null, if no name is specified
@@ -91,6 +118,11 @@ class MasterSnapshotContext {
          * be null.
          */
         final CompletableFuture<Void> future;
+        /**
+         * If true, the snapshot is written on top of the current one, to the
+         * same map. Decided when the snapshot is started.
+         */
+        boolean isIncremental;
 
         SnapshotRequest(@Nullable String snapshotName, boolean isTerminal, @Nullable CompletableFuture<Void> future) {
             this.snapshotName = snapshotName;
@@ -110,12 +142,15 @@ class MasterSnapshotContext {
         }
 
         public int snapshotFlags() {
-            return SnapshotFlags.create(isTerminal, isExport());
+            return SnapshotFlags.create(isTerminal, isExport(), isIncremental);
         }
 
         public String mapName() {
-            return isExport() ? exportedSnapshotMapName(snapshotName)
-                    : snapshotDataMapName(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
+            if (isExport()) {
+                return exportedSnapshotMapName(snapshotName);
+            }
+            JobExecutionRecord record = mc.jobExecutionRecord();
+            return snapshotDataMapName(mc.jobId(), isIncremental ? record.dataMapIndex() : record.ongoingDataMapIndex());
         }
 
         /**
@@ -144,6 +179,7 @@ class MasterSnapshotContext {
     MasterSnapshotContext(MasterContext masterContext, ILogger logger) {
         mc = masterContext;
         this.logger = logger;
+        this.maxIncrementalChainLength = mc.nodeEngine().getProperties().getInteger(JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH);
     }
 
     @SuppressWarnings("SameParameterValue") // used by jet-enterprise
@@ -200,6 +236,10 @@ class MasterSnapshotContext {
                     return;
                 }
                 snapshotInProgress = true;
+                // the members of older versions can't write or restore incremental snapshots
+                requestedSnapshot.isIncremental = !requestedSnapshot.isExport()
+                        && incrementalChainLength >= 0 && incrementalChainLength < maxIncrementalChainLength
+                        && !mc.nodeEngine().getClusterService().getClusterVersion().isLessThan(Versions.V6_0);
                 mc.jobExecutionRecord().startNewSnapshot(requestedSnapshot.snapshotName);
                 localExecutionId = mc.executionId();
             } finally {
@@ -212,7 +252,9 @@ class MasterSnapshotContext {
 
             try {
                 mc.writeJobExecutionRecordSafe(false);
-                mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                if (!requestedSnapshot.isIncremental) {
+                    mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                }
             } catch (Exception e) {
                 logger.warning(String.format("Failed to start snapshot %d for %s",
                         newSnapshotId, jobNameAndExecutionId(mc.jobName(), localExecutionId)),
@@ -327,11 +369,18 @@ class MasterSnapshotContext {
                 // Snapshot IMap proxy instance may be shared, but we always want it
                 // to have failOnIndeterminateOperationState enabled.
                 IMap<Object, Object> snapshotMap = safeImap(mc.nodeEngine().getHazelcastInstance().getMap(mapName));
+                boolean isIncremental = requestedSnapshot.isIncremental;
                 try {
-                    SnapshotValidationRecord validationRecord = new SnapshotValidationRecord(snapshotId,
-                            mergedResult.getNumChunks(), mergedResult.getNumBytes(),
-                            mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
-                            mc.jobRecord().getDagJson());
+                    SnapshotValidationRecord validationRecord = isIncremental
+                            ? new SnapshotValidationRecord(snapshotId, chainBaseSnapshotId,
+                                    chainNumChunks + mergedResult.getNumChunks(),
+                                    chainNumBytes + mergedResult.getNumBytes(),
+                                    mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
+                                    mc.jobRecord().getDagJson())
+                            : new SnapshotValidationRecord(snapshotId,
+                                    mergedResult.getNumChunks(), mergedResult.getNumBytes(),
+                                    mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
+                                    mc.jobRecord().getDagJson());
 
                     // The decision moment for _exported_ snapshots: after this the snapshot is valid to be restored
                     // from, however it will be not listed by JetInstance.getJobStateSnapshots unless the validation
@@ -346,7 +395,15 @@ class MasterSnapshotContext {
                     // to restore from only after and only if the job was cleanly terminated due to _this_ snapshot request.
                     // On API level, using this snapshot is not safe if cancelAndExportSnapshot throws exception
                     // and the job will not be cancelled but restarted.
-                    Object oldValue = snapshotMap.put(SnapshotValidationRecord.KEY, validationRecord);
+                    //
+                    // An incremental snapshot replaces the validation record of the snapshot it is written on top
+                    // of, so it's only done if the snapshot succeeded, to keep the previous snapshot valid otherwise.
+                    Object oldValue = null;
+                    if (!isIncremental) {
+                        oldValue = snapshotMap.put(SnapshotValidationRecord.KEY, validationRecord);
+                    } else if (mergedResult.getError() == null) {
+                        snapshotMap.set(SnapshotValidationRecord.KEY, validationRecord);
+                    }
 
                     if (requestedSnapshot.isExport()) {
                         assert requestedSnapshot.snapshotName != null;
@@ -365,7 +422,7 @@ class MasterSnapshotContext {
                 // update snapshot state in memory after success or failure
                 stats = mc.jobExecutionRecord().ongoingSnapshotDone(
                         mergedResult.getNumBytes(), mergedResult.getNumKeys(), mergedResult.getNumChunks(),
-                        mergedResult.getError(), requestedSnapshot.isTerminal);
+                        mergedResult.getError(), requestedSnapshot.isTerminal, isIncremental);
 
                 // There is no need to restart job in case of a failed snapshot:
                 // - ongoingSnapshotId is safe in IMap, because it was written at the beginning
@@ -411,20 +468,28 @@ class MasterSnapshotContext {
                 if (!isSuccess) {
                     logger.warning(mc.jobIdString() + " snapshot " + snapshotId + " phase 1 failed on some " +
                             "member(s), one of the failures: " + mergedResult.getError());
-                    try {
-                        // Clear data of failed snapshot (automatic or exported) to decrease memory usage.
-                        // This can be done regardless of skipPhase2 because failed snapshot
-                        // can never be used for restore.
-                        snapshotMap.clear();
-                    } catch (Exception e) {
-                        logger.warning(mc.jobIdString() + ": failed to clear snapshot map '" + mapName
-                                + "' after a failure", e);
+                    if (isIncremental) {
+                        // The map still contains the previous snapshot. The chunks of the failed one are ignored
+                        // by a restore and removed when the map is cleared for the next full snapshot.
+                        logger.fine("%s: keeping the chunks of the failed incremental snapshot %d in '%s'",
+                                mc.jobIdString(), snapshotId, mapName);
+                    } else {
+                        try {
+                            // Clear data of failed snapshot (automatic or exported) to decrease memory usage.
+                            // This can be done regardless of skipPhase2 because failed snapshot
+                            // can never be used for restore.
+                            snapshotMap.clear();
+                        } catch (Exception e) {
+                            logger.warning(mc.jobIdString() + ": failed to clear snapshot map '" + mapName
+                                    + "' after a failure", e);
+                        }
                     }
                 }
+                updateIncrementalChain(requestedSnapshot, isSuccess && !skipPhase2, snapshotId, mergedResult);
 
                 // Do not clear snapshot data when JobExecutionRecord update was indeterminate.
                 // It may turn out that this will be a correct snapshot after all.
-                if (isSuccess && !skipPhase2 && !requestedSnapshot.isExport()) {
+                if (isSuccess && !skipPhase2 && !requestedSnapshot.isExport() && !isIncremental) {
                     // clear IMap for next automatic snapshot early to decrease memory usage
                     mc.jobRepository().clearSnapshotData(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
                 }
@@ -464,6 +529,27 @@ class MasterSnapshotContext {
         });
     }
 
+    private void updateIncrementalChain(
+            SnapshotRequest requestedSnapshot, boolean isSuccess, long snapshotId, SnapshotPhase1Result result
+    ) {
+        if (requestedSnapshot.isExportOnly()) {
+            // the members don't track the state written to exported snapshots
+            return;
+        }
+        if (!isSuccess || requestedSnapshot.isExport()) {
+            incrementalChainLength = -1;
+        } else if (requestedSnapshot.isIncremental) {
+            incrementalChainLength++;
+            chainNumChunks += result.getNumChunks();
+            chainNumBytes += result.getNumBytes();
+        } else {
+            incrementalChainLength = 0;
+            chainBaseSnapshotId = snapshotId;
+            chainNumChunks = result.getNumChunks();
+            chainNumBytes = result.getNumBytes();
+        }
+    }
+
     /**
      * @param phase1Error error from the phase-1. Null if phase-1 was successful.
      * @param responses collected responses from the members
@@ -539,6 +625,7 @@ class MasterSnapshotContext {
 
     void onExecutionStarted() {
         snapshotInProgress = false;
+        incrementalChainLength = -1;
         assert snapshotQueue.isEmpty() : "snapshotQueue not empty";
         terminalSnapshotFuture = new CompletableFuture<>();
     }
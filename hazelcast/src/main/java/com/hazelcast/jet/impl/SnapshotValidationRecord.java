@@ -16,18 +16,21 @@
 
 package com.hazelcast.jet.impl;
 
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 
-public class SnapshotValidationRecord implements IdentifiedDataSerializable {
+public class SnapshotValidationRecord implements IdentifiedDataSerializable, Versioned {
     public static final SnapshotValidationKey KEY = SnapshotValidationKey.KEY;
 
     private long snapshotId;
+    private long baseSnapshotId;
     private long numChunks;
     private long numBytes;
 
@@ -41,7 +44,20 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
 
     SnapshotValidationRecord(long snapshotId, long numChunks, long numBytes, long creationTime, long jobId,
                                     @Nonnull String jobName, @Nonnull String dagJsonString) {
+        this(snapshotId, snapshotId, numChunks, numBytes, creationTime, jobId, jobName, dagJsonString);
+    }
+
+    /**
+     * @param baseSnapshotId ID of the full snapshot the snapshot is
+     *                       incrementally written on top of, equal to the
+     *                       snapshot ID for a full snapshot
+     * @param numChunks      number of the chunks of all the snapshots of the
+     *                       chain from the base snapshot
+     */
+    SnapshotValidationRecord(long snapshotId, long baseSnapshotId, long numChunks, long numBytes, long creationTime,
+                             long jobId, @Nonnull String jobName, @Nonnull String dagJsonString) {
         this.snapshotId = snapshotId;
+        this.baseSnapshotId = baseSnapshotId;
         this.numChunks = numChunks;
         this.numBytes = numBytes;
         this.creationTime = creationTime;
@@ -54,6 +70,18 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         return snapshotId;
     }
 
+    /**
+     * Returns the ID of the full snapshot this snapshot is incrementally
+     * written on top of, or the ID of this snapshot if it is full.
+     */
+    public long baseSnapshotId() {
+        return baseSnapshotId;
+    }
+
+    public boolean isIncremental() {
+        return baseSnapshotId != snapshotId;
+    }
+
     public long numChunks() {
         return numChunks;
     }
@@ -97,6 +125,9 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         out.writeLong(jobId);
         out.writeString(jobName);
         out.writeString(dagJsonString);
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeLong(baseSnapshotId);
+        }
     }
 
     @Override
@@ -108,12 +139,19 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         jobId = in.readLong();
         jobName = in.readString();
         dagJsonString = in.readString();
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            baseSnapshotId = in.readLong();
+        } else {
+            // written by a version without incremental snapshots
+            baseSnapshotId = snapshotId;
+        }
     }
 
     @Override
     public String toString() {
         return "SnapshotValidationRecord{" +
                 "snapshotId=" + snapshotId +
+                ", baseSnapshotId=" + baseSnapshotId +
                 ", numChunks=" + numChunks +
                 ", numBytes=" + numBytes +
                 ", creationTime=" + creationTime +
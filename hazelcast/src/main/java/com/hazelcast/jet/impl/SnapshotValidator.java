@@ -37,9 +37,9 @@ final class SnapshotValidator {
      * @param jobIdString name and ID of the job, for debug output
      * @param snapshotName user-supplied snapshot name for debug output,
      *                     null if it's not an exported snapshot
-     * @return the snapshot ID of the snapshot being validated
+     * @return the snapshot being validated
      */
-    static long validateSnapshot(
+    static ValidatedSnapshot validateSnapshot(
             long snapshotId, IMap<Object, Object> snapshotMap, String jobIdString, String snapshotName
     ) {
         SnapshotValidationRecord validationRecord =
@@ -55,7 +55,8 @@ final class SnapshotValidator {
             long filteredCount = snapshotMap.aggregate(
                     Aggregators.count(),
                     e -> e.getKey() instanceof SnapshotDataKey snapshotDataKey
-                            && snapshotDataKey.snapshotId() == snapshotId);
+                            && snapshotDataKey.snapshotId() >= validationRecord.baseSnapshotId()
+                            && snapshotDataKey.snapshotId() <= validationRecord.snapshotId());
             if (validationRecord.numChunks() != filteredCount) {
                 throw new JetException(String.format(
                         "State for %s in IMap '%s' is corrupted: it should have %,d entries, but has %,d",
@@ -63,10 +64,24 @@ final class SnapshotValidator {
             }
         }
         if (snapshotId != NO_SNAPSHOT && snapshotId != validationRecord.snapshotId()) {
+            if (snapshotId >= validationRecord.baseSnapshotId() && snapshotId < validationRecord.snapshotId()) {
+                // An incremental snapshot was written on top of the expected one, but the update of the
+                // JobExecutionRecord was indeterminate. The expected snapshot is still in the chain.
+                return new ValidatedSnapshot(snapshotId, validationRecord.baseSnapshotId());
+            }
             throw new JetException(String.format(
                     "%s: IMap '%s' was supposed to contain snapshotId %d, but it contains snapshotId %d",
                     jobIdString, snapshotMap.getName(), snapshotId, validationRecord.snapshotId()));
         }
-        return validationRecord.snapshotId();
+        return new ValidatedSnapshot(validationRecord.snapshotId(), validationRecord.baseSnapshotId());
+    }
+
+    /**
+     * @param snapshotId     ID of the validated snapshot
+     * @param baseSnapshotId ID of the full snapshot the validated one is
+     *                       incrementally written on top of, equal to {@code
+     *                       snapshotId} if it's a full snapshot
+     */
+    record ValidatedSnapshot(long snapshotId, long baseSnapshotId) {
     }
 }
@@ -26,6 +26,7 @@ import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.processor.SourceProcessors;
 import com.hazelcast.jet.pipeline.file.impl.FileProcessorMetaSupplier;
 import com.hazelcast.jet.pipeline.file.impl.FileTraverser;
+import com.hazelcast.jet.pipeline.file.impl.SplittableReadFileFn;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import com.hazelcast.security.impl.function.SecuredFunctions;
@@ -46,11 +47,14 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static com.hazelcast.jet.Traversers.singleton;
 import static com.hazelcast.jet.Traversers.traverseIterator;
 import static com.hazelcast.jet.Traversers.traverseStream;
 import static com.hazelcast.jet.impl.util.Util.checkSerializable;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_FILE_SPLIT_SIZE;
 
 /**
  * Private API, use {@link SourceProcessors#readFilesP}.
@@ -62,31 +66,46 @@ import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
  * threads, so if running a single Jet job with a single file-reading
  * vertex, the optimal value would be in the range of 4-8. Note that any
  * one file is only read by one thread, so extra parallelism won't improve
- * performance if there aren't enough files to read.
+ * performance if there aren't enough files to read, unless the files are
+ * split.
+ * <p>
+ * If the {@code readFileFn} is a {@link SplittableReadFileFn}, the files
+ * larger than {@link
+ * com.hazelcast.spi.properties.ClusterProperty#JET_FILE_SPLIT_SIZE} are
+ * split into byte ranges of that size, which are read by different threads.
  */
 public final class ReadFilesP<T> extends AbstractProcessor {
 
     private static final int DEFAULT_LOCAL_PARALLELISM = 4;
+    private static final long WHOLE_FILE = -1;
 
     private final String directory;
     private final String glob;
     private final boolean sharedFileSystem;
     private final boolean ignoreFileNotFound;
+    private final long splitSize;
     private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
 
     private LocalFileTraverser<T> traverser;
 
+    /**
+     * @param splitSize the size of the file splits, {@code 0} to read the files
+     *                  whole; ignored unless the {@code readFileFn} is a {@link
+     *                  SplittableReadFileFn}
+     */
     public ReadFilesP(
             @Nonnull String directory,
             @Nonnull String glob,
             boolean sharedFileSystem,
             boolean ignoreFileNotFound,
+            long splitSize,
             @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn
     ) {
         this.directory = directory;
         this.glob = glob;
         this.sharedFileSystem = sharedFileSystem;
         this.ignoreFileNotFound = ignoreFileNotFound;
+        this.splitSize = readFileFn instanceof SplittableReadFileFn ? splitSize : 0;
         this.readFileFn = readFileFn;
     }
 
@@ -101,13 +120,15 @@ public final class ReadFilesP<T> extends AbstractProcessor {
                 directory,
                 glob,
                 ignoreFileNotFound,
-                path -> shouldProcessEvent(path, parallelism, processorIndex),
+                splitSize,
+                split -> shouldProcessEvent(split, parallelism, processorIndex),
                 readFileFn
         );
     }
 
-    private static boolean shouldProcessEvent(Path path, int parallelism, int processorIndex) {
-        int hashCode = path.hashCode();
+    private static boolean shouldProcessEvent(FileSplit split, int parallelism, int processorIndex) {
+        // the whole files and the first splits are assigned by the hash code of their path alone
+        int hashCode = split.path().hashCode() + split.index();
         return ((hashCode & Integer.MAX_VALUE) % parallelism) == processorIndex;
     }
 
@@ -158,6 +179,8 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         private final boolean ignoreFileNotFound;
         private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
 
+        private transient long splitSize;
+
         private MetaSupplier(
                 int localParallelism,
                 String directory,
@@ -174,11 +197,17 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             this.readFileFn = readFileFn;
         }
 
+        @Override
+        public void init(@Nonnull Context context) {
+            // resolved on the coordinator, so that all the members split the shared files the same way
+            splitSize = getNodeEngine(context.hazelcastInstance()).getProperties().getLong(JET_FILE_SPLIT_SIZE);
+        }
+
         @Nonnull
         @Override
         public Function<? super Address, ? extends ProcessorSupplier> get(@Nonnull List<Address> addresses) {
             return address -> ProcessorSupplier.of(SecuredFunctions.readFilesProcessorFn(
-                    directory, glob, sharedFileSystem, ignoreFileNotFound, readFileFn
+                    directory, glob, sharedFileSystem, ignoreFileNotFound, splitSize, readFileFn
             ));
         }
 
@@ -189,7 +218,7 @@ public final class ReadFilesP<T> extends AbstractProcessor {
 
         @Override
         public FileTraverser<T> traverser() {
-            return new LocalFileTraverser<>(LOGGER, directory, glob, ignoreFileNotFound, path -> true, readFileFn);
+            return new LocalFileTraverser<>(LOGGER, directory, glob, ignoreFileNotFound, 0, split -> true, readFileFn);
         }
 
         @Override
@@ -219,6 +248,7 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         private final Path directory;
         private final String glob;
         private final boolean ignoreFileNotFound;
+        private final long splitSize;
         private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
         private final Traverser<T> delegate;
 
@@ -231,19 +261,22 @@ public final class ReadFilesP<T> extends AbstractProcessor {
                 String directory,
                 String glob,
                 boolean ignoreFileNotFound,
-                Predicate<Path> pathFilterFn,
+                long splitSize,
+                Predicate<FileSplit> splitFilterFn,
                 FunctionEx<? super Path, ? extends Stream<T>> readFileFn
         ) {
             this.logger = logger;
             this.directory = Paths.get(directory);
             this.glob = glob;
             this.ignoreFileNotFound = ignoreFileNotFound;
+            this.splitSize = splitSize;
             this.readFileFn = readFileFn;
             this.delegate = traverseIterator(uncheckCall(this::paths))
                     .filter(path -> !Files.isDirectory(path))
                     .peek(path -> hasResults = true)
-                    .filter(pathFilterFn::test)
-                    .flatMap(this::processFile);
+                    .flatMap(path -> uncheckCall(() -> splits(path)))
+                    .filter(splitFilterFn::test)
+                    .flatMap(this::processSplit);
         }
 
         private Iterator<Path> paths() throws IOException {
@@ -259,11 +292,34 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             return directoryStream.iterator();
         }
 
-        private Traverser<T> processFile(Path file) {
-            logger.finest("Processing file " + file);
+        private Traverser<FileSplit> splits(Path file) throws IOException {
+            long fileSize = splitSize > 0 ? Files.size(file) : 0;
+            if (fileSize <= splitSize) {
+                return singleton(new FileSplit(file, 0, 0, WHOLE_FILE));
+            }
+            int splitCount = Math.toIntExact((fileSize - 1) / splitSize + 1);
+            int[] index = {0};
+            return () -> {
+                if (index[0] == splitCount) {
+                    return null;
+                }
+                long start = index[0] * splitSize;
+                return new FileSplit(file, index[0]++, start, Math.min(start + splitSize, fileSize));
+            };
+        }
 
+        @SuppressWarnings("unchecked")
+        private Traverser<T> processSplit(FileSplit split) {
+            Path file = split.path();
             assert fileStream == null : "fileStream != null";
-            fileStream = readFileFn.apply(file);
+            if (split.end() == WHOLE_FILE) {
+                logger.finest("Processing file " + file);
+                fileStream = readFileFn.apply(file);
+            } else {
+                logger.finest("Processing bytes " + split.start() + "-" + split.end() + " of file " + file);
+                fileStream = uncheckCall(() -> ((SplittableReadFileFn<T>) readFileFn)
+                        .readRange(file, split.start(), split.end()));
+            }
             return traverseStream(fileStream)
                     .onFirstNull(() -> {
                         fileStream.close();
@@ -298,4 +354,10 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             }
         }
     }
+
+    /**
+     * Byte range of a file read by a processor, the range ends at {@link
+     * #WHOLE_FILE} if the whole file is read by the {@code readFileFn}.
+     */
+    private record FileSplit(Path path, int index, long start, long end) { }
 }
@@ -98,6 +98,11 @@ import static java.util.stream.Collectors.toList;
  * The number of Hazelcast partitions should be configured to at least
  * {@code localParallelism * clusterSize}, otherwise some processors will
  * have no partitions assigned to them.
+ * <p>
+ * The processors of a {@link LocalProcessorSupplier} can be given a {@link
+ * RecordProjectorSupplier}, whose projections are applied to the records as
+ * they are read, e.g. to the serialized keys and values of the map entries,
+ * so that only the projections of the matching records are emitted.
  */
 public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends AbstractProcessor {
 
@@ -110,6 +115,8 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
     private static final int MAX_FETCH_SIZE = 2048;
 
     private final Reader<F, B, R> reader;
+    private final Function<? super R, ?> projectionFn;
+    private final boolean cooperative;
     private final int[] partitionIds;
     private final IterationPointer[][] readPointers;
     private final int maxParallelRead;
@@ -127,7 +134,18 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
     private Object pendingItem;
 
     private ReadMapOrCacheP(@Nonnull Reader<F, B, R> reader, @Nonnull int[] partitionIds) {
+        this(reader, null, true, partitionIds);
+    }
+
+    private ReadMapOrCacheP(
+            @Nonnull Reader<F, B, R> reader,
+            @Nullable Function<? super R, ?> projectionFn,
+            boolean cooperative,
+            @Nonnull int[] partitionIds
+    ) {
         this.reader = reader;
+        this.projectionFn = projectionFn;
+        this.cooperative = cooperative;
         this.partitionIds = partitionIds;
 
         maxParallelRead = Math.min(partitionIds.length, MAX_PARALLEL_READ);
@@ -135,6 +153,11 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
         Arrays.fill(readPointers, new IterationPointer[]{new IterationPointer(Integer.MAX_VALUE, -1)});
     }
 
+    @Override
+    public boolean isCooperative() {
+        return cooperative;
+    }
+
     @Override
     public boolean complete() {
         if (readFutures == null) {
@@ -170,9 +193,10 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
         pendingItem = null;
 
         while (currentBatchPosition < currentBatch.size()) {
-            Object item = reader.toObject(currentBatch.get(currentBatchPosition++));
+            R record = currentBatch.get(currentBatchPosition++);
+            Object item = projectionFn != null ? projectionFn.apply(record) : reader.toObject(record);
             if (item == null) {
-                // element was filtered out by the predicate (?)
+                // element was filtered out by the predicate or the projection
                 continue;
             }
             if (!tryEmit(item)) {
@@ -275,17 +299,26 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
         @Serial
         private static final long serialVersionUID = 1L;
         protected final BiFunctionEx<HazelcastInstance, InternalSerializationService, Reader<F, B, R>> readerSupplier;
+        protected final RecordProjectorSupplier<R> projectorSupplier;
 
         protected LocalProcessorMetaSupplier(
                 @Nonnull BiFunctionEx<HazelcastInstance, InternalSerializationService, Reader<F, B, R>> readerSupplier
+        ) {
+            this(readerSupplier, null);
+        }
+
+        protected LocalProcessorMetaSupplier(
+                @Nonnull BiFunctionEx<HazelcastInstance, InternalSerializationService, Reader<F, B, R>> readerSupplier,
+                @Nullable RecordProjectorSupplier<R> projectorSupplier
         ) {
             this.readerSupplier = readerSupplier;
+            this.projectorSupplier = projectorSupplier;
         }
 
         @Override
         @Nonnull
         public Function<Address, ProcessorSupplier> get(@Nonnull List<Address> addresses) {
-            return address -> new LocalProcessorSupplier<>(readerSupplier);
+            return address -> new LocalProcessorSupplier<>(readerSupplier, null, projectorSupplier);
         }
 
         @Override
@@ -319,6 +352,7 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
         private static final long serialVersionUID = 2L;
 
         private BiFunction<HazelcastInstance, InternalSerializationService, Reader<F, B, R>> readerSupplier;
+        private RecordProjectorSupplier<R> projectorSupplier;
 
         private transient HazelcastInstance hzInstance;
         private transient InternalSerializationService serializationService;
@@ -336,26 +370,45 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
         public LocalProcessorSupplier(
                 @Nonnull BiFunction<HazelcastInstance, InternalSerializationService, Reader<F, B, R>> readerSupplier,
                 int[] partitionsToScan
+        ) {
+            this(readerSupplier, partitionsToScan, null);
+        }
+
+        /**
+         * @param partitionsToScan  the partitions to read, {@code null} for all the member partitions
+         * @param projectorSupplier the supplier of the projections of the records,
+         *                          {@code null} to emit the records as read by the reader
+         */
+        public LocalProcessorSupplier(
+                @Nonnull BiFunction<HazelcastInstance, InternalSerializationService, Reader<F, B, R>> readerSupplier,
+                @Nullable int[] partitionsToScan,
+                @Nullable RecordProjectorSupplier<R> projectorSupplier
         ) {
             this.readerSupplier = readerSupplier;
             this.partitionsToScan = partitionsToScan;
+            this.projectorSupplier = projectorSupplier;
         }
 
         @Override
-        public void init(@Nonnull Context context) {
+        public void init(@Nonnull Context context) throws Exception {
             hzInstance = context.hazelcastInstance();
             serializationService = ((Contexts.InternalProcSupplierCtx) context).serializationService();
             if (partitionsToScan == null) {
                 partitionsToScan = context.memberPartitions();
             }
+            if (projectorSupplier != null) {
+                projectorSupplier.init(context);
+            }
         }
 
         @Override
         @Nonnull
         public List<Processor> get(int count) {
             return Arrays.stream(distributeObjects(count, partitionsToScan))
-                    .map(partitions ->
-                            new ReadMapOrCacheP<>(readerSupplier.apply(hzInstance, serializationService), partitions))
+                    .map(partitions -> projectorSupplier == null
+                            ? new ReadMapOrCacheP<>(readerSupplier.apply(hzInstance, serializationService), partitions)
+                            : new ReadMapOrCacheP<>(readerSupplier.apply(hzInstance, serializationService),
+                                    projectorSupplier.get(), projectorSupplier.isCooperative(), partitions))
                     .collect(toList());
         }
 
@@ -370,6 +423,12 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
             if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
                 out.writeIntArray(partitionsToScan);
             }
+            if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+                out.writeObject(projectorSupplier);
+            } else if (projectorSupplier != null) {
+                // older members would emit the unprojected records
+                throw new UnsupportedOperationException("Projecting the records in the reader requires cluster version 6.0");
+            }
         }
 
         @Override
@@ -378,6 +437,9 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
             if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
                 partitionsToScan = in.readIntArray();
             }
+            if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+                projectorSupplier = in.readObject();
+            }
         }
 
         @Override
@@ -396,6 +458,42 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
         }
     }
 
+    /**
+     * Supplies the projections applied by the processors of a {@link
+     * LocalProcessorSupplier} to the records right as they are read, instead
+     * of converting them to objects with {@link Reader#toObject}. For a map,
+     * the record is the entry of the serialized key and value, a projection
+     * can extract the fields it needs from them and materialize only those.
+     * <p>
+     * The supplier is serialized along with the processor supplier, with
+     * {@link ObjectDataOutput#writeObject}. It's supported only if the
+     * cluster version is at least 6.0.
+     *
+     * @param <R> type of the record
+     */
+    public interface RecordProjectorSupplier<R> {
+
+        /**
+         * Called on each member before the projections are requested.
+         */
+        default void init(@Nonnull ProcessorSupplier.Context context) throws Exception {
+        }
+
+        /**
+         * Returns a new projection for a single processor. The projection
+         * returns {@code null} for the records which must be skipped.
+         */
+        @Nonnull
+        Function<? super R, ?> get();
+
+        /**
+         * Tells whether the projections can run in a cooperative processor.
+         */
+        default boolean isCooperative() {
+            return true;
+        }
+    }
+
     /**
      * Create a processor that uses a remote cluster as source
      */
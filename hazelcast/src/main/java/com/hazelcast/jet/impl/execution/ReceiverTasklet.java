@@ -41,6 +41,8 @@ import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 import static com.hazelcast.jet.impl.Networking.PACKET_HEADER_SIZE;
 import static com.hazelcast.jet.impl.execution.DoneItem.DONE_ITEM;
@@ -51,6 +53,11 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Receives from a remote member the data associated with a single edge.
+ * <p>
+ * A packet holds the item count followed by the items. A negative count
+ * is the bitwise complement of the count of compressed items, it's followed
+ * by the size of the inflated items and by the deflated items, see {@link
+ * SenderTasklet}.
  */
 public class ReceiverTasklet implements Tasklet {
 
@@ -96,6 +103,7 @@ public class ReceiverTasklet implements Tasklet {
     private final ArrayDeque<ObjWithPtionIdAndSize> inbox = new ArrayDeque<>();
     private final OutboundCollector collector;
     private final InternalSerializationService serializationService;
+    private Inflater inflater;
 
     private boolean receptionDone;
 
@@ -105,6 +113,9 @@ public class ReceiverTasklet implements Tasklet {
     @Probe(name = MetricNames.DISTRIBUTED_BYTES_IN, unit = ProbeUnit.BYTES)
     private final Counter bytesInCounter = SwCounter.newSwCounter();
 
+    @Probe(name = MetricNames.DISTRIBUTED_PACKETS_IN)
+    private final Counter packetsInCounter = SwCounter.newSwCounter();
+
     //                    FLOW-CONTROL STATE
     //            All arrays are indexed by sender ID.
 
@@ -262,6 +273,11 @@ public class ReceiverTasklet implements Tasklet {
         return ackedSeq += itemWeight;
     }
 
+    @Probe(name = MetricNames.DISTRIBUTED_RECEIVE_WINDOW, unit = ProbeUnit.BYTES)
+    private long receiveWindow() {
+        return (long) receiveWindowCompressed << COMPRESSED_SEQ_UNIT_LOG2;
+    }
+
     /**
      * To be called only from testing code.
      */
@@ -299,9 +315,14 @@ public class ReceiverTasklet implements Tasklet {
         try {
             long totalBytes = 0;
             long totalItems = 0;
+            long totalPackets = 0;
             for (byte[] payload; (payload = incoming.poll()) != null; ) {
                 BufferObjectDataInput input = serializationService.createObjectDataInput(payload, PACKET_HEADER_SIZE);
-                final int itemCount = input.readInt();
+                int itemCount = input.readInt();
+                if (itemCount < 0) {
+                    itemCount = ~itemCount;
+                    input = serializationService.createObjectDataInput(inflate(payload, input));
+                }
                 for (int i = 0; i < itemCount; i++) {
                     final int mark = input.position();
                     final Object item = input.readObject();
@@ -310,16 +331,54 @@ public class ReceiverTasklet implements Tasklet {
                     inbox.add(new ObjWithPtionIdAndSize(item, partitionId, itemSize));
                 }
                 totalItems += itemCount;
-                totalBytes += input.position();
+                totalBytes += payload.length;
+                totalPackets++;
                 tracker.madeProgress();
             }
             bytesInCounter.inc(totalBytes);
             itemsInCounter.inc(totalItems);
+            packetsInCounter.inc(totalPackets);
         } catch (IOException e) {
             throw rethrow(e);
         }
     }
 
+    /**
+     * Inflates the items of a compressed packet. The input must be
+     * positioned at the size of the inflated items.
+     */
+    private byte[] inflate(byte[] payload, BufferObjectDataInput input) throws IOException {
+        byte[] items = new byte[input.readInt()];
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        inflater.reset();
+        inflater.setInput(payload, input.position(), payload.length - input.position());
+        try {
+            int size = 0;
+            while (size < items.length && !inflater.finished()) {
+                int inflated = inflater.inflate(items, size, items.length - size);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                size += inflated;
+            }
+            if (size != items.length) {
+                throw new IOException("Truncated compressed packet, inflated " + size + " of " + items.length + " bytes");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted compressed packet", e);
+        }
+        return items;
+    }
+
+    @Override
+    public void close() {
+        if (inflater != null) {
+            inflater.end();
+        }
+    }
+
     public void initIncomingQueue(Queue<byte[]> incomingQueue) {
         incoming = incomingQueue;
     }
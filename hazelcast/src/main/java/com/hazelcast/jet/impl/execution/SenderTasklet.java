@@ -41,6 +41,7 @@ import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.function.Consumer;
+import java.util.zip.Deflater;
 
 import static com.hazelcast.jet.impl.Networking.createStreamPacketHeader;
 import static com.hazelcast.jet.impl.execution.DoneItem.DONE_ITEM;
@@ -48,11 +49,24 @@ import static com.hazelcast.jet.impl.execution.ReceiverTasklet.compressSeq;
 import static com.hazelcast.jet.impl.execution.ReceiverTasklet.estimatedMemoryFootprint;
 import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_DISTRIBUTED_EDGE_COMPRESSION_ENABLED;
 
 /**
  * The tasklet that sends the data associated with a single edge through network.
+ * <p>
+ * The items are serialized directly into the packet, after the header and
+ * the item count. When {@link
+ * com.hazelcast.spi.properties.ClusterProperty#JET_DISTRIBUTED_EDGE_COMPRESSION_ENABLED
+ * compression} is enabled and the packet is large enough, the items are
+ * deflated and the count is written negated, followed by the size of the
+ * inflated items, see {@link ReceiverTasklet}.
  */
 public class SenderTasklet implements Tasklet {
+    /**
+     * Minimum size of the items in a packet to compress them.
+     */
+    static final int MIN_COMPRESSED_SIZE = 1 << 10;
+
     private static final int BUFFER_INITIAL_SIZE = 1 << 10;
     private static final int BUFFER_FIRST_GROWTH_SIZE = 1 << 15;
 
@@ -63,6 +77,8 @@ public class SenderTasklet implements Tasklet {
     private final BufferObjectDataOutput outputBuffer;
     private final int bufPosPastHeader;
     private final int packetSizeLimit;
+    private final Deflater deflater;
+    private byte[] compressionBuffer;
 
     /* Used for metrics */
     private final String destinationAddressString;
@@ -75,7 +91,15 @@ public class SenderTasklet implements Tasklet {
     @Probe(name = MetricNames.DISTRIBUTED_BYTES_OUT, unit = ProbeUnit.BYTES)
     private final Counter bytesOutCounter = SwCounter.newSwCounter();
 
+    @Probe(name = MetricNames.DISTRIBUTED_PACKETS_OUT)
+    private final Counter packetsOutCounter = SwCounter.newSwCounter();
+
+    @Probe(name = MetricNames.DISTRIBUTED_SEND_BLOCKED_TIME, unit = ProbeUnit.NS)
+    private final Counter sendBlockedTimeCounter = SwCounter.newSwCounter();
+
     private boolean instreamExhausted;
+    // the time since which the items in the inbox wait for the receive window, 0 if they don't
+    private long sendBlockedSince;
     // read and written by Jet thread
     private long sentSeq;
 
@@ -103,6 +127,8 @@ public class SenderTasklet implements Tasklet {
         uncheckRun(() -> outputBuffer.write(createStreamPacketHeader(nodeEngine,
                 executionId, destinationVertexId, inboundEdgeStream.ordinal())));
         bufPosPastHeader = outputBuffer.position();
+        this.deflater = nodeEngine.getProperties().getBoolean(JET_DISTRIBUTED_EDGE_COMPRESSION_ENABLED)
+                ? new Deflater(Deflater.BEST_SPEED) : null;
     }
 
     @Nonnull @Override
@@ -112,15 +138,28 @@ public class SenderTasklet implements Tasklet {
         if (progTracker.isDone()) {
             return progTracker.toProgressState();
         }
-        if (tryFillOutputBuffer()) {
+        int writtenCount = tryFillOutputBuffer();
+        if (writtenCount > 0) {
             progTracker.madeProgress();
-            if (!connection.write(new Packet(outputBuffer.toByteArray()).setPacketType(Packet.Type.JET))) {
+            byte[] packetBytes = deflater != null
+                    ? toCompressedPacket(writtenCount)
+                    : outputBuffer.toByteArray();
+            bytesOutCounter.inc(packetBytes.length);
+            packetsOutCounter.inc();
+            if (!connection.write(new Packet(packetBytes).setPacketType(Packet.Type.JET))) {
                 throw new RestartableException("Connection write failed in " + toString());
             }
         }
         return progTracker.toProgressState();
     }
 
+    @Override
+    public void close() {
+        if (deflater != null) {
+            deflater.end();
+        }
+    }
+
     private void tryFillInbox() {
         if (!inbox.isEmpty()) {
             progTracker.notDone();
@@ -138,7 +177,13 @@ public class SenderTasklet implements Tasklet {
         }
     }
 
-    private boolean tryFillOutputBuffer() {
+    /**
+     * Writes the items from the inbox to the output buffer, as many as the
+     * packet size limit and the receive window allow.
+     *
+     * @return the number of written items
+     */
+    private int tryFillOutputBuffer() {
         try {
             // header size + slot for writtenCount
             outputBuffer.position(bufPosPastHeader + Bits.INT_SIZE_IN_BYTES);
@@ -157,9 +202,59 @@ public class SenderTasklet implements Tasklet {
                 outputBuffer.writeInt(itemWithPId.getPartitionId());
             }
             outputBuffer.writeInt(bufPosPastHeader, writtenCount);
-            bytesOutCounter.inc(outputBuffer.position());
             itemsOutCounter.inc(writtenCount);
-            return writtenCount > 0;
+            updateSendBlockedTime(!inbox.isEmpty() && !isWithinLimit(sentSeq, sendSeqLimitCompressed));
+            return writtenCount;
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private void updateSendBlockedTime(boolean blocked) {
+        if (blocked == (sendBlockedSince != 0)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (blocked) {
+            sendBlockedSince = now;
+        } else {
+            sendBlockedTimeCounter.inc(now - sendBlockedSince);
+            sendBlockedSince = 0;
+        }
+    }
+
+    /**
+     * Returns the packet in the output buffer with its items deflated, or
+     * as it is if the items are too small or the deflating doesn't shrink them.
+     */
+    private byte[] toCompressedPacket(int itemCount) {
+        try {
+            byte[] packetBytes = outputBuffer.toByteArray();
+            int itemsPos = bufPosPastHeader + Bits.INT_SIZE_IN_BYTES;
+            int itemsSize = packetBytes.length - itemsPos;
+            if (itemsSize < MIN_COMPRESSED_SIZE) {
+                return packetBytes;
+            }
+            // the compressed items, along with their size, must be smaller than the items
+            int maxCompressedSize = itemsSize - Bits.INT_SIZE_IN_BYTES;
+            if (compressionBuffer == null || compressionBuffer.length < maxCompressedSize) {
+                compressionBuffer = new byte[Math.max(maxCompressedSize, packetSizeLimit)];
+            }
+            deflater.reset();
+            deflater.setInput(packetBytes, itemsPos, itemsSize);
+            deflater.finish();
+            int compressedSize = 0;
+            while (!deflater.finished() && compressedSize < maxCompressedSize) {
+                compressedSize += deflater.deflate(compressionBuffer, compressedSize, maxCompressedSize - compressedSize);
+            }
+            if (!deflater.finished()) {
+                return packetBytes;
+            }
+            outputBuffer.position(bufPosPastHeader);
+            outputBuffer.writeInt(~itemCount);
+            outputBuffer.writeInt(itemsSize);
+            outputBuffer.write(compressionBuffer, 0, compressedSize);
+            return outputBuffer.toByteArray();
         } catch (IOException e) {
             throw rethrow(e);
         }
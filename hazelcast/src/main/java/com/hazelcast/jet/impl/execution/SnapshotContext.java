@@ -173,6 +173,18 @@ public class SnapshotContext {
         return SnapshotFlags.isExportOnly(snapshotFlags);
     }
 
+    public boolean isExportSnapshot() {
+        return SnapshotFlags.isExport(snapshotFlags);
+    }
+
+    /**
+     * Returns if the current snapshot should only contain the entries
+     * changed since the previous snapshot.
+     */
+    public boolean isIncrementalSnapshot() {
+        return SnapshotFlags.isIncremental(snapshotFlags);
+    }
+
     boolean isLastPhase1Successful() {
         return lastPhase1Successful;
     }
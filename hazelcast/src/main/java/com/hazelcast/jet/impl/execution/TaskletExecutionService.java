@@ -19,6 +19,7 @@ package com.hazelcast.jet.impl.execution;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.util.RuntimeAvailableProcessors;
 import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
 import com.hazelcast.internal.util.concurrent.IdleStrategy;
@@ -65,6 +66,7 @@ import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MAX_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MIN_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS;
@@ -72,7 +74,9 @@ import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATI
 import static java.lang.Thread.currentThread;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 
@@ -93,6 +97,7 @@ public class TaskletExecutionService {
     private final Object lock = new Object();
     private final IdleStrategy idlerCooperative;
     private final IdleStrategy idlerNonCooperative;
+    private final long rebalanceIntervalNanos;
 
     public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties) {
         hzExecutionService = nodeEngine.getExecutionService();
@@ -109,6 +114,7 @@ public class TaskletExecutionService {
         idlerNonCooperative = createIdler(
             properties, JET_IDLE_NONCOOPERATIVE_MIN_MICROSECONDS, JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS
         );
+        rebalanceIntervalNanos = MILLISECONDS.toNanos(properties.getMillis(JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS));
 
         Arrays.setAll(cooperativeWorkers, i -> new CooperativeWorker());
         Arrays.setAll(cooperativeThreadPool, i -> new CooperativeWorkerThread(cooperativeWorkers[i],
@@ -335,13 +341,34 @@ public class TaskletExecutionService {
         }
     }
 
+    /**
+     * Runs its cooperative tasklets in a loop. It measures the time of the
+     * iterations in which a tasklet made progress to report its utilization.
+     * If the rebalancing is enabled, it also measures the busy time of each
+     * tasklet and at the end of each rebalance interval it may move one of
+     * its tasklets to the least utilized worker. A tasklet is only moved
+     * by the worker which runs it, between two of its calls.
+     */
     private final class CooperativeWorker implements Runnable {
         private static final int COOPERATIVE_LOGGING_THRESHOLD = 5;
+        private static final long UTILIZATION_INTERVAL_NANOS = SECONDS.toNanos(1);
+        private static final int MIN_UTILIZATION_TO_REBALANCE = 80;
+        private static final int MIN_UTILIZATION_DIFFERENCE_TO_REBALANCE = 20;
+        private static final int PERCENT = 100;
 
         @Probe(name = "taskletCount")
         private final CopyOnWriteArrayList<TaskletTracker> trackers;
         @Probe(name = "iterationCount")
         private final Counter iterationCount = SwCounter.newSwCounter();
+        @Probe(name = "busyTime", unit = ProbeUnit.NS)
+        private final Counter busyTime = SwCounter.newSwCounter();
+        @Probe(name = "taskletsMigrated")
+        private final Counter taskletsMigrated = SwCounter.newSwCounter();
+        /**
+         * Percentage of the last utilization interval in which the worker was busy.
+         */
+        @Probe(name = "utilization", unit = ProbeUnit.PERCENT)
+        private volatile long utilization;
 
         private final ProgressTracker progressTracker = new ProgressTracker();
         // prevent lambda allocation on each iteration
@@ -350,8 +377,11 @@ public class TaskletExecutionService {
         private final Semaphore newTaskletSemaphore = new Semaphore(0);
 
         private boolean finestLogEnabled;
+        private boolean measureTasklets;
         private Thread myThread;
         private Contexts.Container contextContainer;
+        private long intervalStart;
+        private long intervalBusyNanos;
 
         CooperativeWorker() {
             this.trackers = new CopyOnWriteArrayList<>();
@@ -364,13 +394,25 @@ public class TaskletExecutionService {
 
             IdleStrategy idlerLocal = idlerCooperative;
             long idleCount = 0;
+            long intervalNanos = rebalanceIntervalNanos > 0 ? rebalanceIntervalNanos : UTILIZATION_INTERVAL_NANOS;
+            measureTasklets = rebalanceIntervalNanos > 0;
+            intervalStart = System.nanoTime();
 
             while (!isShutdown) {
                 finestLogEnabled = logger.isFinestEnabled();
                 progressTracker.reset();
+                long iterationStart = System.nanoTime();
                 // garbage-free iteration -- relies on implementation in COWArrayList that doesn't use an Iterator
                 trackers.forEach(runTasklet);
                 iterationCount.inc();
+                long now = System.nanoTime();
+                if (progressTracker.isMadeProgress()) {
+                    busyTime.inc(now - iterationStart);
+                    intervalBusyNanos += now - iterationStart;
+                }
+                if (now - intervalStart >= intervalNanos) {
+                    endInterval(now);
+                }
                 if (!progressTracker.isMadeProgress() && newTaskletSemaphore.drainPermits() > 0) {
                     progressTracker.madeProgress();
                 }
@@ -380,12 +422,15 @@ public class TaskletExecutionService {
                     if (trackers.isEmpty()) {
                         newTaskletSemaphore.drainPermits();
                         if (trackers.isEmpty() && !isShutdown) {
+                            utilization = 0;
                             try {
                                 newTaskletSemaphore.acquire();
                             } catch (InterruptedException e) {
                                 logger.severe("Cooperative worker interrupted", e);
                                 return;
                             }
+                            intervalStart = System.nanoTime();
+                            intervalBusyNanos = 0;
                         }
                     } else {
                         idlerLocal.idle(++idleCount);
@@ -398,7 +443,7 @@ public class TaskletExecutionService {
 
         private void runTasklet(TaskletTracker t) {
             long start = 0;
-            if (finestLogEnabled) {
+            if (finestLogEnabled || measureTasklets) {
                 start = System.nanoTime();
             }
             try {
@@ -407,6 +452,8 @@ public class TaskletExecutionService {
                 final ProgressState result = t.tasklet.call();
                 if (result.isDone()) {
                     dismissTasklet(t);
+                } else if (measureTasklets && result.isMadeProgress()) {
+                    t.busyNanos += System.nanoTime() - start;
                 }
                 progressTracker.mergeWith(result);
             } catch (Throwable e) {
@@ -432,12 +479,69 @@ public class TaskletExecutionService {
             t.executionTracker.taskletDone();
             trackers.remove(t);
         }
+
+        private void endInterval(long now) {
+            long intervalNanos = now - intervalStart;
+            long utilization = intervalBusyNanos * PERCENT / intervalNanos;
+            this.utilization = utilization;
+            if (measureTasklets) {
+                rebalance(utilization, intervalNanos);
+                trackers.forEach(t -> t.busyNanos = 0);
+            }
+            intervalStart = now;
+            intervalBusyNanos = 0;
+        }
+
+        /**
+         * Moves to the least utilized worker the tasklet whose busy time is
+         * the closest to half of the difference of the utilizations, if
+         * moving it makes the utilizations closer.
+         */
+        private void rebalance(long utilization, long intervalNanos) {
+            if (isShutdown || utilization < MIN_UTILIZATION_TO_REBALANCE || trackers.size() < 2) {
+                return;
+            }
+            CooperativeWorker target = null;
+            for (CooperativeWorker worker : cooperativeWorkers) {
+                if (worker != this && (target == null || worker.utilization < target.utilization)) {
+                    target = worker;
+                }
+            }
+            if (target == null) {
+                return;
+            }
+            long difference = utilization - target.utilization;
+            if (difference < MIN_UTILIZATION_DIFFERENCE_TO_REBALANCE) {
+                return;
+            }
+            long maxBusyNanos = intervalNanos * difference / PERCENT;
+            TaskletTracker migrated = null;
+            for (TaskletTracker t : trackers) {
+                if (t.busyNanos > 0 && t.busyNanos < maxBusyNanos && (migrated == null
+                        || Math.abs(2 * t.busyNanos - maxBusyNanos) < Math.abs(2 * migrated.busyNanos - maxBusyNanos))) {
+                    migrated = t;
+                }
+            }
+            if (migrated == null) {
+                return;
+            }
+            logger.finest("Moving %s from a worker utilized at %d%% to a worker utilized at %d%%",
+                    migrated.tasklet, utilization, target.utilization);
+            trackers.remove(migrated);
+            migrated.busyNanos = 0;
+            target.trackers.add(migrated);
+            target.newTaskletSemaphore.release();
+            LockSupport.unpark(target.myThread);
+            taskletsMigrated.inc();
+        }
     }
 
     private static final class TaskletTracker {
         final Tasklet tasklet;
         final ExecutionTracker executionTracker;
         final ClassLoader jobClassLoader;
+        // busy time in the current rebalance interval, accessed only by the worker running the tasklet
+        long busyNanos;
 
         TaskletTracker(Tasklet tasklet, ExecutionTracker executionTracker, ClassLoader jobClassLoader) {
             this.tasklet = tasklet;
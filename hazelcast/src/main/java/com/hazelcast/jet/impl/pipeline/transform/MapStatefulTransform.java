@@ -22,6 +22,7 @@ import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.impl.pipeline.PipelineImpl.Context;
 import com.hazelcast.jet.impl.pipeline.Planner;
 import com.hazelcast.jet.impl.pipeline.Planner.PlannerVertex;
+import com.hazelcast.jet.impl.processor.TransformStatefulP;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -57,7 +58,7 @@ public class MapStatefulTransform<T, K, S, R> extends StatefulKeyedTransformBase
     public void addToDag(Planner p, Context context) {
         determineLocalParallelism(LOCAL_PARALLELISM_USE_DEFAULT, context, false);
         PlannerVertex pv = p.addVertex(this, name(), determinedLocalParallelism(),
-                mapStatefulP(ttl, keyFn, timestampFn, createFn, statefulMapFn, onEvictFn));
+                TransformStatefulP.supplier(mapStatefulP(ttl, keyFn, timestampFn, createFn, statefulMapFn, onEvictFn)));
         p.addEdges(this, pv.v, edge -> edge.partitioned(keyFn).distributed());
     }
 }
@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.JetException;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Map of the keyed states of a processor which keeps at most a given number
+ * of values on the heap, in access order. The least recently used values
+ * are serialized and appended to segment files on the local disk, while
+ * their keys remain on the heap. A value is moved back to the heap when it's
+ * accessed again.
+ * <p>
+ * A segment is written until it reaches the segment size, then a new one is
+ * started. The values are read back with positional reads rather than from
+ * a memory mapping, so that the disk space of a segment is released as soon
+ * as it's deleted. A full segment is deleted when none of its values is
+ * live anymore, and the live values of the mostly obsolete
+ * segments are copied to the current segment when the obsolete values take
+ * more space than the live ones.
+ * <p>
+ * The values are returned by reference only while they are on the heap:
+ * the iterator returns copies of the values on the disk, which can't be
+ * updated in place. The entries are iterated in the order in which they
+ * were last used, starting with the ones on the disk.
+ * <p>
+ * It is used only by the processor which created it, so it's not thread-safe.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+final class DiskStateMap<K, V> extends AbstractMap<K, V> implements Closeable {
+
+    /**
+     * Default size of the segment files.
+     */
+    static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    private static final int HASH_MAP_INITIAL_CAPACITY = 16;
+    private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+
+    private final Path directory;
+    private final InternalSerializationService serializationService;
+    private final int cacheSize;
+    private final int segmentSize;
+    private final LinkedHashMap<K, V> cache =
+            new LinkedHashMap<>(HASH_MAP_INITIAL_CAPACITY, HASH_MAP_LOAD_FACTOR, true);
+    /**
+     * Locations of the values on the disk, in the order in which they were moved there.
+     */
+    private final LinkedHashMap<K, Location> index = new LinkedHashMap<>();
+    private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+    private Segment currentSegment;
+    private int nextSegmentId;
+    private long liveBytes;
+    private long obsoleteBytes;
+
+    /**
+     * @param directory   directory of the segment files, deleted when the
+     *                    map is closed
+     * @param cacheSize   maximum number of values kept on the heap
+     * @param segmentSize size of the segment files
+     */
+    DiskStateMap(
+            @Nonnull Path directory,
+            @Nonnull InternalSerializationService serializationService,
+            int cacheSize,
+            int segmentSize
+    ) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("cacheSize must be positive: " + cacheSize);
+        }
+        this.directory = directory;
+        this.serializationService = serializationService;
+        this.cacheSize = cacheSize;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public V get(Object key) {
+        V value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        Location location = index.remove(key);
+        if (location == null) {
+            return null;
+        }
+        value = read(location);
+        release(location);
+        @SuppressWarnings("unchecked")
+        K k = (K) key;
+        cache.put(k, value);
+        evictIfNeeded();
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return cache.containsKey(key) || index.containsKey(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V oldValue = cache.put(key, value);
+        if (oldValue == null) {
+            Location location = index.remove(key);
+            if (location != null) {
+                oldValue = read(location);
+                release(location);
+            }
+        }
+        evictIfNeeded();
+        return oldValue;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V value = cache.remove(key);
+        if (value != null) {
+            return value;
+        }
+        Location location = index.remove(key);
+        if (location == null) {
+            return null;
+        }
+        value = read(location);
+        release(location);
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return cache.size() + index.size();
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+        for (Location location : index.values()) {
+            release(location);
+        }
+        index.clear();
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * Returns the number of the values on the disk.
+     */
+    int spilledCount() {
+        return index.size();
+    }
+
+    /**
+     * Returns the total size of the segment files.
+     */
+    long diskSize() {
+        return liveBytes + obsoleteBytes;
+    }
+
+    /**
+     * Deletes the segment files and their directory.
+     */
+    @Override
+    public void close() {
+        cache.clear();
+        for (Location location : index.values()) {
+            location.segment.close();
+        }
+        index.clear();
+        if (currentSegment != null) {
+            currentSegment.close();
+            currentSegment = null;
+        }
+        IOUtil.delete(directory);
+    }
+
+    private void evictIfNeeded() {
+        if (cache.size() <= cacheSize) {
+            return;
+        }
+        Iterator<Entry<K, V>> iterator = cache.entrySet().iterator();
+        while (cache.size() > cacheSize) {
+            Entry<K, V> eldest = iterator.next();
+            byte[] bytes = serializationService.toData(eldest.getValue()).toByteArray();
+            index.put(eldest.getKey(), append(bytes));
+            iterator.remove();
+        }
+        // the obsolete values of the current segment can't be reclaimed yet
+        long reclaimableBytes = obsoleteBytes - (currentSegment.size - currentSegment.liveBytes);
+        if (reclaimableBytes > Math.max(liveBytes, segmentSize)) {
+            compact();
+        }
+    }
+
+    private Location append(byte[] bytes) {
+        try {
+            if (currentSegment == null || currentSegment.size > 0 && currentSegment.size + bytes.length > segmentSize) {
+                if (currentSegment != null && currentSegment.liveCount == 0) {
+                    obsoleteBytes -= currentSegment.size;
+                    currentSegment.close();
+                }
+                currentSegment = new Segment(directory.resolve("segment-" + nextSegmentId++));
+            }
+            Location location = currentSegment.append(bytes);
+            liveBytes += bytes.length;
+            return location;
+        } catch (IOException e) {
+            throw new JetException("Could not write the state to " + directory, e);
+        }
+    }
+
+    private V read(Location location) {
+        try {
+            return serializationService.toObject(new HeapData(location.segment.read(location.offset, location.length)));
+        } catch (IOException e) {
+            throw new JetException("Could not read the state from " + location.segment.file, e);
+        }
+    }
+
+    private void release(Location location) {
+        Segment segment = location.segment;
+        segment.liveCount--;
+        segment.liveBytes -= location.length;
+        liveBytes -= location.length;
+        obsoleteBytes += location.length;
+        if (segment.liveCount == 0 && segment != currentSegment) {
+            obsoleteBytes -= segment.size;
+            segment.close();
+        }
+    }
+
+    /**
+     * Copies the live values of the full segments in which most values are
+     * obsolete to the current segment.
+     */
+    private void compact() {
+        for (Entry<K, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            Segment segment = location.segment;
+            if (segment == currentSegment || segment.liveBytes * 2 > segment.size) {
+                continue;
+            }
+            byte[] bytes;
+            try {
+                bytes = segment.read(location.offset, location.length);
+            } catch (IOException e) {
+                throw new JetException("Could not read the state from " + segment.file, e);
+            }
+            // the new location is created before the old one is released, so that the
+            // segment being copied isn't closed while its values are being read
+            entry.setValue(append(bytes));
+            release(location);
+        }
+    }
+
+    private static final class Location {
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+
+        private Location(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private static final class Segment {
+        private final Path file;
+        private FileChannel channel;
+        private int size;
+        private int liveCount;
+        private long liveBytes;
+
+        private Segment(Path file) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file, CREATE_NEW, READ, WRITE);
+        }
+
+        private Location append(byte[] bytes) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, size + buffer.position());
+            }
+            Location location = new Location(this, size, bytes.length);
+            size += bytes.length;
+            liveCount++;
+            liveBytes += bytes.length;
+            return location;
+        }
+
+        private byte[] read(int offset, int length) throws IOException {
+            byte[] bytes = new byte[length];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+            }
+            return bytes;
+        }
+
+        /**
+         * Closes and deletes the file, does nothing if it's already closed.
+         */
+        private void close() {
+            if (channel == null) {
+                return;
+            }
+            IOUtil.closeResource(channel);
+            channel = null;
+            IOUtil.deleteQuietly(file.toFile());
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Nonnull
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return DiskStateMap.this.size();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final Iterator<Entry<K, Location>> indexIterator = index.entrySet().iterator();
+        private final Iterator<Entry<K, V>> cacheIterator = cache.entrySet().iterator();
+        private Iterator<?> lastIterator;
+        private Location lastLocation;
+
+        @Override
+        public boolean hasNext() {
+            return indexIterator.hasNext() || cacheIterator.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (indexIterator.hasNext()) {
+                Entry<K, Location> entry = indexIterator.next();
+                lastIterator = indexIterator;
+                lastLocation = entry.getValue();
+                return new SimpleEntry<>(entry.getKey(), read(lastLocation));
+            }
+            if (cacheIterator.hasNext()) {
+                lastIterator = cacheIterator;
+                lastLocation = null;
+                return cacheIterator.next();
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            if (lastIterator == null) {
+                throw new IllegalStateException();
+            }
+            lastIterator.remove();
+            if (lastLocation != null) {
+                release(lastLocation);
+            }
+            lastIterator = null;
+            lastLocation = null;
+        }
+    }
+}
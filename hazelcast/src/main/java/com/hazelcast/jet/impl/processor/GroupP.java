@@ -16,53 +16,105 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.function.BiFunctionEx;
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Util;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_HASH_SPILL_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIRECTORY;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.generate;
 
 /**
  * Batch processor that groups items by key and computes the supplied
  * aggregate operation on each group. The items may originate from one or
  * more inbound edges. The supplied aggregate operation must have as many
  * accumulation functions as there are inbound edges.
+ * <p>
+ * If spilling is enabled and the aggregate operation has a combine
+ * primitive, the processor doesn't fail when it reaches the maximum
+ * number of accumulated records. Instead, it writes the accumulators to
+ * temporary files partitioned by the hash of their keys, and it combines
+ * the accumulators of each partition when its input is complete. A
+ * partition which still has too many keys is partitioned again with another
+ * hash. The processors which can spill do blocking file IO, so they are
+ * non-cooperative.
  */
 public class GroupP<K, A, R, OUT> extends AbstractProcessor {
 
+    /**
+     * Number of the partitions the accumulators are spilled to.
+     */
+    static final int SPILL_PARTITION_COUNT = 16;
+
+    /**
+     * Maximum number of times a spilled partition is partitioned again.
+     */
+    static final int MAX_SPILL_LEVEL = 4;
+
     protected final Map<K, A> keyToAcc = new HashMap<>();
 
     private final List<FunctionEx<?, ? extends K>> groupKeyFns;
     private final AggregateOperation<A, R> aggrOp;
     private final BiFunction<? super K, ? super R, OUT> mapToOutputFn;
+    private final boolean spillEnabled;
+    private final String spillDirectory;
+    private final Deque<SpilledPartition> spilledPartitions = new ArrayDeque<>();
+
+    @Probe(name = "spilledEntries")
+    private final Counter spilledEntries = SwCounter.newSwCounter();
+    @Probe(name = "spilledBytes", unit = BYTES)
+    private final Counter spilledBytes = SwCounter.newSwCounter();
 
     private long maxEntries;
     private Traverser<OUT> resultTraverser;
+    private InternalSerializationService serializationService;
+    private Path spillPath;
+    private SpillFile[] spillFiles;
+    private int nextSpillFileId;
 
     public GroupP(
             @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
             @Nonnull AggregateOperation<A, R> aggrOp,
             @Nonnull BiFunction<? super K, ? super R, OUT> mapToOutputFn
     ) {
-        checkTrue(groupKeyFns.size() == aggrOp.arity(), groupKeyFns.size() + " key functions " +
-                "provided for " + aggrOp.arity() + "-arity aggregate operation");
-        this.groupKeyFns = groupKeyFns;
-        this.aggrOp = aggrOp;
-        this.mapToOutputFn = mapToOutputFn;
+        this(groupKeyFns, aggrOp, mapToOutputFn, false, null);
     }
 
     public <T> GroupP(
@@ -73,9 +125,85 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
         this(singletonList(groupKeyFn), aggrOp, mapToOutputFn);
     }
 
+    /**
+     * @param spillEnabled   whether to spill the accumulators when the maximum
+     *                       number of accumulated records is reached, ignored
+     *                       if the aggregate operation has no combine primitive
+     * @param spillDirectory directory of the temporary files of the spilled
+     *                       accumulators, {@code null} for the default temporary
+     *                       directory
+     */
+    public GroupP(
+            @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
+            @Nonnull AggregateOperation<A, R> aggrOp,
+            @Nonnull BiFunction<? super K, ? super R, OUT> mapToOutputFn,
+            boolean spillEnabled,
+            @Nullable String spillDirectory
+    ) {
+        checkTrue(groupKeyFns.size() == aggrOp.arity(), groupKeyFns.size() + " key functions " +
+                "provided for " + aggrOp.arity() + "-arity aggregate operation");
+        this.groupKeyFns = groupKeyFns;
+        this.aggrOp = aggrOp;
+        this.mapToOutputFn = mapToOutputFn;
+        this.spillEnabled = spillEnabled && aggrOp.combineFn() != null;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Returns a supplier of processors equivalent to {@link
+     * com.hazelcast.jet.core.processor.Processors#aggregateByKeyP}, which spill
+     * according to {@link com.hazelcast.spi.properties.ClusterProperty#JET_HASH_SPILL_ENABLED}.
+     */
+    @Nonnull
+    public static <K, A, R, OUT> ProcessorSupplier aggregateByKeySupplier(
+            @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
+            @Nonnull AggregateOperation<A, R> aggrOp,
+            @Nonnull BiFunctionEx<? super K, ? super R, OUT> mapToOutputFn
+    ) {
+        return new Supplier<>(groupKeyFns, aggrOp, mapToOutputFn);
+    }
+
+    /**
+     * Returns a supplier of processors equivalent to {@link
+     * com.hazelcast.jet.core.processor.Processors#accumulateByKeyP}, which spill
+     * according to {@link com.hazelcast.spi.properties.ClusterProperty#JET_HASH_SPILL_ENABLED}.
+     */
+    @Nonnull
+    public static <K, A> ProcessorSupplier accumulateByKeySupplier(
+            @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
+            @Nonnull AggregateOperation<A, ?> aggrOp
+    ) {
+        return new Supplier<K, A, A, Entry<K, A>>(groupKeyFns, aggrOp.withIdentityFinish(), Util::entry);
+    }
+
+    /**
+     * Returns a supplier of processors equivalent to {@link
+     * com.hazelcast.jet.core.processor.Processors#combineByKeyP}, which spill
+     * according to {@link com.hazelcast.spi.properties.ClusterProperty#JET_HASH_SPILL_ENABLED}.
+     */
+    @Nonnull
+    public static <K, A, R, OUT> ProcessorSupplier combineByKeySupplier(
+            @Nonnull AggregateOperation<A, R> aggrOp,
+            @Nonnull BiFunctionEx<? super K, ? super R, OUT> mapToOutputFn
+    ) {
+        FunctionEx<Entry<K, A>, K> groupKeyFn = Entry::getKey;
+        return new Supplier<>(
+                singletonList(groupKeyFn),
+                aggrOp.withCombiningAccumulateFn(Entry<K, A>::getValue),
+                mapToOutputFn);
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return !spillEnabled;
+    }
+
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (spillEnabled) {
+            serializationService = ((InternalProcSupplierCtx) context).serializationService();
+        }
     }
 
     @Override
@@ -83,6 +211,9 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     protected boolean tryProcess(int ordinal, @Nonnull Object item) {
         Function<Object, ? extends K> keyFn = (Function<Object, ? extends K>) groupKeyFns.get(ordinal);
         K key = keyFn.apply(item);
+        if (spillEnabled && keyToAcc.size() == maxEntries && !keyToAcc.containsKey(key)) {
+            spill();
+        }
         A acc = keyToAcc.computeIfAbsent(key, k -> {
             if (keyToAcc.size() == maxEntries) {
                 throw new AccumulationLimitExceededException();
@@ -97,7 +228,16 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     @Override
     public boolean complete() {
         if (resultTraverser == null) {
-            resultTraverser = new ResultTraverser()
+            Traverser<Entry<K, A>> entryTraverser;
+            if (spillFiles == null) {
+                entryTraverser = new ResultTraverser();
+            } else {
+                spill();
+                addSpilledPartitions(spillFiles, 0);
+                spillFiles = null;
+                entryTraverser = new SpilledResultTraverser();
+            }
+            resultTraverser = entryTraverser
                     // reuse null filtering done by map()
                     .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
         }
@@ -109,6 +249,126 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
         return true;
     }
 
+    @Override
+    public void close() throws Exception {
+        if (spillPath != null) {
+            for (SpilledPartition partition : spilledPartitions) {
+                partition.file.delete();
+            }
+            spilledPartitions.clear();
+            if (spillFiles != null) {
+                for (SpillFile file : spillFiles) {
+                    file.delete();
+                }
+                spillFiles = null;
+            }
+            IOUtil.delete(spillPath);
+            spillPath = null;
+        }
+    }
+
+    /**
+     * Moves all the accumulators to the spill files.
+     */
+    private void spill() {
+        try {
+            if (spillFiles == null) {
+                spillFiles = newSpillFiles();
+            }
+            spill(keyToAcc.entrySet().iterator(), spillFiles, 0);
+        } catch (IOException e) {
+            throw new JetException("Could not spill the accumulators to " + spillPath, e);
+        }
+        keyToAcc.clear();
+    }
+
+    private void spill(Iterator<Entry<K, A>> entries, SpillFile[] files, int level) throws IOException {
+        while (entries.hasNext()) {
+            Entry<K, A> entry = entries.next();
+            spill(entry.getKey(), entry.getValue(), files, level);
+        }
+    }
+
+    private void spill(K key, A acc, SpillFile[] files, int level) throws IOException {
+        SpillFile file = files[SpillFile.partitionOf(key, level, SPILL_PARTITION_COUNT)];
+        long sizeBefore = file.size();
+        file.write(key);
+        file.write(acc);
+        spilledEntries.inc();
+        spilledBytes.inc(file.size() - sizeBefore);
+    }
+
+    private SpillFile[] newSpillFiles() throws IOException {
+        if (spillPath == null) {
+            spillPath = SpillFile.createDirectory(spillDirectory, "hazelcast-jet-group-");
+        }
+        SpillFile[] files = new SpillFile[SPILL_PARTITION_COUNT];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = new SpillFile(spillPath.resolve("partition-" + nextSpillFileId++), serializationService);
+        }
+        return files;
+    }
+
+    private void addSpilledPartitions(SpillFile[] files, int level) {
+        try {
+            for (SpillFile file : files) {
+                if (file.itemCount() == 0) {
+                    file.delete();
+                } else {
+                    file.finishWriting();
+                    spilledPartitions.addFirst(new SpilledPartition(file, level));
+                }
+            }
+        } catch (IOException e) {
+            throw new JetException("Could not spill the accumulators to " + spillPath, e);
+        }
+    }
+
+    /**
+     * Combines the accumulators of the given spilled partition into {@link
+     * #keyToAcc}. If the partition has more keys than the maximum number of
+     * accumulated records, it's partitioned again instead and {@link
+     * #keyToAcc} is left empty.
+     */
+    @SuppressWarnings("unchecked")
+    private void loadSpilledPartition(SpilledPartition partition) {
+        BiConsumer<? super A, ? super A> combineFn = aggrOp.combineFn();
+        Iterator<Object> items = partition.file.iterator();
+        try {
+            while (items.hasNext()) {
+                K key = (K) items.next();
+                A acc = (A) items.next();
+                A existingAcc = keyToAcc.get(key);
+                if (existingAcc != null) {
+                    combineFn.accept(existingAcc, acc);
+                } else if (keyToAcc.size() < maxEntries) {
+                    keyToAcc.put(key, acc);
+                } else if (partition.level < MAX_SPILL_LEVEL) {
+                    int level = partition.level + 1;
+                    SpillFile[] files = newSpillFiles();
+                    spill(keyToAcc.entrySet().iterator(), files, level);
+                    keyToAcc.clear();
+                    spill(key, acc, files, level);
+                    while (items.hasNext()) {
+                        spill((K) items.next(), (A) items.next(), files, level);
+                    }
+                    addSpilledPartitions(files, level);
+                    return;
+                } else {
+                    throw new AccumulationLimitExceededException();
+                }
+            }
+        } catch (IOException e) {
+            throw new JetException("Could not spill the accumulators to " + spillPath, e);
+        } finally {
+            try {
+                partition.file.delete();
+            } catch (IOException e) {
+                getLogger().warning("Could not delete " + partition.file, e);
+            }
+        }
+    }
+
     private class ResultTraverser implements Traverser<Entry<K, A>> {
         private final Iterator<Entry<K, A>> iter = keyToAcc.entrySet().iterator();
 
@@ -124,4 +384,64 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
             }
         }
     }
+
+    /**
+     * Traverses the accumulators of the spilled partitions, one partition
+     * at a time.
+     */
+    private class SpilledResultTraverser implements Traverser<Entry<K, A>> {
+        private ResultTraverser partitionTraverser = new ResultTraverser();
+
+        @Override
+        public Entry<K, A> next() {
+            for (;;) {
+                Entry<K, A> entry = partitionTraverser.next();
+                if (entry != null || spilledPartitions.isEmpty()) {
+                    return entry;
+                }
+                loadSpilledPartition(spilledPartitions.poll());
+                partitionTraverser = new ResultTraverser();
+            }
+        }
+    }
+
+    private record SpilledPartition(SpillFile file, int level) {
+    }
+
+    private static final class Supplier<K, A, R, OUT> implements ProcessorSupplier {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final List<FunctionEx<?, ? extends K>> groupKeyFns;
+        private final AggregateOperation<A, R> aggrOp;
+        private final BiFunctionEx<? super K, ? super R, OUT> mapToOutputFn;
+        private transient boolean spillEnabled;
+        private transient String spillDirectory;
+
+        private Supplier(
+                List<FunctionEx<?, ? extends K>> groupKeyFns,
+                AggregateOperation<A, R> aggrOp,
+                BiFunctionEx<? super K, ? super R, OUT> mapToOutputFn
+        ) {
+            this.groupKeyFns = groupKeyFns;
+            this.aggrOp = aggrOp;
+            this.mapToOutputFn = mapToOutputFn;
+        }
+
+        @Override
+        public void init(@Nonnull Context context) {
+            HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+            spillEnabled = properties.getBoolean(JET_HASH_SPILL_ENABLED);
+            spillDirectory = properties.getString(JET_SPILL_DIRECTORY);
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            return generate(() -> new GroupP<>(groupKeyFns, aggrOp, mapToOutputFn, spillEnabled, spillDirectory))
+                    .limit(count)
+                    .collect(toList());
+        }
+    }
 }
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.accumulator.DoubleAccumulator;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.util.collection.Hashing.intHash;
+import static com.hazelcast.jet.Traversers.traverseIterable;
+import static com.hazelcast.jet.Util.entry;
+
+/**
+ * Accumulators by key of a frame or a window of {@link SlidingWindowP}.
+ * <p>
+ * The accumulators of the aggregate operations which accumulate into a
+ * {@link LongAccumulator} or a {@link DoubleAccumulator}, such as {@code
+ * counting()}, {@code summingLong()} or {@code summingDouble()}, are kept
+ * as primitive values in flat arrays, so that there's no accumulator object
+ * and no map entry per key and frame. The aggregate operation's functions
+ * are applied to reused accumulator objects holding the primitive values.
+ * Other accumulators are kept in a {@link HashMap}.
+ *
+ * @param <K> type of the key
+ * @param <A> type of the accumulator
+ */
+abstract class KeyedAccumulators<K, A> {
+
+    /**
+     * Returns a factory of empty instances suitable for the accumulators of
+     * the given aggregate operation. All the instances created by a factory
+     * must be used by a single thread.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, A> Supplier<KeyedAccumulators<K, A>> factory(@Nonnull AggregateOperation<A, ?> aggrOp) {
+        Supplier<A> createFn = aggrOp.createFn();
+        A emptyAcc = createFn.get();
+        PrimitiveCodec<A> codec;
+        if (emptyAcc.getClass() == LongAccumulator.class) {
+            codec = (PrimitiveCodec<A>) PrimitiveCodec.LONG;
+        } else if (emptyAcc.getClass() == DoubleAccumulator.class) {
+            codec = (PrimitiveCodec<A>) PrimitiveCodec.DOUBLE;
+        } else {
+            return () -> new ObjectAccumulators<>(createFn, emptyAcc);
+        }
+        PrimitiveContext<A> context = new PrimitiveContext<>(codec, createFn, emptyAcc);
+        return () -> new PrimitiveAccumulators<>(context);
+    }
+
+    /**
+     * Returns the number of keys.
+     */
+    abstract int size();
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    abstract boolean containsKey(@Nonnull K key);
+
+    /**
+     * Accumulates the given item into the accumulator of the given key,
+     * creating it if there's none.
+     *
+     * @return {@code true} if the accumulator was created
+     */
+    abstract boolean accumulate(@Nonnull K key, @Nonnull BiConsumer<? super A, ? super Object> accumulateFn,
+                                @Nonnull Object item);
+
+    /**
+     * Sets the accumulator of a key without one.
+     */
+    abstract void put(@Nonnull K key, @Nonnull A acc);
+
+    /**
+     * Combines the given accumulator into the accumulator of the given key,
+     * creating it if there's none.
+     */
+    abstract void combine(@Nonnull K key, @Nonnull A acc, @Nonnull BiConsumer<? super A, ? super A> combineFn);
+
+    /**
+     * Applies the given function to the accumulators of the keys of the
+     * given instance and the accumulators of the same keys in this instance,
+     * creating the missing ones.
+     *
+     * @param removeEmpty whether to remove the accumulators which are equal
+     *                    to a new accumulator after the function is applied
+     */
+    abstract void patch(@Nonnull KeyedAccumulators<K, A> other, @Nonnull BiConsumer<? super A, ? super A> patchFn,
+                        boolean removeEmpty);
+
+    /**
+     * Returns a traverser over the keys and their accumulators. The
+     * accumulators may be newly created objects, which are not updated when
+     * this instance is updated.
+     */
+    @Nonnull
+    abstract Traverser<Entry<K, A>> entries();
+
+    private static final class ObjectAccumulators<K, A> extends KeyedAccumulators<K, A> {
+
+        private final Supplier<A> createFn;
+        private final A emptyAcc;
+        private final Map<K, A> keyToAcc = new HashMap<>();
+
+        private ObjectAccumulators(Supplier<A> createFn, A emptyAcc) {
+            this.createFn = createFn;
+            this.emptyAcc = emptyAcc;
+        }
+
+        @Override
+        int size() {
+            return keyToAcc.size();
+        }
+
+        @Override
+        boolean containsKey(@Nonnull K key) {
+            return keyToAcc.containsKey(key);
+        }
+
+        @Override
+        boolean accumulate(@Nonnull K key, @Nonnull BiConsumer<? super A, ? super Object> accumulateFn,
+                           @Nonnull Object item) {
+            A acc = keyToAcc.get(key);
+            boolean created = acc == null;
+            if (created) {
+                acc = createFn.get();
+                keyToAcc.put(key, acc);
+            }
+            accumulateFn.accept(acc, item);
+            return created;
+        }
+
+        @Override
+        void put(@Nonnull K key, @Nonnull A acc) {
+            keyToAcc.put(key, acc);
+        }
+
+        @Override
+        void combine(@Nonnull K key, @Nonnull A acc, @Nonnull BiConsumer<? super A, ? super A> combineFn) {
+            A existingAcc = keyToAcc.get(key);
+            if (existingAcc == null) {
+                existingAcc = createFn.get();
+                keyToAcc.put(key, existingAcc);
+            }
+            combineFn.accept(existingAcc, acc);
+        }
+
+        @Override
+        void patch(@Nonnull KeyedAccumulators<K, A> other, @Nonnull BiConsumer<? super A, ? super A> patchFn,
+                   boolean removeEmpty) {
+            for (Entry<K, A> e : ((ObjectAccumulators<K, A>) other).keyToAcc.entrySet()) {
+                A acc = keyToAcc.get(e.getKey());
+                boolean created = acc == null;
+                if (created) {
+                    acc = createFn.get();
+                }
+                patchFn.accept(acc, e.getValue());
+                if (removeEmpty && acc.equals(emptyAcc)) {
+                    if (!created) {
+                        keyToAcc.remove(e.getKey());
+                    }
+                } else if (created) {
+                    keyToAcc.put(e.getKey(), acc);
+                }
+            }
+        }
+
+        @Nonnull
+        @Override
+        Traverser<Entry<K, A>> entries() {
+            return traverseIterable(keyToAcc.entrySet());
+        }
+
+        @Override
+        public String toString() {
+            return keyToAcc.toString();
+        }
+    }
+
+    /**
+     * Open-addressing hash table with linear probing of the keys and the
+     * primitive values of their accumulators.
+     */
+    private static final class PrimitiveAccumulators<K, A> extends KeyedAccumulators<K, A> {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private final PrimitiveContext<A> context;
+        private K[] keys;
+        private long[] values;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private PrimitiveAccumulators(PrimitiveContext<A> context) {
+            this.context = context;
+            this.keys = (K[]) new Object[INITIAL_CAPACITY];
+            this.values = new long[INITIAL_CAPACITY];
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        boolean containsKey(@Nonnull K key) {
+            return keys[indexOf(key)] != null;
+        }
+
+        @Override
+        boolean accumulate(@Nonnull K key, @Nonnull BiConsumer<? super A, ? super Object> accumulateFn,
+                           @Nonnull Object item) {
+            int index = indexOf(key);
+            boolean created = keys[index] == null;
+            long value = created ? context.emptyValue : values[index];
+            A acc = context.decode(value, context.leftAcc);
+            accumulateFn.accept(acc, item);
+            set(index, key, context.codec.encode(acc));
+            return created;
+        }
+
+        @Override
+        void put(@Nonnull K key, @Nonnull A acc) {
+            set(indexOf(key), key, context.codec.encode(acc));
+        }
+
+        @Override
+        void combine(@Nonnull K key, @Nonnull A acc, @Nonnull BiConsumer<? super A, ? super A> combineFn) {
+            int index = indexOf(key);
+            long value = keys[index] == null ? context.emptyValue : values[index];
+            A existingAcc = context.decode(value, context.leftAcc);
+            combineFn.accept(existingAcc, acc);
+            set(index, key, context.codec.encode(existingAcc));
+        }
+
+        @Override
+        void patch(@Nonnull KeyedAccumulators<K, A> other, @Nonnull BiConsumer<? super A, ? super A> patchFn,
+                   boolean removeEmpty) {
+            PrimitiveAccumulators<K, A> that = (PrimitiveAccumulators<K, A>) other;
+            for (int i = 0; i < that.keys.length; i++) {
+                K key = that.keys[i];
+                if (key == null) {
+                    continue;
+                }
+                int index = indexOf(key);
+                boolean created = keys[index] == null;
+                A acc = context.decode(created ? context.emptyValue : values[index], context.leftAcc);
+                patchFn.accept(acc, context.decode(that.values[i], context.rightAcc));
+                long value = context.codec.encode(acc);
+                if (removeEmpty && value == context.emptyValue) {
+                    if (!created) {
+                        removeAt(index);
+                    }
+                } else {
+                    set(index, key, value);
+                }
+            }
+        }
+
+        @Nonnull
+        @Override
+        Traverser<Entry<K, A>> entries() {
+            return new Traverser<>() {
+                private int index;
+
+                @Override
+                public Entry<K, A> next() {
+                    for (; index < keys.length; index++) {
+                        if (keys[index] != null) {
+                            A acc = context.decode(values[index], context.createFn.get());
+                            return entry(keys[index++], acc);
+                        }
+                    }
+                    return null;
+                }
+            };
+        }
+
+        /**
+         * Returns the index of the given key, or the index at which it would
+         * be inserted if it's missing.
+         */
+        private int indexOf(K key) {
+            int mask = keys.length - 1;
+            int index = intHash(key.hashCode(), mask);
+            while (keys[index] != null && !keys[index].equals(key)) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        private void set(int index, K key, long value) {
+            values[index] = value;
+            if (keys[index] == null) {
+                keys[index] = key;
+                // keep the load factor at most 1/2
+                if (++size > keys.length >> 1) {
+                    resize();
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void resize() {
+            K[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = (K[]) new Object[oldKeys.length << 1];
+            values = new long[oldValues.length << 1];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int index = indexOf(oldKeys[i]);
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+
+        /**
+         * Removes the key at the given index and shifts back the following
+         * keys of its probe sequence, so that no tombstone is needed.
+         */
+        private void removeAt(int index) {
+            int mask = keys.length - 1;
+            keys[index] = null;
+            size--;
+            int gap = index;
+            for (int i = (index + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+                int home = intHash(keys[i].hashCode(), mask);
+                if (((i - home) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    values[gap] = values[i];
+                    keys[i] = null;
+                    gap = i;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    if (sb.length() > 1) {
+                        sb.append(", ");
+                    }
+                    sb.append(keys[i]).append('=').append(context.decode(values[i], context.createFn.get()));
+                }
+            }
+            return sb.append('}').toString();
+        }
+    }
+
+    /**
+     * State shared by the primitive instances of a factory.
+     */
+    private static final class PrimitiveContext<A> {
+
+        private final PrimitiveCodec<A> codec;
+        private final Supplier<A> createFn;
+        private final long emptyValue;
+        private final A leftAcc;
+        private final A rightAcc;
+
+        private PrimitiveContext(PrimitiveCodec<A> codec, Supplier<A> createFn, A emptyAcc) {
+            this.codec = codec;
+            this.createFn = createFn;
+            this.emptyValue = codec.encode(emptyAcc);
+            this.leftAcc = createFn.get();
+            this.rightAcc = createFn.get();
+        }
+
+        private A decode(long value, A acc) {
+            codec.decode(value, acc);
+            return acc;
+        }
+    }
+
+    /**
+     * Converts an accumulator holding a single primitive value to and from
+     * a {@code long}.
+     */
+    private interface PrimitiveCodec<A> {
+
+        PrimitiveCodec<LongAccumulator> LONG = new PrimitiveCodec<>() {
+            @Override
+            public long encode(LongAccumulator acc) {
+                return acc.get();
+            }
+
+            @Override
+            public void decode(long value, LongAccumulator acc) {
+                acc.set(value);
+            }
+        };
+
+        PrimitiveCodec<DoubleAccumulator> DOUBLE = new PrimitiveCodec<>() {
+            @Override
+            public long encode(DoubleAccumulator acc) {
+                return Double.doubleToRawLongBits(acc.export());
+            }
+
+            @Override
+            public void decode(long value, DoubleAccumulator acc) {
+                acc.set(Double.longBitsToDouble(value));
+            }
+        };
+
+        long encode(A acc);
+
+        void decode(long value, A acc);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
+
+import javax.annotation.Nonnull;
+import java.util.function.Function;
+
+/**
+ * Processor which maps its input items with a function, dropping the
+ * items mapped to {@code null}. Unlike {@link TransformP}, it processes
+ * the whole inbox in a single loop and emits each result directly, with
+ * no traverser allocated and no virtual calls per item besides the
+ * function and the outbox.
+ * <p>
+ * An item is removed from the inbox only after its result was accepted
+ * by the outbox, so that an item being emitted is never left behind a
+ * snapshot barrier.
+ *
+ * @param <T> received item type
+ * @param <R> emitted item type
+ */
+public class MapP<T, R> extends AbstractProcessor {
+
+    private final Function<? super T, ? extends R> mapFn;
+    private R pendingResult;
+
+    /**
+     * Constructs a processor with the given mapping function.
+     */
+    public MapP(@Nonnull Function<? super T, ? extends R> mapFn) {
+        this.mapFn = mapFn;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        for (Object item; (item = inbox.peek()) != null; inbox.remove()) {
+            R result = pendingResult != null ? pendingResult : mapFn.apply((T) item);
+            if (result != null && !tryEmit(result)) {
+                pendingResult = result;
+                return;
+            }
+            pendingResult = null;
+        }
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+}
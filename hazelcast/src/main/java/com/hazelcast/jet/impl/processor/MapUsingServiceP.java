@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.BiFunctionEx;
+import com.hazelcast.jet.core.Inbox;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.pipeline.ServiceFactory;
+
+import javax.annotation.Nonnull;
+import java.util.function.BiFunction;
+
+import static com.hazelcast.jet.impl.processor.ProcessorSupplierWithService.supplierWithService;
+
+/**
+ * Backing processor for {@link
+ * com.hazelcast.jet.core.processor.Processors#mapUsingServiceP} and {@link
+ * com.hazelcast.jet.core.processor.Processors#filterUsingServiceP}. It
+ * processes the whole inbox in a single loop, like {@link MapP}.
+ *
+ * @param <S> service type
+ * @param <T> received item type
+ * @param <R> emitted item type
+ */
+public final class MapUsingServiceP<C, S, T, R> extends AbstractTransformUsingServiceP<C, S> {
+
+    private final BiFunction<? super S, ? super T, ? extends R> mapFn;
+    private R pendingResult;
+
+    private MapUsingServiceP(
+            @Nonnull ServiceFactory<C, S> serviceFactory,
+            @Nonnull C context,
+            @Nonnull BiFunction<? super S, ? super T, ? extends R> mapFn
+    ) {
+        super(serviceFactory, context);
+        this.mapFn = mapFn;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        for (Object item; (item = inbox.peek()) != null; inbox.remove()) {
+            R result = pendingResult != null ? pendingResult : mapFn.apply(service, (T) item);
+            if (result != null && !tryEmit(result)) {
+                pendingResult = result;
+                return;
+            }
+            pendingResult = null;
+        }
+    }
+
+    /**
+     * Returns a supplier of processors which map the items with the given
+     * function, dropping the items mapped to {@code null}.
+     */
+    public static <C, S, T, R> ProcessorSupplier supplier(
+            @Nonnull ServiceFactory<C, S> serviceFactory,
+            @Nonnull BiFunctionEx<? super S, ? super T, ? extends R> mapFn
+    ) {
+        return supplierWithService(serviceFactory,
+                (serviceFn, context) -> new MapUsingServiceP<C, S, T, R>(serviceFn, context, mapFn)
+        );
+    }
+}
@@ -21,7 +21,6 @@ import com.hazelcast.function.SupplierEx;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.core.JetDataSerializerHook;
 import com.hazelcast.jet.core.Processor;
-import com.hazelcast.jet.core.ResettableSingletonTraverser;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -77,11 +76,7 @@ public final class ProcessorSuppliers {
 
         @Override
         public Processor getEx() throws Exception {
-            final ResettableSingletonTraverser<R> trav = new ResettableSingletonTraverser<>();
-            return new TransformP<T, R>(item -> {
-                trav.accept(mapFn.apply(item));
-                return trav;
-            });
+            return new MapP<T, R>(mapFn);
         }
 
         @Override
@@ -41,14 +41,13 @@ import com.hazelcast.partition.PartitionAware;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.LongFunction;
+import java.util.function.Supplier;
 import java.util.function.ToLongFunction;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -64,7 +63,6 @@ import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
 import static com.hazelcast.jet.impl.util.Util.logLateEvent;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
-import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
@@ -78,11 +76,11 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
 
     // package-visible for testing
-    final Long2ObjectHashMap<Map<K, A>> tsToKeyToAcc = new Long2ObjectHashMap<>();
-    Map<K, A> slidingWindow;
+    final Long2ObjectHashMap<KeyedAccumulators<K, A>> tsToKeyToAcc = new Long2ObjectHashMap<>();
+    KeyedAccumulators<K, A> slidingWindow;
     // Holds the sliding window while emitting early window results. We reuse the
     // slidingWindow field for early results so the code can be simpler.
-    Map<K, A> slidingWindowBackup;
+    KeyedAccumulators<K, A> slidingWindowBackup;
     long nextWinToEmit = Long.MIN_VALUE;
 
     @Nonnull
@@ -94,8 +92,6 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     @Nonnull
     private final AggregateOperation<A, ? extends R> aggrOp;
     @Nonnull
-    private final A emptyAcc;
-    @Nonnull
     private final KeyedWindowResultFunction<? super K, ? super R, ? extends OUT> mapToOutputFn;
     @Nullable
     private final BiConsumer<? super A, ? super A> combineFn;
@@ -105,9 +101,13 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     private ProcessingGuarantee processingGuarantee;
     private final byte windowWatermarkKey;
 
-    // extracted lambdas to reduce GC litter
-    private final LongFunction<Map<K, A>> createMapPerTsFunction;
-    private final Function<K, A> createAccFunction;
+    @Nonnull
+    private final Supplier<KeyedAccumulators<K, A>> newAccumulatorsFn;
+    @Nonnull
+    private final KeyedAccumulators<K, A> emptyAccumulators;
+
+    // extracted lambda to reduce GC litter
+    private final LongFunction<KeyedAccumulators<K, A>> createMapPerTsFunction;
 
     @Probe(name = "lateEventsDropped")
     private final Counter lateEventsDropped = SwCounter.newSwCounter();
@@ -164,17 +164,11 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                         .append(wm)
                         .onFirstNull(() -> nextWinToEmit = winPolicy.higherFrameTs(wm.timestamp()))
         );
-        this.emptyAcc = aggrOp.createFn().get();
+        this.newAccumulatorsFn = KeyedAccumulators.factory(aggrOp);
+        this.emptyAccumulators = newAccumulatorsFn.get();
         this.createMapPerTsFunction = x -> {
             totalFrames.inc();
-            return new HashMap<>();
-        };
-        this.createAccFunction = k -> {
-            long newCount = totalKeysInFrames.inc();
-            if (newCount == maxEntries) {
-                throw new AccumulationLimitExceededException();
-            }
-            return aggrOp.createFn().get();
+            return newAccumulatorsFn.get();
         };
         this.windowWatermarkKey = windowWatermarkKey;
     }
@@ -212,7 +206,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                 winPolicy.frameSize())
             .boxed();
         earlyWinTraverser = traverseStream(earlyWinRange)
-                .flatMap(winEnd -> traverseIterable(computeWindow(winEnd).entrySet())
+                .flatMap(winEnd -> computeWindow(winEnd).entries()
                         .map(e -> mapToOutputFn.apply(
                                 winEnd - winPolicy.windowSize(),
                                 winEnd,
@@ -244,10 +238,12 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return true;
         }
         final K key = keyFns.get(ordinal).apply(item);
-        A acc = tsToKeyToAcc
+        boolean created = tsToKeyToAcc
                 .computeIfAbsent(frameTs, createMapPerTsFunction)
-                .computeIfAbsent(key, createAccFunction);
-        aggrOp.accumulateFn(ordinal).accept(acc, item);
+                .accumulate(key, aggrOp.accumulateFn(ordinal), item);
+        if (created && totalKeysInFrames.inc() == maxEntries) {
+            throw new AccumulationLimitExceededException();
+        }
         topTs = max(topTs, frameTs);
         return true;
     }
@@ -273,7 +269,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         }
         if (snapshotTraverser == null) {
             snapshotTraverser = traverseIterable(tsToKeyToAcc.entrySet())
-                    .<Entry>flatMap(e -> traverseIterable(e.getValue().entrySet())
+                    .<Entry>flatMap(e -> e.getValue().entries()
                             .map(e2 -> entry(new SnapshotKey(e.getKey(), e2.getKey()), e2.getValue()))
                     )
                     .append(entry(broadcastKey(Keys.NEXT_WIN_TO_EMIT), nextWinToEmit))
@@ -314,20 +310,19 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             }
         }
         minRestoredFrameTs = Math.min(higherFrameTs, minRestoredFrameTs);
-        tsToKeyToAcc
-                .computeIfAbsent(higherFrameTs, createMapPerTsFunction)
-                .merge((K) k.key, (A) value, (o, n) -> {
-                    if (!badFrameRestored) {
-                        throw new JetException("Duplicate key in snapshot: " + k);
-                    }
-                    if (combineFn == null) {
-                        throw new JetException("AggregateOperation.combineFn required for merging restored frames");
-                    }
-                    combineFn.accept(o, n);
-                    totalKeysInFrames.inc(-1);
-                    return o;
-                });
-        totalKeysInFrames.inc();
+        KeyedAccumulators<K, A> frame = tsToKeyToAcc.computeIfAbsent(higherFrameTs, createMapPerTsFunction);
+        if (frame.containsKey((K) k.key)) {
+            if (!badFrameRestored) {
+                throw new JetException("Duplicate key in snapshot: " + k);
+            }
+            if (combineFn == null) {
+                throw new JetException("AggregateOperation.combineFn required for merging restored frames");
+            }
+            frame.combine((K) k.key, (A) value, combineFn);
+        } else {
+            frame.put((K) k.key, (A) value);
+            totalKeysInFrames.inc();
+        }
         topTs = max(topTs, higherFrameTs);
     }
 
@@ -348,7 +343,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             if (nextWinToEmit > Long.MIN_VALUE + winPolicy.windowSize()) {
                 for (long ts = minRestoredFrameTs; ts <= nextWinToEmit - winPolicy.windowSize();
                         ts += winPolicy.frameSize()) {
-                    Map<K, A> removed = tsToKeyToAcc.remove(ts);
+                    KeyedAccumulators<K, A> removed = tsToKeyToAcc.remove(ts);
                     if (removed != null) {
                         totalFrames.inc(-1);
                         totalKeysInFrames.inc(-removed.size());
@@ -372,7 +367,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return Traversers.empty();
         }
         return traverseStream(range(rangeStart, wm, winPolicy.frameSize()).boxed())
-                .flatMap(winEnd -> traverseIterable(computeWindow(winEnd).entrySet())
+                .flatMap(winEnd -> computeWindow(winEnd).entries()
                         .<Object>map(e -> mapToOutputFn.apply(
                                 winEnd - winPolicy.windowSize(), winEnd,
                                 e.getKey(), aggrOp.finishFn().apply(e.getValue()),
@@ -401,9 +396,9 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return min(bottomTs, winPolicy.floorFrameTs(wm));
     }
 
-    private Map<K, A> computeWindow(long frameTs) {
+    private KeyedAccumulators<K, A> computeWindow(long frameTs) {
         if (winPolicy.isTumbling()) {
-            return tsToKeyToAcc.getOrDefault(frameTs, emptyMap());
+            return tsToKeyToAcc.getOrDefault(frameTs, emptyAccumulators);
         }
         if (aggrOp.deductFn() == null) {
             return recomputeWindow(frameTs);
@@ -417,38 +412,31 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return slidingWindow;
     }
 
-    private Map<K, A> recomputeWindow(long frameTs) {
-        Map<K, A> window = new HashMap<>();
+    private KeyedAccumulators<K, A> recomputeWindow(long frameTs) {
+        KeyedAccumulators<K, A> window = newAccumulatorsFn.get();
         for (long ts = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
              ts <= frameTs;
              ts += winPolicy.frameSize()
         ) {
             assert combineFn != null : "combineFn == null";
-            for (Entry<K, A> entry : tsToKeyToAcc.getOrDefault(ts, emptyMap()).entrySet()) {
-                combineFn.accept(
-                        window.computeIfAbsent(entry.getKey(), k -> aggrOp.createFn().get()),
-                        entry.getValue());
+            KeyedAccumulators<K, A> frame = tsToKeyToAcc.get(ts);
+            if (frame != null) {
+                window.patch(frame, combineFn, false);
             }
         }
         return window;
     }
 
-    private void patchSlidingWindow(BiConsumer<? super A, ? super A> patchOp, Map<K, A> patchingFrame) {
+    private void patchSlidingWindow(BiConsumer<? super A, ? super A> patchOp, KeyedAccumulators<K, A> patchingFrame) {
         if (patchingFrame == null) {
             return;
         }
-        for (Entry<K, A> e : patchingFrame.entrySet()) {
-            slidingWindow.compute(e.getKey(), (k, acc) -> {
-                A result = acc != null ? acc : aggrOp.createFn().get();
-                patchOp.accept(result, e.getValue());
-                return result.equals(emptyAcc) ? null : result;
-            });
-        }
+        slidingWindow.patch(patchingFrame, patchOp, true);
     }
 
     private void completeWindow(long frameTs) {
         long tsOfFrameToEvict = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
-        Map<K, A> evictedFrame = tsToKeyToAcc.remove(tsOfFrameToEvict);
+        KeyedAccumulators<K, A> evictedFrame = tsToKeyToAcc.remove(tsOfFrameToEvict);
         if (evictedFrame != null) {
             totalKeysInFrames.inc(-evictedFrame.size());
             totalFrames.inc(-1);
@@ -457,8 +445,9 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                 patchSlidingWindow(aggrOp.deductFn(), evictedFrame);
             }
         }
-        assert tsToKeyToAcc.values().stream().mapToInt(Map::size).sum() == totalKeysInFrames.get()
-                : "totalKeysInFrames mismatch, expected=" + tsToKeyToAcc.values().stream().mapToInt(Map::size).sum()
+        assert tsToKeyToAcc.values().stream().mapToInt(KeyedAccumulators::size).sum() == totalKeysInFrames.get()
+                : "totalKeysInFrames mismatch, expected="
+                + tsToKeyToAcc.values().stream().mapToInt(KeyedAccumulators::size).sum()
                 + ", actual=" + totalKeysInFrames.get();
     }
 
@@ -466,7 +455,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         if (winPolicy.isTumbling() || aggrOp.deductFn() == null) {
             return;
         }
-        Map<K, A> frameToDeduct = tsToKeyToAcc.get(frameTs - winPolicy.windowSize() + winPolicy.frameSize());
+        KeyedAccumulators<K, A> frameToDeduct = tsToKeyToAcc.get(frameTs - winPolicy.windowSize() + winPolicy.frameSize());
         if (frameToDeduct != null) {
             patchSlidingWindow(aggrOp.deductFn(), frameToDeduct);
         }
@@ -16,46 +16,138 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SORT_SPILL_RUN_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIRECTORY;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.generate;
+
+/**
+ * Sorts its input and emits it in the {@code complete} phase.
+ * <p>
+ * Without a run size, all items are sorted in memory. With a run size, the
+ * items are sorted in runs of at most that many items, each full run is
+ * spilled to a temporary file, and the runs are merged when the input is
+ * complete, so that only one run and the head item of each spilled run are
+ * held in memory. The processors which spill do blocking file IO, so they
+ * are non-cooperative.
+ *
+ * @param <T> type of the sorted items
+ */
 public class SortP<T> extends AbstractProcessor {
 
-    private final PriorityQueue<T> priorityQueue;
-    private final Traverser<T> resultTraverser;
+    /**
+     * Maximum number of spilled runs merged at once. More runs are merged in
+     * several passes, to bound the number of open files.
+     */
+    static final int MAX_MERGE_FAN_IN = 64;
+
+    private final Comparator<T> comparator;
+    private final long runSize;
+    private final String spillDirectory;
+    private final List<T> buffer = new ArrayList<>();
+    private final List<SpillFile> spilledRuns = new ArrayList<>();
 
+    private Traverser<T> resultTraverser;
     private long maxItems;
+    private InternalSerializationService serializationService;
+    private Path runDirectory;
+    private int nextRunId;
 
     public SortP(@Nullable Comparator<T> comparator) {
-        this.priorityQueue = new PriorityQueue<>(comparator);
-        this.resultTraverser = priorityQueue::poll;
+        this(comparator, 0, null);
+    }
+
+    /**
+     * @param runSize        maximum number of items sorted in memory, {@code 0}
+     *                       or less to sort all items in memory
+     * @param spillDirectory directory of the temporary files of the spilled
+     *                       runs, {@code null} for the default temporary directory
+     */
+    @SuppressWarnings("unchecked")
+    public SortP(@Nullable Comparator<T> comparator, long runSize, @Nullable String spillDirectory) {
+        this.comparator = comparator != null ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        this.runSize = runSize;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Returns a supplier of processors which spill their runs according to
+     * {@link com.hazelcast.spi.properties.ClusterProperty#JET_SORT_SPILL_RUN_SIZE}.
+     */
+    @Nonnull
+    public static <T> ProcessorSupplier supplier(@Nonnull ComparatorEx<? super T> comparator) {
+        return new Supplier<>(comparator);
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return !isSpilling();
     }
 
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxItems = context.maxProcessorAccumulatedRecords();
+        if (isSpilling()) {
+            serializationService = ((InternalProcSupplierCtx) context).serializationService();
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
-    protected boolean tryProcess0(@Nonnull Object item) {
-        if (priorityQueue.size() == maxItems) {
-            throw new AccumulationLimitExceededException();
+    protected boolean tryProcess0(@Nonnull Object item) throws IOException {
+        if (!isSpilling()) {
+            if (buffer.size() == maxItems) {
+                throw new AccumulationLimitExceededException();
+            }
+            buffer.add((T) item);
+            return true;
         }
 
-        priorityQueue.add((T) item);
+        buffer.add((T) item);
+        if (buffer.size() >= Math.min(runSize, maxItems)) {
+            buffer.sort(comparator);
+            spillRun(buffer.iterator());
+            buffer.clear();
+        }
         return true;
     }
 
     @Override
     public boolean complete() {
+        if (resultTraverser == null) {
+            // the processor is non-cooperative when it spills, it can merge all the passes at once
+            while (spilledRuns.size() > MAX_MERGE_FAN_IN) {
+                mergeSpilledRuns();
+            }
+            resultTraverser = createResultTraverser();
+        }
         return emitFromTraverser(resultTraverser);
     }
 
@@ -63,4 +155,145 @@ public class SortP<T> extends AbstractProcessor {
     public boolean closeIsCooperative() {
         return true;
     }
+
+    @Override
+    public void close() throws Exception {
+        for (SpillFile run : spilledRuns) {
+            run.delete();
+        }
+        spilledRuns.clear();
+        if (runDirectory != null) {
+            IOUtil.delete(runDirectory);
+            runDirectory = null;
+        }
+    }
+
+    private boolean isSpilling() {
+        return runSize > 0;
+    }
+
+    private Traverser<T> createResultTraverser() {
+        buffer.sort(comparator);
+        if (spilledRuns.isEmpty()) {
+            return Traversers.traverseIterable(buffer);
+        }
+        List<Iterator<T>> runs = new ArrayList<>(spilledRuns.size() + 1);
+        for (SpillFile run : spilledRuns) {
+            runs.add(run.<T>iterator());
+        }
+        runs.add(buffer.iterator());
+        Iterator<T> merged = merge(runs);
+        return () -> merged.hasNext() ? merged.next() : null;
+    }
+
+    /**
+     * Merges the oldest spilled runs into a new spilled run.
+     */
+    private void mergeSpilledRuns() {
+        List<SpillFile> merged = new ArrayList<>(spilledRuns.subList(0, MAX_MERGE_FAN_IN));
+        List<Iterator<T>> runs = new ArrayList<>(merged.size());
+        for (SpillFile run : merged) {
+            runs.add(run.iterator());
+        }
+        spilledRuns.subList(0, MAX_MERGE_FAN_IN).clear();
+        try {
+            spillRun(merge(runs));
+            for (SpillFile run : merged) {
+                run.delete();
+            }
+        } catch (IOException e) {
+            throw new JetException("Could not merge the spilled runs of the sort in " + runDirectory, e);
+        }
+    }
+
+    private Iterator<T> merge(Collection<Iterator<T>> runs) {
+        PriorityQueue<RunCursor<T>> queue = new PriorityQueue<>(runs.size(),
+                (cursor1, cursor2) -> comparator.compare(cursor1.head, cursor2.head));
+        for (Iterator<T> run : runs) {
+            if (run.hasNext()) {
+                queue.add(new RunCursor<>(run));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                RunCursor<T> cursor = queue.poll();
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+                T item = cursor.head;
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+                return item;
+            }
+        };
+    }
+
+    private void spillRun(Iterator<T> sortedItems) throws IOException {
+        if (runDirectory == null) {
+            runDirectory = SpillFile.createDirectory(spillDirectory, "hazelcast-jet-sort-");
+        }
+        SpillFile run = new SpillFile(runDirectory.resolve("run-" + nextRunId++), serializationService);
+        spilledRuns.add(run);
+        while (sortedItems.hasNext()) {
+            run.write(sortedItems.next());
+        }
+        run.finishWriting();
+    }
+
+    private static final class RunCursor<T> {
+
+        private final Iterator<T> run;
+        private T head;
+
+        private RunCursor(Iterator<T> run) {
+            this.run = run;
+            this.head = run.next();
+        }
+
+        private boolean advance() {
+            if (!run.hasNext()) {
+                head = null;
+                return false;
+            }
+            head = run.next();
+            return true;
+        }
+    }
+
+    private static final class Supplier<T> implements ProcessorSupplier {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final ComparatorEx<? super T> comparator;
+        private transient long runSize;
+        private transient String spillDirectory;
+
+        private Supplier(ComparatorEx<? super T> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void init(@Nonnull Context context) {
+            HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+            runSize = properties.getLong(JET_SORT_SPILL_RUN_SIZE);
+            spillDirectory = properties.getString(JET_SPILL_DIRECTORY);
+        }
+
+        @Nonnull
+        @Override
+        @SuppressWarnings("unchecked")
+        public Collection<? extends Processor> get(int count) {
+            return generate(() -> new SortP<>((Comparator<T>) comparator, runSize, spillDirectory))
+                    .limit(count)
+                    .collect(toList());
+        }
+    }
 }
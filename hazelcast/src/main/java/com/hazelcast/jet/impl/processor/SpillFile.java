@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.JetException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_fmix;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
+
+/**
+ * Temporary file of the items spilled to the disk by a processor. Each item
+ * is written as its serialized form prefixed by its length. The file is
+ * written once and then read sequentially, possibly several times.
+ * <p>
+ * It is used only by the processor which created it, so it's not thread-safe.
+ */
+public final class SpillFile {
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final int LEVEL_SEED = 0x9E3779B9;
+
+    private final Path file;
+    private final InternalSerializationService serializationService;
+
+    private DataOutputStream out;
+    private DataInputStream in;
+    private long itemCount;
+    private long size;
+
+    /**
+     * Creates the file and opens it for writing.
+     */
+    public SpillFile(@Nonnull Path file, @Nonnull InternalSerializationService serializationService) throws IOException {
+        this.file = file;
+        this.serializationService = serializationService;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_SIZE));
+    }
+
+    /**
+     * Creates a new temporary directory for the spill files in the given
+     * directory, or in the {@code java.io.tmpdir} directory if it's {@code
+     * null} or empty.
+     */
+    @Nonnull
+    public static Path createDirectory(@Nullable String parentDirectory, @Nonnull String prefix) throws IOException {
+        Path parent = Paths.get(isNullOrEmpty(parentDirectory) ? System.getProperty("java.io.tmpdir") : parentDirectory);
+        Files.createDirectories(parent);
+        return Files.createTempDirectory(parent, prefix);
+    }
+
+    /**
+     * Returns the partition of the given key among the given number of
+     * partitions of the spill files. Different levels give independent
+     * partitions, so that a partition can be split again at the next level.
+     */
+    public static int partitionOf(@Nonnull Object key, int level, int partitionCount) {
+        return (MurmurHash3_fmix(key.hashCode() + level * LEVEL_SEED) & Integer.MAX_VALUE) % partitionCount;
+    }
+
+    /**
+     * Appends the given item to the file. Must not be called after {@link
+     * #finishWriting()}.
+     */
+    public void write(@Nonnull Object item) throws IOException {
+        byte[] bytes = serializationService.toData(item).toByteArray();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        itemCount++;
+        size += Integer.BYTES + bytes.length;
+    }
+
+    /**
+     * Flushes and closes the output of the file, so that it can be read.
+     */
+    public void finishWriting() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * Returns the number of the items written to the file.
+     */
+    public long itemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the items of the file, in the order in which
+     * they were written. The iterator closes the file when it's exhausted,
+     * and it's invalidated by a later call to this method.
+     */
+    @Nonnull
+    public <T> Iterator<T> iterator() {
+        IOUtil.closeResource(in);
+        try {
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new JetException("Could not read the spill file " + file, e);
+        }
+        DataInputStream input = in;
+        return new Iterator<>() {
+            private long remaining = itemCount;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public T next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    byte[] bytes = new byte[input.readInt()];
+                    input.readFully(bytes);
+                    if (--remaining == 0) {
+                        input.close();
+                    }
+                    return serializationService.toObject(new HeapData(bytes));
+                } catch (IOException e) {
+                    throw new JetException("Could not read the spill file " + file, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Closes and deletes the file.
+     */
+    public void delete() throws IOException {
+        IOUtil.closeResource(out);
+        IOUtil.closeResource(in);
+        out = null;
+        in = null;
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public String toString() {
+        return "SpillFile{file=" + file + ", itemCount=" + itemCount + ", size=" + size + '}';
+    }
+}
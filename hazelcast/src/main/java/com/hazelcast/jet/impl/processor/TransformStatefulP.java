@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.function.SupplierEx;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.SwCounter;
@@ -24,15 +25,20 @@ import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.BroadcastKey;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.ResettableSingletonTraverser;
 import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.datamodel.TimestampedItem;
 import com.hazelcast.jet.function.TriFunction;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
 import com.hazelcast.jet.impl.util.Util;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.Serial;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -43,9 +49,14 @@ import java.util.function.ToLongFunction;
 
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
 import static com.hazelcast.jet.impl.util.Util.logLateEvent;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_KEYED_STATE_CACHE_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIRECTORY;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.generate;
 
 public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
     private static final int HASH_MAP_INITIAL_CAPACITY = 16;
@@ -62,7 +73,7 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
     private final TriFunction<? super S, ? super K, ? super T, ? extends Traverser<R>> statefulFlatMapFn;
     @Nullable
     private final TriFunction<? super S, ? super K, ? super Long, ? extends Traverser<R>> onEvictFn;
-    private final Map<K, TimestampedItem<S>> keyToState =
+    private Map<K, TimestampedItem<S>> keyToState =
             new LinkedHashMap<>(HASH_MAP_INITIAL_CAPACITY, HASH_MAP_LOAD_FACTOR, true);
     private final FlatMapper<T, R> flatMapper = flatMapper(this::flatMapEvent);
 
@@ -75,6 +86,8 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
     private boolean inComplete;
 
     private long maxEntries;
+    private int stateCacheSize;
+    private String stateDirectory;
 
     public TransformStatefulP(
             long ttl,
@@ -92,9 +105,32 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
         this.onEvictFn = onEvictFn;
     }
 
+    /**
+     * Returns a supplier of processors which keep their states on the disk
+     * according to {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_KEYED_STATE_CACHE_SIZE}.
+     *
+     * @param processorSupplier supplier of the processors, which must be
+     *                          instances of {@code TransformStatefulP}
+     */
+    @Nonnull
+    public static ProcessorSupplier supplier(@Nonnull SupplierEx<Processor> processorSupplier) {
+        return new ProcSupplier(processorSupplier);
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return stateCacheSize <= 0;
+    }
+
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (stateCacheSize > 0) {
+            keyToState = new DiskStateMap<>(SpillFile.createDirectory(stateDirectory, "hazelcast-jet-state-"),
+                    ((InternalProcSupplierCtx) context).serializationService(), stateCacheSize,
+                    DiskStateMap.DEFAULT_SEGMENT_SIZE);
+        }
     }
 
     @Override
@@ -148,6 +184,13 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
         return true;
     }
 
+    @Override
+    public void close() {
+        if (keyToState instanceof DiskStateMap<K, TimestampedItem<S>> diskStateMap) {
+            diskStateMap.close();
+        }
+    }
+
     private class EvictingTraverser implements Traverser<Traverser<?>> {
         private Iterator<Entry<K, TimestampedItem<S>>> keyToStateIterator;
         private final ResettableSingletonTraverser<Watermark> wmTraverser = new ResettableSingletonTraverser<>();
@@ -213,4 +256,36 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
             assert old == null : "Duplicate key '" + key + '\'';
         }
     }
+
+    private static final class ProcSupplier implements ProcessorSupplier {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final SupplierEx<Processor> processorSupplier;
+        private transient int stateCacheSize;
+        private transient String stateDirectory;
+
+        private ProcSupplier(SupplierEx<Processor> processorSupplier) {
+            this.processorSupplier = processorSupplier;
+        }
+
+        @Override
+        public void init(@Nonnull Context context) {
+            HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+            stateCacheSize = properties.getInteger(JET_KEYED_STATE_CACHE_SIZE);
+            stateDirectory = properties.getString(JET_SPILL_DIRECTORY);
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            return generate(() -> {
+                TransformStatefulP<?, ?, ?, ?> processor = (TransformStatefulP<?, ?, ?, ?>) processorSupplier.get();
+                processor.stateCacheSize = stateCacheSize;
+                processor.stateDirectory = stateDirectory;
+                return processor;
+            }).limit(count).collect(toList());
+        }
+    }
 }
@@ -23,9 +23,11 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.SerializationConstants;
+import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.impl.JetServiceBackend;
 import com.hazelcast.jet.impl.execution.SnapshotContext;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.jet.impl.serialization.SerializerHookConstants;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import com.hazelcast.nio.ObjectDataInput;
@@ -36,12 +38,16 @@ import com.hazelcast.spi.impl.NodeEngine;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -49,7 +55,23 @@ import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import static com.hazelcast.jet.impl.JobRepository.safeImap;
-
+import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH;
+
+/**
+ * Writes the snapshot entries of the processors of a vertex on a member to
+ * the snapshot map, packing the entries of each partition into chunks.
+ * <p>
+ * When {@link
+ * com.hazelcast.spi.properties.ClusterProperty#JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH
+ * incremental snapshots} are enabled, the writer keeps the {@linkplain
+ * #digest digests} of the keys and values written by the last regular
+ * snapshot. An incremental snapshot then only writes the entries whose
+ * value digest changed, and a {@linkplain SnapshotDataTombstone tombstone}
+ * for each key which was not offered again. A key offered by several
+ * processors in the same snapshot, such as a broadcast key, is always
+ * written with all its values.
+ */
 public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
 
     public static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
@@ -60,6 +82,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     final AtomicInteger numConcurrentAsyncOps;
 
     private final IPartitionService partitionService;
+    private final InternalSerializationService serializationService;
 
     private final CustomByteArrayOutputStream[] buffers;
     private final int[] partitionKeys;
@@ -75,6 +98,18 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     private final AtomicReference<Throwable> firstError = new AtomicReference<>();
     private final AtomicInteger numActiveFlushes = new AtomicInteger();
 
+    /**
+     * The keys written by the last regular snapshot, {@code null} if the
+     * incremental snapshots are disabled.
+     */
+    private final WrittenKeyTable writtenKeys;
+    private final MessageDigest sha256;
+    private boolean hasBaseline;
+    private boolean tracking;
+    private boolean incremental;
+    private boolean staleKeysRemoved = true;
+    private int staleKeysSlot;
+
     // stats
     private long totalKeys;
     private long totalChunks;
@@ -104,6 +139,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
         this.nodeEngine = nodeEngine;
         this.partitionService = nodeEngine.getPartitionService();
+        this.serializationService = serializationService;
         this.logger = nodeEngine.getLogger(getClass());
         this.snapshotContext = snapshotContext;
         this.vertexName = vertexName;
@@ -131,6 +167,43 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         if (usableChunkCapacity <= 0) {
             throw new IllegalArgumentException("too small chunk size: " + chunkSize);
         }
+        if (nodeEngine.getProperties().getInteger(JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH) > 0) {
+            writtenKeys = new WrittenKeyTable();
+            sha256 = newSha256();
+        } else {
+            writtenKeys = null;
+            sha256 = null;
+        }
+    }
+
+    /**
+     * Returns a new SHA-256 message digest for {@link #digest}.
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns the first 128 bits of the SHA-256 digest of the given bytes.
+     * Unlike {@link Data#hash64()}, the digests of different keys or values
+     * never collide in practice, so comparing them is as good as comparing
+     * the bytes.
+     */
+    public static UUID digest(MessageDigest sha256, byte[] bytes, int offset, int length) {
+        sha256.update(bytes, offset, length);
+        byte[] digest = sha256.digest();
+        return new UUID(Bits.readLongB(digest, 0), Bits.readLongB(digest, Bits.LONG_SIZE_IN_BYTES));
+    }
+
+    private UUID digest(Data data) {
+        // the partition hash isn't written to the chunks
+        byte[] bytes = data.toByteArray();
+        return digest(sha256, bytes, HeapData.TYPE_OFFSET, bytes.length - HeapData.TYPE_OFFSET);
     }
 
     private static CustomByteArrayOutputStream[] createAndInitBuffers(
@@ -163,8 +236,57 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     @Override
     @CheckReturnValue
     public boolean offer(Entry<? extends Data, ? extends Data> entry) {
-        int partitionId = partitionService.getPartitionId(entry.getKey());
-        int length = entry.getKey().totalSize() + entry.getValue().totalSize() - 2 * HeapData.TYPE_OFFSET;
+        if (writtenKeys == null) {
+            return write(entry.getKey(), entry.getValue());
+        }
+        // the snapshot must be started to know if it is incremental
+        if (!initCurrentMap()) {
+            return false;
+        }
+        if (!tracking) {
+            return write(entry.getKey(), entry.getValue());
+        }
+
+        Data key = entry.getKey();
+        UUID keyDigest = digest(key);
+        UUID valueDigest = digest(entry.getValue());
+        int slot = writtenKeys.find(keyDigest);
+        boolean offeredAgain = slot != WrittenKeyTable.NOT_FOUND && writtenKeys.isOffered(slot);
+        boolean unchanged = incremental && slot != WrittenKeyTable.NOT_FOUND && !offeredAgain
+                && !writtenKeys.isDuplicated(slot) && writtenKeys.hasValueDigest(slot, valueDigest);
+        int partitionId = partitionService.getPartitionId(key);
+        if (!unchanged && !write(partitionId, key, entry.getValue())) {
+            return false;
+        }
+
+        if (slot == WrittenKeyTable.NOT_FOUND) {
+            // processors on other members can save the same broadcast key,
+            // it's written every time so that the restore sees all the values
+            slot = writtenKeys.add(keyDigest, partitionId, key.getType() == SerializerHookConstants.BROADCAST_KEY);
+        } else if (offeredAgain && !writtenKeys.isDuplicated(slot)) {
+            if (!writtenKeys.isWritten(slot)) {
+                // the value offered earlier in this snapshot was skipped, it can't be restored
+                firstError.compareAndSet(null, new JetException("Key " + key + " of vertex " + vertexName
+                        + " was saved more than once in an incremental snapshot, but not in the previous one"));
+            }
+            writtenKeys.setDuplicated(slot);
+        }
+        writtenKeys.offered(slot, valueDigest, !unchanged);
+        return true;
+    }
+
+    @CheckReturnValue
+    private boolean write(Data key, Data value) {
+        return write(partitionService.getPartitionId(key), key, value);
+    }
+
+    /**
+     * Writes the given key and value, or only the key if the value is {@code
+     * null}, to the chunk of the given partition.
+     */
+    @CheckReturnValue
+    private boolean write(int partitionId, Data key, @Nullable Data value) {
+        int length = key.totalSize() - HeapData.TYPE_OFFSET + (value == null ? 0 : value.totalSize() - HeapData.TYPE_OFFSET);
 
         // if the entry is larger than usableChunkSize, send it in its own chunk. We avoid adding it to the
         // ByteArrayOutputStream since it would expand it beyond its maximum capacity.
@@ -179,11 +301,13 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
                 Bits.writeInt(data, offset, length + valueTerminator.length, useBigEndian);
                 offset += Bits.INT_SIZE_IN_BYTES;
 
-                copyWithoutHeader(entry.getKey(), data, offset);
-                offset += entry.getKey().totalSize() - HeapData.TYPE_OFFSET;
+                copyWithoutHeader(key, data, offset);
+                offset += key.totalSize() - HeapData.TYPE_OFFSET;
 
-                copyWithoutHeader(entry.getValue(), data, offset);
-                offset += entry.getValue().totalSize() - HeapData.TYPE_OFFSET;
+                if (value != null) {
+                    copyWithoutHeader(value, data, offset);
+                    offset += value.totalSize() - HeapData.TYPE_OFFSET;
+                }
 
                 System.arraycopy(valueTerminator, 0, data, offset, valueTerminator.length);
 
@@ -198,8 +322,10 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
 
         // append to buffer
-        writeWithoutHeader(entry.getKey(), buffer);
-        writeWithoutHeader(entry.getValue(), buffer);
+        writeWithoutHeader(key, buffer);
+        if (value != null) {
+            writeWithoutHeader(value, buffer);
+        }
         totalKeys++;
         return true;
     }
@@ -279,7 +405,43 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             // to have failOnIndeterminateOperationState enabled.
             currentMap = safeImap(nodeEngine.getHazelcastInstance().getMap(mapName));
             this.currentSnapshotId = snapshotContext.currentSnapshotId();
+            startSnapshot();
+        }
+        return true;
+    }
+
+    private void startSnapshot() {
+        // exported snapshots are always full and aren't a base of the incremental ones
+        tracking = writtenKeys != null && !snapshotContext.isExportSnapshot();
+        incremental = tracking && hasBaseline && snapshotContext.isIncrementalSnapshot();
+        staleKeysRemoved = !tracking;
+        if (snapshotContext.isIncrementalSnapshot() && !incremental) {
+            firstError.compareAndSet(null, new JetException("Snapshot " + currentSnapshotId + " of vertex "
+                    + vertexName + " can't be incremental, there is no previous snapshot of the vertex on this member"
+                    + (writtenKeys == null ? " with incremental snapshots enabled" : "")));
+        }
+    }
+
+    /**
+     * Forgets the keys which weren't offered in the current snapshot. If the
+     * snapshot is incremental, writes a tombstone for each of them.
+     *
+     * @return {@code true} on success, {@code false} if we weren't able to
+     * write some tombstones due to the limit on number of parallel async ops.
+     */
+    @CheckReturnValue
+    private boolean removeStaleKeys() {
+        for (; incremental && staleKeysSlot < writtenKeys.capacity(); staleKeysSlot++) {
+            if (writtenKeys.isUsed(staleKeysSlot) && !writtenKeys.isOffered(staleKeysSlot)) {
+                Data tombstone = serializationService.toData(new SnapshotDataTombstone(writtenKeys.keyDigest(staleKeysSlot)));
+                if (!write(writtenKeys.partitionId(staleKeysSlot), tombstone, null)) {
+                    return false;
+                }
+            }
         }
+        writtenKeys.removeNotOffered();
+        staleKeysSlot = 0;
+        staleKeysRemoved = true;
         return true;
     }
 
@@ -297,6 +459,10 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             return false;
         }
 
+        if (!staleKeysRemoved && !removeStaleKeys()) {
+            return false;
+        }
+
         for (int i = 0; i < buffers.length; i++) {
             if (!flushPartition(i)) {
                 return false;
@@ -305,6 +471,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
 
         // we're done
         currentMap = null;
+        hasBaseline |= tracking;
         if (logger.isFineEnabled()) {
             logger.fine(String.format("Stats for %s: keys=%,d, chunks=%,d, bytes=%,d",
                     vertexName, totalKeys, totalChunks, totalPayloadBytes));
@@ -449,6 +616,64 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
     }
 
+    /**
+     * Written instead of an entry whose key was removed since the snapshot
+     * an incremental snapshot is written on top of. It identifies the key by
+     * its {@linkplain #digest digest} and has no value.
+     */
+    public static final class SnapshotDataTombstone implements IdentifiedDataSerializable {
+
+        private UUID keyDigest;
+
+        // for deserialization
+        public SnapshotDataTombstone() {
+        }
+
+        public SnapshotDataTombstone(UUID keyDigest) {
+            this.keyDigest = keyDigest;
+        }
+
+        public UUID keyDigest() {
+            return keyDigest;
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeLong(keyDigest.getMostSignificantBits());
+            out.writeLong(keyDigest.getLeastSignificantBits());
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            keyDigest = new UUID(in.readLong(), in.readLong());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SnapshotDataTombstone that && keyDigest.equals(that.keyDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            return keyDigest.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "SnapshotDataTombstone{keyDigest=" + keyDigest + '}';
+        }
+    }
+
     /**
      * Non-synchronized variant of {@code java.io.ByteArrayOutputStream} with capacity limit.
      */
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.util;
+
+import java.util.UUID;
+
+/**
+ * Open addressing hash table of the keys saved by the regular snapshots of
+ * an {@link AsyncSnapshotWriterImpl}. The table only keeps the 128-bit
+ * digests of the key and of the value of each entry, with its partition
+ * ID, in primitive arrays: an entry takes the same amount of heap whatever
+ * the size of its key and value.
+ */
+final class WrittenKeyTable {
+
+    /** Returned by {@link #find} if the key isn't in the table. */
+    static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final byte USED = 1;
+    /** The key was offered in the current snapshot. */
+    private static final byte OFFERED = 2;
+    /** The value offered in the current snapshot was written. */
+    private static final byte WRITTEN = 4;
+    /** The key was offered more than once in a snapshot, its values are then always written. */
+    private static final byte DUPLICATED = 8;
+
+    // two longs per slot: the most and the least significant bits of the digest
+    private long[] keyDigests;
+    private long[] valueDigests;
+    private int[] partitionIds;
+    private byte[] flags;
+    private int size;
+    private int resizeThreshold;
+
+    WrittenKeyTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keyDigests = new long[2 * capacity];
+        valueDigests = new long[2 * capacity];
+        partitionIds = new int[capacity];
+        flags = new byte[capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots of the table, the slots are numbered from
+     * {@code 0}.
+     */
+    int capacity() {
+        return flags.length;
+    }
+
+    /**
+     * Returns the slot of the key with the given digest, or {@link
+     * #NOT_FOUND}.
+     */
+    int find(UUID keyDigest) {
+        int slot = probe(keyDigest);
+        return flags[slot] == 0 ? NOT_FOUND : slot;
+    }
+
+    /**
+     * Adds a key which isn't in the table and returns its slot. The slots
+     * returned before are no longer valid.
+     */
+    int add(UUID keyDigest, int partitionId, boolean duplicated) {
+        if (size == resizeThreshold) {
+            rehash(2 * capacity(), (byte) 0);
+        }
+        int slot = probe(keyDigest);
+        assert flags[slot] == 0 : "key already added";
+        keyDigests[2 * slot] = keyDigest.getMostSignificantBits();
+        keyDigests[2 * slot + 1] = keyDigest.getLeastSignificantBits();
+        partitionIds[slot] = partitionId;
+        flags[slot] = duplicated ? USED | DUPLICATED : USED;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Returns the slot of the key with the given digest, or the empty slot
+     * at which it should be added.
+     */
+    private int probe(UUID keyDigest) {
+        long msb = keyDigest.getMostSignificantBits();
+        long lsb = keyDigest.getLeastSignificantBits();
+        int mask = capacity() - 1;
+        // the digest is uniformly distributed, it needs no mixing
+        for (int slot = (int) lsb & mask; ; slot = (slot + 1) & mask) {
+            if (flags[slot] == 0 || keyDigests[2 * slot] == msb && keyDigests[2 * slot + 1] == lsb) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Records that the key in the given slot was offered in the current
+     * snapshot with a value of the given digest.
+     *
+     * @param written if the value was written to the snapshot
+     */
+    void offered(int slot, UUID valueDigest, boolean written) {
+        valueDigests[2 * slot] = valueDigest.getMostSignificantBits();
+        valueDigests[2 * slot + 1] = valueDigest.getLeastSignificantBits();
+        flags[slot] = (byte) (flags[slot] & (USED | DUPLICATED) | OFFERED | (written ? WRITTEN : 0));
+    }
+
+    boolean isUsed(int slot) {
+        return flags[slot] != 0;
+    }
+
+    boolean isOffered(int slot) {
+        return (flags[slot] & OFFERED) != 0;
+    }
+
+    boolean isWritten(int slot) {
+        return (flags[slot] & WRITTEN) != 0;
+    }
+
+    boolean isDuplicated(int slot) {
+        return (flags[slot] & DUPLICATED) != 0;
+    }
+
+    void setDuplicated(int slot) {
+        flags[slot] |= DUPLICATED;
+    }
+
+    boolean hasValueDigest(int slot, UUID valueDigest) {
+        return valueDigests[2 * slot] == valueDigest.getMostSignificantBits()
+                && valueDigests[2 * slot + 1] == valueDigest.getLeastSignificantBits();
+    }
+
+    UUID keyDigest(int slot) {
+        return new UUID(keyDigests[2 * slot], keyDigests[2 * slot + 1]);
+    }
+
+    int partitionId(int slot) {
+        return partitionIds[slot];
+    }
+
+    /**
+     * Removes the keys which weren't offered in the current snapshot and
+     * clears the offered flag of the others, so that the table is ready for
+     * the next snapshot. Shrinks the table if most of its keys were removed.
+     */
+    void removeNotOffered() {
+        int capacity = capacity();
+        int offeredCount = 0;
+        for (byte flag : flags) {
+            if ((flag & OFFERED) != 0) {
+                offeredCount++;
+            }
+        }
+        while (capacity > INITIAL_CAPACITY && offeredCount < (int) (capacity * LOAD_FACTOR) / 4) {
+            capacity /= 2;
+        }
+        rehash(capacity, OFFERED);
+    }
+
+    /**
+     * Moves the keys to new arrays of the given capacity. If {@code
+     * requiredFlag} isn't {@code 0}, only moves the keys with that flag and
+     * clears it.
+     */
+    private void rehash(int newCapacity, byte requiredFlag) {
+        long[] oldKeyDigests = keyDigests;
+        long[] oldValueDigests = valueDigests;
+        int[] oldPartitionIds = partitionIds;
+        byte[] oldFlags = flags;
+        allocate(newCapacity);
+        size = 0;
+        for (int oldSlot = 0; oldSlot < oldFlags.length; oldSlot++) {
+            if (oldFlags[oldSlot] == 0 || (oldFlags[oldSlot] & requiredFlag) != requiredFlag) {
+                continue;
+            }
+            UUID keyDigest = new UUID(oldKeyDigests[2 * oldSlot], oldKeyDigests[2 * oldSlot + 1]);
+            int slot = probe(keyDigest);
+            System.arraycopy(oldKeyDigests, 2 * oldSlot, keyDigests, 2 * slot, 2);
+            System.arraycopy(oldValueDigests, 2 * oldSlot, valueDigests, 2 * slot, 2);
+            partitionIds[slot] = oldPartitionIds[oldSlot];
+            flags[slot] = (byte) (oldFlags[oldSlot] & ~requiredFlag);
+            size++;
+        }
+    }
+}
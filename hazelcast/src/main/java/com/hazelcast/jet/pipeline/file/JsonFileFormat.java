@@ -72,7 +72,9 @@ public class JsonFileFormat<T> implements FileFormat<T> {
      * Set this to false when reading large JSON files using Hadoop
      * connector. Each line in the file must contain exactly one JSON record.
      * <p>
-     * This setting has no effect when Hadoop is not used.
+     * When Hadoop is not used, setting this to false allows the local
+     * connector to split the files larger than {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_FILE_SPLIT_SIZE}.
      *
      * @param multiline true, if the JSON parser should accept records
      *                  spanning multiple lines, defaults to true
@@ -33,16 +33,20 @@ import javax.annotation.Nonnull;
 import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Serial;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.stream.Stream;
 
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -111,7 +115,7 @@ public class LocalFileSourceFactory implements FileSourceFactory {
             JsonFileFormat<T> jsonFileFormat = (JsonFileFormat<T>) format;
             Class<T> formatClazz = jsonFileFormat.clazz();
 
-            return path -> {
+            FunctionEx<Path, Stream<T>> readFileFn = path -> {
                 // Jackson doesn't handle empty files
                 if (path.toFile().length() == 0) {
                     return Stream.empty();
@@ -123,6 +127,16 @@ public class LocalFileSourceFactory implements FileSourceFactory {
                     return JsonUtil.beanSequenceFrom(path, formatClazz);
                 }
             };
+            if (jsonFileFormat.isMultiline()) {
+                return readFileFn;
+            }
+            // each line holds a single record, the file can be split at the line boundaries
+            return new LineSplittableReadFileFn<>(readFileFn, UTF_8.name(), line -> {
+                if (line.isBlank()) {
+                    return null;
+                }
+                return formatClazz == null ? (T) JsonUtil.mapFrom(line) : JsonUtil.beanFrom(line, formatClazz);
+            });
         }
 
         @Nonnull
@@ -134,6 +148,17 @@ public class LocalFileSourceFactory implements FileSourceFactory {
 
     private static class LinesReadFileFnProvider extends AbstractReadFileFnProvider {
 
+        @Nonnull @Override
+        @SuppressWarnings("unchecked")
+        public <T> FunctionEx<Path, Stream<T>> createReadFileFn(@Nonnull FileFormat<T> format) {
+            FunctionEx<Path, Stream<T>> readFileFn = super.createReadFileFn(format);
+            Charset charset = ((LinesTextFileFormat) format).charset();
+            if (!MappedLineReader.isSupported(charset)) {
+                return readFileFn;
+            }
+            return new LineSplittableReadFileFn<>(readFileFn, charset.name(), line -> (T) line);
+        }
+
         @Nonnull @Override
         @SuppressWarnings("unchecked")
         <T> FunctionEx<InputStream, Stream<T>> mapInputStreamFn(FileFormat<T> format) {
@@ -151,6 +176,40 @@ public class LocalFileSourceFactory implements FileSourceFactory {
         }
     }
 
+    /**
+     * Reads the whole files with the given function, and the byte ranges of
+     * the files line by line, mapping each line to an item, or to {@code
+     * null} to skip it.
+     */
+    private static final class LineSplittableReadFileFn<T> implements SplittableReadFileFn<T> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final FunctionEx<Path, Stream<T>> readFileFn;
+        private final String charset;
+        private final FunctionEx<String, T> mapLineFn;
+
+        private LineSplittableReadFileFn(FunctionEx<Path, Stream<T>> readFileFn, String charset,
+                                         FunctionEx<String, T> mapLineFn) {
+            this.readFileFn = readFileFn;
+            this.charset = charset;
+            this.mapLineFn = mapLineFn;
+        }
+
+        @Override
+        public Stream<T> applyEx(Path path) throws Exception {
+            return readFileFn.applyEx(path);
+        }
+
+        @Nonnull @Override
+        public Stream<T> readRange(@Nonnull Path file, long start, long end) throws IOException {
+            return MappedLineReader.lines(file, Charset.forName(charset), start, end)
+                    .map(mapLineFn)
+                    .filter(Objects::nonNull);
+        }
+    }
+
     private static class ParquetReadFileFnProvider implements ReadFileFnProvider {
 
         @Nonnull @Override
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads the lines of a byte range of a local file through memory mappings
+ * of the file. The range holds the lines which start in it: the line which
+ * starts before the range is skipped, the last line which starts in the
+ * range is read to its end, past the range. Like {@link
+ * java.io.BufferedReader#readLine()}, the lines are terminated by {@code
+ * \n}, {@code \r} or {@code \r\n}.
+ * <p>
+ * The line terminators are looked up in the bytes of the file, so the
+ * charset must encode them as single bytes which don't occur in the
+ * encoding of other characters, see {@link #isSupported(Charset)}.
+ */
+final class MappedLineReader implements Iterator<String>, Closeable {
+
+    /**
+     * Maximum size of the mapped windows of the file. A line can span several windows.
+     */
+    static final int WINDOW_SIZE = 16 << 20;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final long fileSize;
+    private final long end;
+
+    // the position of the next line
+    private long position;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private byte[] lineBytes = new byte[256];
+    private String nextLine;
+
+    MappedLineReader(Path file, Charset charset, long start, long end) throws IOException {
+        this.channel = FileChannel.open(file, READ);
+        this.charset = charset;
+        try {
+            this.fileSize = channel.size();
+            this.end = Math.min(end, fileSize);
+            this.position = start;
+            if (start > 0 && start < this.end) {
+                // skip the line which starts before the range, or the terminator which ends right before it
+                position = skipTerminator(findTerminator(start - 1));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the stream of the lines which start in the given byte range of
+     * the file. The file is closed when the stream is closed.
+     */
+    static Stream<String> lines(Path file, Charset charset, long start, long end) throws IOException {
+        MappedLineReader reader = new MappedLineReader(file, charset, start, end);
+        Spliterator<String> spliterator = Spliterators.spliteratorUnknownSize(reader,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> uncheckRun(reader::close));
+    }
+
+    /**
+     * Tells whether the lines in the given charset can be read by this reader.
+     */
+    static boolean isSupported(Charset charset) {
+        String name = charset.name();
+        return name.equals("UTF-8") || name.equals("US-ASCII") || name.equals("ISO-8859-1");
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            try {
+                nextLine = readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private String readLine() throws IOException {
+        if (position >= end) {
+            return null;
+        }
+        long terminator = findTerminator(position);
+        int length = Math.toIntExact(terminator - position);
+        if (lineBytes.length < length) {
+            lineBytes = new byte[Math.max(length, 2 * lineBytes.length)];
+        }
+        for (int copied = 0; copied < length; ) {
+            long pos = position + copied;
+            mapWindow(pos);
+            int count = (int) Math.min(length - copied, windowStart + window.limit() - pos);
+            window.get((int) (pos - windowStart), lineBytes, copied, count);
+            copied += count;
+        }
+        position = skipTerminator(terminator);
+        return new String(lineBytes, 0, length, charset);
+    }
+
+    /**
+     * Returns the position of the first line terminator at or after the
+     * given position, or the file size if there's none.
+     */
+    private long findTerminator(long from) throws IOException {
+        long pos = from;
+        while (pos < fileSize) {
+            mapWindow(pos);
+            int limit = window.limit();
+            for (int i = (int) (pos - windowStart); i < limit; i++) {
+                byte b = window.get(i);
+                if (b == '\n' || b == '\r') {
+                    return windowStart + i;
+                }
+            }
+            pos = windowStart + limit;
+        }
+        return fileSize;
+    }
+
+    /**
+     * Returns the position of the line after the terminator at the given position.
+     */
+    private long skipTerminator(long terminator) throws IOException {
+        if (terminator >= fileSize) {
+            return fileSize;
+        }
+        mapWindow(terminator);
+        if (window.get((int) (terminator - windowStart)) == '\r' && terminator + 1 < fileSize) {
+            mapWindow(terminator + 1);
+            if (window.get((int) (terminator + 1 - windowStart)) == '\n') {
+                return terminator + 2;
+            }
+        }
+        return terminator + 1;
+    }
+
+    /**
+     * Maps the window of the file which holds the given position, unless
+     * the current window holds it.
+     */
+    private void mapWindow(long pos) throws IOException {
+        if (window != null && pos >= windowStart && pos < windowStart + window.limit()) {
+            return;
+        }
+        windowStart = pos;
+        window = channel.map(READ_ONLY, pos, Math.min(WINDOW_SIZE, fileSize - pos));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import com.hazelcast.function.FunctionEx;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * A function which maps a local file to a stream of items, and which can
+ * also map a byte range of the file, so that a large file can be read in
+ * parallel. The items are delimited by the line terminators: a range holds
+ * the items of the lines which start in it, including the part of its last
+ * line past the end of the range.
+ *
+ * @param <T> type of the items
+ * @see com.hazelcast.spi.properties.ClusterProperty#JET_FILE_SPLIT_SIZE
+ */
+public interface SplittableReadFileFn<T> extends FunctionEx<Path, Stream<T>> {
+
+    /**
+     * Returns the stream of the items of the lines which start in the given
+     * byte range of the file.
+     *
+     * @param start the position of the first byte of the range
+     * @param end   the position past the last byte of the range
+     */
+    @Nonnull
+    Stream<T> readRange(@Nonnull Path file, long start, long end) throws Exception;
+}
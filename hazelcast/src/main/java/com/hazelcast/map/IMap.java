@@ -2328,6 +2328,35 @@ public interface IMap<K, V> extends ConcurrentMap<K, V>, BaseMap<K, V>, Iterable
                           @Nullable K key,
                           boolean includeValue);
 
+    /**
+     * Adds a {@link MapListener} for this map which receives the events of
+     * the entries matching the given predicate, with the given projection
+     * applied to the entry values.
+     * <p>
+     * The projection is applied on the member publishing the event, to the
+     * old, new and merging values of the entry. The events received by the
+     * listener carry the projection results as their values, so only the
+     * projected data is transferred to the listener.
+     * <p>
+     * This method is not supported by Hazelcast clients.
+     *
+     * @param listener   the {@link MapListener} added to this map
+     * @param predicate  the predicate for filtering entries
+     * @param projection the projection applied to the entry values
+     * @return a UUID.randomUUID().toString() which is used as a key to remove the listener
+     * @throws NullPointerException          if the specified {@code listener}, {@code predicate}
+     *                                       or {@code projection} is {@code null}
+     * @throws IllegalArgumentException      if the predicate is a {@link com.hazelcast.query.PagingPredicate} or is a
+     *                                       {@link com.hazelcast.query.PartitionPredicate} that includes a
+     *                                       {@link com.hazelcast.query.PagingPredicate}
+     * @throws UnsupportedOperationException if called on a client, or if the cluster version is less than 6.0
+     * @see MapListener
+     * @since 6.0
+     */
+    UUID addEntryListener(@Nonnull MapListener listener,
+                          @Nonnull Predicate<K, V> predicate,
+                          @Nonnull Projection<? super Map.Entry<K, V>, ?> projection);
+
     /**
      * Returns the {@code EntryView} for the specified key.
      * <p>
@@ -256,6 +256,30 @@ public interface LocalMapStats extends LocalInstanceStats {
      */
     long getMerkleTreesCost();
 
+    /**
+     * Returns the number of entries owned by this member whose values are
+     * kept in the disk tier of the map.
+     *
+     * @return the number of owned entries in the disk tier
+     * @see com.hazelcast.spi.properties.ClusterProperty#MAP_TIERED_STORE_ENABLED
+     * @since 6.0
+     */
+    default long getDiskTierEntryCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of times the values of the entries owned by this
+     * member have been read from the disk tier of the map.
+     *
+     * @return the number of disk tier hits of the owned entries
+     * @see com.hazelcast.spi.properties.ClusterProperty#MAP_TIERED_STORE_ENABLED
+     * @since 6.0
+     */
+    default long getDiskTierHits() {
+        return 0;
+    }
+
     /**
      * Returns statistics related to the Near Cache.
      *
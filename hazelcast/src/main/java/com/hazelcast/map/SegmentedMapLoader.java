@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+/**
+ * A {@link MapLoader} which can load the keys of the map in independent
+ * segments, for example by splitting the key range of a database table.
+ * <p>
+ * During the initial load, Hazelcast loads the keys of all segments
+ * concurrently, instead of calling {@link #loadAllKeys()}, and dispatches
+ * the keys of every segment to the partition owners for value loading as
+ * soon as they are loaded. The segments are loaded on the
+ * {@value com.hazelcast.spi.impl.executionservice.ExecutionService#MAP_LOAD_KEY_SEGMENTS_EXECUTOR}
+ * executor, so the number of segments loaded at the same time is bounded
+ * by the size of that executor. It's a separate executor from the one
+ * loading the values.
+ * <p>
+ * Together, the segments must contain every key returned by
+ * {@link #loadAllKeys()} exactly once. If the returned {@link Iterable}
+ * of a segment is {@link java.io.Closeable}, it is closed once the keys
+ * of the segment are dispatched.
+ *
+ * @param <K> type of the MapLoader key
+ * @param <V> type of the MapLoader value
+ * @since 6.0
+ */
+public interface SegmentedMapLoader<K, V> extends MapLoader<K, V> {
+
+    /**
+     * Returns the number of key segments of this loader.
+     *
+     * @return the number of key segments, values less than 2 disable
+     * the segmented key loading
+     */
+    int getKeySegmentCount();
+
+    /**
+     * Loads the keys of the given segment.
+     *
+     * @param segment the index of the segment, between {@code 0} and
+     *                {@link #getKeySegmentCount()} (exclusive)
+     * @return all the keys of the segment. Keys inside the {@code Iterable}
+     * cannot be {@code null}.
+     */
+    Iterable<K> loadAllKeys(int segment);
+}
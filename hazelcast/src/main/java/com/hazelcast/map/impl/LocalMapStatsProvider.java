@@ -38,6 +38,8 @@ import com.hazelcast.map.LocalMapStats;
 import com.hazelcast.map.impl.nearcache.MapNearCacheManager;
 import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.tieredstore.TieredStore;
+import com.hazelcast.map.impl.tieredstore.TieredValueLog;
 import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
@@ -230,8 +232,8 @@ public class LocalMapStatsProvider {
         // NOP
     }
 
-    private static void addStatsOfPrimaryReplica(RecordStore recordStore,
-                                                 LocalMapOnDemandCalculatedStats onDemandStats) {
+    private void addStatsOfPrimaryReplica(RecordStore recordStore,
+                                          LocalMapOnDemandCalculatedStats onDemandStats) {
 
         LocalRecordStoreStats stats = recordStore.getLocalRecordStoreStats();
 
@@ -251,6 +253,19 @@ public class LocalMapStatsProvider {
         // without looking entry count in map keys that
         // are not contained by a map can be locked
         onDemandStats.incrementLockedEntryCount(recordStore.getLockedEntryCount());
+        addDiskTierStats(recordStore, onDemandStats);
+    }
+
+    private void addDiskTierStats(RecordStore recordStore, LocalMapOnDemandCalculatedStats onDemandStats) {
+        TieredStore tieredStore = mapServiceContext.getTieredStore();
+        if (tieredStore == null) {
+            return;
+        }
+        TieredValueLog log = tieredStore.getLog(recordStore);
+        if (log != null) {
+            onDemandStats.incrementDiskTierEntryCount(log.getEntryCount());
+            onDemandStats.incrementDiskTierHits(log.getHits());
+        }
     }
 
     private void addStatsOfBackupReplica(RecordStore recordStore, LocalMapOnDemandCalculatedStats onDemandStats) {
@@ -470,6 +485,8 @@ public class LocalMapStatsProvider {
         // Holds total heap cost of map & Near Cache & backups & merkle trees.
         private long heapCost;
         private long merkleTreesCost;
+        private long diskTierEntryCount;
+        private long diskTierHits;
         private long lockedEntryCount;
         private long dirtyEntryCount;
         private long lastAccessTime;
@@ -523,6 +540,14 @@ public class LocalMapStatsProvider {
             this.merkleTreesCost += merkleTreeCost;
         }
 
+        public void incrementDiskTierEntryCount(long diskTierEntryCount) {
+            this.diskTierEntryCount += diskTierEntryCount;
+        }
+
+        public void incrementDiskTierHits(long diskTierHits) {
+            this.diskTierHits += diskTierHits;
+        }
+
         public LocalMapStatsImpl updateAndGet(LocalMapStatsImpl stats) {
             stats.setBackupCount(backupCount);
             stats.setHits(hits);
@@ -534,6 +559,8 @@ public class LocalMapStatsProvider {
             stats.setBackupEntryMemoryCost(backupEntryMemoryCost);
             stats.setHeapCost(heapCost);
             stats.setMerkleTreesCost(merkleTreesCost);
+            stats.setDiskTierEntryCount(diskTierEntryCount);
+            stats.setDiskTierHits(diskTierHits);
             stats.setLockedEntryCount(lockedEntryCount);
             stats.setDirtyEntryCount(dirtyEntryCount);
             stats.setLastAccessTime(lastAccessTime);
@@ -79,6 +79,7 @@ import com.hazelcast.map.impl.operation.MapGetInvalidationMetaDataOperation;
 import com.hazelcast.map.impl.operation.MapGetInvalidationMetaDataOperation.MetaDataResponse;
 import com.hazelcast.map.impl.operation.MapIsEmptyOperation;
 import com.hazelcast.map.impl.operation.MapLoadAllOperationFactory;
+import com.hazelcast.map.impl.operation.MapMergeDigestOperation;
 import com.hazelcast.map.impl.operation.MapNearCacheStateHolder;
 import com.hazelcast.map.impl.operation.MapReplicationOperation;
 import com.hazelcast.map.impl.operation.MapReplicationStateHolder;
@@ -133,11 +134,13 @@ import com.hazelcast.map.impl.query.Query;
 import com.hazelcast.map.impl.query.QueryEventFilter;
 import com.hazelcast.map.impl.query.QueryOperation;
 import com.hazelcast.map.impl.query.QueryPartitionOperation;
+import com.hazelcast.map.impl.query.QueryProjectionEventFilter;
 import com.hazelcast.map.impl.query.QueryResult;
 import com.hazelcast.map.impl.query.QueryResultRow;
 import com.hazelcast.map.impl.query.ResultSegment;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
 import com.hazelcast.map.impl.querycache.accumulator.ConsumeAccumulatorOperation;
+import com.hazelcast.map.impl.querycache.subscriber.QueryCachePopulationProjection;
 import com.hazelcast.map.impl.querycache.subscriber.operation.DestroyQueryCacheOperation;
 import com.hazelcast.map.impl.querycache.subscriber.operation.MadePublishableOperation;
 import com.hazelcast.map.impl.querycache.subscriber.operation.MadePublishableOperationFactory;
@@ -327,8 +330,11 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int INDEX_ITERATION_POINTER = 156;
     public static final int MAP_FETCH_INDEX_OPERATION_RESULT = 157;
     public static final int MAP_CHUNK = 158;
+    public static final int QUERY_PROJECTION_EVENT_FILTER = 159;
+    public static final int QUERY_CACHE_POPULATION_PROJECTION = 160;
+    public static final int MERGE_DIGEST = 161;
 
-    private static final int LEN = MAP_CHUNK + 1;
+    private static final int LEN = MERGE_DIGEST + 1;
 
     @Override
     public int getFactoryId() {
@@ -496,6 +502,9 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[INDEX_ITERATION_POINTER] = IndexIterationPointer::new;
         constructors[MAP_FETCH_INDEX_OPERATION_RESULT] = MapFetchIndexOperationResult::new;
         constructors[MAP_CHUNK] = MapChunk::new;
+        constructors[QUERY_PROJECTION_EVENT_FILTER] = QueryProjectionEventFilter::new;
+        constructors[QUERY_CACHE_POPULATION_PROJECTION] = QueryCachePopulationProjection::new;
+        constructors[MERGE_DIGEST] = MapMergeDigestOperation::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
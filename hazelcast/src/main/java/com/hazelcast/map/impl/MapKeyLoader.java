@@ -52,21 +52,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static com.hazelcast.internal.nio.IOUtil.closeResource;
-import static com.hazelcast.internal.util.IterableUtil.limit;
 import static com.hazelcast.internal.util.IterableUtil.map;
 import static com.hazelcast.logging.Logger.getLogger;
 import static com.hazelcast.map.impl.MapKeyLoaderUtil.assignRole;
+import static com.hazelcast.map.impl.MapKeyLoaderUtil.limit;
 import static com.hazelcast.map.impl.MapKeyLoaderUtil.toBatches;
 import static com.hazelcast.map.impl.MapKeyLoaderUtil.toPartition;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOAD_ALL_KEYS_EXECUTOR;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOAD_KEY_SEGMENTS_EXECUTOR;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -434,19 +437,91 @@ public class MapKeyLoader {
         logStateMessage("sendKeysInBatches");
 
         int clusterSize = partitionService.getMemberPartitionsMap().size();
-        Iterator<Object> keys = null;
         Throwable loadError = null;
 
         try {
-            Iterable<Object> allKeys = mapStoreContext.loadAllKeys();
-            keys = allKeys.iterator();
-            Iterator<Data> dataKeys = map(keys, toData);
             int mapMaxSize = clusterSize * maxSizePerNode;
+            AtomicInteger remainingKeys = new AtomicInteger(mapMaxSize > 0 ? mapMaxSize : Integer.MAX_VALUE);
+            int segmentCount = mapStoreContext.getKeySegmentCount();
 
-            if (mapMaxSize > 0) {
-                dataKeys = limit(dataKeys, mapMaxSize);
+            List<Future<Object>> futures = segmentCount > 1
+                    ? sendKeySegments(mapStoreContext, segmentCount, replaceExistingValues, remainingKeys)
+                    : sendKeys(mapStoreContext.loadAllKeys(), replaceExistingValues, remainingKeys);
+
+            // This acts as a barrier to prevent re-ordering of key distribution operations (LoadAllOperation)
+            // and LoadStatusOperation(s) which indicates all keys were already loaded.
+            // Re-ordering of in-flight operations can happen during a partition migration. We are waiting here
+            // for all LoadAllOperation(s) to be ACKed by receivers and only then we send them the LoadStatusOperation
+            // See https://github.com/hazelcast/hazelcast/issues/4024 for additional details
+            FutureUtil.waitForever(futures);
+
+        } catch (Exception caught) {
+            loadError = caught;
+        } finally {
+            sendKeyLoadCompleted(clusterSize, loadError);
+        }
+    }
+
+    /**
+     * Loads the keys of all segments of a {@link com.hazelcast.map.SegmentedMapLoader}
+     * concurrently and sends them to the partition owners in batches. The first
+     * segment is loaded by the calling thread, the others on the
+     * {@link ExecutionService#MAP_LOAD_KEY_SEGMENTS_EXECUTOR} executor, so that
+     * they don't hold up the loading of the values. The method waits
+     * for all segments, even if loading one of them has failed, so that no keys
+     * are dispatched after the key loading is reported as completed.
+     *
+     * @return the futures of the key batches sent to the partition owners
+     * @throws Exception the first exception that occurred when loading a segment
+     */
+    private List<Future<Object>> sendKeySegments(MapStoreContext mapStoreContext, int segmentCount,
+                                                 boolean replaceExistingValues, AtomicInteger remainingKeys)
+            throws Exception {
+        List<Future<List<Future<Object>>>> segmentFutures = new ArrayList<>(segmentCount - 1);
+        for (int segment = 1; segment < segmentCount; segment++) {
+            int segmentIndex = segment;
+            segmentFutures.add(execService.submit(MAP_LOAD_KEY_SEGMENTS_EXECUTOR,
+                    () -> sendKeys(mapStoreContext.loadAllKeys(segmentIndex), replaceExistingValues, remainingKeys)));
+        }
+
+        List<Future<Object>> futures = new ArrayList<>();
+        Exception loadError = null;
+        try {
+            futures.addAll(sendKeys(mapStoreContext.loadAllKeys(0), replaceExistingValues, remainingKeys));
+        } catch (Exception e) {
+            loadError = e;
+        }
+        for (Future<List<Future<Object>>> segmentFuture : segmentFutures) {
+            try {
+                futures.addAll(segmentFuture.get());
+            } catch (ExecutionException e) {
+                if (loadError == null) {
+                    loadError = e.getCause() instanceof Exception cause ? cause : e;
+                }
             }
+        }
+        if (loadError != null) {
+            throw loadError;
+        }
+        logger.fine("Loaded the keys of " + segmentCount + " segments for map " + mapName);
+        return futures;
+    }
 
+    /**
+     * Sends the given keys to the partition owners in batches and closes
+     * the key iterator if it is {@link Closeable}.
+     *
+     * @param allKeys               the keys to send
+     * @param replaceExistingValues if the existing entries for the loaded keys should be replaced
+     * @param remainingKeys         the number of keys which may still be sent, shared by
+     *                              all key segments of the map
+     * @return the futures of the key batches sent to the partition owners
+     */
+    private List<Future<Object>> sendKeys(Iterable<Object> allKeys, boolean replaceExistingValues,
+                                          AtomicInteger remainingKeys) {
+        Iterator<Object> keys = allKeys.iterator();
+        try {
+            Iterator<Data> dataKeys = limit(map(keys, toData), remainingKeys);
             Iterator<Entry<Integer, Data>> partitionsAndKeys = map(dataKeys, toPartition(partitionService));
             Iterator<Map<Integer, List<Data>>> batches = toBatches(partitionsAndKeys, maxBatch, nodeWideLoadedKeyLimiter);
 
@@ -461,19 +536,8 @@ public class MapKeyLoader {
                     futures.addAll(sendBatch(batch, replaceExistingValues, nodeWideLoadedKeyLimiter));
                 }
             }
-
-            // This acts as a barrier to prevent re-ordering of key distribution operations (LoadAllOperation)
-            // and LoadStatusOperation(s) which indicates all keys were already loaded.
-            // Re-ordering of in-flight operations can happen during a partition migration. We are waiting here
-            // for all LoadAllOperation(s) to be ACKed by receivers and only then we send them the LoadStatusOperation
-            // See https://github.com/hazelcast/hazelcast/issues/4024 for additional details
-            FutureUtil.waitForever(futures);
-
-        } catch (Exception caught) {
-            loadError = caught;
+            return futures;
         } finally {
-            sendKeyLoadCompleted(clusterSize, loadError);
-
             if (keys instanceof Closeable closeable) {
                 closeResource(closeable);
             }
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static com.hazelcast.config.MaxSizePolicy.PER_NODE;
@@ -135,6 +136,39 @@ public final class MapKeyLoaderUtil {
         return batch;
     }
 
+    /**
+     * Limits the given iterator to the number of elements given by the
+     * {@code remaining} counter. The counter may be shared by multiple
+     * iterators consumed concurrently, the total number of returned
+     * elements never exceeds its initial value.
+     *
+     * @param iterator  the iterator to limit
+     * @param remaining the number of elements which may still be returned
+     * @return the limited iterator
+     */
+    static <T> Iterator<T> limit(final Iterator<T> iterator, final AtomicInteger remaining) {
+        return new UnmodifiableIterator<>() {
+            private boolean reserved;
+
+            @Override
+            public boolean hasNext() {
+                if (!reserved && iterator.hasNext()) {
+                    reserved = remaining.getAndUpdate(value -> value > 0 ? value - 1 : 0) > 0;
+                }
+                return reserved;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                reserved = false;
+                return iterator.next();
+            }
+        };
+    }
+
     /**
      * Returns the configured maximum entry count per node if the max
      * size policy is {@link MaxSizePolicy#PER_NODE}
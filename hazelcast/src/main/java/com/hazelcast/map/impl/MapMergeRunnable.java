@@ -18,13 +18,17 @@ package com.hazelcast.map.impl;
 
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MergePolicyConfig;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.nio.Disposable;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.operation.MapMergeDigestOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.map.impl.operation.MapReplicaDigests;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
 import com.hazelcast.spi.impl.merge.AbstractMergeRunnable;
+import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationFactory;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
 import com.hazelcast.spi.merge.SplitBrainMergeTypes.MapMergeTypes;
@@ -68,6 +72,26 @@ class MapMergeRunnable extends AbstractMergeRunnable<Object, Object, RecordStore
         }
     }
 
+    @Override
+    protected boolean isIdenticalToMergeTarget(RecordStore store) {
+        if (mapServiceContext.getNodeEngine().getClusterService().getClusterVersion().isLessThan(Versions.V6_0)) {
+            // members before 6.0 can't compute the digest of their partitions
+            return false;
+        }
+        long localDigest;
+        store.beforeOperation();
+        try {
+            localDigest = MapReplicaDigests.mergeDigest(store);
+        } finally {
+            store.afterOperation();
+        }
+        Operation operation = new MapMergeDigestOperation(store.getName());
+        long targetDigest = mapServiceContext.getNodeEngine().getOperationService()
+                .<Long>invokeOnPartition(MapService.SERVICE_NAME, operation, store.getPartitionId())
+                .joinInternal();
+        return localDigest == targetDigest;
+    }
+
     @Override
     protected int getBatchSize(String dataStructureName) {
         MapConfig mapConfig = getMapConfig(dataStructureName);
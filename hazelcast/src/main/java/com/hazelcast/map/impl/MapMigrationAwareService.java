@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl;
 
 import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataGenerator;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkSuppliers;
@@ -30,6 +31,7 @@ import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.operation.MapReplicaDigests;
 import com.hazelcast.map.impl.operation.MapReplicationOperation;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.querycache.publisher.PublisherContext;
@@ -42,18 +44,23 @@ import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.properties.ClusterProperty;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static com.hazelcast.config.CacheDeserializedValues.NEVER;
 import static com.hazelcast.internal.partition.MigrationEndpoint.DESTINATION;
 import static com.hazelcast.internal.partition.MigrationEndpoint.SOURCE;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.flushAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.removeAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.sendEndOfSequenceEvents;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
 
 /**
  * Defines migration behavior of map service.
@@ -68,12 +75,15 @@ class MapMigrationAwareService
     protected final SerializationService serializationService;
 
     private final ILogger logger;
+    private final int differentialReplicaSyncMaxEntries;
 
     MapMigrationAwareService(MapServiceContext mapServiceContext) {
         this.mapServiceContext = mapServiceContext;
         this.serializationService = mapServiceContext.getNodeEngine().getSerializationService();
         this.containers = mapServiceContext.getPartitionContainers();
         this.logger = mapServiceContext.getNodeEngine().getLogger(getClass());
+        this.differentialReplicaSyncMaxEntries = mapServiceContext.getNodeEngine().getProperties()
+                .getInteger(ClusterProperty.PARTITION_DIFFERENTIAL_REPLICA_SYNC_MAX_ENTRIES);
     }
 
     @Override
@@ -138,19 +148,89 @@ class MapMigrationAwareService
 
         int partitionId = event.getPartitionId();
 
-        Operation operation = new MapReplicationOperation(containers[partitionId],
-                namespaces, partitionId, event.getReplicaIndex());
+        Map<String, int[]> merkleTreeDiffByMapName = getMerkleTreeDiffs(event, namespaces);
+        Operation operation = merkleTreeDiffByMapName.isEmpty()
+                ? new MapReplicationOperation(containers[partitionId], namespaces, partitionId, event.getReplicaIndex())
+                : new MapReplicationOperation(containers[partitionId], namespaces, partitionId, event.getReplicaIndex(),
+                merkleTreeDiffByMapName);
         operation.setService(mapServiceContext.getService());
         operation.setNodeEngine(mapServiceContext.getNodeEngine());
 
         return operation;
     }
 
+    /**
+     * Compares the local record stores with the digests of the replica
+     * fragments carried by the event, if there are any.
+     */
+    private Map<String, int[]> getMerkleTreeDiffs(PartitionReplicationEvent event,
+                                                  Collection<ServiceNamespace> namespaces) {
+        Map<String, int[]> merkleTreeDiffByMapName = null;
+        for (ServiceNamespace namespace : namespaces) {
+            if (!isDifferentialReplication(event, namespace)) {
+                continue;
+            }
+            String mapName = ((ObjectNamespace) namespace).getObjectName();
+            RecordStore recordStore = containers[event.getPartitionId()].getExistingRecordStore(mapName);
+            if (merkleTreeDiffByMapName == null) {
+                merkleTreeDiffByMapName = createHashMap(namespaces.size());
+            }
+            merkleTreeDiffByMapName.put(mapName,
+                    MapReplicaDigests.diff(recordStore, event.getReplicaFragmentDigest(namespace)));
+        }
+        return merkleTreeDiffByMapName == null ? emptyMap() : merkleTreeDiffByMapName;
+    }
+
+    @Override
+    public int[] getReplicaFragmentDigest(int partitionId, ServiceNamespace namespace) {
+        String mapName = ((ObjectNamespace) namespace).getObjectName();
+        RecordStore recordStore = containers[partitionId].getExistingRecordStore(mapName);
+        if (recordStore == null || recordStore.size() == 0 || !supportsDigest(recordStore)) {
+            // nothing to keep or too costly to compare, the whole fragment is replicated
+            return null;
+        }
+        int depth = recordStore.getMapContainer().getMapConfig().getMerkleTreeConfig().getDepth();
+        return MapReplicaDigests.digest(recordStore, depth);
+    }
+
+    /**
+     * Returns {@code true} if the replica fragment of the given namespace is
+     * replicated differentially, i.e. the replica sent a digest of its fragment
+     * and the local fragment can be compared with it. Otherwise, the whole
+     * fragment is replicated.
+     */
+    private boolean isDifferentialReplication(PartitionReplicationEvent event, ServiceNamespace namespace) {
+        if (event.getReplicaFragmentDigest(namespace) == null) {
+            return false;
+        }
+        String mapName = ((ObjectNamespace) namespace).getObjectName();
+        RecordStore recordStore = containers[event.getPartitionId()].getExistingRecordStore(mapName);
+        return recordStore != null && supportsDigest(recordStore);
+    }
+
+    /**
+     * Digests are built by scanning the record store on the partition thread,
+     * so they are limited to the record stores not exceeding the configured
+     * size and holding their values in serialized form.
+     *
+     * @see ClusterProperty#PARTITION_DIFFERENTIAL_REPLICA_SYNC_MAX_ENTRIES
+     */
+    private boolean supportsDigest(RecordStore recordStore) {
+        return recordStore.size() <= differentialReplicaSyncMaxEntries
+                && recordStore.getMapContainer().getMapConfig().getInMemoryFormat() != InMemoryFormat.OBJECT;
+    }
+
     @Override
     public ChunkSupplier newChunkSupplier(PartitionReplicationEvent event,
                                           Collection<ServiceNamespace> namespaces) {
         List<ChunkSupplier> chain = new ArrayList<>(namespaces.size());
         for (ServiceNamespace namespace : namespaces) {
+            if (isDifferentialReplication(event, namespace)) {
+                // only the differences are replicated, no need to chunk them
+                chain.add(ChunkSuppliers.newSingleChunkSupplier(
+                        () -> prepareReplicationOperation(event, singleton(namespace))));
+                continue;
+            }
             chain.add(new MapChunkSupplier(mapServiceContext, namespace,
                     event.getPartitionId(), event.getReplicaIndex()));
         }
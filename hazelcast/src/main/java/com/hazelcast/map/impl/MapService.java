@@ -176,6 +176,11 @@ public class MapService implements ManagedService, ChunkedMigrationAwareService,
         return migrationAwareService.prepareReplicationOperation(event, namespaces);
     }
 
+    @Override
+    public int[] getReplicaFragmentDigest(int partitionId, ServiceNamespace namespace) {
+        return migrationAwareService.getReplicaFragmentDigest(partitionId, namespace);
+    }
+
     @Override
     public void beforeMigration(PartitionMigrationEvent event) {
         migrationAwareService.beforeMigration(event);
@@ -38,6 +38,7 @@ import com.hazelcast.map.impl.query.QueryRunner;
 import com.hazelcast.map.impl.query.ResultProcessorRegistry;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.tieredstore.TieredStore;
 import com.hazelcast.partition.PartitioningStrategy;
 import com.hazelcast.query.impl.IndexCopyBehavior;
 import com.hazelcast.query.impl.IndexProvider;
@@ -47,6 +48,7 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.eventservice.EventFilter;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -195,6 +197,13 @@ public interface MapServiceContext extends MapServiceContextInterceptorSupport,
 
     MapClearExpiredRecordsTask getClearExpiredRecordsTask();
 
+    /**
+     * @return the disk tier of the maps or {@code null} if it is disabled
+     * @see com.hazelcast.spi.properties.ClusterProperty#MAP_TIERED_STORE_ENABLED
+     */
+    @Nullable
+    TieredStore getTieredStore();
+
     MapOperationProvider getMapOperationProvider(String mapName);
 
     IndexProvider getIndexProvider(MapConfig mapConfig);
@@ -69,6 +69,7 @@ import com.hazelcast.map.impl.querycache.NodeQueryCacheContext;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.recordstore.DefaultRecordStore;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.tieredstore.TieredStore;
 import com.hazelcast.map.listener.MapPartitionLostListener;
 import com.hazelcast.partition.PartitioningStrategy;
 import com.hazelcast.query.impl.DefaultIndexProvider;
@@ -110,6 +111,7 @@ import static com.hazelcast.spi.impl.executionservice.ExecutionService.QUERY_EXE
 import static com.hazelcast.spi.impl.operationservice.Operation.GENERIC_PARTITION_ID;
 import static com.hazelcast.spi.properties.ClusterProperty.AGGREGATION_ACCUMULATION_PARALLEL_EVALUATION;
 import static com.hazelcast.spi.properties.ClusterProperty.INDEX_COPY_BEHAVIOR;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_TIERED_STORE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PREDICATE_PARALLEL_EVALUATION;
 import static java.lang.Thread.currentThread;
@@ -141,6 +143,7 @@ class MapServiceContextImpl implements MapServiceContext {
     private final ResultProcessorRegistry resultProcessorRegistry;
     private final InternalSerializationService serializationService;
     private final MapClearExpiredRecordsTask clearExpiredRecordsTask;
+    private final TieredStore tieredStore;
     private final PartitioningStrategyFactory partitioningStrategyFactory;
     private final NodeWideUsedCapacityCounter nodeWideUsedCapacityCounter;
     private final ConstructorFunction<String, MapContainer> mapConstructor;
@@ -168,6 +171,8 @@ class MapServiceContextImpl implements MapServiceContext {
         this.partitionContainers = createPartitionContainers();
         this.clearExpiredRecordsTask = new MapClearExpiredRecordsTask(partitionContainers, nodeEngine);
         this.expirationManager = new ExpirationManager(clearExpiredRecordsTask, nodeEngine);
+        this.tieredStore = nodeEngine.getProperties().getBoolean(MAP_TIERED_STORE_ENABLED)
+                ? new TieredStore(nodeEngine, partitionContainers) : null;
         this.mapNearCacheManager = createMapNearCacheManager();
         this.localMapStatsProvider = createLocalMapStatsProvider();
         this.mapEventPublisher = createMapEventPublisherSupport();
@@ -330,6 +335,9 @@ class MapServiceContextImpl implements MapServiceContext {
         for (int i = 0; i < partitionCount; i++) {
             partitionContainers[i] = createPartitionContainer(getService(), i);
         }
+        if (tieredStore != null) {
+            tieredStore.start();
+        }
     }
 
     protected PartitionContainer createPartitionContainer(MapService service, int partitionId) {
@@ -531,6 +539,9 @@ class MapServiceContextImpl implements MapServiceContext {
         mapNearCacheManager.shutdown();
         mapContainers.clear();
         expirationManager.onShutdown();
+        if (tieredStore != null) {
+            tieredStore.shutdown();
+        }
         offloadedExecutorStats.clear();
     }
 
@@ -636,6 +647,11 @@ class MapServiceContextImpl implements MapServiceContext {
         return clearExpiredRecordsTask;
     }
 
+    @Override
+    public TieredStore getTieredStore() {
+        return tieredStore;
+    }
+
     // TODO: interceptors should get a wrapped object which includes the serialized version
     @Override
     public Object interceptGet(InterceptorRegistry interceptorRegistry, Object currentValue) {
@@ -25,6 +25,7 @@ import com.hazelcast.map.MapLoader;
 import com.hazelcast.map.MapLoaderLifecycleSupport;
 import com.hazelcast.map.MapStore;
 import com.hazelcast.map.PostProcessingMapStore;
+import com.hazelcast.map.SegmentedMapLoader;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 
@@ -170,6 +171,28 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         return null;
     }
 
+    /**
+     * Returns the number of key segments of the configured
+     * {@link SegmentedMapLoader} or {@code 1} if the map loader
+     * cannot load its keys in segments.
+     */
+    public int getKeySegmentCount() {
+        if (isMapLoader() && impl instanceof SegmentedMapLoader segmentedMapLoader) {
+            return NamespaceUtil.callWithOwnClassLoader(segmentedMapLoader, segmentedMapLoader::getKeySegmentCount);
+        }
+        return 1;
+    }
+
+    /**
+     * Returns an {@link Iterable} of the keys of the given segment.
+     *
+     * @see SegmentedMapLoader#loadAllKeys(int)
+     */
+    public Iterable<Object> loadAllKeys(int segment) {
+        SegmentedMapLoader segmentedMapLoader = (SegmentedMapLoader) impl;
+        return NamespaceUtil.callWithOwnClassLoader(segmentedMapLoader, () -> segmentedMapLoader.loadAllKeys(segment));
+    }
+
     @Override
     public Object load(Object key) {
         if (isMapLoader()) {
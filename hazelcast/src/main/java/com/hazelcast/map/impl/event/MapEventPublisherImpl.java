@@ -28,9 +28,13 @@ import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapPartitionLostEventFilter;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.query.QueryEventFilter;
+import com.hazelcast.map.impl.query.QueryProjectionEventFilter;
 import com.hazelcast.map.impl.wan.WanMapAddOrUpdateEvent;
 import com.hazelcast.map.impl.wan.WanMapEntryView;
 import com.hazelcast.map.impl.wan.WanMapRemoveEvent;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.eventservice.EventFilter;
 import com.hazelcast.spi.impl.eventservice.EventRegistration;
@@ -46,6 +50,7 @@ import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Map;
 
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
@@ -246,15 +251,54 @@ public class MapEventPublisherImpl implements MapEventPublisher {
                 return;
             }
 
-            EntryEventData eventDataToBePublished = eventDataCache
-                    .getOrCreateEventData(mapName, caller, dataKey, newValue, oldValue, mergingValue, eventTypeForPublishing,
-                            isIncludeValue(filter));
+            Projection<? super Map.Entry, ?> projection = getProjection(filter);
+            EntryEventData eventDataToBePublished = projection != null
+                    ? createProjectedEventData(projection, mapName, caller, dataKey, newValue, oldValue, mergingValue,
+                    eventTypeForPublishing)
+                    : eventDataCache.getOrCreateEventData(mapName, caller, dataKey, newValue, oldValue, mergingValue,
+                    eventTypeForPublishing, isIncludeValue(filter));
             eventService.publishEvent(SERVICE_NAME, registration, eventDataToBePublished, orderKey);
         } catch (Exception ex) {
             logger.warning("Event publication error for registration: " + registration, ex);
         }
     }
 
+    /**
+     * Creates the event data for a listener registered with a projection.
+     * The projection is applied to the entry values here, on the publisher,
+     * so only the projected values are sent to the listener. This event data
+     * is not cached, since it is specific to the listener's projection.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private EntryEventData createProjectedEventData(Projection<? super Map.Entry, ?> projection, String mapName,
+                                                    Address caller, Data dataKey, Object newValue, Object oldValue,
+                                                    Object mergingValue, int eventType) {
+        Extractors extractors = mapServiceContext.getExtractors(mapName);
+        return new EntryEventData(getThisNodesAddress(), mapName, caller, dataKey,
+                project(projection, dataKey, newValue, extractors),
+                project(projection, dataKey, oldValue, extractors),
+                project(projection, dataKey, mergingValue, extractors), eventType);
+    }
+
+    private Data project(Projection<? super Map.Entry, ?> projection, Data dataKey, Object value, Extractors extractors) {
+        if (value == null) {
+            return null;
+        }
+        CachedQueryEntry entry = new CachedQueryEntry(serializationService, dataKey, value, extractors);
+        return serializationService.toData(projection.transform(entry));
+    }
+
+    /**
+     * Returns the projection of the {@code filter} or {@code null} if the
+     * listener was not registered with a projection.
+     */
+    static Projection<? super Map.Entry, ?> getProjection(EventFilter filter) {
+        if (filter instanceof EventListenerFilter listenerFilter) {
+            filter = listenerFilter.getEventFilter();
+        }
+        return filter instanceof QueryProjectionEventFilter projectionFilter ? projectionFilter.getProjection() : null;
+    }
+
     /**
      * Hook for actions to perform after any of {@link #publishEvent}
      * methods is executed and if there were any registrations for
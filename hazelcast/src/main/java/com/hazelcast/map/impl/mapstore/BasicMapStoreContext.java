@@ -174,6 +174,16 @@ final class BasicMapStoreContext implements MapStoreContext {
         return IterableUtil.nullToEmpty(storeWrapper.loadAllKeys());
     }
 
+    @Override
+    public int getKeySegmentCount() {
+        return storeWrapper.getKeySegmentCount();
+    }
+
+    @Override
+    public Iterable<Object> loadAllKeys(int segment) {
+        return IterableUtil.nullToEmpty(storeWrapper.loadAllKeys(segment));
+    }
+
     void setMapStoreManager(MapStoreManager mapStoreManager) {
         this.mapStoreManager = mapStoreManager;
     }
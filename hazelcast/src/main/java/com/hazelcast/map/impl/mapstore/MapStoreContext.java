@@ -63,6 +63,21 @@ public interface MapStoreContext {
      */
     Iterable<Object> loadAllKeys();
 
+    /**
+     * Returns the number of key segments the map loader can load
+     * concurrently or {@code 1} if the keys can only be loaded at once.
+     *
+     * @see com.hazelcast.map.SegmentedMapLoader#getKeySegmentCount()
+     */
+    int getKeySegmentCount();
+
+    /**
+     * Returns an {@link Iterable} over the keys of the given segment.
+     *
+     * @see com.hazelcast.map.SegmentedMapLoader#loadAllKeys(int)
+     */
+    Iterable<Object> loadAllKeys(int segment);
+
     /**
      * @return {@code true} if a {@link MapLoader} is configured for this map
      */
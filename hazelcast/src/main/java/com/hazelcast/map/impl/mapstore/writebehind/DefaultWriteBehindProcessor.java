@@ -20,6 +20,7 @@ import com.hazelcast.map.EntryLoader.MetadataAwareValue;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.spi.impl.NodeEngine;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,9 +30,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import static com.hazelcast.internal.util.CollectionUtil.isNotEmpty;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_WRITE_BEHIND_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_BEHIND_STORE_PARALLELISM;
 import static java.lang.Thread.currentThread;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -52,15 +60,89 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
 
     private final List<StoreListener> storeListeners;
 
+    /**
+     * The number of groups of entries which are stored concurrently.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#MAP_WRITE_BEHIND_STORE_PARALLELISM
+     */
+    private final int storeParallelism;
+
+    private final Executor storeExecutor;
+
     DefaultWriteBehindProcessor(MapStoreContext mapStoreContext) {
         super(mapStoreContext);
         this.storeListeners = new ArrayList<>(2);
+        NodeEngine nodeEngine = mapStoreContext.getMapServiceContext().getNodeEngine();
+        this.storeParallelism = Math.max(1, nodeEngine.getProperties().getInteger(MAP_WRITE_BEHIND_STORE_PARALLELISM));
+        this.storeExecutor = storeParallelism > 1
+                ? nodeEngine.getExecutionService().getExecutor(MAP_WRITE_BEHIND_EXECUTOR) : null;
     }
 
     @Override
     public Map<Integer, List<DelayedEntry>> process(List<DelayedEntry> delayedEntries) {
-        Map<Integer, List<DelayedEntry>> failMap;
         sort(delayedEntries);
+        if (storeParallelism > 1 && delayedEntries.size() > 1) {
+            return processInParallel(delayedEntries);
+        }
+        return processSorted(delayedEntries);
+    }
+
+    /**
+     * Splits the sorted entries by partition into {@link #storeParallelism}
+     * groups and stores the groups concurrently. One of the groups is stored
+     * by the calling thread. Since all entries of a partition, and so of a
+     * key, are in the same group, the store order of a key is preserved.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Integer, List<DelayedEntry>> processInParallel(List<DelayedEntry> sortedDelayedEntries) {
+        List<DelayedEntry>[] groups = new List[storeParallelism];
+        for (DelayedEntry entry : sortedDelayedEntries) {
+            int index = entry.getPartitionId() % storeParallelism;
+            if (groups[index] == null) {
+                groups[index] = new ArrayList<>();
+            }
+            groups[index].add(entry);
+        }
+
+        List<Future<Map<Integer, List<DelayedEntry>>>> futures = new ArrayList<>(storeParallelism);
+        List<DelayedEntry> callerGroup = null;
+        for (List<DelayedEntry> group : groups) {
+            if (group == null) {
+                continue;
+            }
+            if (callerGroup == null) {
+                callerGroup = group;
+                continue;
+            }
+            FutureTask<Map<Integer, List<DelayedEntry>>> task = new FutureTask<>(() -> processSorted(group));
+            storeExecutor.execute(task);
+            futures.add(task);
+        }
+
+        Map<Integer, List<DelayedEntry>> failsPerPartition = new HashMap<>(processSorted(callerGroup));
+        boolean interrupted = false;
+        for (Future<Map<Integer, List<DelayedEntry>>> future : futures) {
+            // the entries are removed from the write-behind queues once this
+            // method returns, so we wait for all groups to complete
+            while (true) {
+                try {
+                    failsPerPartition.putAll(future.get());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw rethrow(e.getCause());
+                }
+            }
+        }
+        if (interrupted) {
+            currentThread().interrupt();
+        }
+        return failsPerPartition;
+    }
+
+    private Map<Integer, List<DelayedEntry>> processSorted(List<DelayedEntry> delayedEntries) {
+        Map<Integer, List<DelayedEntry>> failMap;
         if (writeBatchSize > 1) {
             failMap = doStoreUsingBatchSize(delayedEntries);
         } else {
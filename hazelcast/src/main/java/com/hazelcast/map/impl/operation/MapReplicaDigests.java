@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.QuickMath;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.wan.impl.merkletree.ArrayMerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
+
+import java.util.Arrays;
+
+import static com.hazelcast.map.impl.operation.MapReplicationStateHolder.getSerializationService;
+
+/**
+ * Digests of the map replica fragments used by the differential replica
+ * synchronization.
+ * <p>
+ * A digest holds the leaf hashes of a Merkle tree built over the records of
+ * a record store. The hash of a leaf covers the keys and values of all the
+ * records whose keys fall into the leaf. Comparing the digest of a backup
+ * replica with the records of the primary replica gives the leaves whose
+ * records must be replicated, in the {@code [leafOrder, hash]} pair format
+ * of {@link MapReplicationStateHolder#setMerkleTreeDiffByMapName}.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#PARTITION_DIFFERENTIAL_REPLICA_SYNC_ENABLED
+ */
+public final class MapReplicaDigests {
+
+    /**
+     * Depth of the Merkle trees of the merge digests, only their roots are used.
+     */
+    private static final int MERGE_DIGEST_DEPTH = 2;
+
+    private MapReplicaDigests() {
+    }
+
+    /**
+     * Returns the leaf hashes of a Merkle tree of the given depth built over
+     * the records of the given record store.
+     */
+    public static int[] digest(RecordStore<Record> recordStore, int depth) {
+        MerkleTree merkleTree = buildMerkleTree(recordStore, depth);
+        int leafLevel = depth - 1;
+        int leftMostLeaf = leftMostLeafOrder(leafLevel);
+        int[] leaves = new int[MerkleTreeUtil.getNodesOnLevel(leafLevel)];
+        for (int i = 0; i < leaves.length; i++) {
+            leaves[i] = merkleTree.getNodeHash(leftMostLeaf + i);
+        }
+        return leaves;
+    }
+
+    /**
+     * Compares the records of the given record store with the given digest
+     * of a remote replica and returns the {@code [leafOrder, hash]} pairs of
+     * the leaves which differ, the hashes being the local ones.
+     */
+    public static int[] diff(RecordStore<Record> recordStore, int[] remoteDigest) {
+        int depth = QuickMath.log2(remoteDigest.length) + 1;
+        MerkleTree merkleTree = buildMerkleTree(recordStore, depth);
+        int leftMostLeaf = leftMostLeafOrder(depth - 1);
+        int[] diff = new int[2 * remoteDigest.length];
+        int length = 0;
+        for (int i = 0; i < remoteDigest.length; i++) {
+            int localHash = merkleTree.getNodeHash(leftMostLeaf + i);
+            if (localHash != remoteDigest[i]) {
+                diff[length++] = leftMostLeaf + i;
+                diff[length++] = localHash;
+            }
+        }
+        return Arrays.copyOf(diff, length);
+    }
+
+    /**
+     * Returns a digest of all the records of the given record store, which
+     * is used to skip the partitions that are identical on both sides of a
+     * split-brain merge. It combines the number of the records with the root
+     * hash of their Merkle tree.
+     */
+    public static long mergeDigest(RecordStore<Record> recordStore) {
+        MerkleTree merkleTree = buildMerkleTree(recordStore, MERGE_DIGEST_DEPTH);
+        return ((long) recordStore.size() << Integer.SIZE) | (merkleTree.getNodeHash(0) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the order of the leaf the given key falls into, in a Merkle
+     * tree which has the given node on its leaf level.
+     */
+    static int leafOrderOf(Data key, int leafNodeOrder) {
+        int leafLevel = MerkleTreeUtil.getLevelOfNode(leafNodeOrder);
+        return MerkleTreeUtil.getLeafOrderForHash(key.hashCode(), leafLevel);
+    }
+
+    private static MerkleTree buildMerkleTree(RecordStore<Record> recordStore, int depth) {
+        SerializationService ss = getSerializationService(recordStore.getMapContainer());
+        MerkleTree merkleTree = new ArrayMerkleTree(depth);
+        // expired records are included, as they are by the full replication
+        recordStore.forEach((key, record) -> merkleTree.updateAdd(key, entryHash(key, record, ss)),
+                true, true);
+        return merkleTree;
+    }
+
+    private static int entryHash(Data key, Record record, SerializationService ss) {
+        Data value = ss.toData(record.getValue());
+        return 31 * key.hashCode() + (value == null ? 0 : value.hashCode());
+    }
+
+    private static int leftMostLeafOrder(int leafLevel) {
+        return MerkleTreeUtil.getNodesOnLevel(leafLevel) - 1;
+    }
+}
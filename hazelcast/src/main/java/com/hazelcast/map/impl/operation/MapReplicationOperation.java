@@ -30,6 +30,7 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Replicates all IMap-states of this partition to a replica partition.
@@ -65,6 +66,19 @@ public class MapReplicationOperation extends Operation
         this.mapNearCacheStateHolder.prepare(container, namespaces);
     }
 
+    /**
+     * Creates a replication operation which replicates only the records
+     * falling into the given different Merkle tree nodes of the maps
+     * contained in {@code merkleTreeDiffByMapName}.
+     *
+     * @see MapReplicaDigests
+     */
+    public MapReplicationOperation(PartitionContainer container, Collection<ServiceNamespace> namespaces,
+                                   int partitionId, int replicaIndex, Map<String, int[]> merkleTreeDiffByMapName) {
+        this(container, namespaces, partitionId, replicaIndex);
+        this.mapReplicationStateHolder.setMerkleTreeDiffByMapName(merkleTreeDiffByMapName);
+    }
+
     @Override
     public void run() {
         try {
@@ -31,6 +31,7 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.ThreadUtil;
+import com.hazelcast.internal.util.collection.IntHashSet;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
@@ -50,6 +51,7 @@ import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.MapIndexInfo;
+import com.hazelcast.wan.impl.CallerProvenance;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -65,6 +67,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import static com.hazelcast.config.MaxSizePolicy.PER_NODE;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.MapUtil.isNullOrEmpty;
+import static com.hazelcast.map.impl.operation.MapReplicaDigests.leafOrderOf;
+import static com.hazelcast.wan.impl.merkletree.MerkleTreeUtil.setOfNodeOrders;
 
 /**
  * Holder for raw IMap key-value pairs and their metadata.
@@ -262,6 +266,29 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
     protected void initializeRecordStore(String mapName, RecordStore recordStore) {
         if (!merkleTreeDiffByMapName.containsKey(mapName)) {
             recordStore.reset();
+        } else {
+            removeRecordsOfDiffNodes(recordStore, merkleTreeDiffByMapName.get(mapName));
+        }
+    }
+
+    /**
+     * Removes the local records falling into the different Merkle tree
+     * nodes, the replicated records of these nodes replace them.
+     */
+    private static void removeRecordsOfDiffNodes(RecordStore<Record> recordStore, int[] diffNodeOrder) {
+        if (diffNodeOrder.length == 0) {
+            return;
+        }
+
+        IntHashSet diffNodes = setOfNodeOrders(diffNodeOrder);
+        List<Data> keys = new ArrayList<>();
+        recordStore.forEach((dataKey, record) -> {
+            if (diffNodes.contains(leafOrderOf(dataKey, diffNodeOrder[0]))) {
+                keys.add(dataKey);
+            }
+        }, true, true);
+        for (Data key : keys) {
+            recordStore.removeBackup(key, CallerProvenance.NOT_WAN);
         }
     }
 
@@ -367,9 +394,35 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         }
     }
 
+    /**
+     * Writes only the records falling into the Merkle tree nodes which
+     * differ on the replica, see {@link MapReplicaDigests}.
+     */
     protected void writeDifferentialData(String mapName,
                                          RecordStore<Record> recordStore, ObjectDataOutput out) throws IOException {
-        throw new UnsupportedOperationException();
+        int[] diffNodeOrder = merkleTreeDiffByMapName.get(mapName);
+        out.writeIntArray(diffNodeOrder);
+
+        List<Data> keys = new ArrayList<>();
+        List<Record> records = new ArrayList<>();
+        if (diffNodeOrder.length > 0) {
+            IntHashSet diffNodes = setOfNodeOrders(diffNodeOrder);
+            recordStore.forEach((dataKey, record) -> {
+                if (diffNodes.contains(leafOrderOf(dataKey, diffNodeOrder[0]))) {
+                    keys.add(dataKey);
+                    records.add(record);
+                }
+            }, operation.getReplicaIndex() != 0, true);
+        }
+
+        SerializationService ss = getSerializationService(recordStore.getMapContainer());
+        out.writeInt(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            writeRecord(recordStore, keys.get(i), records.get(i), ss, out);
+        }
+        LocalReplicationStatsImpl replicationStats = statsByMapName.get(recordStore.getName());
+        replicationStats.incrementDiffPartitionReplicationCount();
+        replicationStats.incrementDiffPartitionReplicationRecordsCount(keys.size());
     }
 
     private void writeRecordStoreData(RecordStore<Record> recordStore, ObjectDataOutput out)
@@ -379,10 +432,7 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         // No expiration should be done in forEach, since we have serialized size before.
         recordStore.forEach((dataKey, record) -> {
             try {
-                IOUtil.writeData(out, dataKey);
-                Records.writeRecord(out, record, ss.toData(record.getValue()));
-                Records.writeExpiry(out, recordStore.getExpirySystem()
-                        .getExpiryMetadata(dataKey));
+                writeRecord(recordStore, dataKey, record, ss, out);
             } catch (IOException e) {
                 throw ExceptionUtil.rethrow(e);
             }
@@ -392,6 +442,14 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         replicationStats.incrementFullPartitionReplicationRecordsCount(recordStore.size());
     }
 
+    private static void writeRecord(RecordStore<Record> recordStore, Data dataKey, Record record,
+                                    SerializationService ss, ObjectDataOutput out) throws IOException {
+        IOUtil.writeData(out, dataKey);
+        Records.writeRecord(out, record, ss.toData(record.getValue()));
+        Records.writeExpiry(out, recordStore.getExpirySystem()
+                .getExpiryMetadata(dataKey));
+    }
+
     protected static SerializationService getSerializationService(MapContainer mapContainer) {
         return mapContainer.getMapServiceContext()
                 .getNodeEngine().getSerializationService();
@@ -20,6 +20,7 @@ import com.hazelcast.aggregation.Aggregator;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.core.ManagedContext;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.journal.EventJournalInitialSubscriberState;
 import com.hazelcast.internal.journal.EventJournalReader;
 import com.hazelcast.internal.namespace.NamespaceUtil;
@@ -646,6 +647,22 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return addEntryListenerInternal(listener, predicate, null, includeValue);
     }
 
+    @Override
+    public UUID addEntryListener(@Nonnull MapListener listener,
+                                 @Nonnull Predicate<K, V> predicate,
+                                 @Nonnull Projection<? super Map.Entry<K, V>, ?> projection) {
+        if (isClusterVersionLessThan(Versions.V6_0)) {
+            throw new UnsupportedOperationException("Entry listeners with a projection require cluster version 6.0");
+        }
+        checkNotNull(listener, NULL_LISTENER_IS_NOT_ALLOWED);
+        checkNotNull(predicate, NULL_PREDICATE_IS_NOT_ALLOWED);
+        checkNotNull(projection, NULL_PROJECTION_IS_NOT_ALLOWED);
+        checkDoesNotContainPagingPredicate(predicate, "addEntryListener");
+        handleHazelcastInstanceAwareParams(listener, predicate, projection);
+
+        return addEntryListenerInternal(listener, predicate, projection);
+    }
+
     @Override
     public boolean removeEntryListener(@Nonnull UUID id) {
         checkNotNull(id, "Listener ID should not be null!");
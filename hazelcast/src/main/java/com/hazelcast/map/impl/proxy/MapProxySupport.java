@@ -69,6 +69,7 @@ import com.hazelcast.map.impl.operation.RemoveInterceptorOperationSupplier;
 import com.hazelcast.map.impl.query.Query;
 import com.hazelcast.map.impl.query.QueryEngine;
 import com.hazelcast.map.impl.query.QueryEventFilter;
+import com.hazelcast.map.impl.query.QueryProjectionEventFilter;
 import com.hazelcast.map.impl.query.Result;
 import com.hazelcast.map.impl.query.Target;
 import com.hazelcast.map.impl.query.Target.TargetMode;
@@ -1227,6 +1228,13 @@ abstract class MapProxySupport<K, V>
         return mapServiceContext.addEventListener(listener, eventFilter, name);
     }
 
+    protected UUID addEntryListenerInternal(Object listener,
+                                            Predicate predicate,
+                                            Projection projection) {
+        EventFilter eventFilter = new QueryProjectionEventFilter(null, predicate, projection);
+        return mapServiceContext.addEventListener(listener, eventFilter, name);
+    }
+
     protected boolean removeEntryListenerInternal(UUID id) {
         return mapServiceContext.removeEventListener(name, id);
     }
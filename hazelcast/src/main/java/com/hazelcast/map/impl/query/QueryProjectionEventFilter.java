@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.Predicate;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Query event filter which additionally carries a {@link Projection}.
+ * The projection is applied to the old, new and merging values of the
+ * entry by the event publisher, so the events sent to the listener
+ * only carry the projected values instead of the full entry values.
+ */
+public class QueryProjectionEventFilter extends QueryEventFilter {
+
+    private Projection<? super Map.Entry, ?> projection;
+
+    public QueryProjectionEventFilter() {
+    }
+
+    public QueryProjectionEventFilter(Data key, Predicate predicate, Projection<? super Map.Entry, ?> projection) {
+        super(key, predicate, true);
+        this.projection = projection;
+    }
+
+    public Projection<? super Map.Entry, ?> getProjection() {
+        return projection;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.QUERY_PROJECTION_EVENT_FILTER;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        super.writeData(out);
+        out.writeObject(projection);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        super.readData(in);
+        projection = in.readObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        QueryProjectionEventFilter that = (QueryProjectionEventFilter) o;
+        return projection.equals(that.projection);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + projection.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryProjectionEventFilter{"
+                + "predicate=" + getPredicate()
+                + ", projection=" + projection
+                + '}';
+    }
+}
@@ -17,21 +17,29 @@
 package com.hazelcast.map.impl.querycache.subscriber;
 
 import com.hazelcast.config.QueryCacheConfig;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import com.hazelcast.map.impl.ListenerAdapter;
+import com.hazelcast.map.impl.query.QueryResultRow;
 import com.hazelcast.map.impl.querycache.QueryCacheConfigurator;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.querycache.QueryCacheEventService;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfoSupplier;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo.toAccumulatorInfo;
 import static com.hazelcast.map.impl.querycache.subscriber.NullQueryCache.NULL_QUERY_CACHE;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static java.lang.String.format;
 
 /**
  * Provides generic functionality for {@code QueryCacheEndToEndConstructor} implementations.
@@ -123,6 +131,58 @@ public abstract class AbstractQueryCacheEndToEndConstructor implements QueryCach
         return context.toObject(data);
     }
 
+    /**
+     * Populates the query cache partition by partition, in pages of {@code
+     * fetchSize} entries. The publishers must have been created without a
+     * snapshot before, so that the query cache already receives the updates
+     * of the map while it is populated. The populated entries never override
+     * these updates, see {@link InternalQueryCache#populate(int, Iterator)}.
+     */
+    protected void populateIncrementally(AccumulatorInfo info, int fetchSize) {
+        Projection<Map.Entry<Object, Object>, QueryResultRow> projection
+                = new QueryCachePopulationProjection(info.isIncludeValue());
+        int partitionCount = context.getPartitionCount();
+        int populatedPartitions = 0;
+        for (int partitionId = 0; partitionId < partitionCount && !queryCache.reachedMaxCapacity(); partitionId++) {
+            Iterator<QueryResultRow> entries = fetchEntries(fetchSize, partitionId, projection, info.getPredicate());
+            List<Map.Entry<Data, Data>> page = new ArrayList<>(fetchSize);
+            while (entries.hasNext()) {
+                page.add(entries.next());
+                if (page.size() == fetchSize) {
+                    queryCache.populate(partitionId, page.iterator());
+                    page.clear();
+                }
+            }
+            queryCache.populate(partitionId, page.iterator());
+            populatedPartitions++;
+        }
+
+        if (logger.isFineEnabled()) {
+            logger.fine(format("Populated query cache %s of map %s from %d of %d partitions, size=%d",
+                    request.getCacheName(), mapName, populatedPartitions, partitionCount, queryCache.size()));
+        }
+    }
+
+    /**
+     * Returns an iterator over the projected entries of the given partition
+     * matching the given predicate, fetching {@code fetchSize} entries at once.
+     */
+    protected abstract Iterator<QueryResultRow> fetchEntries(int fetchSize, int partitionId,
+                                                             Projection<Map.Entry<Object, Object>, QueryResultRow> projection,
+                                                             Predicate predicate);
+
+    /**
+     * Returns a copy of the given info for creating the publishers without
+     * an initial snapshot, which publish the updates of the map immediately.
+     */
+    protected static AccumulatorInfo withoutSnapshot(AccumulatorInfo info) {
+        AccumulatorInfo copy = toAccumulatorInfo(info.getMapName(), info.getCacheId(), info.getPredicate(),
+                info.getBatchSize(), info.getBufferSize(), info.getDelaySeconds(), info.isIncludeValue(),
+                false, info.isCoalesce());
+        copy.setPublishable(true);
+        return copy;
+    }
+
     private QueryCacheConfig initQueryCacheConfig(QueryCacheRequest request, String cacheId) {
         Predicate predicate = request.getPredicate();
 
@@ -44,8 +44,10 @@ import com.hazelcast.query.impl.QueryEntry;
 import com.hazelcast.spi.impl.eventservice.EventFilter;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +61,7 @@ import static com.hazelcast.internal.nio.IOUtil.closeResource;
 import static com.hazelcast.internal.util.FutureUtil.waitWithDeadline;
 import static com.hazelcast.internal.util.Preconditions.checkNoNullInside;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkState;
 import static com.hazelcast.map.impl.querycache.subscriber.AbstractQueryCacheEndToEndConstructor.OPERATION_WAIT_TIMEOUT_MINUTES;
 import static com.hazelcast.map.impl.querycache.subscriber.EventPublisherHelper.publishEntryEvent;
 import static com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest.newQueryCacheRequest;
@@ -75,6 +78,13 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 @SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity"})
 class DefaultQueryCache<K, V> extends AbstractInternalQueryCache<K, V> {
 
+    /**
+     * Keys and partitions updated by the events received during an
+     * incremental population, {@code null} if the query cache is not
+     * being populated incrementally.
+     */
+    private volatile Population population;
+
     DefaultQueryCache(String cacheId, String cacheName, QueryCacheConfig queryCacheConfig,
                       IMap delegate, QueryCacheContext context) {
         super(cacheId, cacheName, queryCacheConfig, delegate, context);
@@ -82,7 +92,15 @@ class DefaultQueryCache<K, V> extends AbstractInternalQueryCache<K, V> {
 
     @Override
     public void set(K key, V value, EntryEventType eventType) {
-        setInternal(key, value, eventType, true);
+        Population population = this.population;
+        if (population == null) {
+            setInternal(key, value, eventType, true);
+            return;
+        }
+        synchronized (population) {
+            population.updatedKeys.add(recordStore.toQueryCacheKey(key));
+            setInternal(key, value, eventType, true);
+        }
     }
 
     @Override
@@ -91,6 +109,35 @@ class DefaultQueryCache<K, V> extends AbstractInternalQueryCache<K, V> {
                 entry.getKey(), entry.getValue(), oldRecord, EntryEventType.ADDED, extractors));
     }
 
+    @Override
+    public void beginPopulation() {
+        population = new Population();
+    }
+
+    @Override
+    public void populate(int partitionId, Iterator<Map.Entry<Data, Data>> entries) {
+        Population population = this.population;
+        checkState(population != null, "Population of query cache " + cacheId + " has not begun");
+        synchronized (population) {
+            if (population.clearedPartitions.get(partitionId)) {
+                return;
+            }
+            List<Map.Entry<Data, Data>> notUpdated = new ArrayList<>();
+            while (entries.hasNext()) {
+                Map.Entry<Data, Data> entry = entries.next();
+                if (!population.updatedKeys.contains(recordStore.toQueryCacheKey(entry.getKey()))) {
+                    notUpdated.add(entry);
+                }
+            }
+            prepopulate(notUpdated.iterator());
+        }
+    }
+
+    @Override
+    public void endPopulation() {
+        population = null;
+    }
+
     /**
      * @param doEvictionCheck when doing pre-population of query cache, set
      *                        this to false since we quit population if we reach max capacity {@link
@@ -114,6 +161,18 @@ class DefaultQueryCache<K, V> extends AbstractInternalQueryCache<K, V> {
     public void delete(Object key, EntryEventType eventType) {
         checkNotNull(key, "key cannot be null");
 
+        Population population = this.population;
+        if (population == null) {
+            deleteInternal(key, eventType);
+            return;
+        }
+        synchronized (population) {
+            population.updatedKeys.add(recordStore.toQueryCacheKey(key));
+            deleteInternal(key, eventType);
+        }
+    }
+
+    private void deleteInternal(Object key, EntryEventType eventType) {
         Object queryCacheKey = recordStore.toQueryCacheKey(key);
 
         QueryCacheRecord oldRecord = recordStore.remove(queryCacheKey);
@@ -514,6 +573,17 @@ class DefaultQueryCache<K, V> extends AbstractInternalQueryCache<K, V> {
 
     @Override
     public int removeEntriesOf(int partitionId) {
+        Population population = this.population;
+        if (population == null) {
+            return removeEntriesOfInternal(partitionId);
+        }
+        synchronized (population) {
+            population.clearedPartitions.set(partitionId);
+            return removeEntriesOfInternal(partitionId);
+        }
+    }
+
+    private int removeEntriesOfInternal(int partitionId) {
         int removedEntryCount = 0;
 
         Set keys = recordStore.keySet();
@@ -536,4 +606,14 @@ class DefaultQueryCache<K, V> extends AbstractInternalQueryCache<K, V> {
                 + ", cacheName='" + cacheName + '\''
                 + '}';
     }
+
+    /**
+     * The updates received during an incremental population, which take
+     * precedence over the populated entries. Guarded by its own monitor.
+     */
+    private static final class Population {
+
+        private final Set<Object> updatedKeys = new HashSet<>();
+        private final BitSet clearedPartitions = new BitSet();
+    }
 }
@@ -49,6 +49,32 @@ public interface InternalQueryCache<K, V> extends QueryCache<K, V> {
      */
     void prepopulate(Iterator<Map.Entry<Data, Data>> entries);
 
+    /**
+     * Starts populating this query cache incrementally, see {@link
+     * #populate(int, Iterator)}. Until {@link #endPopulation()} is called,
+     * the keys updated and the partitions cleared by the received events are
+     * recorded, so that the populated entries do not override them.
+     */
+    void beginPopulation();
+
+    /**
+     * Populates this query cache with a page of entries fetched from the given
+     * partition. Entries whose keys were updated, or whose partition was
+     * cleared, by an event received since {@link #beginPopulation()} are
+     * skipped, since the event is more recent than the fetched entry.
+     * Triggers an {@link EntryEventType#ADDED ADDED} event for each entry that
+     * is added to the query cache.
+     *
+     * @param partitionId the partition the entries were fetched from
+     * @param entries     key-value pairs iterator
+     */
+    void populate(int partitionId, Iterator<Map.Entry<Data, Data>> entries);
+
+    /**
+     * Ends the incremental population started with {@link #beginPopulation()}.
+     */
+    void endPopulation();
+
     void delete(Object key, EntryEventType eventType);
 
     /**
@@ -17,17 +17,26 @@
 package com.hazelcast.map.impl.querycache.subscriber;
 
 import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.util.ExceptionUtil;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.map.impl.query.QueryResult;
+import com.hazelcast.map.impl.query.QueryResultRow;
 import com.hazelcast.map.impl.querycache.InvokerWrapper;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
 import com.hazelcast.map.impl.querycache.subscriber.operation.MadePublishableOperation;
 import com.hazelcast.map.impl.querycache.subscriber.operation.PublisherCreateOperation;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.properties.ClusterProperty;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
@@ -49,6 +58,21 @@ public class NodeQueryCacheEndToEndConstructor extends AbstractQueryCacheEndToEn
 
     @Override
     public void createPublisherAccumulator(AccumulatorInfo info, boolean urgent) {
+        NodeEngine nodeEngine = getMapProxy().getNodeEngine();
+        int fetchSize = nodeEngine.getProperties().getInteger(ClusterProperty.QUERY_CACHE_POPULATION_FETCH_SIZE);
+        // members before 6.0 can't deserialize the population projection
+        if (info.isPopulate() && fetchSize > 0
+                && !nodeEngine.getClusterService().getClusterVersion().isLessThan(Versions.V6_0)) {
+            queryCache.beginPopulation();
+            try {
+                createPublishersAndGetQueryResults(withoutSnapshot(info));
+                populateIncrementally(info, fetchSize);
+            } finally {
+                queryCache.endPopulation();
+            }
+            return;
+        }
+
         // create publishers and execute initial population query in one go
         Collection<QueryResult> results = createPublishersAndGetQueryResults(info);
         if (!isEmpty(results)) {
@@ -66,6 +90,17 @@ public class NodeQueryCacheEndToEndConstructor extends AbstractQueryCacheEndToEn
         }
     }
 
+    @Override
+    protected Iterator<QueryResultRow> fetchEntries(int fetchSize, int partitionId,
+                                                    Projection<Map.Entry<Object, Object>, QueryResultRow> projection,
+                                                    Predicate predicate) {
+        return getMapProxy().iterator(fetchSize, partitionId, projection, predicate);
+    }
+
+    private MapProxyImpl<Object, Object> getMapProxy() {
+        return (MapProxyImpl<Object, Object>) request.getMap();
+    }
+
     private Collection<QueryResult> createPublishersAndGetQueryResults(AccumulatorInfo info) {
         InvokerWrapper invokerWrapper = context.getInvokerWrapper();
         Collection<Member> members = context.getMemberList();
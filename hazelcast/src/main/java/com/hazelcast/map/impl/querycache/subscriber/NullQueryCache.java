@@ -51,6 +51,18 @@ public final class NullQueryCache implements InternalQueryCache {
     public void prepopulate(Iterator entries) {
     }
 
+    @Override
+    public void beginPopulation() {
+    }
+
+    @Override
+    public void populate(int partitionId, Iterator entries) {
+    }
+
+    @Override
+    public void endPopulation() {
+    }
+
     @Override
     public void delete(Object key, EntryEventType eventType) {
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.querycache.subscriber;
+
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.query.QueryResultRow;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Projects the entries of a map partition to their serialized key and
+ * value, used to fetch the entries of a query cache page by page during
+ * its population.
+ *
+ * @see AbstractQueryCacheEndToEndConstructor
+ */
+public class QueryCachePopulationProjection
+        implements Projection<Map.Entry<Object, Object>, QueryResultRow>, IdentifiedDataSerializable {
+
+    private boolean includeValue;
+
+    public QueryCachePopulationProjection() {
+    }
+
+    public QueryCachePopulationProjection(boolean includeValue) {
+        this.includeValue = includeValue;
+    }
+
+    @Override
+    public QueryResultRow transform(Map.Entry<Object, Object> input) {
+        QueryableEntry entry = (QueryableEntry) input;
+        return new QueryResultRow(entry.getKeyData(), includeValue ? entry.getValueData() : null);
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeBoolean(includeValue);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        includeValue = in.readBoolean();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.QUERY_CACHE_POPULATION_PROJECTION;
+    }
+}
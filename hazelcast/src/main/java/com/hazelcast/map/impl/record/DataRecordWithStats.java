@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.record;
 
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.tieredstore.SpilledData;
 
 import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
 
@@ -41,6 +42,12 @@ class DataRecordWithStats extends AbstractRecord<Data> {
 
     @Override
     public Data getValue() {
+        Data value = this.value;
+        return value instanceof SpilledData ? SpilledData.resolve(this, value) : value;
+    }
+
+    @Override
+    public Data getStoredValue() {
         return value;
     }
 
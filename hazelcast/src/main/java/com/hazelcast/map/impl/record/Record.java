@@ -39,6 +39,18 @@ public interface Record<V> {
 
     void setValue(V value);
 
+    /**
+     * Returns the value as it is held by this record. Unlike {@link
+     * #getValue()}, it does not load the values moved to the disk tier,
+     * it returns their {@link com.hazelcast.map.impl.tieredstore.SpilledData}
+     * references instead.
+     *
+     * @return the value held by this record
+     */
+    default V getStoredValue() {
+        return getValue();
+    }
+
     /**
      * Returns heap cost of this record in bytes.
      *
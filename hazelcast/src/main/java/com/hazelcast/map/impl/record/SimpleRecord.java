@@ -18,6 +18,7 @@ package com.hazelcast.map.impl.record;
 
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.tieredstore.SpilledData;
 
 import java.util.Objects;
 
@@ -52,6 +53,12 @@ public class SimpleRecord<V> implements Record<V> {
 
     @Override
     public V getValue() {
+        V value = this.value;
+        return value instanceof SpilledData ? SpilledData.resolve(this, value) : value;
+    }
+
+    @Override
+    public V getStoredValue() {
         return value;
     }
 
@@ -21,6 +21,8 @@ import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MetadataPolicy;
+import com.hazelcast.internal.hotrestart.impl.LocalHotRestartService;
+import com.hazelcast.internal.hotrestart.impl.PersistenceStore;
 import com.hazelcast.internal.locksupport.LockStore;
 import com.hazelcast.internal.locksupport.LockSupportService;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
@@ -127,6 +129,14 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
                     JsonMetadataInitializer.INSTANCE, getOrCreateMetadataStore()));
         }
 
+        // Add observer for local persistence
+        if (inMemoryFormat != InMemoryFormat.NATIVE && mapContainer.getMapConfig().getDataPersistenceConfig().isEnabled()) {
+            PersistenceStore persistenceStore = LocalHotRestartService.getStore(mapServiceContext.getNodeEngine());
+            if (persistenceStore != null) {
+                mutationObserver.add(new PersistenceMutationObserver(persistenceStore, this, serializationService));
+            }
+        }
+
         // Add observer for indexing
         indexingObserver = new IndexingMutationObserver<>(this, serializationService);
         mutationObserver.add(indexingObserver);
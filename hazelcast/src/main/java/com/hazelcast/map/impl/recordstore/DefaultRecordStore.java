@@ -1181,7 +1181,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
                 return MapMergeResponse.RECORD_REMOVED;
             }
 
-            if (valueComparator.isEqual(newValue, oldValue, serializationService)) {
+            if (isEqualMergeValue(newValue, oldValue)) {
                 // When receiving WAN replicated data, it is possible that the merge policy rejects an incoming
                 //  value, which would result in the above condition being true (merge policy selects the existing
                 //  value as the outcome). However, we do not want to apply metadata changes if we are rejecting
@@ -1192,7 +1192,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
                 //  changed data and use that. Since this only matters for WAN-received merge events, we can avoid
                 //  additional overhead by checking provenance. Fixes HZ-3392, Backlog for merge changes: HZ-3397
                 boolean shouldMergeExpiration = provenance != CallerProvenance.WAN
-                        || valueComparator.isEqual(existingEntry.getRawValue(), mergingEntry.getRawValue(), serializationService);
+                        || isEqualMergeValue(existingEntry.getRawValue(), mergingEntry.getRawValue());
                 if (shouldMergeExpiration && mergeRecordExpiration(key, record, mergingEntry, now)) {
                     return MapMergeResponse.RECORD_EXPIRY_UPDATED;
                 }
@@ -1207,6 +1207,15 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         }
     }
 
+    /**
+     * Equal serialized values are equal, so they are compared without
+     * deserializing them, as the merged values are mostly serialized.
+     */
+    private boolean isEqualMergeValue(Object value1, Object value2) {
+        return (value1 instanceof Data && value1.equals(value2))
+                || valueComparator.isEqual(value1, value2, serializationService);
+    }
+
     @Override
     public Object replace(Data key, Object update) {
         long now = getNow();
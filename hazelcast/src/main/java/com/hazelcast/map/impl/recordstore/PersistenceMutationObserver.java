@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.hotrestart.impl.PersistenceStore;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.record.Record;
+
+import javax.annotation.Nonnull;
+
+import static com.hazelcast.internal.hotrestart.impl.PersistenceStore.MAP;
+
+/**
+ * Persists the mutations of a {@link RecordStore} to the local
+ * {@link PersistenceStore}, so that its entries can be recovered after a
+ * restart. Evicted entries are removed from the persisted data as well.
+ */
+public class PersistenceMutationObserver implements MutationObserver<Record> {
+
+    private final PersistenceStore store;
+    private final RecordStore recordStore;
+    private final SerializationService serializationService;
+    private final String name;
+    private final int partitionId;
+    private final boolean fsync;
+
+    public PersistenceMutationObserver(PersistenceStore store, RecordStore recordStore,
+                                       SerializationService serializationService) {
+        this.store = store;
+        this.recordStore = recordStore;
+        this.serializationService = serializationService;
+        this.name = recordStore.getName();
+        this.partitionId = recordStore.getPartitionId();
+        this.fsync = recordStore.getMapContainer().getMapConfig().getDataPersistenceConfig().isFsync();
+    }
+
+    @Override
+    public void onPutRecord(@Nonnull Data key, Record record, Object oldValue, boolean backup) {
+        persist(key, record);
+    }
+
+    @Override
+    public void onReplicationPutRecord(@Nonnull Data key, @Nonnull Record record, boolean populateIndex) {
+        persist(key, record);
+    }
+
+    @Override
+    public void onUpdateRecord(@Nonnull Data key, @Nonnull Record record,
+                               Object oldValue, Object newValue, boolean backup) {
+        persist(key, record);
+    }
+
+    @Override
+    public void onRemoveRecord(@Nonnull Data key, Record record, boolean backup) {
+        store.remove(partitionId, MAP, name, key, fsync);
+    }
+
+    @Override
+    public void onEvictRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        store.remove(partitionId, MAP, name, key, fsync);
+    }
+
+    @Override
+    public void onLoadRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        persist(key, record);
+    }
+
+    @Override
+    public void onReset() {
+        store.clear(partitionId, MAP, name, fsync);
+    }
+
+    @Override
+    public void onClear() {
+        store.clear(partitionId, MAP, name, fsync);
+    }
+
+    @Override
+    public void onDestroy(boolean isDuringShutdown, boolean internal) {
+        // NOP, the record store is cleared before it is destroyed,
+        // except on shutdown, when its persisted entries must be kept
+    }
+
+    private void persist(Data key, Record record) {
+        long expirationTime = recordStore.getExpirySystem().getExpiryMetadata(key).getExpirationTime();
+        store.put(partitionId, MAP, name, key, serializationService.toData(record.getValue()), expirationTime, fsync);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.tieredstore;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.SerializationConstants;
+import com.hazelcast.map.impl.record.Record;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * {@link Data} whose bytes are kept in a {@link TieredValueLog} on the
+ * disk. The type and the hash code are kept on the heap since they are
+ * frequently used, e.g. to compare the values.
+ * <p>
+ * A record holding a spilled value never hands it out: {@link
+ * com.hazelcast.map.impl.record.Record#getValue()} {@link #resolve resolves}
+ * it into a {@link HeapData}, so that the returned value remains valid after
+ * the log is compacted or deleted. Only the disk tier deals with the spilled
+ * values themselves, through {@link
+ * com.hazelcast.map.impl.record.Record#getStoredValue()}.
+ */
+public final class SpilledData implements Data {
+
+    private static final int HEAP_COST = OBJECT_HEADER_SIZE + REFERENCE_COST_IN_BYTES
+            + LONG_SIZE_IN_BYTES + 3 * INT_SIZE_IN_BYTES;
+
+    private final TieredValueLog log;
+    private final long offset;
+    private final int totalSize;
+    private final int type;
+    private final int hashCode;
+
+    SpilledData(TieredValueLog log, long offset, int totalSize, int type, int hashCode) {
+        this.log = log;
+        this.offset = offset;
+        this.totalSize = totalSize;
+        this.type = type;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Returns the value of the given record, read from the disk tier into a
+     * {@link HeapData} if the record holds a spilled value. If the log of the
+     * spilled value has been compacted or deleted in the meantime, the value
+     * is read again from its new location.
+     *
+     * @param record      the record
+     * @param storedValue the value held by the record
+     * @return the value of the record, which is not a {@link SpilledData}
+     * @throws HazelcastException if the record has been removed and its value
+     *                            is no longer available in the disk tier
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V resolve(Record<V> record, V storedValue) {
+        V value = storedValue;
+        while (value instanceof SpilledData spilled) {
+            HeapData heapData = spilled.log.read(spilled.offset, spilled.totalSize);
+            if (heapData != null) {
+                return (V) heapData;
+            }
+            // the log is deleted only after the records referring to it
+            // are updated, unless the record has been removed meanwhile
+            V current = record.getStoredValue();
+            if (current == value) {
+                throw new HazelcastException("The value of a removed entry is no longer available in " + spilled.log);
+            }
+            value = current;
+        }
+        return value;
+    }
+
+    TieredValueLog getLog() {
+        return log;
+    }
+
+    /**
+     * Reads the value from the disk without counting it as a hit.
+     */
+    HeapData load() {
+        HeapData value = log.readWithoutHit(offset, totalSize);
+        if (value == null) {
+            throw new HazelcastException("The value is no longer available in " + log);
+        }
+        return value;
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        return load().toByteArray();
+    }
+
+    @Override
+    public int getType() {
+        return type;
+    }
+
+    @Override
+    public int totalSize() {
+        return totalSize;
+    }
+
+    @Override
+    public void copyTo(byte[] dest, int destPos) {
+        load().copyTo(dest, destPos);
+    }
+
+    @Override
+    public int dataSize() {
+        return Math.max(totalSize - HeapData.HEAP_DATA_OVERHEAD, 0);
+    }
+
+    @Override
+    public int getHeapCost() {
+        return HEAP_COST;
+    }
+
+    @Override
+    public int getPartitionHash() {
+        return load().getPartitionHash();
+    }
+
+    @Override
+    public boolean hasPartitionHash() {
+        return load().hasPartitionHash();
+    }
+
+    @Override
+    public long hash64() {
+        return load().hash64();
+    }
+
+    @Override
+    public boolean isPortable() {
+        return SerializationConstants.CONSTANT_TYPE_PORTABLE == type;
+    }
+
+    @Override
+    public boolean isJson() {
+        return SerializationConstants.JAVASCRIPT_JSON_SERIALIZATION_TYPE == type;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return SerializationConstants.TYPE_COMPACT == type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Data data)) {
+            return false;
+        }
+        if (type != data.getType() || dataSize() != data.dataSize() || hashCode != data.hashCode()) {
+            return false;
+        }
+        return load().equals(data);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "SpilledData{"
+                + "type=" + type
+                + ", hashCode=" + hashCode
+                + ", totalSize=" + totalSize
+                + ", offset=" + offset
+                + ", log=" + log
+                + '}';
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.tieredstore;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.Storage;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_TIERED_STORE_COLD_ENTRY_SECONDS;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_TIERED_STORE_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_TIERED_STORE_SWEEP_PERIOD_SECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Disk tier of the maps of a member.
+ * <p>
+ * A periodic task sweeps the record stores of each partition, on the
+ * partition thread. It moves the values of the entries which have not been
+ * accessed or updated for {@link
+ * com.hazelcast.spi.properties.ClusterProperty#MAP_TIERED_STORE_COLD_ENTRY_SECONDS}
+ * to the {@link TieredValueLog} of their record store, replacing them with
+ * {@link SpilledData} references, and moves the values which have been
+ * accessed since then back to the heap. The records read the spilled values
+ * into the heap whenever they are accessed, see {@link SpilledData#resolve}.
+ * <p>
+ * The log of a record store is compacted into a new one when most of it is
+ * obsolete. A replaced log is released once the records refer to the new one,
+ * and it is deleted when the reads in progress are completed.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#MAP_TIERED_STORE_ENABLED
+ */
+public class TieredStore {
+
+    /**
+     * Minimum size of the obsolete values in a log to compact it.
+     */
+    static final long MIN_COMPACTION_SIZE = 1 << 20;
+
+    private final NodeEngine nodeEngine;
+    private final PartitionContainer[] partitionContainers;
+    private final ILogger logger;
+    private final long coldEntryMillis;
+    private final long sweepPeriodSeconds;
+    private final String baseDirectory;
+    /**
+     * Record store tiers of each partition by map name, updated only by the partition threads.
+     */
+    private final ConcurrentMap<String, RecordStoreTier>[] tiers;
+
+    private volatile Path directory;
+    private volatile ScheduledFuture<?> sweepTask;
+
+    @SuppressWarnings("unchecked")
+    public TieredStore(NodeEngine nodeEngine, PartitionContainer[] partitionContainers) {
+        this.nodeEngine = nodeEngine;
+        this.partitionContainers = partitionContainers;
+        this.logger = nodeEngine.getLogger(getClass());
+        HazelcastProperties properties = nodeEngine.getProperties();
+        this.coldEntryMillis = properties.getMillis(MAP_TIERED_STORE_COLD_ENTRY_SECONDS);
+        this.sweepPeriodSeconds = properties.getSeconds(MAP_TIERED_STORE_SWEEP_PERIOD_SECONDS);
+        this.baseDirectory = properties.getString(MAP_TIERED_STORE_DIRECTORY);
+        this.tiers = new ConcurrentMap[partitionContainers.length];
+        for (int i = 0; i < tiers.length; i++) {
+            tiers[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public void start() {
+        try {
+            Path base = Paths.get(isNullOrEmpty(baseDirectory) ? System.getProperty("java.io.tmpdir") : baseDirectory);
+            Files.createDirectories(base);
+            directory = Files.createTempDirectory(base, "hazelcast-map-tiered-store-");
+        } catch (IOException e) {
+            throw new HazelcastException("Could not create the directory of the map disk tier", e);
+        }
+        logger.info("Values of the cold map entries are moved to the disk tier in " + directory);
+        sweepTask = nodeEngine.getExecutionService().getGlobalTaskScheduler()
+                .scheduleWithRepetition(this::sweep, sweepPeriodSeconds, sweepPeriodSeconds, SECONDS);
+    }
+
+    public void shutdown() {
+        ScheduledFuture<?> task = sweepTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        for (ConcurrentMap<String, RecordStoreTier> partitionTiers : tiers) {
+            for (RecordStoreTier tier : partitionTiers.values()) {
+                tier.delete();
+            }
+            partitionTiers.clear();
+        }
+        Path dir = directory;
+        if (dir != null) {
+            try {
+                IOUtil.delete(dir);
+            } catch (Exception e) {
+                logger.warning("Could not delete the directory of the map disk tier " + dir, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the log of the given record store, or {@code null} if none of
+     * its values has been moved to the disk tier.
+     */
+    public TieredValueLog getLog(RecordStore recordStore) {
+        RecordStoreTier tier = tiers[recordStore.getPartitionId()].get(recordStore.getName());
+        return tier != null && tier.recordStore == recordStore ? tier.log : null;
+    }
+
+    /**
+     * Sweeps the record stores of the given partition. Must be called on the partition thread.
+     */
+    void sweep(int partitionId) {
+        PartitionContainer container = partitionContainers[partitionId];
+        ConcurrentMap<String, RecordStoreTier> partitionTiers = tiers[partitionId];
+
+        // delete the logs of the destroyed record stores
+        Iterator<RecordStoreTier> iterator = partitionTiers.values().iterator();
+        while (iterator.hasNext()) {
+            RecordStoreTier tier = iterator.next();
+            if (container.getExistingRecordStore(tier.recordStore.getName()) != tier.recordStore) {
+                iterator.remove();
+                tier.delete();
+            }
+        }
+
+        long coldBefore = Clock.currentTimeMillis() - coldEntryMillis;
+        for (RecordStore recordStore : container.getMaps().values()) {
+            if (recordStore.getMapContainer().getMapConfig().getInMemoryFormat() != BINARY) {
+                continue;
+            }
+            RecordStoreTier tier = partitionTiers.get(recordStore.getName());
+            if (tier == null || tier.recordStore != recordStore) {
+                tier = new RecordStoreTier(recordStore);
+                partitionTiers.put(recordStore.getName(), tier);
+            }
+            try {
+                tier.sweep(coldBefore);
+            } catch (IOException | UncheckedIOException e) {
+                logger.warning("Could not move the values of " + recordStore.getName()
+                        + " in partitionId=" + partitionId + " to the disk tier", e);
+            }
+        }
+    }
+
+    private void sweep() {
+        for (PartitionContainer container : partitionContainers) {
+            int partitionId = container.getPartitionId();
+            if (container.getMaps().isEmpty() && tiers[partitionId].isEmpty()) {
+                continue;
+            }
+            nodeEngine.getOperationService().execute(new PartitionSpecificRunnable() {
+                @Override
+                public int getPartitionId() {
+                    return partitionId;
+                }
+
+                @Override
+                public void run() {
+                    sweep(partitionId);
+                }
+            });
+        }
+    }
+
+    private TieredValueLog newLog(int partitionId) throws IOException {
+        return new TieredValueLog(directory, partitionId, logger);
+    }
+
+    /**
+     * Disk tier of a record store, accessed only by its partition thread,
+     * except the {@link #log} which can be read by any thread.
+     */
+    private final class RecordStoreTier {
+
+        private final RecordStore<Record> recordStore;
+        private volatile TieredValueLog log;
+
+        private RecordStoreTier(RecordStore<Record> recordStore) {
+            this.recordStore = recordStore;
+        }
+
+        private void sweep(long coldBefore) throws IOException {
+            Storage<Data, Record> storage = recordStore.getStorage();
+            long[] live = new long[2];
+            recordStore.forEach((key, record) -> {
+                long lastAccessTime = record.getLastAccessTime();
+                if (lastAccessTime == Record.UNSET) {
+                    // the access time of the records is not tracked by the map
+                    return;
+                }
+                long lastActivityTime = Math.max(lastAccessTime, record.getLastUpdateTime());
+                Object value = record.getStoredValue();
+                if (value instanceof SpilledData spilled) {
+                    if (lastActivityTime >= coldBefore) {
+                        storage.updateRecordValue(key, record, spilled.load());
+                    } else {
+                        live[0]++;
+                        live[1] += spilled.totalSize();
+                    }
+                } else if (value instanceof Data data && data.totalSize() > 0 && lastActivityTime < coldBefore) {
+                    storage.updateRecordValue(key, record, append(data));
+                    live[0]++;
+                    live[1] += data.totalSize();
+                }
+            }, true, true);
+
+            TieredValueLog current = log;
+            if (current == null) {
+                return;
+            }
+            current.setLiveEntries(live[0], live[1]);
+            if (live[0] == 0) {
+                log = null;
+                current.release();
+            } else if (current.size() - live[1] >= Math.max(live[1], MIN_COMPACTION_SIZE)) {
+                compact();
+            }
+        }
+
+        private SpilledData append(Data value) {
+            try {
+                if (log == null) {
+                    log = newLog(recordStore.getPartitionId());
+                }
+                return log.append(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Copies the live values of the current log to a new one. The values
+         * which cannot be copied are moved back to the heap, so that the
+         * current log is not referenced anymore in any case and can be released.
+         */
+        private void compact() throws IOException {
+            TieredValueLog current = log;
+            TieredValueLog compacted = newLog(recordStore.getPartitionId());
+            compacted.inheritHits(current);
+            log = compacted;
+
+            Storage<Data, Record> storage = recordStore.getStorage();
+            long[] live = new long[2];
+            IOException[] failure = new IOException[1];
+            recordStore.forEach((key, record) -> {
+                if (record.getStoredValue() instanceof SpilledData spilled && spilled.getLog() == current) {
+                    Data value = spilled.load();
+                    try {
+                        storage.updateRecordValue(key, record, compacted.append(value));
+                        live[0]++;
+                        live[1] += value.totalSize();
+                    } catch (IOException e) {
+                        storage.updateRecordValue(key, record, value);
+                        failure[0] = e;
+                    }
+                }
+            }, true, true);
+            compacted.setLiveEntries(live[0], live[1]);
+            current.release();
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+
+        private void delete() {
+            TieredValueLog current = log;
+            if (current != null) {
+                log = null;
+                current.release();
+            }
+        }
+    }
+}
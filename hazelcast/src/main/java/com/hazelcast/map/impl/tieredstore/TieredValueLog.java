@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.tieredstore;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.logging.ILogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only log file holding the values of the cold entries of a record
+ * store. The values are written by the partition thread of the record store,
+ * while they can be read by any thread.
+ * <p>
+ * The log is never updated in place: a value which is updated or removed
+ * from the record store leaves an obsolete copy in the log, which is
+ * dropped when the log is compacted into a new one.
+ * <p>
+ * The log is reference counted. The record store tier holds a reference
+ * until the log is replaced or the record store is destroyed, and each read
+ * holds one while it is in progress. The file is closed and deleted when the
+ * last reference is released, and the reads of a released log return
+ * {@code null}.
+ */
+public final class TieredValueLog {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ILogger logger;
+    private final LongAdder hits = new LongAdder();
+    private final AtomicInteger references = new AtomicInteger(1);
+    private long size;
+    private volatile long entryCount;
+    private volatile long liveSize;
+
+    TieredValueLog(Path directory, int partitionId, ILogger logger) throws IOException {
+        this.file = Files.createTempFile(directory, "partition-" + partitionId + "-", ".log");
+        this.channel = FileChannel.open(file, READ, WRITE);
+        this.logger = logger;
+    }
+
+    /**
+     * Appends the given value to the log.
+     *
+     * @return the reference to the value in the log
+     */
+    SpilledData append(Data value) throws IOException {
+        byte[] bytes = value.toByteArray();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long offset = size;
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        size += bytes.length;
+        return new SpilledData(this, offset, bytes.length, value.getType(), value.hashCode());
+    }
+
+    /**
+     * Reads a value appended to the log.
+     *
+     * @return the value or {@code null} if the log has been released
+     */
+    HeapData read(long offset, int length) {
+        HeapData value = readWithoutHit(offset, length);
+        if (value != null) {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Reads a value appended to the log without counting it as a hit,
+     * e.g. when it is moved to another tier or log.
+     *
+     * @return the value or {@code null} if the log has been released
+     */
+    HeapData readWithoutHit(long offset, int length) {
+        if (!retain()) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+            }
+            return new HeapData(buffer.array());
+        } catch (IOException e) {
+            throw new HazelcastException("Could not read the value from the disk tier " + file, e);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Returns the size of the log, including the obsolete values.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Sets the number and the total size of the values in the log which
+     * are still referenced by the record store.
+     */
+    void setLiveEntries(long entryCount, long liveSize) {
+        this.entryCount = entryCount;
+        this.liveSize = liveSize;
+    }
+
+    long getLiveSize() {
+        return liveSize;
+    }
+
+    /**
+     * Returns the number of the entries of the record store whose values are in the log.
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the number of the values read from the log.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Adds the hits of the given log, which this log replaces.
+     */
+    void inheritHits(TieredValueLog log) {
+        hits.add(log.getHits());
+    }
+
+    private boolean retain() {
+        for (;;) {
+            int count = references.get();
+            if (count == 0) {
+                return false;
+            }
+            if (references.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a reference to the log. The log file is closed and deleted
+     * when the last reference is released.
+     */
+    void release() {
+        if (references.decrementAndGet() > 0) {
+            return;
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Could not delete " + this, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TieredValueLog{file=" + file + ", size=" + size + ", liveSize=" + liveSize + '}';
+    }
+}
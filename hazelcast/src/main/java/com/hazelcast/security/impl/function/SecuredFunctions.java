@@ -247,6 +247,7 @@ public final class SecuredFunctions {
             String glob,
             boolean sharedFileSystem,
             boolean ignoreFileNotFound,
+            long splitSize,
             FunctionEx<? super Path, ? extends Stream<T>> readFileFn) {
 
         return new SupplierEx<>() {
@@ -255,7 +256,7 @@ public final class SecuredFunctions {
 
             @Override
             public Processor getEx() {
-                return new ReadFilesP<>(directory, glob, sharedFileSystem, ignoreFileNotFound, readFileFn);
+                return new ReadFilesP<>(directory, glob, sharedFileSystem, ignoreFileNotFound, splitSize, readFileFn);
             }
 
             @Override
@@ -61,6 +61,11 @@ public class CountingMigrationAwareService
         return migrationAwareService.isKnownServiceNamespace(namespace);
     }
 
+    @Override
+    public int[] getReplicaFragmentDigest(int partitionId, ServiceNamespace namespace) {
+        return migrationAwareService.getReplicaFragmentDigest(partitionId, namespace);
+    }
+
     @Override
     public Operation prepareReplicationOperation(PartitionReplicationEvent event) {
         return migrationAwareService.prepareReplicationOperation(event);
@@ -20,7 +20,9 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.cluster.impl.MemberImpl;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
@@ -63,16 +65,21 @@ import java.util.logging.Level;
 
 import static com.hazelcast.instance.EndpointQualifier.MEMBER;
 import static com.hazelcast.internal.cluster.Versions.V5_3;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_DISCRIMINATOR_LISTENER;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_DISCRIMINATOR_SERVICE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_EVENTS_PROCESSED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_EVENT_QUEUE_SIZE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_LISTENER_EVENT_BACKLOG;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_QUEUE_CAPACITY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_REJECTED_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_SYNC_DELIVERY_FAILURE_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_THREAD_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_TOTAL_FAILURE_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_PREFIX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_TAG_SERVICE;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
 import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.FutureUtil.getValue;
@@ -111,7 +118,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  * event can be retransmitted causing it to be received by the target node at a later time.
  */
 @SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:methodcount"})
-public class EventServiceImpl implements EventService, StaticMetricsProvider {
+public class EventServiceImpl implements EventService, StaticMetricsProvider, DynamicMetricsProvider {
 
     public static final String SERVICE_NAME = "hz:core:eventService";
 
@@ -219,6 +226,29 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, EVENT_PREFIX);
+        registry.registerDynamicMetricsProvider(this);
+    }
+
+    /**
+     * Provides the event backlog of every local listener, that is the number
+     * of events queued for the listener but not yet dispatched to it.
+     */
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (EventServiceSegment<?> segment : segments.values()) {
+            for (Registration registration : segment.getRegistrationIdMap().values()) {
+                if (registration.getListener() == null || !isLocal(registration)) {
+                    continue;
+                }
+                MetricDescriptor listenerDescriptor = descriptor
+                        .copy()
+                        .withPrefix(EVENT_PREFIX)
+                        .withDiscriminator(EVENT_DISCRIMINATOR_LISTENER, registration.getId().toString())
+                        .withTag(EVENT_TAG_SERVICE, registration.getServiceName());
+                context.collect(listenerDescriptor, EVENT_METRIC_EVENT_SERVICE_LISTENER_EVENT_BACKLOG, INFO, COUNT,
+                        registration.getEventBacklog().get());
+            }
+        }
     }
 
     @Override
@@ -603,12 +633,16 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
         Registration reg = (Registration) registration;
         try {
             if (reg.getListener() != null) {
-                eventExecutor.execute(new LocalEventDispatcher(this, serviceName, event, reg.getListener(),
+                // the backlog is increased before the dispatcher is queued so
+                // that it can't be decreased by the event thread first
+                reg.getEventBacklog().inc();
+                eventExecutor.execute(new LocalEventDispatcher(this, serviceName, event, reg,
                         orderKey, eventQueueTimeoutMs));
             } else {
                 logger.warning("Something seems wrong! Listener instance is null! -> " + reg);
             }
         } catch (RejectedExecutionException e) {
+            reg.getEventBacklog().inc(-1);
             rejectedCount.inc();
 
             if (eventExecutor.isLive()) {
@@ -35,15 +35,17 @@ public final class LocalEventDispatcher implements StripedRunnable, TimeoutRunna
     private final String serviceName;
     private final Object event;
     private final Object listener;
+    private final Registration registration;
     private final int orderKey;
     private final long timeoutMs;
 
-    public LocalEventDispatcher(EventServiceImpl eventService, String serviceName, Object event, Object listener,
+    public LocalEventDispatcher(EventServiceImpl eventService, String serviceName, Object event, Registration registration,
                                 int orderKey, long timeoutMs) {
         this.eventService = eventService;
         this.serviceName = serviceName;
         this.event = event;
-        this.listener = listener;
+        this.registration = registration;
+        this.listener = registration != null ? registration.getListener() : null;
         this.orderKey = orderKey;
         this.timeoutMs = timeoutMs;
     }
@@ -60,8 +62,14 @@ public final class LocalEventDispatcher implements StripedRunnable, TimeoutRunna
 
     @Override
     public void run() {
-        final EventPublishingService<Object, Object> service = eventService.nodeEngine.getService(serviceName);
-        service.dispatchEvent(event, listener);
+        try {
+            final EventPublishingService<Object, Object> service = eventService.nodeEngine.getService(serviceName);
+            service.dispatchEvent(event, listener);
+        } finally {
+            if (registration != null) {
+                registration.getEventBacklog().inc(-1);
+            }
+        }
     }
 
     @Override
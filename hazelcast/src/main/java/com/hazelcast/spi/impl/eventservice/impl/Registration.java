@@ -19,6 +19,7 @@ package com.hazelcast.spi.impl.eventservice.impl;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.util.Preconditions;
 import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.impl.Versioned;
@@ -31,6 +32,7 @@ import java.io.IOException;
 import java.util.UUID;
 
 import static com.hazelcast.internal.cluster.Versions.V5_3;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 
 public class Registration implements EventRegistration, Versioned {
 
@@ -41,6 +43,11 @@ public class Registration implements EventRegistration, Versioned {
     private Address subscriber;
     private boolean localOnly;
     private transient Object listener;
+    /**
+     * The number of local events which are queued for the listener but
+     * not yet dispatched to it.
+     */
+    private final transient MwCounter eventBacklog = newMwCounter();
 
     public Registration() {
     }
@@ -92,6 +99,14 @@ public class Registration implements EventRegistration, Versioned {
         this.listener = listener;
     }
 
+    /**
+     * Returns the counter of local events queued for the listener of this
+     * registration but not yet dispatched to it.
+     */
+    public MwCounter getEventBacklog() {
+        return eventBacklog;
+    }
+
     // Registration equals() and hashCode() relies on the ID field only,
     // because the registration ID is unique in the cluster
     @Override
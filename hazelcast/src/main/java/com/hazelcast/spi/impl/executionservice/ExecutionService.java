@@ -111,6 +111,25 @@ public interface ExecutionService {
      */
     String MAP_LOAD_ALL_KEYS_EXECUTOR = "hz:map-loadAllKeys";
 
+    /**
+     * The name of the executor that loads the key segments of a {@link
+     * com.hazelcast.map.SegmentedMapLoader} and dispatches the keys to the
+     * partition owners for value loading. It's separate from the {@link
+     * #MAP_LOADER_EXECUTOR}, so that the key segments being loaded can't
+     * occupy the threads loading the values of the dispatched keys.
+     *
+     * @see com.hazelcast.map.SegmentedMapLoader#loadAllKeys(int)
+     */
+    String MAP_LOAD_KEY_SEGMENTS_EXECUTOR = "hz:map-loadKeySegments";
+
+    /**
+     * Name of the executor which stores the write-behind batches of a map
+     * concurrently.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#MAP_WRITE_BEHIND_STORE_PARALLELISM
+     */
+    String MAP_WRITE_BEHIND_EXECUTOR = "hz:map-write-behind";
+
     /**
      * Name of the Management Center executor. Used to execute blocking tasks
      * related with operations run by Management Center.
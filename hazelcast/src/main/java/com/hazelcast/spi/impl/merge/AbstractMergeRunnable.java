@@ -33,6 +33,7 @@ import com.hazelcast.spi.impl.operationservice.OperationService;
 import com.hazelcast.spi.merge.MergingEntry;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
 import com.hazelcast.spi.merge.SplitBrainMergePolicyProvider;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -42,11 +43,16 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.spi.properties.ClusterProperty.MERGE_MAX_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.MERGE_MAX_CONCURRENT_BATCHES;
+import static com.hazelcast.spi.properties.ClusterProperty.MERGE_SKIP_IDENTICAL_PARTITIONS_ENABLED;
 import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
@@ -65,6 +71,11 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
 
     private static final long TIMEOUT_FACTOR = 500;
     private static final long SPLIT_HEALING_MIN_WAITING_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    /**
+     * The batch size grows while the batches are applied faster than half
+     * of this duration, and shrinks when they take more than twice of it.
+     */
+    private static final long BATCH_TARGET_NANOS = MILLISECONDS.toNanos(50);
 
     protected Map<String, Collection<Store>> mergingStoresByName;
 
@@ -78,6 +89,10 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
     private final InternalSerializationService serializationService;
     private final AbstractSplitBrainHandlerService<Store> splitBrainHandlerService;
     private final Semaphore semaphore = new Semaphore(0);
+    private final int maxConcurrentBatches;
+    private final Semaphore batchPermits;
+    private final int maxBatchSize;
+    private final boolean skipIdenticalStores;
 
     protected AbstractMergeRunnable(String serviceName,
                                     Collection<Store> mergingStores,
@@ -92,6 +107,11 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
         this.operationService = nodeEngine.getOperationService();
         this.serializationService = (InternalSerializationService) nodeEngine.getSerializationService();
         this.splitBrainHandlerService = splitBrainHandlerService;
+        HazelcastProperties properties = nodeEngine.getProperties();
+        this.maxConcurrentBatches = Math.max(properties.getInteger(MERGE_MAX_CONCURRENT_BATCHES), 1);
+        this.batchPermits = new Semaphore(maxConcurrentBatches);
+        this.maxBatchSize = properties.getInteger(MERGE_MAX_BATCH_SIZE);
+        this.skipIdenticalStores = properties.getBoolean(MERGE_SKIP_IDENTICAL_PARTITIONS_ENABLED);
     }
 
     private Map<String, Collection<Store>> groupStoresByName(Collection<Store> stores) {
@@ -130,13 +150,21 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
             Collection<Store> stores = entry.getValue();
 
             MergingItemBiConsumer consumer = newConsumer(dataStructureName);
-            for (Store store : stores) {
-                try {
+            List<Store> visitedStores = new ArrayList<>(stores.size());
+            try {
+                for (Store store : stores) {
+                    visitedStores.add(store);
+                    if (isIdenticalToMergeTargetSafe(store)) {
+                        continue;
+                    }
                     mergeStore(store, consumer);
                     consumer.consumeRemaining();
-                } finally {
-                    asyncDestroyStores(singleton(store));
                 }
+            } finally {
+                // the data structure is merged once all of its batches are applied,
+                // its stores are destroyed only then, as the batches in flight merge their entries
+                awaitBatches();
+                asyncDestroyStores(visitedStores);
             }
             mergedCount += consumer.mergedCount;
             onMerge(dataStructureName);
@@ -145,6 +173,30 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
         return mergedCount;
     }
 
+    private boolean isIdenticalToMergeTargetSafe(Store store) {
+        if (!skipIdenticalStores) {
+            return false;
+        }
+        try {
+            if (isIdenticalToMergeTarget(store)) {
+                if (logger.isFinestEnabled()) {
+                    logger.finest("Skipping the merge of " + getDataStructureName(store) + " in partitionId="
+                            + getPartitionId(store) + ", it is identical on the merge target");
+                }
+                return true;
+            }
+        } catch (Exception e) {
+            logger.fine("Could not compare " + getDataStructureName(store) + " in partitionId="
+                    + getPartitionId(store) + " with the merge target, merging it", e);
+        }
+        return false;
+    }
+
+    private void awaitBatches() {
+        batchPermits.acquireUninterruptibly(maxConcurrentBatches);
+        batchPermits.release(maxConcurrentBatches);
+    }
+
     private MergingItemBiConsumer newConsumer(String dataStructureName) {
         SplitBrainMergePolicy<V, MergingItem, Object> policy = getMergePolicy(dataStructureName);
         int batchSize = getBatchSize(dataStructureName);
@@ -168,7 +220,7 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
      */
     private class MergingItemBiConsumer implements BiConsumer<Integer, MergingItem> {
 
-        private final int batchSize;
+        private final int minBatchSize;
         private final int partitionCount;
         private final String dataStructureName;
         private final Address[] addresses;
@@ -178,10 +230,15 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
         private final Map<Address, List<Integer>> memberPartitionsMap;
 
         private int mergedCount;
+        /**
+         * Adapted by the completions of the batches, read by the merging thread.
+         */
+        private volatile int batchSize;
 
         MergingItemBiConsumer(String dataStructureName, SplitBrainMergePolicy<V, MergingItem, Object> mergePolicy,
                               int batchSize) {
             this.dataStructureName = dataStructureName;
+            this.minBatchSize = batchSize;
             this.batchSize = batchSize;
             this.mergePolicy = mergePolicy;
             this.memberPartitionsMap = partitionService.getMemberPartitionsMap();
@@ -214,15 +271,16 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
         public void accept(Integer partitionId, MergingItem mergingItem) {
             List<MergingItem> entries = mergingItemsPerPartition[partitionId];
             if (entries == null) {
-                entries = new LinkedList<>();
+                entries = new ArrayList<>();
                 mergingItemsPerPartition[partitionId] = entries;
             }
 
             entries.add(mergingItem);
             mergedCount++;
 
-            long currentSize = ++counterPerMember[partitionId].value;
-            if (currentSize % batchSize == 0) {
+            MutableLong counter = counterPerMember[partitionId];
+            if (++counter.value >= batchSize) {
+                counter.value = 0;
                 List<Integer> partitions = memberPartitionsMap.get(addresses[partitionId]);
                 sendBatch(dataStructureName, partitions, mergingItemsPerPartition, mergePolicy);
             }
@@ -230,7 +288,11 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
 
         private void consumeRemaining() {
             for (Map.Entry<Address, List<Integer>> entry : memberPartitionsMap.entrySet()) {
-                sendBatch(dataStructureName, entry.getValue(), mergingItemsPerPartition, mergePolicy);
+                List<Integer> partitions = entry.getValue();
+                if (!partitions.isEmpty()) {
+                    counterPerMember[partitions.get(0)].value = 0;
+                }
+                sendBatch(dataStructureName, partitions, mergingItemsPerPartition, mergePolicy);
             }
         }
 
@@ -270,16 +332,52 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
             sendMergingData(dataStructureName, mergePolicy, partitions, entries, totalSize);
         }
 
+        /**
+         * Sends the batch asynchronously, waiting only while the maximum
+         * number of batches are in flight.
+         */
         private void sendMergingData(String dataStructureName, SplitBrainMergePolicy<V, MergingItem, Object> mergePolicy,
                                      int[] partitions, List<MergingItem>[] entries, int totalSize) {
+            batchPermits.acquireUninterruptibly();
+            CompletableFuture<Map<Integer, Object>> future;
+            long startNanos = System.nanoTime();
             try {
                 OperationFactory factory = createMergeOperationFactory(dataStructureName, mergePolicy, partitions, entries);
-                operationService.invokeOnPartitions(serviceName, factory, partitions);
+                List<Integer> partitionList = new ArrayList<>(partitions.length);
+                for (int partitionId : partitions) {
+                    partitionList.add(partitionId);
+                }
+                future = operationService.invokeOnPartitionsAsync(serviceName, factory, partitionList);
             } catch (Throwable t) {
+                batchPermits.release();
+                semaphore.release(totalSize);
                 logger.warning("Error while running merge operation: " + t.getMessage());
                 throw rethrow(t);
-            } finally {
-                semaphore.release(totalSize);
+            }
+            future.whenCompleteAsync((response, t) -> {
+                try {
+                    if (t != null) {
+                        logger.warning("Error while running merge operation: " + t.getMessage());
+                    } else {
+                        adaptBatchSize(totalSize, System.nanoTime() - startNanos);
+                    }
+                } finally {
+                    batchPermits.release();
+                    semaphore.release(totalSize);
+                }
+            }, CALLER_RUNS);
+        }
+
+        private void adaptBatchSize(int appliedBatchSize, long elapsedNanos) {
+            int currentBatchSize = batchSize;
+            if (appliedBatchSize < currentBatchSize) {
+                // the remaining entries of a store, not a full batch
+                return;
+            }
+            if (elapsedNanos < BATCH_TARGET_NANOS / 2 && currentBatchSize < maxBatchSize) {
+                batchSize = (int) Math.min(2L * currentBatchSize, maxBatchSize);
+            } else if (elapsedNanos > 2 * BATCH_TARGET_NANOS && currentBatchSize > minBatchSize) {
+                batchSize = Math.max(currentBatchSize / 2, minBatchSize);
             }
         }
     }
@@ -312,6 +410,17 @@ public abstract class AbstractMergeRunnable<K, V, Store, MergingItem
         // override to take action on merge
     }
 
+    /**
+     * Returns whether the data of the given store is identical to the data
+     * of its partition in the merge target cluster, in which case it is not
+     * merged. Only called when {@link
+     * com.hazelcast.spi.properties.ClusterProperty#MERGE_SKIP_IDENTICAL_PARTITIONS_ENABLED}
+     * is set.
+     */
+    protected boolean isIdenticalToMergeTarget(Store store) throws Exception {
+        return false;
+    }
+
     /**
      * Used to merge with {@link SplitBrainMergePolicy}.
      */
@@ -489,6 +489,43 @@ public final class ClusterProperty {
     public static final HazelcastProperty MERGE_NEXT_RUN_DELAY_SECONDS
             = new HazelcastProperty("hazelcast.merge.next.run.delay.seconds", 120, SECONDS);
 
+    /**
+     * The maximum number of merge batches of a split-brain merge which are
+     * in flight at the same time. The batches target different partitions,
+     * so the partitions of the merging data structures are merged
+     * concurrently. The value {@code 1} sends the batches one after another.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MERGE_MAX_CONCURRENT_BATCHES
+            = new HazelcastProperty("hazelcast.merge.max.concurrent.batches", 4);
+
+    /**
+     * The maximum size of the merge batches of a split-brain merge. The
+     * batches start with the size configured in the
+     * {@link com.hazelcast.config.MergePolicyConfig#getBatchSize() merge policy}
+     * of the data structure, and grow up to this size while the target
+     * members apply them quickly. A value not greater than the configured
+     * batch size disables the growth.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MERGE_MAX_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.merge.max.batch.size", 1000);
+
+    /**
+     * Enables skipping the IMap partitions which are already identical on
+     * the merge target during a split-brain merge. Before merging the data
+     * of a partition, its Merkle tree digest is compared with the one of the
+     * partition in the merge target cluster, and the data is not merged
+     * when they are equal. The metadata of the identical entries, e.g. their
+     * hits and expiration times, is not merged either.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MERGE_SKIP_IDENTICAL_PARTITIONS_ENABLED
+            = new HazelcastProperty("hazelcast.merge.skip.identical.partitions.enabled", false);
+
     /**
      * Time in seconds to sleep after a migration task.
      */
@@ -532,6 +569,63 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB
             = new HazelcastProperty("hazelcast.partition.migration.chunks.max.migrating.data.in.mb", 250);
 
+    /**
+     * When enabled, a backup replica which has fallen behind the primary
+     * replica sends Merkle tree digests of its replica fragments along with
+     * the replica sync request. The primary replica then sends only the
+     * entries of the fragment that differ instead of the whole fragment.
+     * Services not supporting it keep replicating whole fragments.
+     * <p>
+     * Currently supported by IMap. Default disabled.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_DIFFERENTIAL_REPLICA_SYNC_ENABLED
+            = new HazelcastProperty("hazelcast.partition.replica.sync.differential.enabled", false);
+
+    /**
+     * The maximum number of entries of a replica fragment for which Merkle
+     * tree digests are computed by the differential replica sync. The digests
+     * are computed by scanning the fragment on the partition thread, so larger
+     * fragments, as well as the IMaps with {@code OBJECT} in-memory format
+     * whose values would have to be serialized for the scan, are replicated
+     * whole instead.
+     *
+     * @see #PARTITION_DIFFERENTIAL_REPLICA_SYNC_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_DIFFERENTIAL_REPLICA_SYNC_MAX_ENTRIES
+            = new HazelcastProperty("hazelcast.partition.replica.sync.differential.max.entries", 10000);
+
+    /**
+     * When enabled, the primary replica sends the hashes of the Merkle tree
+     * digests of its replica fragments along with the replica versions in the
+     * periodic backup anti-entropy. A backup replica whose digest hash does not
+     * match requests a replica sync even if its replica versions are up to
+     * date, which repairs backups diverged silently, e.g. due to lost backup
+     * operations. Implies {@link #PARTITION_DIFFERENTIAL_REPLICA_SYNC_ENABLED},
+     * so that only the differing Merkle tree leaves are transferred.
+     * <p>
+     * Currently supported by IMap. Default disabled.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_MERKLE_TREE_ANTI_ENTROPY_ENABLED
+            = new HazelcastProperty("hazelcast.partition.backup.anti.entropy.merkle.enabled", false);
+
+    /**
+     * Minimum interval in seconds between two Merkle tree digest comparisons
+     * of a partition by the backup anti-entropy. The digests are built by
+     * scanning the replica fragments, so they are compared far less often
+     * than the replica versions, which are checked every
+     * {@link #PARTITION_BACKUP_SYNC_INTERVAL}.
+     *
+     * @see #PARTITION_MERKLE_TREE_ANTI_ENTROPY_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_MERKLE_TREE_ANTI_ENTROPY_INTERVAL
+            = new HazelcastProperty("hazelcast.partition.backup.anti.entropy.merkle.interval", 600, SECONDS);
+
     /**
      * The time that a newly-appointed master node waits before forming a cluster.
      * Once a cluster is being started, a newly-appointed master node may receive
@@ -743,6 +837,24 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_MAX_PARALLEL_MIGRATIONS
             = new HazelcastProperty("hazelcast.partition.max.parallel.migrations", 10);
 
+    /**
+     * When enabled, the master adapts the number of concurrent migrations on
+     * each member to the migration throughput it observes, instead of always
+     * running {@link #PARTITION_MAX_PARALLEL_MIGRATIONS} of them. Migrations
+     * between a source and destination pair which take much longer than
+     * usual, e.g. because the network is saturated or the members are busy
+     * with the live traffic, reduce the concurrency on both members, while
+     * successful ones raise it back step by step. The migrations restoring
+     * the missing backup replicas of the partitions are also scheduled
+     * before the others.
+     * <p>
+     * Default disabled.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_ADAPTIVE_MIGRATION_ENABLED
+            = new HazelcastProperty("hazelcast.partition.migration.adaptive.enabled", false);
+
     /**
      * Maximum number of anti-entropy partition replications to be executed on a member.
      * By default equals to {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}.
@@ -1314,6 +1426,96 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_WRITE_BEHIND_QUEUE_CAPACITY
             = new HazelcastProperty("hazelcast.map.write.behind.queue.capacity", 50000);
 
+    /**
+     * The number of store batches a write-behind map store processes
+     * concurrently on a member.
+     * <p>
+     * When larger than one, the entries which are due to be stored are split
+     * by partition into this many groups and each group is passed to the
+     * {@link com.hazelcast.map.MapStore} concurrently, on the
+     * {@value com.hazelcast.spi.impl.executionservice.ExecutionService#MAP_WRITE_BEHIND_EXECUTOR}
+     * executor. The entries of a partition are always stored by the same
+     * group, so the store order of a key is kept. The map store
+     * implementation must be thread-safe when this is larger than one.
+     * <p>
+     * The default value is {@code 1}, meaning the batches are stored one
+     * after another by a single thread.
+     */
+    public static final HazelcastProperty MAP_WRITE_BEHIND_STORE_PARALLELISM
+            = new HazelcastProperty("hazelcast.map.write.behind.store.parallelism", 1);
+
+    /**
+     * The number of entries fetched at once from a partition when a
+     * {@link com.hazelcast.map.QueryCache} created on a member is populated.
+     * <p>
+     * When positive, the query cache is populated partition by partition, in
+     * pages of this size, while it already receives the updates of the map.
+     * This bounds the memory needed for populating large query caches.
+     * Updates received during the population take precedence over the
+     * entries fetched for the same key.
+     * <p>
+     * The default value is {@code 0}, meaning the query cache is populated
+     * from a single snapshot of every member.
+     */
+    public static final HazelcastProperty QUERY_CACHE_POPULATION_FETCH_SIZE
+            = new HazelcastProperty("hazelcast.map.query.cache.population.fetch.size", 0);
+
+    /**
+     * Enables the disk tier of the maps. When enabled, the values of the cold
+     * map entries are moved from the heap to append-only log files on the
+     * local disk, while their keys and a small in-memory reference to the
+     * value stay on the heap. The values are read back transparently from the
+     * disk when accessed, and moved back to the heap once they are accessed
+     * frequently again. The log files are compacted when most of their
+     * content is obsolete and are deleted when the member shuts down.
+     * <p>
+     * Applies to the maps with {@link com.hazelcast.config.InMemoryFormat#BINARY}
+     * in-memory format which track the last access time of their entries,
+     * i.e. the maps with per-entry statistics or LRU eviction enabled. The
+     * records of the maps with LFU eviction track the hit counts only, so
+     * these maps take part only if per-entry statistics are enabled as well.
+     * <p>
+     * Default disabled.
+     *
+     * @see #MAP_TIERED_STORE_DIRECTORY
+     * @see #MAP_TIERED_STORE_COLD_ENTRY_SECONDS
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_TIERED_STORE_ENABLED
+            = new HazelcastProperty("hazelcast.map.tiered.store.enabled", false);
+
+    /**
+     * The directory in which the disk tier of the maps creates its log files.
+     * Defaults to the temporary directory of the JVM.
+     *
+     * @see #MAP_TIERED_STORE_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_TIERED_STORE_DIRECTORY
+            = new HazelcastProperty("hazelcast.map.tiered.store.dir");
+
+    /**
+     * The time since their last access and update after which the map
+     * entries are considered cold, and their values are moved to the disk
+     * tier of the maps.
+     *
+     * @see #MAP_TIERED_STORE_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_TIERED_STORE_COLD_ENTRY_SECONDS
+            = new HazelcastProperty("hazelcast.map.tiered.store.cold.entry.seconds", 300, SECONDS);
+
+    /**
+     * The period of the task which moves the values of the map entries
+     * between the heap and the disk tier of the maps, and compacts the log
+     * files.
+     *
+     * @see #MAP_TIERED_STORE_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_TIERED_STORE_SWEEP_PERIOD_SECONDS
+            = new HazelcastProperty("hazelcast.map.tiered.store.sweep.period.seconds", 10, SECONDS);
+
     /*
      * INVOCATION / OPERATION SYSTEM PROPERTIES
      */
@@ -1815,6 +2017,23 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.jet.idle.cooperative.max.microseconds", 500, MICROSECONDS)
             .setDeprecatedName("jet.idle.cooperative.max.microseconds");
 
+    /**
+     * The interval in milliseconds at which the cooperative worker threads
+     * rebalance their tasklets. At the end of each interval, a worker thread
+     * which was busy for most of the interval moves one of its tasklets to
+     * the least busy worker thread, picking a tasklet whose measured busy
+     * time narrows the gap between the two threads. A tasklet which keeps a
+     * thread busy on its own is never moved, it would only move the hot spot.
+     * <p>
+     * The busy time of each tasklet is measured only when the rebalancing is
+     * enabled. The default value of {@code 0} disables it, the tasklets then
+     * stay on the thread to which they were assigned at the job start.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.jet.cooperative.rebalance.interval.millis", 0, MILLISECONDS);
+
     /**
      * The minimum time in microseconds the non-cooperative worker threads will
      * sleep if none of the tasklets made any progress. Lower values increase
@@ -1871,6 +2090,128 @@ public final class ClusterProperty {
     public static final HazelcastProperty PROCESSOR_CUSTOM_LIB_DIR
             = new HazelcastProperty("hazelcast.jet.custom.lib.dir", "custom-lib");
 
+    /**
+     * The maximum number of items the sort processors of the pipeline sort
+     * stages and of the SQL {@code ORDER BY} keep in memory. When a processor
+     * receives more items, it sorts them in runs of this size, spills each run
+     * to a temporary file and merges the runs when its input is complete. The
+     * processors which spill are non-cooperative. A value of {@code 0} or less
+     * sorts all items in memory, subject to the {@linkplain
+     * com.hazelcast.jet.config.JobConfig#setMaxProcessorAccumulatedRecords
+     * maximum number of accumulated records}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SORT_SPILL_RUN_SIZE
+            = new HazelcastProperty("hazelcast.jet.sort.spill.run.size", 0L);
+
+    /**
+     * Enables spilling of the state of the batch group-by processors of the
+     * pipelines and of the SQL {@code GROUP BY}, and of the build side of the
+     * SQL hash joins. When such a processor reaches the {@linkplain
+     * com.hazelcast.jet.config.JobConfig#setMaxProcessorAccumulatedRecords
+     * maximum number of accumulated records} of its job, it partitions its
+     * state by the hash of the keys and spills the partitions to temporary
+     * files instead of failing the job, then processes the partitions one by
+     * one when its input is complete. Aggregations without a combine
+     * primitive never spill.
+     * <p>
+     * Since spilling blocks on the disk, the processors which can spill are
+     * non-cooperative: once this property is enabled, the group-by processors
+     * with a combine primitive and the SQL equi-join processors of every job
+     * run on their own threads, even if the job never reaches the limit.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_HASH_SPILL_ENABLED
+            = new HazelcastProperty("hazelcast.jet.hash.spill.enabled", false);
+
+    /**
+     * The directory in which the Jet processors create the temporary files
+     * of their spilled state. The default is the directory of the {@code
+     * java.io.tmpdir} system property.
+     *
+     * @see #JET_SORT_SPILL_RUN_SIZE
+     * @see #JET_HASH_SPILL_ENABLED
+     * @see #JET_KEYED_STATE_CACHE_SIZE
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.spill.directory");
+
+    /**
+     * Maximum number of incremental snapshots taken after a full snapshot of
+     * a job with a processing guarantee. An incremental snapshot only writes
+     * the state entries which changed since the previous snapshot, and
+     * tombstones of the removed entries, to the same snapshot map as the
+     * full snapshot it is based on. When the chain reaches this length, or
+     * after a failed snapshot or a restart, the next snapshot is full again.
+     * A restore merges the chain, keeping the latest version of each entry.
+     * <p>
+     * Each member keeps a 128-bit digest of the key and of the value of
+     * each entry of the last snapshot of its processors to find the changed
+     * entries, about 50 to 100 bytes of heap per entry whatever its size.
+     * The incremental snapshots are only taken when the cluster version is
+     * at least 6.0. The default value of {@code 0} disables them.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH
+            = new HazelcastProperty("hazelcast.jet.incremental.snapshot.chain.length", 0);
+
+    /**
+     * The maximum number of keyed states the processors of the keyed
+     * {@code mapStateful} and {@code flatMapStateful} pipeline stages keep on
+     * the heap. When a processor has more states, it moves the least recently
+     * used ones to segment files on the local disk, from which they are read
+     * back through memory mappings when they are used again. This lets a job
+     * hold more state than fits on the heap. The processors which use the
+     * disk are non-cooperative. The default value of {@code 0} keeps all the
+     * states on the heap.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_KEYED_STATE_CACHE_SIZE
+            = new HazelcastProperty("hazelcast.jet.keyed.state.cache.size", 0);
+
+    /**
+     * Enables the compression of the packets of the distributed edges of the
+     * jobs. A packet whose items take more than 1 kB is compressed with the
+     * fastest level of the deflate algorithm, and it is sent compressed only
+     * if this makes it smaller. The compression trades CPU time for network
+     * bandwidth, it pays off when the edges carry items with redundant
+     * content, such as strings or JSON, over a slow network.
+     * <p>
+     * Only the sending member compresses the packets, the receiving members
+     * always accept both forms. The default value is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_DISTRIBUTED_EDGE_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.jet.distributed.edge.compression.enabled", false);
+
+    /**
+     * The size in bytes of the splits of the large local files read by the
+     * file sources of the jobs. A file larger than this size is divided into
+     * byte ranges of this size, read in parallel by the processors of the
+     * source. The ranges are aligned to the line boundaries: each range holds
+     * the lines which start in it. The ranges are read through memory
+     * mappings.
+     * <p>
+     * Only the line-oriented formats are split: the {@linkplain
+     * com.hazelcast.jet.pipeline.file.FileFormat#lines() lines} in a charset
+     * which encodes the line terminators as single bytes, such as UTF-8, and
+     * the {@linkplain com.hazelcast.jet.pipeline.file.JsonFileFormat#multiline(boolean)
+     * single-line JSON}. The other files are read whole by a single processor.
+     * The items of a split file aren't emitted in the order of the file. The
+     * value of the member coordinating the job is used by all the members. The
+     * default value of {@code 0} disables the splitting.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_FILE_SPLIT_SIZE
+            = new HazelcastProperty("hazelcast.jet.file.split.size", 0L);
+
     /**
      * Controls whether cluster emojis can be used in log messages. This is just a hint for components calling the logging.
      *
@@ -1931,6 +2272,75 @@ public final class ClusterProperty {
     public static final HazelcastProperty PERSISTENCE_AUTO_CLUSTER_STATE_STRATEGY = new HazelcastProperty(
             "hazelcast.persistence.auto.cluster.state.strategy", ClusterState.NO_MIGRATION);
 
+    /**
+     * Enables the local persistence engine for the maps and caches having
+     * {@link com.hazelcast.config.DataPersistenceConfig} enabled. Their
+     * mutations are appended to per-partition segment files under
+     * {@link #PERSISTENCE_LOCAL_BASE_DIR}, which are compacted in the
+     * background. After a restart, the member reads the segment files of
+     * all partitions in parallel and puts the recovered entries back to the
+     * cluster, without going through the map and cache stores.
+     * <p>
+     * The engine does not persist the cluster metadata, so the members form
+     * a new cluster on restart and the recovered data is repartitioned.
+     * <p>
+     * The default value is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PERSISTENCE_LOCAL_ENABLED = new HazelcastProperty(
+            "hazelcast.persistence.local.enabled", false);
+
+    /**
+     * Base directory of the local persistence engine. Each member uses its
+     * own subdirectory, which is picked up by a restarted member as long as
+     * no other member uses it. When not set, the base directory of the
+     * {@link com.hazelcast.config.PersistenceConfig} is used.
+     *
+     * @see #PERSISTENCE_LOCAL_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PERSISTENCE_LOCAL_BASE_DIR = new HazelcastProperty(
+            "hazelcast.persistence.local.base.dir");
+
+    /**
+     * Size of the segment files of the local persistence engine in
+     * megabytes. A segment is sealed and becomes a candidate for
+     * compaction when it reaches this size.
+     * <p>
+     * The default value is {@code 8}.
+     *
+     * @see #PERSISTENCE_LOCAL_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PERSISTENCE_LOCAL_SEGMENT_SIZE_MB = new HazelcastProperty(
+            "hazelcast.persistence.local.segment.size.mb", 8);
+
+    /**
+     * Number of the threads recovering and compacting the partitions of the
+     * local persistence engine. When not positive, the number of available
+     * processors is used.
+     * <p>
+     * The default value is {@code -1}.
+     *
+     * @see #PERSISTENCE_LOCAL_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PERSISTENCE_LOCAL_THREAD_COUNT = new HazelcastProperty(
+            "hazelcast.persistence.local.thread.count", -1);
+
+    /**
+     * Period of the compaction of the segment files of the local
+     * persistence engine in seconds.
+     * <p>
+     * The default value is {@code 10} seconds.
+     *
+     * @see #PERSISTENCE_LOCAL_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PERSISTENCE_LOCAL_COMPACTION_PERIOD_SECONDS = new HazelcastProperty(
+            "hazelcast.persistence.local.compaction.period.seconds", 10, SECONDS);
+
     /**
      * The directory path to be used for jar uploading. The path must exist and must have
      * read + write + execute permissions for the Hazelcast process
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.Client;
+import com.hazelcast.client.ClientListener;
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.ClientEndpoint;
+import com.hazelcast.client.impl.ClientEndpointManager;
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ClientConnectionsPerMemberTest extends ClientTestSupport {
+
+    @After
+    public void cleanUp() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testPartitionInvocations_overMultipleChannels() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.setClusterName(randomString());
+        HazelcastInstance member = Hazelcast.newHazelcastInstance(config);
+        AtomicInteger connectedEvents = new AtomicInteger();
+        member.getClientService().addClientListener(new ClientListener() {
+            @Override
+            public void clientConnected(Client client) {
+                connectedEvents.incrementAndGet();
+            }
+
+            @Override
+            public void clientDisconnected(Client client) {
+            }
+        });
+
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setClusterName(config.getClusterName());
+        clientConfig.setProperty(ClientProperty.CONNECTIONS_PER_MEMBER.getName(), "3");
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+
+        TcpClientConnection connection = getOnlyConnection(client);
+        assertTrueEventually(() -> assertNotNull(connection.getMemberChannels()));
+        Channel[] channels = connection.getMemberChannels();
+        assertEquals(3, channels.length);
+        assertSame(connection.getChannel(), channels[0]);
+
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+        assertEquals(1000, map.size());
+        for (Channel channel : channels) {
+            assertNotNull(channel.remoteSocketAddress());
+        }
+
+        // the additional channels are attached to the endpoint of the client
+        ClientEndpointManager endpointManager = getNode(member).getClientEngine().getEndpointManager();
+        assertEquals(1, endpointManager.size());
+        // and they are monitored for heartbeats along with it
+        ClientEndpoint endpoint = endpointManager.getEndpoints().iterator().next();
+        assertEquals(2, endpointManager.getChannels(endpoint).size());
+        assertEquals(1, member.getClientService().getConnectedClients().size());
+        assertTrueAllTheTime(() -> assertEquals(1, connectedEvents.get()), 3);
+    }
+
+    @Test
+    public void testAdditionalChannelsClosed_whenClientShutsDown() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.setClusterName(randomString());
+        HazelcastInstance member = Hazelcast.newHazelcastInstance(config);
+
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setClusterName(config.getClusterName());
+        clientConfig.setProperty(ClientProperty.CONNECTIONS_PER_MEMBER.getName(), "3");
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+
+        TcpClientConnection connection = getOnlyConnection(client);
+        assertTrueEventually(() -> assertNotNull(connection.getMemberChannels()));
+        client.shutdown();
+
+        assertTrueEventually(() -> assertEquals(0, getNode(member).getClientEngine().getEndpointManager().size()));
+        for (Channel channel : connection.getMemberChannels()) {
+            assertTrueEventually(() -> assertTrue(channel.isClosed()));
+        }
+    }
+
+    private static TcpClientConnection getOnlyConnection(HazelcastInstance client) {
+        HazelcastClientInstanceImpl clientImpl = getHazelcastClientInstanceImpl(client);
+        ClientConnection connection = clientImpl.getConnectionManager().getActiveConnections().iterator().next();
+        return (TcpClientConnection) connection;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.internal.util.JavaVersion;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientInvocationCallbackExecutorTest extends ClientTestSupport {
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+
+    @After
+    public void cleanup() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testCallbackExecutor_isNullByDefault() {
+        HazelcastClientInstanceImpl client = newClient(false);
+
+        assertNull(((ClientInvocationServiceInternal) client.getInvocationService()).getCallbackExecutor());
+    }
+
+    @Test
+    public void testCallbacks_runOnVirtualThreads() throws Exception {
+        assumeTrue(JavaVersion.isAtLeast(JavaVersion.JAVA_21));
+        HazelcastClientInstanceImpl client = newClient(true);
+        assertNotNull(((ClientInvocationServiceInternal) client.getInvocationService()).getCallbackExecutor());
+
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        map.put(1, 1);
+        Thread asyncCallbackThread = map.getAsync(1).thenApplyAsync(v -> Thread.currentThread()).toCompletableFuture().get();
+        Thread callbackThread = map.getAsync(1).thenApply(v -> Thread.currentThread()).toCompletableFuture().get();
+
+        Method isVirtual = Thread.class.getMethod("isVirtual");
+        assertTrue((Boolean) isVirtual.invoke(asyncCallbackThread));
+        // the callbacks of the non-async methods stay on the default executor
+        assertFalse((Boolean) isVirtual.invoke(callbackThread));
+    }
+
+    @Test
+    public void testCallbacks_runOnDefaultExecutor_afterShutdown() throws Exception {
+        assumeTrue(JavaVersion.isAtLeast(JavaVersion.JAVA_21));
+        HazelcastClientInstanceImpl client = newClient(true);
+        Executor callbackExecutor = ((ClientInvocationServiceInternal) client.getInvocationService()).getCallbackExecutor();
+
+        client.shutdown();
+        CountDownLatch latch = new CountDownLatch(1);
+        callbackExecutor.execute(latch::countDown);
+
+        assertOpenEventually(latch);
+    }
+
+    @Test
+    public void testCallbacks_fallBackToDefaultExecutor_beforeJava21() throws Exception {
+        assumeTrue(!JavaVersion.isAtLeast(JavaVersion.JAVA_21));
+        HazelcastClientInstanceImpl client = newClient(true);
+        assertNull(((ClientInvocationServiceInternal) client.getInvocationService()).getCallbackExecutor());
+
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        map.put(1, 1);
+
+        assertEquals(2, (int) map.getAsync(1).thenApply(v -> v + 1).toCompletableFuture().get());
+    }
+
+    private HazelcastClientInstanceImpl newClient(boolean virtualThreads) {
+        hazelcastFactory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        ClientConfig config = new ClientConfig()
+                .setProperty(ClientProperty.ASYNC_CALLBACK_VIRTUAL_THREADS_ENABLED.getName(), String.valueOf(virtualThreads));
+        return getHazelcastClientInstanceImpl(hazelcastFactory.newHazelcastClient(config));
+    }
+}
@@ -26,6 +26,7 @@ import com.hazelcast.map.MapInterceptorAdaptor;
 import com.hazelcast.map.listener.EntryAddedListener;
 import com.hazelcast.map.listener.EntryExpiredListener;
 import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicates;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -1457,6 +1458,12 @@ public class ClientMapBasicTest extends AbstractClientMapTest {
         map.addLocalEntryListener(new EmptyEntryListener(), Predicates.alwaysFalse(), "Key", true);
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAddEntryListener_WithProjection() {
+        IMap<String, String> map = client.getMap(randomString());
+        map.addEntryListener(new EmptyEntryListener(), Predicates.alwaysTrue(), Projections.identity());
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testLocalKeySet() {
         IMap<String, String> map = client.getMap(randomString());
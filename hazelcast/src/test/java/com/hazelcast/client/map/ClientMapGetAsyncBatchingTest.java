@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapLoader;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.client.impl.spi.impl.ClientExecutionServiceImpl.INTERNAL_EXECUTOR_POOL_SIZE;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.nCopies;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapGetAsyncBatchingTest extends AbstractClientMapTest {
+
+    private static final int BATCH_SIZE = 7;
+    private static final String LOADED_MAP_NAME = "loaded";
+
+    private final CountingMapLoader mapLoader = new CountingMapLoader();
+
+    @Override
+    protected Config getConfig() {
+        Config config = super.getConfig();
+        config.getMapConfig(LOADED_MAP_NAME)
+                .setMapStoreConfig(new MapStoreConfig().setEnabled(true).setImplementation(mapLoader));
+        return config;
+    }
+
+    @Override
+    protected ClientConfig getClientConfig() {
+        return new ClientConfig()
+                .setProperty(ClientProperty.MAP_GET_ASYNC_BATCHING_ENABLED.getName(), "true")
+                .setProperty(ClientProperty.MAP_GET_ASYNC_BATCH_SIZE.getName(), String.valueOf(BATCH_SIZE))
+                // a single internal thread, so that the test can hold back the flushes of the batches
+                .setProperty(INTERNAL_EXECUTOR_POOL_SIZE.getName(), "1");
+    }
+
+    @Test
+    public void testGetAsync_onSamePartition_isBatched() {
+        IMap<String, String> map = client.getMap(LOADED_MAP_NAME);
+        int keyCount = 10 * BATCH_SIZE;
+        String[] keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = generateKeyForPartition(member1, 0);
+        }
+        // the batches are flushed by the internal executor, hold it until all the calls are made
+        CountDownLatch flushLatch = new CountDownLatch(1);
+        getHazelcastClientInstanceImpl(client).getTaskScheduler().execute(() -> assertOpenEventually(flushLatch));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (String key : keys) {
+            futures.add(map.getAsync(key).toCompletableFuture());
+        }
+        flushLatch.countDown();
+
+        for (int i = 0; i < keyCount; i++) {
+            assertEquals("value-" + keys[i], futures.get(i).join());
+        }
+        // the missing keys are loaded once per getAll request
+        assertEquals(0, mapLoader.loadCount.get());
+        assertEquals(nCopies(keyCount / BATCH_SIZE, BATCH_SIZE), new ArrayList<>(mapLoader.loadAllSizes));
+    }
+
+    @Test
+    public void testGetAsync_returnsValuePerKey() {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            map.set(i, "value-" + i);
+        }
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(map.getAsync(i).toCompletableFuture());
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value-" + i, futures.get(i).join());
+        }
+    }
+
+    @Test
+    public void testGetAsync_missingKey() {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        map.set(1, "value");
+
+        assertNull(map.getAsync(2).toCompletableFuture().join());
+    }
+
+    @Test
+    public void testGetAsync_duplicateKeys() {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        map.set(1, "value");
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(map.getAsync(1).toCompletableFuture());
+        }
+
+        for (CompletableFuture<String> future : futures) {
+            assertEquals("value", future.join());
+        }
+    }
+
+    private static class CountingMapLoader implements MapLoader<String, String> {
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+        private final Queue<Integer> loadAllSizes = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String load(String key) {
+            loadCount.incrementAndGet();
+            return "value-" + key;
+        }
+
+        @Override
+        public Map<String, String> loadAll(Collection<String> keys) {
+            loadAllSizes.add(keys.size());
+            Map<String, String> values = createHashMap(keys.size());
+            for (String key : keys) {
+                values.put(key, "value-" + key);
+            }
+            return values;
+        }
+
+        @Override
+        public Iterable<String> loadAllKeys() {
+            return emptySet();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map.impl.querycache;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.QueryCache;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientQueryCacheIncrementalPopulationTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 5000;
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        factory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        factory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+
+        ClientConfig config = new ClientConfig()
+                .setProperty(ClientProperty.QUERY_CACHE_POPULATION_FETCH_SIZE.getName(), "64");
+        HazelcastInstance client = factory.newHazelcastClient(config);
+        map = client.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testPopulation_withValues() {
+        QueryCache<Integer, Integer> queryCache = map.getQueryCache(randomName(), Predicates.sql("this >= 1000"), true);
+
+        assertEquals(ENTRY_COUNT - 1000, queryCache.size());
+        assertNull(queryCache.get(999));
+        assertEquals(1000, (int) queryCache.get(1000));
+    }
+
+    @Test
+    public void testPopulation_whenMapIsUpdatedConcurrently() throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+        Future<?> updater = spawn(() -> {
+            int round = 0;
+            while (!stop.get()) {
+                for (int i = 0; i < ENTRY_COUNT; i += 7) {
+                    if (round % 2 == 0) {
+                        map.remove(i);
+                    } else {
+                        map.set(i, i + round);
+                    }
+                }
+                round++;
+            }
+        });
+        QueryCache<Integer, Integer> queryCache;
+        try {
+            queryCache = map.getQueryCache(randomName(), Predicates.alwaysTrue(), true);
+        } finally {
+            stop.set(true);
+            updater.get();
+        }
+
+        assertTrueEventually(() -> {
+            Map<Integer, Integer> expected = new HashMap<>();
+            map.entrySet().forEach(entry -> expected.put(entry.getKey(), entry.getValue()));
+            Map<Integer, Integer> actual = new HashMap<>();
+            queryCache.entrySet().forEach(entry -> actual.put(entry.getKey(), entry.getValue()));
+            assertEquals(expected, actual);
+        });
+    }
+}
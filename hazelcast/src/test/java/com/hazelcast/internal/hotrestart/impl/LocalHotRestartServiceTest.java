@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart.impl;
+
+import com.hazelcast.cache.ICache;
+import com.hazelcast.config.CacheSimpleConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LocalHotRestartServiceTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private TestHazelcastInstanceFactory factory;
+    private Config config;
+
+    @Before
+    public void setUp() throws Exception {
+        factory = createHazelcastInstanceFactory();
+        config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.PERSISTENCE_LOCAL_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.PERSISTENCE_LOCAL_BASE_DIR.getName(), tempFolder.newFolder().getAbsolutePath());
+        MapConfig mapConfig = new MapConfig("persistent*");
+        mapConfig.getDataPersistenceConfig().setEnabled(true);
+        config.addMapConfig(mapConfig);
+        CacheSimpleConfig cacheConfig = new CacheSimpleConfig().setName("persistent*");
+        cacheConfig.getDataPersistenceConfig().setEnabled(true);
+        config.addCacheConfig(cacheConfig);
+    }
+
+    @Test
+    public void testMapEntries_recoveredAfterRestart() {
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        IMap<Integer, String> map = instance.getMap("persistent-map");
+        IMap<Integer, String> transientMap = instance.getMap("transient-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, "value-" + i);
+            transientMap.set(i, "value-" + i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            map.set(i, "updated-" + i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 10) {
+            map.delete(i);
+        }
+        instance.shutdown();
+
+        HazelcastInstance restarted = startAndAwaitRecovery();
+        IMap<Integer, String> recoveredMap = restarted.getMap("persistent-map");
+        assertEquals(ENTRY_COUNT - ENTRY_COUNT / 10, recoveredMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            String expected = i % 10 == 0 ? null : (i % 2 == 0 ? "updated-" : "value-") + i;
+            assertEquals(expected, recoveredMap.get(i));
+        }
+        assertEquals(0, restarted.getMap("transient-map").size());
+    }
+
+    @Test
+    public void testMapClear_isRecovered() {
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        IMap<Integer, String> map = instance.getMap("persistent-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, "value-" + i);
+        }
+        map.clear();
+        map.set(1, "value");
+        instance.shutdown();
+
+        HazelcastInstance restarted = startAndAwaitRecovery();
+        IMap<Integer, String> recoveredMap = restarted.getMap("persistent-map");
+        assertEquals(1, recoveredMap.size());
+        assertEquals("value", recoveredMap.get(1));
+    }
+
+    @Test
+    public void testBackupReplicas_areNotRecovered() {
+        HazelcastInstance[] instances = factory.newInstances(config, 2);
+        HazelcastInstance primary = instances[0];
+        HazelcastInstance backup = instances[1];
+        IMap<String, String> map = primary.getMap("persistent-map");
+        String updatedKey = generateKeyOwnedBy(primary);
+        String removedKey = generateKeyOwnedBy(primary);
+        map.set(updatedKey, "value");
+        map.set(removedKey, "value");
+        map.delete(removedKey);
+
+        // make the log of the backup replicas disagree with the primary ones, as if it lagged behind
+        InternalSerializationService serializationService = getSerializationService(backup);
+        PersistenceStore backupStore = LocalHotRestartService.getStore(getNodeEngineImpl(backup));
+        for (String key : new String[]{updatedKey, removedKey}) {
+            backupStore.put(getPartitionId(backup, key), PersistenceStore.MAP, "persistent-map",
+                    serializationService.toData(key), serializationService.toData("stale"), Long.MAX_VALUE, false);
+        }
+        primary.getCluster().shutdown();
+
+        HazelcastInstance restarted = startAndAwaitRecovery();
+        startAndAwaitRecovery();
+        IMap<String, String> recoveredMap = restarted.getMap("persistent-map");
+        assertEquals("value", recoveredMap.get(updatedKey));
+        assertNull(recoveredMap.get(removedKey));
+        assertEquals(1, recoveredMap.size());
+    }
+
+    @Test
+    public void testCacheEntries_recoveredAfterRestart() {
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        ICache<Integer, String> cache = instance.getCacheManager().getCache("persistent-cache");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            cache.put(i, "value-" + i);
+        }
+        cache.remove(0);
+        instance.shutdown();
+
+        HazelcastInstance restarted = startAndAwaitRecovery();
+        ICache<Integer, String> recoveredCache = restarted.getCacheManager().getCache("persistent-cache");
+        assertEquals(ENTRY_COUNT - 1, recoveredCache.size());
+        assertNull(recoveredCache.get(0));
+        assertEquals("value-1", recoveredCache.get(1));
+    }
+
+    private HazelcastInstance startAndAwaitRecovery() {
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        LocalHotRestartService service = (LocalHotRestartService) getNode(instance)
+                .getNodeExtension().getInternalHotRestartService();
+        assertTrueEventually(() -> assertTrue(service.isRecoveryCompleted()));
+        return instance;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.CLEAR;
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.PUT;
+import static com.hazelcast.internal.hotrestart.impl.LogRecord.REMOVE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionLogTest extends HazelcastTestSupport {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final StructureId MAP = new StructureId(PersistenceStore.MAP, "map");
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = tempFolder.newFolder().toPath();
+    }
+
+    @Test
+    public void testCompaction_dropsSupersededRecords() throws IOException {
+        PartitionLog log = new PartitionLog(0, directory, 1, SEGMENT_SIZE);
+        for (int round = 0; round < 50; round++) {
+            for (int key = 0; key < 20; key++) {
+                put(log, key, round);
+            }
+        }
+        int segmentsBefore = segmentCount();
+        for (int i = 0; i < segmentsBefore; i++) {
+            log.compact();
+        }
+        int segmentsAfter = segmentCount();
+        assertTrue("before=" + segmentsBefore + ", after=" + segmentsAfter, segmentsAfter < segmentsBefore / 2);
+        log.close();
+
+        Map<Integer, Integer> recovered = recover(2);
+        assertEquals(20, recovered.size());
+        for (int key = 0; key < 20; key++) {
+            assertEquals(49, (int) recovered.get(key));
+        }
+    }
+
+    @Test
+    public void testRecovery_appliesRemovesAndClears() throws IOException {
+        PartitionLog log = new PartitionLog(0, directory, 1, SEGMENT_SIZE);
+        for (int key = 0; key < 100; key++) {
+            put(log, key, key);
+        }
+        log.append(CLEAR, MAP, null, null, Long.MAX_VALUE, false);
+        for (int key = 0; key < 10; key++) {
+            put(log, key, -key);
+        }
+        log.append(REMOVE, MAP, serializationService.toData(0), null, Long.MAX_VALUE, false);
+        log.close();
+
+        Map<Integer, Integer> recovered = recover(2);
+        assertEquals(9, recovered.size());
+        for (int key = 1; key < 10; key++) {
+            assertEquals(-key, (int) recovered.get(key));
+        }
+    }
+
+    @Test
+    public void testRecovery_acrossGenerations() throws IOException {
+        PartitionLog log = new PartitionLog(0, directory, 1, SEGMENT_SIZE);
+        put(log, 1, 1);
+        put(log, 2, 2);
+        log.close();
+
+        // the second generation removes an entry of the first one before its segments are deleted
+        log = new PartitionLog(0, directory, 2, SEGMENT_SIZE);
+        log.append(REMOVE, MAP, serializationService.toData(1), null, Long.MAX_VALUE, false);
+        log.compact();
+        log.close();
+
+        Map<Integer, Integer> recovered = recover(3);
+        assertEquals(Map.of(2, 2), recovered);
+    }
+
+    private void put(PartitionLog log, int key, int value) throws IOException {
+        log.append(PUT, MAP, serializationService.toData(key), serializationService.toData(value), Long.MAX_VALUE, false);
+    }
+
+    private Map<Integer, Integer> recover(long generation) throws IOException {
+        PartitionLog log = new PartitionLog(0, directory, generation, SEGMENT_SIZE);
+        Map<Integer, Integer> entries = new HashMap<>();
+        Collection<LogRecord> records = log.recover().getOrDefault(MAP, List.of());
+        for (LogRecord record : records) {
+            Data key = record.key();
+            Data value = record.value();
+            entries.put(serializationService.toObject(key), serializationService.toObject(value));
+        }
+        log.close();
+        return entries;
+    }
+
+    private int segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return (int) files.filter(file -> file.toString().endsWith(Segment.SUFFIX)).count();
+        }
+    }
+}
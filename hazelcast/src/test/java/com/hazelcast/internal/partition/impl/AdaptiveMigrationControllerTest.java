@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.UnknownHostException;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AdaptiveMigrationControllerTest extends HazelcastTestSupport {
+
+    private static final int MAX_PARALLEL_MIGRATIONS = 8;
+
+    private final AdaptiveMigrationController controller = new AdaptiveMigrationController(MAX_PARALLEL_MIGRATIONS);
+
+    @Test
+    public void testLimit_isMaxParallelMigrations_byDefault() throws UnknownHostException {
+        assertEquals(MAX_PARALLEL_MIGRATIONS, controller.getLimit(new Address("localhost", 5701)));
+    }
+
+    @Test
+    public void testLimit_halvedOnFailure_andRaisedOnSuccess() throws UnknownHostException {
+        Address source = new Address("localhost", 5701);
+        Address destination = new Address("localhost", 5702);
+
+        controller.onMigrationComplete(source, destination, 100, false);
+        controller.onMigrationComplete(source, destination, 100, false);
+
+        assertEquals(MAX_PARALLEL_MIGRATIONS / 4, controller.getLimit(source));
+        assertEquals(MAX_PARALLEL_MIGRATIONS / 4, controller.getLimit(destination));
+
+        controller.onMigrationComplete(source, destination, 100, true);
+
+        assertEquals(MAX_PARALLEL_MIGRATIONS / 4 + 1, controller.getLimit(source));
+        assertEquals(MAX_PARALLEL_MIGRATIONS / 4 + 1, controller.getLimit(destination));
+    }
+
+    @Test
+    public void testLimit_halvedOnSlowMigration() throws UnknownHostException {
+        Address source = new Address("localhost", 5701);
+        Address destination = new Address("localhost", 5702);
+        Address other = new Address("localhost", 5703);
+
+        controller.onMigrationComplete(source, destination, 100, true);
+        controller.onMigrationComplete(source, destination, 100 * 3, true);
+        // the durations are tracked per source and destination pair
+        controller.onMigrationComplete(source, other, 100 * 3, true);
+
+        assertEquals(MAX_PARALLEL_MIGRATIONS / 2 + 1, controller.getLimit(source));
+        assertEquals(MAX_PARALLEL_MIGRATIONS / 2, controller.getLimit(destination));
+        assertEquals(MAX_PARALLEL_MIGRATIONS, controller.getLimit(other));
+    }
+
+    @Test
+    public void testLimit_neverBelowOne() throws UnknownHostException {
+        Address source = new Address("localhost", 5701);
+        Address destination = new Address("localhost", 5702);
+
+        for (int i = 0; i < 10; i++) {
+            controller.onMigrationComplete(source, destination, 100, false);
+        }
+
+        assertEquals(1, controller.getLimit(source));
+    }
+
+    @Test
+    public void testMigrations_completeWithAdaptiveMigration() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.PARTITION_ADAPTIVE_MIGRATION_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS.getName(), "2");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            map.set(i, i);
+        }
+
+        factory.newHazelcastInstance(config);
+        factory.newHazelcastInstance(config);
+
+        waitAllForSafeState(factory.getAllHazelcastInstances());
+        assertEquals(1000, map.size());
+    }
+}
@@ -24,6 +24,11 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static com.hazelcast.logging.Logger.getLogger;
 import static org.junit.Assert.assertEquals;
 
@@ -55,6 +60,60 @@ public class StripedExecutorTest extends HazelcastTestSupport {
         assertEquals(maximumQueueCapacity, calculateWorkersTotalQueueCapacity(executor));
     }
 
+    @Test
+    public void tasks_withSameKey_areProcessedInOrder_whenDrainedInBatches() {
+        StripedExecutor executor = new StripedExecutor(getLogger(getClass()), "", 4, 10000);
+        try {
+            CountDownLatch blocker = new CountDownLatch(1);
+            executor.execute(new TestStripedRunnable(1, () -> assertOpenEventually(blocker)));
+
+            // the tasks pile up behind the blocked one and are taken out of the queue in batches
+            int taskCount = 10 * StripedExecutor.MAX_DRAIN_BATCH_SIZE;
+            List<Integer> processed = new ArrayList<>();
+            for (int i = 0; i < taskCount; i++) {
+                int value = i;
+                executor.execute(new TestStripedRunnable(1, () -> processed.add(value)));
+            }
+            blocker.countDown();
+
+            assertTrueEventually(() -> assertEquals(taskCount + 1, executor.processedCount()));
+            for (int i = 0; i < taskCount; i++) {
+                assertEquals(i, (int) processed.get(i));
+            }
+            assertEquals(0, executor.getWorkQueueSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void drainedTasks_areProcessed_whenExecutorShutsDownDuringBatch() {
+        StripedExecutor executor = new StripedExecutor(getLogger(getClass()), "", 1, 10000);
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.execute(new TestStripedRunnable(1, () -> {
+            blockerStarted.countDown();
+            assertOpenEventually(blocker);
+        }));
+        assertOpenEventually(blockerStarted);
+
+        int taskCount = StripedExecutor.MAX_DRAIN_BATCH_SIZE - 1;
+        CountDownLatch shutdownLatch = new CountDownLatch(1);
+        AtomicInteger processed = new AtomicInteger();
+        // the first task of the batch shuts the executor down, the rest of the batch must still run
+        executor.execute(new TestStripedRunnable(1, () -> {
+            executor.shutdown();
+            shutdownLatch.countDown();
+        }));
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(new TestStripedRunnable(1, processed::incrementAndGet));
+        }
+        blocker.countDown();
+
+        assertOpenEventually(shutdownLatch);
+        assertTrueEventually(() -> assertEquals(taskCount, processed.get()));
+    }
+
     private static int calculateWorkersTotalQueueCapacity(StripedExecutor executor) {
         int totalQueueCapacity = 0;
         StripedExecutor.Worker[] workers = executor.getWorkers();
@@ -63,4 +122,25 @@ public class StripedExecutorTest extends HazelcastTestSupport {
         }
         return totalQueueCapacity;
     }
+
+    private static final class TestStripedRunnable implements StripedRunnable {
+
+        private final int key;
+        private final Runnable task;
+
+        private TestStripedRunnable(int key, Runnable task) {
+            this.key = key;
+            this.task = task;
+        }
+
+        @Override
+        public int getKey() {
+            return key;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.core;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.core.TestProcessors.CollectPerProcessorSink;
+import com.hazelcast.jet.core.TestProcessors.ListsSourceP;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_DISTRIBUTED_EDGE_COMPRESSION_ENABLED;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DistributedEdgeCompressionTest extends SimpleTestInClusterSupport {
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config config = smallInstanceConfig();
+        config.setProperty(JET_DISTRIBUTED_EDGE_COMPRESSION_ENABLED.getName(), "true");
+        initialize(2, config);
+    }
+
+    @Test
+    public void when_compressionEnabled_then_distributedEdgeDeliversAllItems() {
+        // compressible strings, along with numbers which make small packets
+        List<Object> strings = IntStream.range(0, 4096).mapToObj(i -> "item-".repeat(20) + i).collect(toList());
+        List<Object> numbers = IntStream.range(0, 4096).boxed().collect(toList());
+        TestProcessors.reset(1);
+        CollectPerProcessorSink consumerSup = new CollectPerProcessorSink();
+
+        DAG dag = new DAG();
+        Vertex producer = dag.newVertex("producer", new ListsSourceP(strings, numbers)).localParallelism(1);
+        Vertex consumer = dag.newVertex("consumer", consumerSup).localParallelism(2);
+        dag.edge(between(producer, consumer).distributed().partitioned(Object::hashCode));
+
+        instance().getJet().newJob(dag).join();
+
+        List<Object> received = consumerSup.getLists().stream().flatMap(List::stream).collect(toList());
+        assertEquals(strings.size() + numbers.size(), received.size());
+        Set<Object> expected = strings.stream().collect(toSet());
+        expected.addAll(numbers);
+        assertEquals(expected, Set.copyOf(received));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.core;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.JobRestartWithSnapshotTest.SequencesInPartitionsGeneratorP;
+import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.core.processor.SinkProcessors;
+import com.hazelcast.jet.datamodel.KeyedWindowResult;
+import com.hazelcast.jet.impl.JobExecutionRecord;
+import com.hazelcast.jet.impl.JobRepository;
+import com.hazelcast.jet.impl.SnapshotValidationRecord;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.SlowTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static com.hazelcast.function.Functions.entryKey;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.config.ProcessingGuarantee.EXACTLY_ONCE;
+import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.jet.core.EventTimePolicy.eventTimePolicy;
+import static com.hazelcast.jet.core.TestUtil.throttle;
+import static com.hazelcast.jet.core.WatermarkPolicy.limitingLag;
+import static com.hazelcast.jet.core.processor.Processors.insertWatermarksP;
+import static com.hazelcast.jet.core.processor.Processors.mapP;
+import static com.hazelcast.jet.impl.JobRepository.snapshotDataMapName;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({SlowTest.class, ParallelJVMTest.class})
+public class IncrementalSnapshotTest extends JetTestSupport {
+
+    private static final int LOCAL_PARALLELISM = 4;
+    private static final int NUM_PARTITIONS = 3;
+    private static final int ELEMENTS_IN_PARTITION = 250;
+
+    private HazelcastInstance instance1;
+    private HazelcastInstance instance2;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        config.getJetConfig().setCooperativeThreadCount(LOCAL_PARALLELISM);
+        // all the snapshots after the first one are incremental
+        config.setProperty(JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH.getName(), "1000");
+
+        instance1 = createHazelcastInstance(config);
+        instance2 = createHazelcastInstance(config);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void when_memberDown_then_jobRestartsFromIncrementalSnapshot() {
+        SlidingWindowPolicy wDef = SlidingWindowPolicy.tumblingWinPolicy(3);
+        IMap<List<Long>, Long> result = instance1.getMap("result");
+
+        DAG dag = new DAG();
+        SupplierEx<Processor> sup = () ->
+                new SequencesInPartitionsGeneratorP(NUM_PARTITIONS, ELEMENTS_IN_PARTITION, true);
+        Vertex generator = dag.newVertex("generator", throttle(sup, 30))
+                              .localParallelism(1);
+        Vertex insWm = dag.newVertex("insWm", insertWatermarksP(eventTimePolicy(
+                o -> ((Entry<Integer, Integer>) o).getValue(), limitingLag(0), wDef.frameSize(), wDef.frameOffset(), 0)))
+                          .localParallelism(1);
+        Vertex aggregate = dag.newVertex("aggregate", Processors.aggregateToSlidingWindowP(
+                singletonList((FunctionEx<Object, Integer>) t -> ((Entry<Integer, Integer>) t).getKey()),
+                singletonList(t1 -> ((Entry<Integer, Integer>) t1).getValue()),
+                TimestampKind.EVENT,
+                wDef,
+                0L,
+                counting(),
+                KeyedWindowResult::new));
+        Vertex map = dag.newVertex("map",
+                mapP((KeyedWindowResult kwr) -> entry(asList(kwr.end(), (long) (int) kwr.key()), kwr.result())));
+        Vertex writeMap = dag.newVertex("writeMap", SinkProcessors.writeMapP("result"));
+        dag.edge(between(generator, insWm))
+           .edge(between(insWm, aggregate).distributed().partitioned(entryKey()))
+           .edge(between(aggregate, map))
+           .edge(between(map, writeMap));
+
+        JobConfig config = new JobConfig();
+        config.setProcessingGuarantee(EXACTLY_ONCE);
+        config.setSnapshotIntervalMillis(500);
+        Job job = instance1.getJet().newJob(dag, config);
+
+        JobRepository jobRepository = new JobRepository(instance1);
+        waitForFirstSnapshot(jobRepository, job.getId(), 10, false);
+        assertTrueEventually(() -> {
+            SnapshotValidationRecord record = lastSnapshotValidationRecord(jobRepository, job.getId());
+            assertTrue("snapshot not incremental: " + record, record.isIncremental());
+            assertTrue("no incremental chain yet: " + record, record.snapshotId() > record.baseSnapshotId() + 1);
+        }, 20);
+
+        instance2.getLifecycleService().terminate();
+        job.join();
+
+        Map<List<Long>, Long> expected = new HashMap<>();
+        for (long partition = 0; partition < NUM_PARTITIONS; partition++) {
+            for (long windowEnd = wDef.frameSize(); windowEnd < ELEMENTS_IN_PARTITION + wDef.frameSize();
+                 windowEnd += wDef.frameSize()) {
+                // the last window is not full
+                expected.put(asList(windowEnd, partition), Math.min(windowEnd, ELEMENTS_IN_PARTITION)
+                        - windowEnd + wDef.frameSize());
+            }
+        }
+        assertEquals(expected, new HashMap<>(result));
+    }
+
+    private SnapshotValidationRecord lastSnapshotValidationRecord(JobRepository jobRepository, long jobId) {
+        JobExecutionRecord executionRecord = jobRepository.getJobExecutionRecord(jobId);
+        IMap<Object, Object> snapshotMap = instance1.getMap(snapshotDataMapName(jobId, executionRecord.dataMapIndex()));
+        SnapshotValidationRecord record = (SnapshotValidationRecord) snapshotMap.get(SnapshotValidationRecord.KEY);
+        assertNotNull("no validation record", record);
+        return record;
+    }
+}
@@ -56,6 +56,10 @@ import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_BYTES_IN;
 import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_BYTES_OUT;
 import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_ITEMS_IN;
 import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_ITEMS_OUT;
+import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_PACKETS_IN;
+import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_PACKETS_OUT;
+import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_RECEIVE_WINDOW;
+import static com.hazelcast.jet.core.metrics.MetricNames.DISTRIBUTED_SEND_BLOCKED_TIME;
 import static com.hazelcast.jet.core.metrics.MetricNames.EMITTED_COUNT;
 import static com.hazelcast.jet.core.metrics.MetricNames.EXECUTION_COMPLETION_TIME;
 import static com.hazelcast.jet.core.metrics.MetricNames.EXECUTION_START_TIME;
@@ -275,6 +279,10 @@ public class JobLifecycleMetricsTest extends JetTestSupport {
                 DISTRIBUTED_BYTES_OUT,
                 DISTRIBUTED_ITEMS_IN,
                 DISTRIBUTED_ITEMS_OUT,
+                DISTRIBUTED_PACKETS_IN,
+                DISTRIBUTED_PACKETS_OUT,
+                DISTRIBUTED_RECEIVE_WINDOW,
+                DISTRIBUTED_SEND_BLOCKED_TIME,
                 "lateEventsDropped"
 
         );
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.connector;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.Sinks;
+import com.hazelcast.jet.pipeline.file.FileFormat;
+import com.hazelcast.jet.pipeline.file.FileSources;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.spi.properties.ClusterProperty.JET_FILE_SPLIT_SIZE;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReadFilesP_SplitTest extends SimpleTestInClusterSupport {
+
+    private static final int SPLIT_SIZE = 100;
+    private static final int LINE_COUNT = 1000;
+
+    private File directory;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config config = smallInstanceConfig();
+        config.setProperty(JET_FILE_SPLIT_SIZE.getName(), String.valueOf(SPLIT_SIZE));
+        initialize(1, config);
+    }
+
+    @Before
+    public void setup() throws IOException {
+        directory = createTempDirectory();
+    }
+
+    @After
+    public void after() {
+        IOUtil.delete(directory);
+    }
+
+    @Test
+    public void when_linesFileLargerThanSplitSize_then_eachLineReadOnce() throws IOException {
+        List<String> lines = IntStream.range(0, LINE_COUNT).mapToObj(i -> "line-" + i).collect(toList());
+        Files.write(directory.toPath().resolve("lines.txt"), lines);
+        Files.write(directory.toPath().resolve("small.txt"), List.of("small"));
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(FileSources.files(directory.getPath()).build())
+         .writeTo(Sinks.list("lines"));
+        instance().getJet().newJob(p).join();
+
+        List<String> expected = new ArrayList<>(lines);
+        expected.add("small");
+        assertThat(instance().<String>getList("lines")).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void when_singleLineJsonFileLargerThanSplitSize_then_eachRecordReadOnce() throws IOException {
+        List<String> lines = IntStream.range(0, LINE_COUNT)
+                                      .mapToObj(i -> "{\"id\": " + i + ", \"name\": \"name-" + i + "\"}")
+                                      .collect(toList());
+        Files.write(directory.toPath().resolve("records.json"), lines);
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(FileSources.files(directory.getPath())
+                              .format(FileFormat.<Map<String, Object>>json().multiline(false))
+                              .build())
+         .map(record -> ((Number) record.get("id")).intValue())
+         .writeTo(Sinks.list("ids"));
+        instance().getJet().newJob(p).join();
+
+        assertThat(instance().<Integer>getList("ids"))
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, LINE_COUNT).boxed().collect(toList()));
+    }
+}
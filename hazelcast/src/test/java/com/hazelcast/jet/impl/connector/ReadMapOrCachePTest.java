@@ -17,13 +17,22 @@
 package com.hazelcast.jet.impl.connector;
 
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.jet.SimpleTestInClusterSupport;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.DAG;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.core.processor.SourceProcessors;
 import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.impl.connector.HazelcastReaders.LocalMapReaderFunction;
+import com.hazelcast.jet.impl.connector.ReadMapOrCacheP.LocalProcessorMetaSupplier;
+import com.hazelcast.jet.impl.connector.ReadMapOrCacheP.RecordProjectorSupplier;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.map.IMap;
+import com.hazelcast.security.permission.MapPermission;
 import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -33,16 +42,20 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.security.Permission;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -105,6 +118,57 @@ public class ReadMapOrCachePTest extends SimpleTestInClusterSupport {
                 .expectOutput(expected);
     }
 
+    @Test
+    public void test_whenRecordProjectorSet() {
+        IMap<Integer, String> map = instance().getMap(randomMapName());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value-" + i);
+            if (i % 2 == 0) {
+                expected.add("value-" + i);
+            }
+        }
+
+        String mapName = map.getName();
+        ProcessorMetaSupplier metaSupplier = new LocalProcessorMetaSupplier<>(
+                new LocalMapReaderFunction(mapName), new EvenKeyValueProjectorSupplier()) {
+            @Override
+            public Permission getRequiredPermission() {
+                return new MapPermission(mapName, ACTION_READ);
+            }
+        };
+        TestSupport
+                .verifyProcessor(adaptSupplier(metaSupplier))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .disableProgressAssertion()
+                .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                .expectOutput(expected);
+    }
+
+    /**
+     * Emits the values of the entries with an even key, deserializing only
+     * the keys of the other entries.
+     */
+    private static final class EvenKeyValueProjectorSupplier
+            implements RecordProjectorSupplier<Entry<Data, Data>>, Serializable {
+
+        private transient InternalSerializationService serializationService;
+
+        @Override
+        public void init(@Nonnull ProcessorSupplier.Context context) {
+            serializationService = ((InternalProcSupplierCtx) context).serializationService();
+        }
+
+        @Nonnull
+        @Override
+        public Function<Entry<Data, Data>, String> get() {
+            return entry -> serializationService.<Integer>toObject(entry.getKey()) % 2 == 0
+                    ? serializationService.toObject(entry.getValue())
+                    : null;
+        }
+    }
+
     @Test
     public void test_largeMap() {
         IMap<Integer, Integer> map = instance().getMap(randomMapName());
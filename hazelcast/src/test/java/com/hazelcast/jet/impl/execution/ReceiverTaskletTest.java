@@ -32,6 +32,7 @@ import org.junit.runner.RunWith;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.zip.Deflater;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
@@ -62,6 +63,39 @@ public class ReceiverTaskletTest {
         assertEquals(asList(1, 2), collector.getBuffer());
     }
 
+    @Test
+    public void when_receiveCompressedObjects_then_emitThem() throws IOException {
+        pushCompressedObjects("a".repeat(2000), "b".repeat(2000));
+        t.call();
+        assertEquals(asList("a".repeat(2000), "b".repeat(2000)), collector.getBuffer());
+    }
+
+    private void pushCompressedObjects(Object... objs) throws IOException {
+        final BufferObjectDataOutput items = serService.createObjectDataOutput();
+        for (Object obj : objs) {
+            items.writeObject(obj);
+            items.writeInt(Math.abs(obj.hashCode())); // partition id
+        }
+        byte[] itemBytes = items.toByteArray();
+        Deflater deflater = new Deflater();
+        deflater.setInput(itemBytes);
+        deflater.finish();
+        byte[] compressed = new byte[itemBytes.length];
+        int compressedSize = deflater.deflate(compressed);
+        deflater.end();
+
+        final BufferObjectDataOutput out = serService.createObjectDataOutput();
+        // packet header
+        out.writeLong(0);
+        out.writeInt(0);
+        out.writeInt(0);
+        // the packet
+        out.writeInt(~objs.length);
+        out.writeInt(itemBytes.length);
+        out.write(compressed, 0, compressedSize);
+        queue.add(out.toByteArray());
+    }
+
     private void pushObjects(Object... objs) throws IOException {
         final BufferObjectDataOutput out = serService.createObjectDataOutput();
         // packet header
@@ -55,6 +55,7 @@ import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.jet.impl.util.ProgressState.DONE;
 import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -63,6 +64,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,13 +81,14 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
     private final CompletableFuture<Void> cancellationFuture = new CompletableFuture<>();
 
     private TaskletExecutionService tes;
+    private NodeEngine neMock;
     private ExecutorService executor;
     private final ClassLoader classLoader = getClass().getClassLoader();
 
     @Before
     public void before() {
         executor = Executors.newCachedThreadPool();
-        NodeEngine neMock = mock(NodeEngine.class);
+        neMock = mock(NodeEngine.class);
 
         HazelcastInstance hzMock = mock(HazelcastInstance.class);
         when(neMock.getHazelcastInstance()).thenReturn(hzMock);
@@ -383,6 +386,38 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         });
     }
 
+    @Test
+    public void when_workerOverloaded_then_taskletMovedToIdleWorker() {
+        // Given
+        Properties properties = new Properties();
+        properties.setProperty(JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS.getName(), "50");
+        TaskletExecutionService rebalancingTes =
+                new TaskletExecutionService(neMock, THREAD_COUNT, new HazelcastProperties(properties));
+        try {
+            // the tasklets are assigned round-robin, both busy tasklets go to the first worker
+            BusyTasklet busy1 = new BusyTasklet(true);
+            BusyTasklet busy2 = new BusyTasklet(true);
+            List<BusyTasklet> tasklets = Stream.of(busy1, busy2)
+                    .flatMap(busy -> Stream.concat(Stream.of(busy),
+                            Stream.generate(() -> new BusyTasklet(false)).limit(THREAD_COUNT - 1)))
+                    .collect(toList());
+
+            // When
+            CompletableFuture<Void> f = rebalancingTes.beginExecute(tasklets, cancellationFuture, classLoader);
+
+            // Then
+            assertTrueEventually(() -> {
+                assertNotNull(busy1.lastThread);
+                assertNotNull(busy2.lastThread);
+                assertNotEquals(busy1.lastThread, busy2.lastThread);
+            });
+            tasklets.forEach(t -> t.done = true);
+            f.join();
+        } finally {
+            rebalancingTes.shutdown();
+        }
+    }
+
     private void executeAndJoin(List<MockTasklet> tasklets) {
         CompletableFuture<Void> f = tes.beginExecute(tasklets, cancellationFuture, classLoader);
         f.join();
@@ -491,6 +526,34 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         }
     }
 
+    private static class BusyTasklet implements Tasklet {
+
+        private final boolean busy;
+        private volatile Thread lastThread;
+        private volatile boolean done;
+
+        BusyTasklet(boolean busy) {
+            this.busy = busy;
+        }
+
+        @Nonnull
+        @Override
+        public ProgressState call() {
+            if (done) {
+                return DONE;
+            }
+            if (!busy) {
+                return NO_PROGRESS;
+            }
+            lastThread = Thread.currentThread();
+            long end = System.nanoTime() + MILLISECONDS.toNanos(1);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            return MADE_PROGRESS;
+        }
+    }
+
     private static class TaskletAssertingThreadLocal implements Tasklet {
 
         private static final ThreadLocal<Integer> threadLocal = ThreadLocal.withInitial(() -> 0);
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.test.AssertionSinks;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.jet.Util.entry;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DiskStateMapTest extends SimpleTestInClusterSupport {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private File directory;
+    private DiskStateMap<Integer, String> map;
+
+    @BeforeClass
+    public static void setUpClass() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.JET_KEYED_STATE_CACHE_SIZE.getName(), "10");
+        initialize(1, config);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        directory = new File(tempFolder.newFolder(), "state");
+        assertTrue(directory.mkdir());
+        map = new DiskStateMap<>(directory.toPath(), serializationService, 4, SEGMENT_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        map.close();
+    }
+
+    @Test
+    public void when_moreEntriesThanCacheSize_then_leastRecentlyUsedSpilled() {
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "value-" + i);
+        }
+        map.get(0);
+
+        assertEquals(10, map.size());
+        assertEquals(6, map.spilledCount());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+        assertNull(map.get(10));
+        assertFalse(map.containsKey(10));
+    }
+
+    @Test
+    public void when_iterated_then_spilledEntriesFirstInUseOrder() {
+        for (int i = 0; i < 8; i++) {
+            map.put(i, "value-" + i);
+        }
+        map.get(1);
+
+        List<Integer> keys = new ArrayList<>();
+        for (Entry<Integer, String> e : map.entrySet()) {
+            assertEquals("value-" + e.getKey(), e.getValue());
+            keys.add(e.getKey());
+        }
+        // reading 1 back from the disk moves 4 there
+        assertEquals(List.of(0, 2, 3, 4, 5, 6, 7, 1), keys);
+    }
+
+    @Test
+    public void when_removedThroughIterator_then_removed() {
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "value-" + i);
+        }
+        Iterator<Entry<Integer, String>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(5, map.size());
+        assertEquals(List.of(1, 3, 5, 7, 9), map.keySet().stream().sorted().collect(toList()));
+    }
+
+    @Test
+    public void when_valuesUpdated_then_obsoleteSegmentsReclaimed() {
+        String padding = "x".repeat(100);
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 20; i++) {
+                map.put(i, padding + round);
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(padding + 49, map.get(i));
+        }
+        // 16 values are on the disk, the obsolete values can take as much space
+        // as the live ones plus a segment until they are reclaimed
+        assertTrue("diskSize=" + map.diskSize(), map.diskSize() <= 2 * 16 * 200 + 2 * SEGMENT_SIZE);
+        assertTrue(directory.list().length <= map.diskSize() / SEGMENT_SIZE + 2);
+    }
+
+    @Test
+    public void when_closed_then_directoryDeleted() {
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "value-" + i);
+        }
+        map.close();
+
+        assertFalse(directory.exists());
+    }
+
+    @Test
+    public void when_mapStatefulWithKeyedStateCache_then_stateKeptOnDisk() {
+        int keyCount = 100;
+        List<Integer> input = IntStream.range(0, 10 * keyCount).map(i -> i % keyCount).boxed().collect(toList());
+        List<Entry<Integer, Long>> expected = IntStream.range(0, 10 * keyCount)
+                .mapToObj(i -> entry(i % keyCount, (long) i / keyCount + 1))
+                .collect(toList());
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(TestSources.items(input))
+                .groupingKey(i -> i)
+                .mapStateful(() -> new long[1], (state, key, item) -> entry(key, ++state[0]))
+                .writeTo(AssertionSinks.assertAnyOrder(expected));
+        instance().getJet().newJob(p).join();
+    }
+}
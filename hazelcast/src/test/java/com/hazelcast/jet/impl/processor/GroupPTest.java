@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.aggregate.AggregateOperation1;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.pipeline.BatchStage;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertAnyOrder;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class GroupPTest extends SimpleTestInClusterSupport {
+
+    private static final int KEY_COUNT = 1000;
+    private static final int ITEMS_PER_KEY = 10;
+    private static final long MAX_ACCUMULATED_RECORDS = 20;
+
+    @BeforeClass
+    public static void setUp() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.JET_HASH_SPILL_ENABLED.getName(), "true");
+        initialize(1, config);
+    }
+
+    @Test
+    public void when_twoStageGroupingOverLimit_then_spilledAndCombined() {
+        Pipeline p = Pipeline.create();
+        input(p).groupingKey(i -> i % KEY_COUNT)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(expectedCounts()));
+
+        instance().getJet().newJob(p, jobConfig()).join();
+    }
+
+    @Test
+    public void when_singleStageGroupingOverLimit_then_spilledAndCombined() {
+        Pipeline p = Pipeline.create();
+        input(p).rebalance()
+                .groupingKey(i -> i % KEY_COUNT)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(expectedCounts()));
+
+        instance().getJet().newJob(p, jobConfig()).join();
+    }
+
+    @Test
+    public void when_aggregateOperationWithoutCombine_then_limitExceeded() {
+        AggregateOperation1<Integer, LongAccumulator, Long> countingWithoutCombine = AggregateOperation
+                .withCreate(LongAccumulator::new)
+                .<Integer>andAccumulate((acc, item) -> acc.add(1))
+                .andExportFinish(LongAccumulator::get);
+        Pipeline p = Pipeline.create();
+        input(p).groupingKey(i -> i % KEY_COUNT)
+                .aggregate(countingWithoutCombine)
+                .writeTo(assertAnyOrder(expectedCounts()));
+
+        Job job = instance().getJet().newJob(p, jobConfig());
+        assertThatThrownBy(job::join).hasStackTraceContaining(AccumulationLimitExceededException.class.getName());
+    }
+
+    private static BatchStage<Integer> input(Pipeline p) {
+        return p.readFrom(TestSources.items(IntStream.range(0, KEY_COUNT * ITEMS_PER_KEY).boxed().collect(toList())));
+    }
+
+    private static List<Entry<Integer, Long>> expectedCounts() {
+        return IntStream.range(0, KEY_COUNT).mapToObj(i -> entry(i, (long) ITEMS_PER_KEY)).collect(toList());
+    }
+
+    private static JobConfig jobConfig() {
+        return new JobConfig().setMaxProcessorAccumulatedRecords(MAX_ACCUMULATED_RECORDS);
+    }
+}
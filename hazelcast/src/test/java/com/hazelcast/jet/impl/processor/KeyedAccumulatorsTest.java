@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.accumulator.LongLongAccumulator;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.aggregate.AggregateOperation1;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.aggregate.AggregateOperations.summingDouble;
+import static com.hazelcast.jet.aggregate.AggregateOperations.summingLong;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class KeyedAccumulatorsTest {
+
+    private static final int KEY_COUNT = 1000;
+
+    @Test
+    public void when_counting_then_countsAsHashMap() {
+        AggregateOperation1<Integer, ?, Long> aggrOp = counting();
+        assertWindowsEqualReference(aggrOp, i -> 1L);
+    }
+
+    @Test
+    public void when_summingLong_then_sumsAsHashMap() {
+        AggregateOperation1<Integer, ?, Long> aggrOp = summingLong(i -> i - 500L);
+        assertWindowsEqualReference(aggrOp, i -> i - 500L);
+    }
+
+    @Test
+    public void when_summingDouble_then_sumsAsHashMap() {
+        AggregateOperation1<Integer, ?, Double> aggrOp = summingDouble(i -> i);
+        assertWindowsEqualReference(aggrOp, i -> (long) i);
+    }
+
+    @Test
+    public void when_accumulatorIsNotPrimitive_then_sameBehavior() {
+        AggregateOperation1<Integer, LongLongAccumulator, Long> aggrOp = AggregateOperation
+                .withCreate(LongLongAccumulator::new)
+                .<Integer>andAccumulate((acc, i) -> acc.set1(acc.get1() + 1))
+                .andCombine((l, r) -> l.set1(l.get1() + r.get1()))
+                .andDeduct((l, r) -> l.set1(l.get1() - r.get1()))
+                .andExportFinish(LongLongAccumulator::get1);
+        assertWindowsEqualReference(aggrOp, i -> 1L);
+    }
+
+    @Test
+    public void when_keyAdded_then_containsKey() {
+        AggregateOperation1<Integer, LongAccumulator, Long> aggrOp = counting();
+        KeyedAccumulators<Integer, LongAccumulator> accs = KeyedAccumulators.<Integer, LongAccumulator>factory(aggrOp).get();
+        assertTrue(accs.isEmpty());
+        accumulate(accs, aggrOp, 1);
+        assertTrue(accs.containsKey(1));
+        assertFalse(accs.containsKey(2));
+        assertEquals(1, accs.size());
+    }
+
+    /**
+     * Accumulates random items into two frames, then builds a window of
+     * both frames and deducts them one by one, checking the results against
+     * plain maps of the expected values after each step.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A, R extends Number> void assertWindowsEqualReference(
+            AggregateOperation1<Integer, A, R> aggrOp,
+            IntToLongFunction valueFn
+    ) {
+        Random random = new Random(42);
+        KeyedAccumulators<Integer, A>[] frames = new KeyedAccumulators[2];
+        Map<Integer, Long>[] expectedFrames = new Map[2];
+        for (int f = 0; f < frames.length; f++) {
+            frames[f] = KeyedAccumulators.<Integer, A>factory(aggrOp).get();
+            expectedFrames[f] = new HashMap<>();
+            for (int i = 0; i < 5 * KEY_COUNT; i++) {
+                int item = random.nextInt(KEY_COUNT);
+                boolean created = accumulate(frames[f], aggrOp, item);
+                assertEquals(!expectedFrames[f].containsKey(item), created);
+                expectedFrames[f].merge(item, valueFn.applyAsLong(item), Long::sum);
+            }
+            assertEquals(expectedFrames[f], toMap(frames[f], aggrOp));
+        }
+
+        KeyedAccumulators<Integer, A> window = KeyedAccumulators.<Integer, A>factory(aggrOp).get();
+        window.patch(frames[0], aggrOp.combineFn(), false);
+        window.patch(frames[1], aggrOp.combineFn(), false);
+        Map<Integer, Long> expectedWindow = new HashMap<>(expectedFrames[0]);
+        expectedFrames[1].forEach((k, v) -> expectedWindow.merge(k, v, Long::sum));
+        assertEquals(expectedWindow, toMap(window, aggrOp));
+
+        // the accumulators equal to the empty one are removed from the window
+        window.patch(frames[0], aggrOp.deductFn(), true);
+        expectedFrames[1].values().removeIf(v -> v == 0);
+        assertEquals(expectedFrames[1], toMap(window, aggrOp));
+        window.patch(frames[1], aggrOp.deductFn(), true);
+        assertTrue(window.toString(), window.isEmpty());
+    }
+
+    private static <A> boolean accumulate(KeyedAccumulators<Integer, A> accs, AggregateOperation1<Integer, ?, ?> aggrOp,
+                                          int item) {
+        @SuppressWarnings("unchecked")
+        AggregateOperation1<Integer, A, ?> op = (AggregateOperation1<Integer, A, ?>) aggrOp;
+        return accs.accumulate(item, op.accumulateFn(0), item);
+    }
+
+    private static <A, R extends Number> Map<Integer, Long> toMap(
+            KeyedAccumulators<Integer, A> accs,
+            AggregateOperation1<Integer, A, R> aggrOp
+    ) {
+        Map<Integer, Long> map = new HashMap<>();
+        Traverser<Entry<Integer, A>> entries = accs.entries();
+        for (Entry<Integer, A> e; (e = entries.next()) != null; ) {
+            map.put(e.getKey(), aggrOp.exportFn().apply(e.getValue()).longValue());
+        }
+        assertEquals(accs.size(), map.size());
+        return map;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.pipeline.ServiceFactories;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapPTest extends JetTestSupport {
+
+    private static final List<Integer> INPUT = IntStream.range(0, 100).boxed().collect(toList());
+
+    @Test
+    public void test_mapAndFilter() {
+        TestSupport
+                .verifyProcessor(() -> new MapP<Integer, String>(i -> i % 3 == 0 ? null : "item-" + i))
+                .input(INPUT)
+                .expectOutput(INPUT.stream().filter(i -> i % 3 != 0).map(i -> "item-" + i).collect(toList()));
+    }
+
+    @Test
+    public void test_mapUsingService() {
+        TestSupport
+                .verifyProcessor(Processors.mapUsingServiceP(
+                        ServiceFactories.nonSharedService(ctx -> "item-"),
+                        (String prefix, Integer i) -> i % 3 == 0 ? null : prefix + i))
+                .input(INPUT)
+                .expectOutput(INPUT.stream().filter(i -> i % 3 != 0).map(i -> "item-" + i).collect(toList()));
+    }
+
+    @Test
+    public void test_filterUsingService() {
+        TestSupport
+                .verifyProcessor(Processors.filterUsingServiceP(
+                        ServiceFactories.nonSharedService(ctx -> 3),
+                        (Integer divisor, Integer i) -> i % divisor == 0))
+                .input(INPUT)
+                .expectOutput(INPUT.stream().filter(i -> i % 3 == 0).collect(toList()));
+    }
+}
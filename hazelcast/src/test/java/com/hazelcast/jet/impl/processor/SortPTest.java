@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertOrdered;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortPTest extends SimpleTestInClusterSupport {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.JET_SORT_SPILL_RUN_SIZE.getName(), "10");
+        initialize(1, config);
+    }
+
+    @Test
+    public void when_inMemory_then_sorted() {
+        List<Integer> expected = IntStream.range(0, 100).boxed().collect(toList());
+        List<Integer> input = new ArrayList<>(expected);
+        Collections.shuffle(input);
+
+        TestSupport.verifyProcessor(() -> new SortP<Integer>(null))
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(expected);
+    }
+
+    @Test
+    public void when_spilling_then_sorted() throws Exception {
+        // more runs than merged at once, so that they are merged in several passes
+        int itemCount = 7 * (SortP.MAX_MERGE_FAN_IN + 10);
+        List<Integer> expected = IntStream.range(0, itemCount).map(i -> i / 3).boxed().collect(toList());
+        List<Integer> input = new ArrayList<>(expected);
+        Collections.shuffle(input);
+        File spillDirectory = tempFolder.newFolder();
+
+        TestSupport.verifyProcessor(() -> new SortP<Integer>(null, 7, spillDirectory.getPath()))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(expected);
+
+        assertArrayEquals(new String[0], spillDirectory.list());
+    }
+
+    @Test
+    public void when_spillingWithComparator_then_sortedByComparator() throws Exception {
+        List<String> expected = IntStream.range(0, 100).mapToObj(i -> String.format("%03d", i))
+                .sorted(Comparator.reverseOrder()).collect(toList());
+        List<String> input = new ArrayList<>(expected);
+        Collections.shuffle(input);
+        File spillDirectory = tempFolder.newFolder();
+
+        TestSupport.verifyProcessor(() -> new SortP<String>(Comparator.reverseOrder(), 16, spillDirectory.getPath()))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(expected);
+    }
+
+    @Test
+    public void when_sortStageWithRunSize_then_sorted() {
+        List<Integer> expected = IntStream.range(0, 1000).boxed().collect(toList());
+        List<Integer> input = new ArrayList<>(expected);
+        Collections.shuffle(input);
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(TestSources.items(input))
+                .rebalance()
+                .sort()
+                .writeTo(assertOrdered(expected));
+        instance().getJet().newJob(p).join();
+    }
+}
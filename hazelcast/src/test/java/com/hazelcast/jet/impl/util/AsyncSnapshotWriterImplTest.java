@@ -30,6 +30,7 @@ import com.hazelcast.jet.impl.JetServiceBackend;
 import com.hazelcast.jet.impl.execution.MockSnapshotContext;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.CustomByteArrayOutputStream;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.NodeEngineImpl;
@@ -45,11 +46,16 @@ import org.junit.runner.RunWith;
 
 import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Stream;
 
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH;
 import static java.util.Collections.nCopies;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Stream.generate;
@@ -57,6 +63,7 @@ import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -79,6 +86,7 @@ public class AsyncSnapshotWriterImplTest extends JetTestSupport {
               .setEnabled(true)
               .setImplementation(new AlwaysFailingMapStore());
         config.getJetConfig().setEnabled(true);
+        config.setProperty(JET_INCREMENTAL_SNAPSHOT_CHAIN_LENGTH.getName(), "10");
 
         HazelcastInstance instance = createHazelcastInstance(config);
         nodeEngine = Util.getNodeEngine(instance);
@@ -292,6 +300,75 @@ public class AsyncSnapshotWriterImplTest extends JetTestSupport {
         snapshotContext.setCurrentMapName("map1");
     }
 
+    @Test
+    public void when_incrementalSnapshot_then_changedEntriesAndTombstonesWritten() {
+        // Given
+        assertTrue(writer.offer(entry(serialize("unchanged"), serialize("v"))));
+        assertTrue(writer.offer(entry(serialize("changed"), serialize("v"))));
+        assertTrue(writer.offer(entry(serialize("removed"), serialize("v"))));
+        assertTrue(writer.offer(entry(serialize("broadcast"), serialize("v1"))));
+        assertTrue(writer.offer(entry(serialize("broadcast"), serialize("v2"))));
+        assertTrue(writer.flushAndResetMap());
+        assertEquals(5, readSnapshot(1).values().stream().mapToInt(List::size).sum());
+
+        // When
+        snapshotContext.setCurrentSnapshotId(2);
+        snapshotContext.setIncrementalSnapshot(true);
+        assertTrue(writer.offer(entry(serialize("unchanged"), serialize("v"))));
+        assertTrue(writer.offer(entry(serialize("changed"), serialize("v2"))));
+        assertTrue(writer.offer(entry(serialize("added"), serialize("v"))));
+        assertTrue(writer.offer(entry(serialize("broadcast"), serialize("v1"))));
+        assertTrue(writer.offer(entry(serialize("broadcast"), serialize("v2"))));
+        assertTrue(writer.flushAndResetMap());
+
+        // Then
+        Map<Object, List<Object>> expected = new HashMap<>();
+        expected.put("changed", List.of("v2"));
+        expected.put("added", List.of("v"));
+        expected.put(tombstone("removed"), List.of());
+        expected.put("broadcast", List.of("v1", "v2"));
+        assertEquals(expected, readSnapshot(2));
+        assertNull(writer.getError());
+    }
+
+    @Test
+    public void when_incrementalSnapshotWithoutPreviousSnapshot_then_errorReported() {
+        // When
+        snapshotContext.setIncrementalSnapshot(true);
+        assertTrue(writer.offer(entry(serialize("k"), serialize("v"))));
+        assertTrue(writer.flushAndResetMap());
+
+        // Then
+        assertThat(String.valueOf(writer.getError())).contains("can't be incremental");
+    }
+
+    /**
+     * Returns the values written to the target map by the given snapshot, by key.
+     */
+    private Map<Object, List<Object>> readSnapshot(long snapshotId) {
+        assertTrueEventually(() -> assertFalse(writer.hasPendingAsyncOps()));
+        Map<Object, List<Object>> result = new HashMap<>();
+        for (Entry<SnapshotDataKey, byte[]> chunk : map.entrySet()) {
+            if (chunk.getKey().snapshotId() != snapshotId) {
+                continue;
+            }
+            BufferObjectDataInput in = serializationService.createObjectDataInput(chunk.getValue());
+            for (Object key; (key = serializationService.readObject(in, true)) != SnapshotDataValueTerminator.INSTANCE; ) {
+                List<Object> values = result.computeIfAbsent(key, k -> new ArrayList<>());
+                if (!(key instanceof SnapshotDataTombstone)) {
+                    values.add(serializationService.readObject(in, true));
+                }
+            }
+        }
+        return result;
+    }
+
+    private SnapshotDataTombstone tombstone(String key) {
+        byte[] bytes = serialize(key).toByteArray();
+        return new SnapshotDataTombstone(AsyncSnapshotWriterImpl.digest(AsyncSnapshotWriterImpl.newSha256(), bytes,
+                HeapData.TYPE_OFFSET, bytes.length - HeapData.TYPE_OFFSET));
+    }
+
     private void assertTargetMapEntry(String key, int sequence, int entryLength) {
         int partitionKey = writer.partitionKey(partitionService.getPartitionId(key));
         SnapshotDataKey mapKey = new SnapshotDataKey(partitionKey, 1, "vertex", sequence);
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WrittenKeyTableTest {
+    private static final int KEY_COUNT = 1000;
+
+    private final WrittenKeyTable table = new WrittenKeyTable();
+
+    @Test
+    public void when_keysAdded_then_found() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            int slot = table.add(keyDigest(i), i, false);
+            table.offered(slot, valueDigest(i), true);
+        }
+
+        assertEquals(KEY_COUNT, table.size());
+        for (int i = 0; i < KEY_COUNT; i++) {
+            int slot = table.find(keyDigest(i));
+            assertNotEquals(WrittenKeyTable.NOT_FOUND, slot);
+            assertEquals(i, table.partitionId(slot));
+            assertEquals(keyDigest(i), table.keyDigest(slot));
+            assertTrue(table.hasValueDigest(slot, valueDigest(i)));
+            assertFalse(table.hasValueDigest(slot, valueDigest(i + 1)));
+        }
+        assertEquals(WrittenKeyTable.NOT_FOUND, table.find(keyDigest(KEY_COUNT)));
+    }
+
+    @Test
+    public void when_removeNotOffered_then_onlyOfferedKeysKept() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            int slot = table.add(keyDigest(i), i, i == 0);
+            table.offered(slot, valueDigest(i), true);
+        }
+        table.removeNotOffered();
+
+        // When
+        for (int i = 0; i < KEY_COUNT; i += 10) {
+            table.offered(table.find(keyDigest(i)), valueDigest(i), false);
+        }
+        table.removeNotOffered();
+
+        // Then
+        assertEquals(KEY_COUNT / 10, table.size());
+        assertTrue(table.capacity() < KEY_COUNT);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            int slot = table.find(keyDigest(i));
+            if (i % 10 != 0) {
+                assertEquals(WrittenKeyTable.NOT_FOUND, slot);
+                continue;
+            }
+            assertFalse(table.isOffered(slot));
+            assertFalse(table.isWritten(slot));
+            assertEquals(i == 0, table.isDuplicated(slot));
+            assertTrue(table.hasValueDigest(slot, valueDigest(i)));
+        }
+    }
+
+    private static UUID keyDigest(int i) {
+        // only the low bits differ, as in the slot index
+        return new UUID(42, i);
+    }
+
+    private static UUID valueDigest(int i) {
+        return new UUID(i, 42);
+    }
+}
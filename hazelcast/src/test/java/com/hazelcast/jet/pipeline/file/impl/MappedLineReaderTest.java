@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MappedLineReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path file;
+
+    @Before
+    public void setup() throws IOException {
+        file = temporaryFolder.newFile("lines.txt").toPath();
+    }
+
+    @Test
+    public void when_wholeFile_then_readAllLines() throws IOException {
+        Files.writeString(file, "a\nbc\r\ndef\rgh");
+
+        assertEquals(asList("a", "bc", "def", "gh"), readRange(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void when_emptyLinesAndTrailingTerminator_then_readLikeBufferedReader() throws IOException {
+        Files.writeString(file, "\n\r\na\n\n");
+
+        assertEquals(asList("", "", "a", ""), readRange(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void when_emptyFile_then_noLines() throws IOException {
+        Files.writeString(file, "");
+
+        assertEquals(emptyList(), readRange(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void when_rangeStartsInLine_then_lineReadByPreviousRange() throws IOException {
+        Files.writeString(file, "abc\ndef\nghi");
+
+        assertEquals(asList("abc", "def"), readRange(0, 5));
+        assertEquals(asList("ghi"), readRange(5, 11));
+    }
+
+    @Test
+    public void when_rangeStartsInCrLf_then_terminatorSkipped() throws IOException {
+        Files.writeString(file, "abc\r\ndef");
+
+        assertEquals(asList("abc"), readRange(0, 4));
+        assertEquals(asList("def"), readRange(4, 8));
+    }
+
+    @Test
+    public void when_splitAtEachPosition_then_eachLineReadOnce() throws IOException {
+        String content = "first\r\n\r\nsecond\rthird\n\nfourth line, ünïcödé\r\r\nlast";
+        Files.writeString(file, content);
+        List<String> expected = content.lines().collect(toList());
+        long fileSize = Files.size(file);
+
+        for (long splitSize = 1; splitSize <= fileSize; splitSize++) {
+            List<String> lines = new ArrayList<>();
+            for (long start = 0; start < fileSize; start += splitSize) {
+                lines.addAll(readRange(start, Math.min(start + splitSize, fileSize)));
+            }
+            assertEquals("splitSize=" + splitSize, expected, lines);
+        }
+    }
+
+    private List<String> readRange(long start, long end) throws IOException {
+        try (Stream<String> lines = MappedLineReader.lines(file, UTF_8, start, end)) {
+            return lines.collect(toList());
+        }
+    }
+}
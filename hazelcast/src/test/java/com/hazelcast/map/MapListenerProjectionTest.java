@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapListenerProjectionTest extends HazelcastTestSupport {
+
+    @Test
+    public void testListener_receivesProjectedValues() {
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(smallInstanceConfigWithoutJetAndMetrics());
+        String mapName = randomMapName();
+        IMap<String, Person> map = instances[0].getMap(mapName);
+        ProjectedListener listener = new ProjectedListener();
+        map.addEntryListener(listener, Predicates.sql("age > 18"), Projections.singleAttribute("name"));
+
+        // keys owned by both members, so the events are published locally and remotely
+        IMap<String, Person> otherMap = instances[1].getMap(mapName);
+        String localKey = generateKeyOwnedBy(instances[0]);
+        String remoteKey = generateKeyOwnedBy(instances[1]);
+        otherMap.put(localKey, new Person("alice", 30));
+        otherMap.put(remoteKey, new Person("bob", 40));
+        otherMap.put(remoteKey, new Person("bobby", 41));
+        // does not match the predicate
+        otherMap.put(randomString(), new Person("carol", 10));
+        otherMap.remove(localKey);
+
+        assertTrueEventually(() -> assertThat(listener.events)
+                .containsExactlyInAnyOrder("ADDED:null->alice", "ADDED:null->bob", "UPDATED:bob->bobby",
+                        "REMOVED:alice->null"));
+    }
+
+    private static class ProjectedListener implements EntryAddedListener<String, String>,
+            EntryUpdatedListener<String, String>, EntryRemovedListener<String, String> {
+
+        private final Queue<String> events = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void entryAdded(EntryEvent<String, String> event) {
+            add(event);
+        }
+
+        @Override
+        public void entryUpdated(EntryEvent<String, String> event) {
+            add(event);
+        }
+
+        @Override
+        public void entryRemoved(EntryEvent<String, String> event) {
+            add(event);
+        }
+
+        private void add(EntryEvent<String, String> event) {
+            events.add(event.getEventType() + ":" + event.getOldValue() + "->" + event.getValue());
+        }
+    }
+
+    public static class Person implements Serializable {
+
+        private String name;
+        private int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+}
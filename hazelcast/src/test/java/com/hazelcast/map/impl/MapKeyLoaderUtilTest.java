@@ -32,6 +32,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.hazelcast.map.impl.MapKeyLoader.Role;
 import static com.hazelcast.map.impl.MapKeyLoader.Role.NONE;
@@ -159,6 +160,28 @@ public class MapKeyLoaderUtilTest extends HazelcastTestSupport {
 
     }
 
+    @Test
+    public void test_limit_sharedBetweenIterators() {
+        AtomicInteger remaining = new AtomicInteger(15);
+        Iterator<Integer> first = MapKeyLoaderUtil.limit(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).iterator(), remaining);
+        Iterator<Integer> second = MapKeyLoaderUtil.limit(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).iterator(), remaining);
+
+        int count = 0;
+        while (first.hasNext() | second.hasNext()) {
+            if (first.hasNext()) {
+                first.next();
+                count++;
+            }
+            if (second.hasNext()) {
+                second.next();
+                count++;
+            }
+        }
+
+        assertEquals(15, count);
+        assertEquals(0, remaining.get());
+    }
+
     private static Iterator<Map.Entry<Integer, Data>> newIterator(int entryCount) {
         Map<Integer, Data> store = new HashMap<>();
         for (int i = 0; i < entryCount; i++) {
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.SegmentedMapLoader;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.config.MapStoreConfig.InitialLoadMode.EAGER;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOADER_EXECUTOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SegmentedMapLoaderTest extends HazelcastTestSupport {
+
+    private static final int SEGMENT_COUNT = 4;
+    private static final int KEYS_PER_SEGMENT = 2500;
+
+    @Test
+    public void testInitialLoad_loadsAllSegments() {
+        SegmentedLoader loader = new SegmentedLoader();
+        IMap<Integer, Integer> map = createMap(loader, 2);
+
+        assertEquals(SEGMENT_COUNT * KEYS_PER_SEGMENT, map.size());
+        for (int i = 0; i < SEGMENT_COUNT * KEYS_PER_SEGMENT; i += 97) {
+            assertEquals(i, (int) map.get(i));
+        }
+        assertThat(loader.loadedSegments).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertEquals("loadAllKeys() should not be called", 0, loader.loadAllKeysCalls.get());
+    }
+
+    @Test
+    public void testInitialLoad_loadsOtherSegments_whenOneSegmentFails() {
+        SegmentedLoader loader = new SegmentedLoader();
+        loader.failingSegment = 2;
+        IMap<Integer, Integer> map = createMap(loader, 1);
+
+        // the failure is logged by the record stores, the keys of the other segments are loaded
+        assertEquals((SEGMENT_COUNT - 1) * KEYS_PER_SEGMENT, map.size());
+        assertThat(loader.loadedSegments).containsExactlyInAnyOrder(0, 1, 3);
+    }
+
+    @Test
+    public void testInitialLoad_doesNotStarveValueLoading() {
+        SegmentedLoader loader = new SegmentedLoader();
+        // the other segments are loaded only after some values of the first one
+        loader.awaitValues = true;
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.getExecutorConfig(MAP_LOADER_EXECUTOR).setPoolSize(1);
+        IMap<Integer, Integer> map = createMap(config, loader, 1);
+
+        assertEquals(SEGMENT_COUNT * KEYS_PER_SEGMENT, map.size());
+    }
+
+    private IMap<Integer, Integer> createMap(SegmentedLoader loader, int nodeCount) {
+        return createMap(smallInstanceConfigWithoutJetAndMetrics(), loader, nodeCount);
+    }
+
+    private IMap<Integer, Integer> createMap(Config config, SegmentedLoader loader, int nodeCount) {
+        config.getMapConfig("default").setMapStoreConfig(new MapStoreConfig()
+                .setEnabled(true)
+                .setInitialLoadMode(EAGER)
+                .setImplementation(loader));
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(nodeCount);
+        HazelcastInstance[] instances = factory.newInstances(config);
+        return instances[0].getMap(randomMapName());
+    }
+
+    private static class SegmentedLoader implements SegmentedMapLoader<Integer, Integer> {
+
+        private final Set<Integer> loadedSegments = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger loadAllKeysCalls = new AtomicInteger();
+        private final CountDownLatch valuesLoaded = new CountDownLatch(1);
+        private volatile int failingSegment = -1;
+        private volatile boolean awaitValues;
+
+        @Override
+        public int getKeySegmentCount() {
+            return SEGMENT_COUNT;
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys(int segment) {
+            if (segment == failingSegment) {
+                throw new IllegalStateException("Expected failure of segment " + segment);
+            }
+            if (awaitValues && segment > 0) {
+                assertOpenEventually(valuesLoaded);
+            }
+            List<Integer> keys = new ArrayList<>(KEYS_PER_SEGMENT);
+            for (int i = 0; i < KEYS_PER_SEGMENT; i++) {
+                keys.add(segment * KEYS_PER_SEGMENT + i);
+            }
+            loadedSegments.add(segment);
+            return keys;
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys() {
+            loadAllKeysCalls.incrementAndGet();
+            List<Integer> keys = new ArrayList<>();
+            for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+                loadAllKeys(segment).forEach(keys::add);
+            }
+            return keys;
+        }
+
+        @Override
+        public Integer load(Integer key) {
+            return key;
+        }
+
+        @Override
+        public Map<Integer, Integer> loadAll(Collection<Integer> keys) {
+            valuesLoaded.countDown();
+            Map<Integer, Integer> result = new HashMap<>();
+            for (Integer key : keys) {
+                result.put(key, key);
+            }
+            return result;
+        }
+    }
+}
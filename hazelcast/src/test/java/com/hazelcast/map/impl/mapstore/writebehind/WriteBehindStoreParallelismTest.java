@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WriteBehindStoreParallelismTest extends HazelcastTestSupport {
+
+    @Test
+    public void testStore_withParallelism_storesAllEntries() {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        IMap<Integer, Integer> map = createMap(mapStore, true);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(() -> assertEquals(1000, mapStore.store.size()));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) mapStore.store.get(i));
+        }
+        assertTrue("Expected the batches to be stored by multiple threads, but were stored by " + mapStore.threads,
+                mapStore.threads.size() > 1);
+    }
+
+    @Test
+    public void testStore_withParallelism_keepsOrderOfKey_whenNotCoalescing() {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        IMap<Integer, Integer> map = createMap(mapStore, false);
+
+        for (int value = 0; value < 10; value++) {
+            for (int key = 0; key < 100; key++) {
+                map.put(key, value);
+            }
+        }
+
+        assertTrueEventually(() -> assertEquals(1000, mapStore.storeCount()));
+        for (int key = 0; key < 100; key++) {
+            List<Integer> values = mapStore.history.get(key);
+            for (int value = 0; value < 10; value++) {
+                assertEquals(value, (int) values.get(value));
+            }
+        }
+    }
+
+    private IMap<Integer, Integer> createMap(RecordingMapStore mapStore, boolean writeCoalescing) {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.MAP_WRITE_BEHIND_STORE_PARALLELISM.getName(), "4");
+        config.getMapConfig("default").setMapStoreConfig(new MapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(mapStore)
+                .setWriteDelaySeconds(1)
+                .setWriteBatchSize(10)
+                .setWriteCoalescing(writeCoalescing));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        return instance.getMap(randomMapName());
+    }
+
+    private static class RecordingMapStore extends MapStoreAdapter<Integer, Integer> {
+
+        private final Map<Integer, Integer> store = new ConcurrentHashMap<>();
+        private final Map<Integer, List<Integer>> history = new ConcurrentHashMap<>();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void store(Integer key, Integer value) {
+            threads.add(Thread.currentThread().getName());
+            store.put(key, value);
+            history.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(value);
+        }
+
+        @Override
+        public void storeAll(Map<Integer, Integer> map) {
+            map.forEach(this::store);
+        }
+
+        int storeCount() {
+            return history.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
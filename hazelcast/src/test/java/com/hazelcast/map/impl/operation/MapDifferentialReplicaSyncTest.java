@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.partition.IPartition;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.server.FirewallingServer.FirewallingServerConnectionManager;
+import com.hazelcast.internal.server.OperationPacketFilter;
+import com.hazelcast.internal.server.PacketFilter;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.partition.LocalReplicationStats;
+import com.hazelcast.spi.impl.SpiDataSerializerHook;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapDifferentialReplicaSyncTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private HazelcastInstance[] instances;
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.PARTITION_DIFFERENTIAL_REPLICA_SYNC_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.PARTITION_BACKUP_SYNC_INTERVAL.getName(), "1");
+        // async backups, not to wait for the acks of the dropped backups
+        config.getMapConfig("default").setBackupCount(0).setAsyncBackupCount(1);
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        instances = factory.newInstances(config);
+        warmUpPartitions(instances);
+
+        map = instances[0].getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+        assertReplicasEventually();
+    }
+
+    @Test
+    public void testStaleBackups_receiveOnlyDifferences() {
+        for (HazelcastInstance instance : instances) {
+            setBackupPacketDropFilter(instance);
+        }
+        for (int i = 0; i < 20; i++) {
+            map.set(i, -i);
+            map.delete(ENTRY_COUNT - 1 - i);
+            map.set(ENTRY_COUNT + i, i);
+        }
+        for (HazelcastInstance instance : instances) {
+            removePacketFilter(instance);
+        }
+
+        assertReplicasEventually();
+
+        long differentialRecords = 0;
+        long differentialReplications = 0;
+        for (HazelcastInstance instance : instances) {
+            LocalReplicationStats stats = instance.getMap(map.getName()).getLocalMapStats().getReplicationStats();
+            differentialRecords += stats.getDifferentialReplicationRecordCount();
+            differentialReplications += stats.getDifferentialPartitionReplicationCount();
+        }
+        assertTrue("differentialReplications=" + differentialReplications, differentialReplications > 0);
+        assertTrue("differentialRecords=" + differentialRecords, differentialRecords < ENTRY_COUNT / 10);
+    }
+
+    @Test
+    public void testDigests_matchWhenReplicasAreInSync() {
+        int partitionId = getPartitionService(instances[0]).getPartitionId(0);
+        RecordStore owner = getRecordStore(getOwner(partitionId), partitionId);
+        RecordStore backup = getRecordStore(getBackup(partitionId), partitionId);
+
+        int[] digest = MapReplicaDigests.digest(backup, 10);
+
+        assertEquals(512, digest.length);
+        assertEquals(0, MapReplicaDigests.diff(owner, digest).length);
+    }
+
+    @Test
+    public void testDiff_containsLeafOfUpdatedKey() {
+        int partitionId = getPartitionService(instances[0]).getPartitionId(0);
+        RecordStore owner = getRecordStore(getOwner(partitionId), partitionId);
+        RecordStore backup = getRecordStore(getBackup(partitionId), partitionId);
+        int[] digest = MapReplicaDigests.digest(backup, 10);
+
+        map.set(0, -1);
+
+        int[] diff = MapReplicaDigests.diff(owner, digest);
+        Data key = getNode(instances[0]).getSerializationService().toData(0);
+        assertEquals(2, diff.length);
+        assertEquals(MapReplicaDigests.leafOrderOf(key, diff[0]), diff[0]);
+    }
+
+    private void assertReplicasEventually() {
+        int partitionCount = getPartitionService(instances[0]).getPartitionCount();
+        assertTrueEventually(() -> {
+            for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+                assertEquals("partitionId=" + partitionId,
+                        getRecords(getOwner(partitionId), partitionId), getRecords(getBackup(partitionId), partitionId));
+            }
+        });
+    }
+
+    private HazelcastInstance getOwner(int partitionId) {
+        return getReplica(partitionId, 0);
+    }
+
+    private HazelcastInstance getBackup(int partitionId) {
+        return getReplica(partitionId, 1);
+    }
+
+    private HazelcastInstance getReplica(int partitionId, int replicaIndex) {
+        IPartition partition = getPartitionService(instances[0]).getPartition(partitionId);
+        Address address = partition.getReplicaAddress(replicaIndex);
+        for (HazelcastInstance instance : instances) {
+            if (getNode(instance).getThisAddress().equals(address)) {
+                return instance;
+            }
+        }
+        throw new AssertionError("No replica " + replicaIndex + " of partition " + partitionId);
+    }
+
+    private RecordStore getRecordStore(HazelcastInstance instance, int partitionId) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        return mapServiceContext.getExistingRecordStore(partitionId, map.getName());
+    }
+
+    private Map<Data, Data> getRecords(HazelcastInstance instance, int partitionId) {
+        Map<Data, Data> records = new HashMap<>();
+        RecordStore<?> recordStore = getRecordStore(instance, partitionId);
+        if (recordStore != null) {
+            InternalSerializationService ss = getNode(instance).getSerializationService();
+            recordStore.forEach((key, record) -> records.put(key, ss.toData(record.getValue())), true, true);
+        }
+        return records;
+    }
+
+    private static void setBackupPacketDropFilter(HazelcastInstance instance) {
+        Node node = getNode(instance);
+        getConnectionManager(node).setPacketFilter(new BackupPacketDropFilter(node.getSerializationService()));
+    }
+
+    private static void removePacketFilter(HazelcastInstance instance) {
+        getConnectionManager(getNode(instance)).removePacketFilter();
+    }
+
+    private static FirewallingServerConnectionManager getConnectionManager(Node node) {
+        return (FirewallingServerConnectionManager) node.getServer().getConnectionManager(EndpointQualifier.MEMBER);
+    }
+
+    private static class BackupPacketDropFilter extends OperationPacketFilter implements PacketFilter {
+
+        BackupPacketDropFilter(InternalSerializationService serializationService) {
+            super(serializationService);
+        }
+
+        @Override
+        protected Action filterOperation(Address endpoint, int factory, int type) {
+            boolean isBackup = factory == SpiDataSerializerHook.F_ID && type == SpiDataSerializerHook.BACKUP;
+            return isBackup ? Action.DROP : Action.ALLOW;
+        }
+    }
+}
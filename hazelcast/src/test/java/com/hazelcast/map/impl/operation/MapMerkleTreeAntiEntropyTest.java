@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.IPartition;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.partition.LocalReplicationStats;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.wan.impl.CallerProvenance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapMerkleTreeAntiEntropyTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private HazelcastInstance[] instances;
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.PARTITION_MERKLE_TREE_ANTI_ENTROPY_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.PARTITION_MERKLE_TREE_ANTI_ENTROPY_INTERVAL.getName(), "1")
+                .setProperty(ClusterProperty.PARTITION_BACKUP_SYNC_INTERVAL.getName(), "1");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        instances = factory.newInstances(config);
+        warmUpPartitions(instances);
+
+        map = instances[0].getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+    }
+
+    @Test
+    public void testSilentlyDivergedBackup_isRepairedWithDifferences() {
+        int partitionId = getPartitionService(instances[0]).getPartitionId(0);
+        HazelcastInstance backup = getReplica(partitionId, 1);
+        Data key = getNode(backup).getSerializationService().toData(0);
+
+        // remove the backup entry without touching the replica versions
+        CountDownLatch removed = new CountDownLatch(1);
+        getOperationService(backup).execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                getRecordStore(backup, partitionId).removeBackup(key, CallerProvenance.NOT_WAN);
+                removed.countDown();
+            }
+        });
+        assertOpenEventually(removed);
+
+        assertTrueEventually(() -> assertTrue(getRecordStore(backup, partitionId).existInMemory(key)));
+
+        long differentialRecords = 0;
+        long differentialReplications = 0;
+        for (HazelcastInstance instance : instances) {
+            LocalReplicationStats stats = instance.getMap(map.getName()).getLocalMapStats().getReplicationStats();
+            differentialRecords += stats.getDifferentialReplicationRecordCount();
+            differentialReplications += stats.getDifferentialPartitionReplicationCount();
+        }
+        assertTrue("differentialReplications=" + differentialReplications, differentialReplications > 0);
+        assertTrue("differentialRecords=" + differentialRecords, differentialRecords < ENTRY_COUNT / 10);
+    }
+
+    private HazelcastInstance getReplica(int partitionId, int replicaIndex) {
+        IPartition partition = getPartitionService(instances[0]).getPartition(partitionId);
+        Address address = partition.getReplicaAddress(replicaIndex);
+        for (HazelcastInstance instance : instances) {
+            if (getNode(instance).getThisAddress().equals(address)) {
+                return instance;
+            }
+        }
+        throw new AssertionError("No replica " + replicaIndex + " of partition " + partitionId);
+    }
+
+    private RecordStore getRecordStore(HazelcastInstance instance, int partitionId) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getExistingRecordStore(partitionId, map.getName());
+    }
+}
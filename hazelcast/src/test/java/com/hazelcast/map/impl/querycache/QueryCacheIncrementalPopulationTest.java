@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.querycache;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.QueryCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.QueryCache;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class QueryCacheIncrementalPopulationTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 5000;
+
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.QUERY_CACHE_POPULATION_FETCH_SIZE.getName(), "64");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        map = instances[0].getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+    }
+
+    @Test
+    public void testPopulation_withValues() {
+        QueryCache<Integer, Integer> queryCache = map.getQueryCache(randomName(), Predicates.sql("this >= 1000"), true);
+
+        assertEquals(ENTRY_COUNT - 1000, queryCache.size());
+        assertNull(queryCache.get(999));
+        assertEquals(1000, (int) queryCache.get(1000));
+        assertEquals(ENTRY_COUNT - 1, (int) queryCache.get(ENTRY_COUNT - 1));
+    }
+
+    @Test
+    public void testPopulation_withoutValues() {
+        QueryCache<Integer, Integer> queryCache = map.getQueryCache(randomName(), Predicates.sql("this < 1000"), false);
+
+        assertEquals(1000, queryCache.size());
+        assertEquals(1000, queryCache.keySet().size());
+    }
+
+    @Test
+    public void testPopulation_whenMapIsUpdatedConcurrently() throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+        Future<?> updater = spawn(() -> {
+            int round = 0;
+            while (!stop.get()) {
+                for (int i = 0; i < ENTRY_COUNT; i += 7) {
+                    if (round % 2 == 0) {
+                        map.remove(i);
+                    } else {
+                        map.set(i, i + round);
+                    }
+                }
+                round++;
+            }
+        });
+        QueryCache<Integer, Integer> queryCache;
+        try {
+            queryCache = map.getQueryCache(randomName(), Predicates.alwaysTrue(), true);
+        } finally {
+            stop.set(true);
+            updater.get();
+        }
+
+        assertTrueEventually(() -> assertEquals(entries(map, Predicates.alwaysTrue()), entries(queryCache)));
+    }
+
+    private static Map<Integer, Integer> entries(IMap<Integer, Integer> map, Predicate<Integer, Integer> predicate) {
+        Map<Integer, Integer> entries = new HashMap<>();
+        map.entrySet(predicate).forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+        return entries;
+    }
+
+    private static Map<Integer, Integer> entries(QueryCache<Integer, Integer> queryCache) {
+        Map<Integer, Integer> entries = new HashMap<>();
+        queryCache.entrySet().forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+        return entries;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.tieredstore;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TieredStoreTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private HazelcastInstance instance;
+    private IMap<Integer, String> map;
+
+    @Before
+    public void setUp() {
+        String mapName = randomMapName();
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.MAP_TIERED_STORE_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.MAP_TIERED_STORE_COLD_ENTRY_SECONDS.getName(), "1")
+                .setProperty(ClusterProperty.MAP_TIERED_STORE_SWEEP_PERIOD_SECONDS.getName(), "1");
+        config.getMapConfig(mapName).setPerEntryStatsEnabled(true);
+        instance = createHazelcastInstance(config);
+        map = instance.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, "value-" + i);
+        }
+    }
+
+    @Test
+    public void testColdEntries_areMovedToDiskTier() {
+        assertTrueEventually(() -> assertEquals(ENTRY_COUNT, map.getLocalMapStats().getDiskTierEntryCount()));
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+        assertTrue(map.getLocalMapStats().getDiskTierHits() >= ENTRY_COUNT);
+    }
+
+    @Test
+    public void testAccessedEntries_areMovedBackToHeap() {
+        assertTrueEventually(() -> assertEquals(ENTRY_COUNT, map.getLocalMapStats().getDiskTierEntryCount()));
+
+        assertTrueEventually(() -> {
+            assertEquals("value-0", map.get(0));
+            assertEquals(ENTRY_COUNT - 1, map.getLocalMapStats().getDiskTierEntryCount());
+        });
+    }
+
+    @Test
+    public void testUpdatedEntries_areReadFromHeap() {
+        assertTrueEventually(() -> assertEquals(ENTRY_COUNT, map.getLocalMapStats().getDiskTierEntryCount()));
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, "updated-" + i);
+        }
+        LocalMapStats stats = map.getLocalMapStats();
+        long hits = stats.getDiskTierHits();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("updated-" + i, map.get(i));
+        }
+        assertEquals(hits, map.getLocalMapStats().getDiskTierHits());
+    }
+
+    @Test
+    public void testDestroyedMap_logsAreDeleted() {
+        assertTrueEventually(() -> assertEquals(ENTRY_COUNT, map.getLocalMapStats().getDiskTierEntryCount()));
+
+        map.destroy();
+        map = instance.getMap(map.getName());
+        assertEquals(0, map.size());
+        assertEquals(0, map.getLocalMapStats().getDiskTierEntryCount());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.tieredstore;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.impl.record.SimpleRecord;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static com.hazelcast.logging.Logger.getLogger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TieredValueLogTest extends HazelcastTestSupport {
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+
+    private Path directory;
+    private TieredValueLog log;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("tiered-value-log-test");
+        log = new TieredValueLog(directory, 0, getLogger(getClass()));
+    }
+
+    @After
+    public void tearDown() {
+        IOUtil.delete(directory);
+    }
+
+    @Test
+    public void testRecord_resolvesSpilledValue_toHeapData() throws Exception {
+        Data value = ss.toData("value");
+        SimpleRecord<Data> record = new SimpleRecord<>(log.append(value));
+
+        Data resolved = record.getValue();
+
+        assertTrue(resolved instanceof HeapData);
+        assertEquals(value, resolved);
+        assertTrue(record.getStoredValue() instanceof SpilledData);
+        assertEquals(1, log.getHits());
+    }
+
+    @Test
+    public void testResolvedValue_remainsValid_afterLogIsReleased() throws Exception {
+        Data value = ss.toData("value");
+        SimpleRecord<Data> record = new SimpleRecord<>(log.append(value));
+        Data resolved = record.getValue();
+
+        log.release();
+
+        assertEquals("value", ss.toObject(resolved));
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    public void testRecord_followsValue_toNewLog() throws Exception {
+        Data value = ss.toData("value");
+        SpilledData spilled = log.append(value);
+        SimpleRecord<Data> record = new SimpleRecord<>(spilled);
+
+        TieredValueLog compacted = new TieredValueLog(directory, 0, getLogger(getClass()));
+        record.setValue(compacted.append(spilled.load()));
+        log.release();
+
+        assertEquals(value, SpilledData.resolve(record, spilled));
+        compacted.release();
+    }
+
+    @Test
+    public void testReleasedLog_isNotReadable() throws Exception {
+        SpilledData spilled = log.append(ss.toData("value"));
+        SimpleRecord<Data> record = new SimpleRecord<>(spilled);
+
+        log.release();
+
+        assertNull(log.read(0, spilled.totalSize()));
+        assertThrows(HazelcastException.class, record::getValue);
+        assertEquals(0, countFiles());
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
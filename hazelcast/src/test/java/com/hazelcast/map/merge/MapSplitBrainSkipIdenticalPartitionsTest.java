@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.merge;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.merge.MergingValue;
+import com.hazelcast.spi.merge.SplitBrainMergePolicy;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.SplitBrainTestSupport;
+import com.hazelcast.test.annotation.SlowTest;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the split-brain merge skips the {@link IMap} partitions which
+ * are identical in both clusters.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(SlowTest.class)
+public class MapSplitBrainSkipIdenticalPartitionsTest extends SplitBrainTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final AtomicInteger MERGED_ENTRIES = new AtomicInteger();
+
+    private final String mapName = randomMapName();
+    private MergeLifecycleListener mergeLifecycleListener;
+
+    @Override
+    protected int[] brains() {
+        return new int[]{2, 1};
+    }
+
+    @Override
+    protected Config config() {
+        Config config = super.config()
+                .setProperty(ClusterProperty.MERGE_SKIP_IDENTICAL_PARTITIONS_ENABLED.getName(), "true");
+        config.getMapConfig(mapName)
+                .setBackupCount(1)
+                .getMergePolicyConfig()
+                .setPolicy(CountingPassThroughMergePolicy.class.getName())
+                .setBatchSize(10);
+        return config;
+    }
+
+    @Override
+    protected void onBeforeSplitBrainCreated(HazelcastInstance[] instances) {
+        IMap<Integer, String> map = instances[0].getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, "value-" + i);
+        }
+        waitAllForSafeState(instances);
+        MERGED_ENTRIES.set(0);
+    }
+
+    @Override
+    protected void onAfterSplitBrainCreated(HazelcastInstance[] firstBrain, HazelcastInstance[] secondBrain) {
+        mergeLifecycleListener = new MergeLifecycleListener(secondBrain.length);
+        for (HazelcastInstance instance : secondBrain) {
+            instance.getLifecycleService().addLifecycleListener(mergeLifecycleListener);
+        }
+        secondBrain[0].getMap(mapName).set(0, "second-brain");
+    }
+
+    @Override
+    protected void onAfterSplitBrainHealed(HazelcastInstance[] instances) {
+        mergeLifecycleListener.await();
+
+        IMap<Integer, String> map = instances[0].getMap(mapName);
+        assertEquals(ENTRY_COUNT, map.size());
+        assertEquals("second-brain", map.get(0));
+        for (int i = 1; i < ENTRY_COUNT; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+        // only the partition of the updated entry is merged
+        int mergedEntries = MERGED_ENTRIES.get();
+        assertTrue("mergedEntries=" + mergedEntries, mergedEntries > 0 && mergedEntries < ENTRY_COUNT / 10);
+    }
+
+    public static class CountingPassThroughMergePolicy implements SplitBrainMergePolicy<Object, MergingValue<Object>, Object> {
+
+        @Override
+        public Object merge(MergingValue<Object> mergingValue, MergingValue<Object> existingValue) {
+            MERGED_ENTRIES.incrementAndGet();
+            return mergingValue.getRawValue();
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) {
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.spi.impl.eventservice.EventRegistration;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class EventServiceListenerBacklogTest extends HazelcastTestSupport {
+
+    @Test
+    public void testEventBacklog_tracksEventsNotYetDispatched() {
+        HazelcastInstance instance = createHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        map.addEntryListener((EntryAddedListener<Integer, Integer>) event -> assertOpenEventually(blocker), false);
+        Registration registration = getOnlyRegistration(instance, mapName);
+
+        // the listener blocks, so the events are either queued or being dispatched
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(() -> assertEquals(10, registration.getEventBacklog().get()));
+        blocker.countDown();
+        assertTrueEventually(() -> assertEquals(0, registration.getEventBacklog().get()));
+    }
+
+    private static Registration getOnlyRegistration(HazelcastInstance instance, String mapName) {
+        EventServiceImpl eventService = (EventServiceImpl) getNodeEngineImpl(instance).getEventService();
+        Collection<EventRegistration> registrations = eventService.getRegistrations(MapService.SERVICE_NAME, mapName);
+        assertEquals(1, registrations.size());
+        return (Registration) registrations.iterator().next();
+    }
+}